@@ -0,0 +1,23 @@
+#!/bin/sh
+# 글로벌 브릿지 프로그램을 jar로 빌드하고 AppCDS(클래스 데이터 공유) 아카이브를 만듭니다.
+#
+# 프로그램을 한 번 실행하여(저장된 데이터를 불러온 뒤 자동 종료) 시작 과정에서 로드된 클래스를
+# globalbridge.jsa에 기록합니다. 이후 다음과 같이 실행하면 클래스 로딩과 검증 시간이 줄어듭니다.
+#
+#   java -XX:SharedArchiveFile=globalbridge.jsa -jar globalbridge.jar
+#
+# JDK 13 이상과 그래픽 환경이 필요합니다. 아카이브는 이를 만든 JDK와 jar에서만 사용할 수 있으므로
+# 소스를 바꾸거나 JDK를 바꾸면 다시 만들어야 합니다.
+set -e
+cd "$(dirname "$0")/.."
+
+rm -rf out
+mkdir -p out
+javac -encoding UTF-8 -d out $(find src/com/globalbridge -name '*.java')
+jar --create --file globalbridge.jar --main-class com.globalbridge.Main -C out .
+
+java -XX:ArchiveClassesAtExit=globalbridge.jsa -Dglobalbridge.startupReport=true -jar globalbridge.jar
+
+echo "AppCDS 아카이브 생성 완료: globalbridge.jsa"
+echo "실행: java -XX:SharedArchiveFile=globalbridge.jsa -jar globalbridge.jar"
+echo "시작 시간 비교: java -cp globalbridge.jar com.globalbridge.StartupBenchmark -XX:SharedArchiveFile=globalbridge.jsa"
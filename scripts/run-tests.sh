@@ -0,0 +1,27 @@
+#!/bin/sh
+# 글로벌 브릿지 프로그램의 테스트를 실행합니다.
+#
+# src와 test의 소스를 out-test에 컴파일한 뒤, test 아래에서 이름이 Test로 끝나는 클래스의 main을
+# 차례로 실행합니다. 테스트는 실패하면 AssertionError를 던지므로 처음 실패한 테스트에서 멈춥니다.
+#
+#   scripts/run-tests.sh                 모든 테스트 실행
+#   scripts/run-tests.sh RoaringBitmap   이름에 RoaringBitmap이 들어간 테스트만 실행
+#
+# JDK 17 이상이 필요합니다.
+set -e
+cd "$(dirname "$0")/.."
+
+rm -rf out-test
+mkdir -p out-test
+javac -encoding UTF-8 -d out-test $(find src/com/globalbridge test/com/globalbridge -name '*.java')
+
+for test in $(cd test && find . -name '*Test.java' | sed 's|^\./||; s|\.java$||; s|/|.|g' | sort); do
+    case "$test" in
+        *"$1"*) ;;
+        *) continue ;;
+    esac
+    echo "== $test"
+    java -ea -cp out-test "$test"
+done
+
+echo "테스트 통과"
@@ -2,6 +2,7 @@ package com.globalbridge;
 
 import com.globalbridge.gui.GlobalBridgeProgram;
 import javax.swing.*;
+import java.lang.management.ManagementFactory;
 
 /**
  * @author Kim Hyeong Jun
@@ -25,9 +26,18 @@ import javax.swing.*;
  * </ul>
  * </p>
  *
+ * <p>
+ * 시스템 속성 {@code globalbridge.startupReport}를 true로 지정하면 창이 표시된 시점과
+ * 저장된 데이터를 모두 불러온 시점(JVM 시작 기준, 밀리초)을 출력한 뒤 종료합니다.
+ * {@link StartupBenchmark}와 AppCDS 아카이브 생성 스크립트가 이 기능을 사용합니다.
+ * </p>
+ *
  * @see GlobalBridgeProgram
  */
 public class Main {
+    /** 시작 시간 측정 후 종료하도록 지정하는 시스템 속성 */
+    static final String STARTUP_REPORT = "globalbridge.startupReport";
+
     /**
      * 프로그램의 진입점입니다.
      *
@@ -56,6 +66,15 @@ public class Main {
         SwingUtilities.invokeLater(() -> {
             GlobalBridgeProgram program = new GlobalBridgeProgram();
             program.setVisible(true);
+
+            if (Boolean.getBoolean(STARTUP_REPORT)) {
+                long windowMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+                program.whenLoaded(() -> {
+                    long loadedMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+                    System.out.println("startup window=" + windowMillis + " loaded=" + loadedMillis);
+                    System.exit(0);
+                });
+            }
         });
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.globalbridge;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.util.DataManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 저장 파일의 압축 수준별 크기와 저장/불러오기 시간을 비교하는 벤치마크입니다.
+ *
+ * <p>
+ * 사용법: {@code java -cp <클래스경로> com.globalbridge.SnapshotBenchmark [활동수] [압축수준...]}
+ * (기본값 1000000, 압축 수준 0 1 6 9). {@link StartupBenchmark}와 같은 데이터를 만들어
+ * 각 압축 수준으로 임시 파일에 {@value #RUNS}회씩 저장하고 불러와, 파일 크기와 가장 빠른 시간을 출력합니다.
+ * 압축 수준 0은 압축하지 않는 이전 형식입니다.
+ * </p>
+ */
+public class SnapshotBenchmark {
+    /** 압축 수준별 반복 횟수 */
+    private static final int RUNS = 3;
+
+    /**
+     * 벤치마크를 실행합니다.
+     *
+     * @param args [활동수] [압축수준...]
+     * @throws Exception 임시 파일 생성 중 오류 발생 시
+     */
+    public static void main(String[] args) throws Exception {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int[] levels = {0, 1, 6, 9};
+        if (args.length > 1) {
+            levels = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                levels[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+
+        Object[] data = StartupBenchmark.createDataset(records);
+        ArrayList<?> participants = (ArrayList<?>) data[0];
+        HashMap<?, ?> matches = (HashMap<?, ?>) data[1];
+        ActivityLog activities = (ActivityLog) data[2];
+        Path file = Files.createTempFile("globalbridge-snapshot", ".ser");
+        try {
+            System.out.printf("활동 %,d건, 병렬도 %d%n", records, Runtime.getRuntime().availableProcessors());
+            for (int level : levels) {
+                DataManager manager = new DataManager(file.toString(), level);
+                long saveNanos = Long.MAX_VALUE;
+                long loadNanos = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    manager.saveData(participants, matches, activities);
+                    saveNanos = Math.min(saveNanos, System.nanoTime() - start);
+
+                    start = System.nanoTime();
+                    Object[] loaded = manager.loadData();
+                    loadNanos = Math.min(loadNanos, System.nanoTime() - start);
+                    if (loaded == null || ((ActivityLog) loaded[2]).size() != activities.size()) {
+                        throw new IllegalStateException("불러온 활동 수가 다릅니다 (압축 수준 " + level + ")");
+                    }
+                }
+                System.out.printf("압축 수준 %d: %,13d 바이트, 저장 %5d ms, 불러오기 %5d ms%n",
+                        level, Files.size(file), saveNanos / 1_000_000, loadNanos / 1_000_000);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
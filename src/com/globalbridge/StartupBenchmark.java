@@ -0,0 +1,152 @@
+package com.globalbridge;
+
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.util.DataManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * 프로그램의 시작 시간을 데이터 크기별로 측정하는 벤치마크입니다.
+ *
+ * <p>
+ * 사용법: {@code java -cp <클래스경로> com.globalbridge.StartupBenchmark [-XX:SharedArchiveFile=app.jsa]}
+ * <br>
+ * 빈 데이터, 1만 건, 100만 건(활동 기록 기준)의 저장 파일을 임시 디렉터리에 만들고,
+ * 각 디렉터리에서 {@link Main}을 별도 JVM으로 {@value #RUNS}회씩 실행하여
+ * 창이 표시되기까지의 시간과 데이터를 모두 불러오기까지의 시간의 중앙값을 출력합니다.
+ * 추가 인자는 그대로 자식 JVM 옵션으로 전달되므로 AppCDS 아카이브 적용 전후를 비교할 수 있습니다.
+ * 창을 띄워야 하므로 그래픽 환경에서 실행해야 합니다.
+ * </p>
+ */
+public class StartupBenchmark {
+    /** 데이터 크기별 실행 횟수 */
+    private static final int RUNS = 5;
+
+    /** 측정할 활동 기록 수 */
+    private static final int[] DATASETS = {0, 10_000, 1_000_000};
+
+    /**
+     * 벤치마크를 실행합니다.
+     *
+     * @param args 자식 JVM에 전달할 추가 옵션
+     * @throws Exception 데이터 생성이나 프로세스 실행 중 오류 발생 시
+     */
+    public static void main(String[] args) throws Exception {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        StringJoiner classPath = new StringJoiner(System.getProperty("path.separator"));
+        for (String entry : System.getProperty("java.class.path").split(System.getProperty("path.separator"))) {
+            classPath.add(Paths.get(entry).toAbsolutePath().toString());
+        }
+
+        for (int records : DATASETS) {
+            Path dir = Files.createTempDirectory("globalbridge-startup");
+            if (records > 0) {
+                writeDataset(dir.resolve("globalbridge_data.ser"), records);
+            }
+
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            command.addAll(Arrays.asList(args));
+            command.add("-D" + Main.STARTUP_REPORT + "=true");
+            command.add("-cp");
+            command.add(classPath.toString());
+            command.add(Main.class.getName());
+
+            long[] window = new long[RUNS];
+            long[] loaded = new long[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                long[] result = launch(command, dir);
+                window[run] = result[0];
+                loaded[run] = result[1];
+            }
+            Arrays.sort(window);
+            Arrays.sort(loaded);
+            System.out.printf("활동 %,9d건: 창 표시 %5d ms, 불러오기 완료 %6d ms%n",
+                    records, window[RUNS / 2], loaded[RUNS / 2]);
+        }
+    }
+
+    /**
+     * 활동 기록 수에 맞춰 참가자(활동의 1/10), 매칭(참가자의 절반), 활동 기록을 만들어 저장합니다.
+     */
+    private static void writeDataset(Path file, int records) {
+        Object[] data = createDataset(records);
+        new DataManager(file.toString())
+                .saveData((ArrayList<?>) data[0], (HashMap<?, ?>) data[1], (ActivityLog) data[2]);
+    }
+
+    /**
+     * 활동 기록 수에 맞춰 참가자(활동의 1/10), 매칭(참가자의 절반), 활동 기록을 만듭니다.
+     *
+     * @param records 활동 기록 수
+     * @return [참가자 목록, 매칭 정보, 활동 기록]
+     */
+    static Object[] createDataset(int records) {
+        Random random = new Random(42);
+        String[] majors = {"컴퓨터공학", "경영학", "경제학", "영어영문학", "기계공학"};
+        int participantCount = Math.max(2, records / 10) & ~1;
+
+        ArrayList<Participant> participants = new ArrayList<>(participantCount);
+        HashMap<String, Pair> matches = new HashMap<>();
+        List<String> pairIds = new ArrayList<>();
+        for (int i = 0; i < participantCount; i += 2) {
+            Participant mentor = new Participant("멘토" + i, String.valueOf(20_000_000 + i),
+                    majors[random.nextInt(majors.length)], "Korean", 1 + random.nextInt(4));
+            Participant mentee = new Participant("Mentee" + i, String.valueOf(20_000_001 + i),
+                    majors[random.nextInt(majors.length)], "English", 1 + random.nextInt(4));
+            participants.add(mentor);
+            participants.add(mentee);
+            String pairId = mentor.getStudentId() + "-" + mentee.getStudentId();
+            matches.put(pairId, new Pair(mentor, mentee));
+            pairIds.add(pairId);
+        }
+
+        ActivityLog activities = new ActivityLog();
+        long start = System.currentTimeMillis() - 365L * 24 * 60 * 60 * 1000;
+        for (int i = 0; i < records; i++) {
+            Activity activity = new Activity(start + i * 60_000L, "언어 교환 " + i, "도서관");
+            activity.setCompleted(random.nextBoolean());
+            activities.add(pairIds.get(random.nextInt(pairIds.size())), activity);
+        }
+        return new Object[] {participants, matches, activities};
+    }
+
+    /**
+     * 프로그램을 실행하여 출력된 [창 표시 시간, 불러오기 완료 시간]을 반환합니다.
+     */
+    private static long[] launch(List<String> command, Path dir) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).directory(dir.toFile()).redirectErrorStream(true).start();
+        long[] result = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("startup ")) {
+                    String[] fields = line.split("[ =]");
+                    result = new long[] {Long.parseLong(fields[2]), Long.parseLong(fields[4])};
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException("프로그램 실행에 실패했습니다 (종료 코드 " + process.exitValue() + ")");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,190 @@
+package com.globalbridge.event;
+
+import com.globalbridge.model.Participant;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 프로그램 데이터(참가자, 매칭, 활동)의 변경을 알리는 이벤트의 기본 클래스입니다.
+ *
+ * <p>
+ * 같은 대상에 대한 같은 종류의 이벤트는 서로 같다고 비교되므로,
+ * {@link ModelEventBus}는 한 번에 전달하는 묶음 안에서 중복 이벤트를 하나로 합칩니다.
+ * </p>
+ *
+ * @see ModelEventBus
+ */
+public abstract class ModelEvent {
+
+    /**
+     * 참가자가 등록되었음을 알리는 이벤트입니다.
+     */
+    public static final class ParticipantAdded extends ModelEvent {
+        private final Participant participant;
+
+        /**
+         * @param participant 등록된 참가자
+         */
+        public ParticipantAdded(Participant participant) {
+            this.participant = participant;
+        }
+
+        /**
+         * 등록된 참가자를 반환합니다.
+         * @return 참가자
+         */
+        public Participant getParticipant() { return participant; }
+    }
+
+    /**
+     * 매칭이 생성(또는 같은 ID로 다시 생성)되었음을 알리는 이벤트입니다.
+     */
+    public static final class MatchCreated extends KeyedEvent {
+        /**
+         * @param matchId 매칭 ID
+         */
+        public MatchCreated(String matchId) {
+            super(matchId);
+        }
+
+        /**
+         * 매칭 ID를 반환합니다.
+         * @return 매칭 ID
+         */
+        public String getMatchId() { return key; }
+    }
+
+    /**
+     * 매칭이 제거되었음을 알리는 이벤트입니다.
+     */
+    public static final class MatchRemoved extends KeyedEvent {
+        /**
+         * @param matchId 매칭 ID
+         */
+        public MatchRemoved(String matchId) {
+            super(matchId);
+        }
+
+        /**
+         * 매칭 ID를 반환합니다.
+         * @return 매칭 ID
+         */
+        public String getMatchId() { return key; }
+    }
+
+    /**
+     * 활동이 기록되었음을 알리는 이벤트입니다.
+     */
+    public static final class ActivityAdded extends KeyedEvent {
+        private final int row;
+
+        /**
+         * @param pairId 매칭 ID
+         * @param row 활동 저장소의 행 번호
+         */
+        public ActivityAdded(String pairId, int row) {
+            super(pairId + "#" + row);
+            this.row = row;
+        }
+
+        /**
+         * 활동 저장소의 행 번호를 반환합니다.
+         * @return 행 번호
+         */
+        public int getRow() { return row; }
+    }
+
+    /**
+     * 파일 가져오기 등으로 여러 활동이 한 번에 기록되었음을 알리는 이벤트입니다.
+     */
+    public static final class ActivitiesImported extends ModelEvent {
+        private final int count;
+
+        /**
+         * @param count 기록된 활동 수
+         */
+        public ActivitiesImported(int count) {
+            this.count = count;
+        }
+
+        /**
+         * 기록된 활동 수를 반환합니다.
+         * @return 활동 수
+         */
+        public int getCount() { return count; }
+    }
+
+    /**
+     * 여러 활동의 완료 여부가 한 번에 변경되었음을 알리는 이벤트입니다.
+     */
+    public static final class ActivitiesCompleted extends ModelEvent {
+        private final int count;
+
+        /**
+         * @param count 상태가 바뀐 활동 수
+         */
+        public ActivitiesCompleted(int count) {
+            this.count = count;
+        }
+
+        /**
+         * 상태가 바뀐 활동 수를 반환합니다.
+         * @return 활동 수
+         */
+        public int getCount() { return count; }
+    }
+
+    /**
+     * 완료되지 않은 활동들이 기한 지남으로 표시되었음을 알리는 이벤트입니다.
+     */
+    public static final class ActivitiesOverdue extends ModelEvent {
+        private final int count;
+
+        /**
+         * @param count 기한 지남으로 표시된 활동 수
+         */
+        public ActivitiesOverdue(int count) {
+            this.count = count;
+        }
+
+        /**
+         * 기한 지남으로 표시된 활동 수를 반환합니다.
+         * @return 활동 수
+         */
+        public int getCount() { return count; }
+    }
+
+    /**
+     * 데이터 전체가 다시 불러와졌거나, 너무 많은 변경이 쌓여 전부 다시 그려야 함을 알리는 이벤트입니다.
+     */
+    public static final class DataReloaded extends ModelEvent {
+        /** 유일한 인스턴스 */
+        public static final DataReloaded INSTANCE = new DataReloaded();
+
+        private DataReloaded() {
+        }
+    }
+
+    /**
+     * 문자열 키로 같은 이벤트를 판별하는 이벤트입니다.
+     */
+    abstract static class KeyedEvent extends ModelEvent {
+        final String key;
+
+        KeyedEvent(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o != null && o.getClass() == getClass() && key.equals(((KeyedEvent) o).key);
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode() * 31 + key.hashCode();
+        }
+    }
+}
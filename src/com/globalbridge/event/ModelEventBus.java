@@ -0,0 +1,122 @@
+package com.globalbridge.event;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 데이터 변경 이벤트를 화면 구성 요소에 묶어서 전달하는 이벤트 버스 클래스입니다.
+ *
+ * <p>
+ * {@link #publish(ModelEvent)}로 발행된 이벤트는 바로 전달되지 않고 구독자별로 쌓였다가,
+ * 현재 이벤트 디스패치 스레드 작업이 끝난 뒤 한 번에 전달됩니다. 따라서 한 번의 사용자 동작에서
+ * 여러 변경이 일어나도 각 패널은 한 번만 다시 그려지며, 묶음 안의 같은 이벤트는 하나로 합쳐집니다.
+ * </p>
+ *
+ * <p>
+ * 구독 시 지정한 구성 요소가 화면에 보이지 않으면(예: 선택되지 않은 탭) 이벤트는 계속 쌓여 있다가
+ * 구성 요소가 보이는 순간 전달됩니다. 쌓인 이벤트가 {@value #MAX_PENDING}개를 넘으면
+ * {@link ModelEvent.DataReloaded} 하나로 대체되어 메모리 사용량이 제한됩니다.
+ * </p>
+ *
+ * <p>
+ * 이벤트 디스패치 스레드가 아닌 곳에서 발행된 이벤트는 이벤트 디스패치 스레드로 넘겨서 처리합니다.
+ * </p>
+ */
+public class ModelEventBus {
+    /** 구독자별로 쌓아 둘 최대 이벤트 수 */
+    static final int MAX_PENDING = 10_000;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    /** 전달 작업이 예약되어 있는지 여부 */
+    private boolean flushScheduled;
+
+    /**
+     * 이벤트를 구독합니다.
+     *
+     * @param owner 화면에 보일 때만 이벤트를 전달받을 구성 요소 (null이면 항상 전달)
+     * @param listener 이벤트 묶음을 받을 리스너
+     */
+    public void subscribe(Component owner, ModelEventListener listener) {
+        Subscription subscription = new Subscription(owner, listener);
+        subscriptions.add(subscription);
+        if (owner != null) {
+            owner.addHierarchyListener(e -> {
+                if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && owner.isShowing()) {
+                    subscription.deliver();
+                }
+            });
+        }
+    }
+
+    /**
+     * 이벤트를 발행합니다.
+     *
+     * @param event 발행할 이벤트
+     */
+    public void publish(ModelEvent event) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> publish(event));
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        for (Subscription subscription : subscriptions) {
+            if (subscription.owner == null || subscription.owner.isShowing()) {
+                subscription.deliver();
+            }
+        }
+    }
+
+    /**
+     * 구독자 하나와 그 구독자에게 아직 전달되지 않은 이벤트입니다.
+     */
+    private static final class Subscription {
+        final Component owner;
+        final ModelEventListener listener;
+        private LinkedHashSet<ModelEvent> pending = new LinkedHashSet<>();
+
+        Subscription(Component owner, ModelEventListener listener) {
+            this.owner = owner;
+            this.listener = listener;
+        }
+
+        void offer(ModelEvent event) {
+            if (pending.contains(ModelEvent.DataReloaded.INSTANCE)) {
+                return; // 전달 시점에 전체를 다시 그리므로 개별 변경은 필요 없습니다.
+            }
+            if (event instanceof ModelEvent.DataReloaded || pending.size() >= MAX_PENDING) {
+                pending.clear();
+                pending.add(ModelEvent.DataReloaded.INSTANCE);
+                return;
+            }
+            pending.add(event);
+        }
+
+        void deliver() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<ModelEvent> events = new ArrayList<>(pending);
+            pending = new LinkedHashSet<>();
+            listener.modelChanged(events);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.globalbridge.event;
+
+import java.util.EventListener;
+import java.util.List;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link ModelEventBus}로부터 데이터 변경 이벤트 묶음을 전달받는 리스너입니다.
+ */
+@FunctionalInterface
+public interface ModelEventListener extends EventListener {
+    /**
+     * 마지막 전달 이후 발생한 이벤트들을 발생 순서대로 전달받습니다.
+     *
+     * <p>
+     * 이벤트 디스패치 스레드에서 호출됩니다. 묶음에 {@link ModelEvent.DataReloaded}가 있으면
+     * 다른 이벤트와 관계없이 전체를 다시 그리면 됩니다.
+     * </p>
+     *
+     * @param events 중복이 제거된 이벤트 목록 (비어 있지 않음)
+     */
+    void modelChanged(List<ModelEvent> events);
+}
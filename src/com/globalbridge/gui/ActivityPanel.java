@@ -1,12 +1,26 @@
 package com.globalbridge.gui;
 
+import com.globalbridge.event.ModelEvent;
 import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
 import com.globalbridge.model.Pair;
+import com.globalbridge.report.ReportEncoder;
+import com.globalbridge.report.ReportType;
+import com.globalbridge.schedule.ActivityScheduler;
+import com.globalbridge.util.ActivityImporter;
+import com.globalbridge.util.RenderCache;
+import com.globalbridge.util.RowRenderCache;
 
 import javax.swing.*;
 import java.awt.*;
 import java.io.*;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ExecutionException;
 
 /**
  * @author Kim Hyeong Jun
@@ -20,6 +34,24 @@ import java.util.Date;
  * @version 1.2
  * @since 2024-12-23
  *
+ * @version 1.3
+ * @since 2026-10-18
+ *
+ * @version 1.4
+ * @since 2026-10-18
+ *
+ * @version 1.5
+ * @since 2026-10-18
+ *
+ * @version 1.6
+ * @since 2026-10-18
+ *
+ * @version 1.7
+ * @since 2026-10-18
+ *
+ * @version 1.8
+ * @since 2026-10-19
+ *
  * 멘토-멘티 활동을 기록하고 관리하는 GUI 패널 클래스.
  *
  * <p>
@@ -28,15 +60,35 @@ import java.util.Date;
  * 각 멘토-멘티 쌍의 활동 이력을 시각적으로 확인할 수 있습니다.
  * 또한, 활동 데이터를 파일에 저장하거나 불러오는 기능도 제공합니다.
  * </p>
+ *
+ * <p>
+ * 매칭 선택 목록과 활동 이력은 {@link com.globalbridge.event.ModelEventBus}를 구독하여 갱신되며,
+ * 탭이 보이지 않는 동안 쌓인 변경은 탭이 다시 보일 때 한 번에 반영됩니다.
+ * 매칭 선택은 이름이나 학번으로 검색할 수 있는 {@link PairPicker}가 담당하며,
+ * 새 매칭은 목록을 다시 만들지 않고 정렬된 위치에 삽입됩니다.
+ * </p>
  */
 public class ActivityPanel extends JPanel {
 
     private GlobalBridgeProgram mainProgram;
-    private JComboBox<String> pairSelector;
+    private PairPicker pairPicker;
     private JTextField contentField;
     private JTextField locationField;
+    private JSpinner dateSpinner;
     private JTextArea activityHistoryArea;
 
+    /** 매칭 제목 줄 캐시의 처음 최대 크기 (활동이 있는 매칭 수만큼 늘어남) */
+    private static final int PAIR_CACHE_SIZE = 10_000;
+
+    /** 활동 이력의 매칭 제목 줄 캐시 ("[ 멘토 - 멘티 ]") */
+    private final RenderCache<String> pairHeaders = new RenderCache<>(PAIR_CACHE_SIZE, this::formatPairHeader);
+
+    /** 활동 이력의 활동 줄 캐시 (행 번호 기준, 활동 저장소의 행 수만큼 늘어남) */
+    private final RowRenderCache activityLines = new RowRenderCache(this::formatActivityLine);
+
+    /** 활동 줄 캐시가 가리키는 활동 저장소 (데이터를 다시 불러오면 캐시를 비움) */
+    private ActivityLog cachedLog;
+
     /**
      * ActivityPanel 생성자.
      *
@@ -52,6 +104,44 @@ public class ActivityPanel extends JPanel {
         initComponents();
         updatePairSelector();
         updateActivityHistory();
+        mainProgram.getEventBus().subscribe(this, this::modelChanged);
+    }
+
+    /**
+     * 데이터 변경 이벤트 묶음을 반영합니다.
+     *
+     * <p>
+     * 새 매칭은 매칭 선택 목록의 정렬된 위치에 추가하고, 매칭이 해제되었거나 데이터를 다시 불러왔으면
+     * 목록을 다시 구성합니다. 매칭이나 활동이 바뀌었으면 활동 이력을 묶음당 한 번만 다시 그립니다.
+     * 참가자 등록만으로는 다시 그리지 않습니다.
+     * </p>
+     *
+     * @param events 마지막 전달 이후 발생한 이벤트 목록
+     */
+    private void modelChanged(List<ModelEvent> events) {
+        boolean pairsReloaded = false;
+        boolean historyChanged = false;
+        List<String> createdPairs = new ArrayList<>();
+        for (ModelEvent event : events) {
+            if (event instanceof ModelEvent.MatchRemoved || event instanceof ModelEvent.DataReloaded) {
+                pairsReloaded = true;
+                historyChanged = true;
+            } else if (event instanceof ModelEvent.MatchCreated) {
+                createdPairs.add(((ModelEvent.MatchCreated) event).getMatchId());
+                historyChanged = true;
+            } else if (!(event instanceof ModelEvent.ParticipantAdded)) {
+                historyChanged = true;
+            }
+        }
+
+        if (pairsReloaded) {
+            updatePairSelector();
+        } else if (!createdPairs.isEmpty()) {
+            pairPicker.addPairs(createdPairs);
+        }
+        if (historyChanged) {
+            updateActivityHistory();
+        }
     }
 
     /**
@@ -67,9 +157,11 @@ public class ActivityPanel extends JPanel {
         gbc.insets = new Insets(10, 10, 10, 10);
         gbc.fill = GridBagConstraints.HORIZONTAL;
 
-        pairSelector = new JComboBox<>();
+        pairPicker = new PairPicker(mainProgram);
         contentField = new JTextField(20);
         locationField = new JTextField(20);
+        dateSpinner = new JSpinner(new SpinnerDateModel());
+        dateSpinner.setEditor(new JSpinner.DateEditor(dateSpinner, "yyyy-MM-dd HH:mm"));
 
         activityHistoryArea = new JTextArea(15, 40);
         activityHistoryArea.setEditable(false);
@@ -79,7 +171,7 @@ public class ActivityPanel extends JPanel {
         gbc.gridx = 0; gbc.gridy = 0;
         inputPanel.add(new JLabel("멘토-멘티 쌍:"), gbc);
         gbc.gridx = 1;
-        inputPanel.add(pairSelector, gbc);
+        inputPanel.add(pairPicker, gbc);
 
         gbc.gridx = 0; gbc.gridy = 1;
         inputPanel.add(new JLabel("활동 내용:"), gbc);
@@ -91,24 +183,38 @@ public class ActivityPanel extends JPanel {
         gbc.gridx = 1;
         inputPanel.add(locationField, gbc);
 
+        gbc.gridx = 0; gbc.gridy = 3;
+        inputPanel.add(new JLabel("활동 일시:"), gbc);
+        gbc.gridx = 1;
+        inputPanel.add(dateSpinner, gbc);
+
         JButton registerButton = new JButton("활동 등록");
         JButton saveButton = new JButton("저장");
         JButton loadButton = new JButton("불러오기");
+        JButton reportButton = new JButton("보고서");
+        JButton completeButton = new JButton("완료 처리");
 
         registerButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
         saveButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
         loadButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
+        reportButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
+        completeButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
 
         registerButton.addActionListener(e -> registerActivity());
         saveButton.addActionListener(e -> saveActivitiesToFile());
         loadButton.addActionListener(e -> loadActivitiesFromFile());
+        completeButton.addActionListener(e -> completeActivities());
+        reportButton.addActionListener(e -> new ReportDialog(
+                SwingUtilities.getWindowAncestor(this), mainProgram, ReportType.ACTIVITIES).setVisible(true));
 
-        gbc.gridx = 1; gbc.gridy = 3;
+        gbc.gridx = 1; gbc.gridy = 4;
         inputPanel.add(registerButton, gbc);
 
         JPanel buttonPanel = new JPanel();
         buttonPanel.add(saveButton);
         buttonPanel.add(loadButton);
+        buttonPanel.add(completeButton);
+        buttonPanel.add(reportButton);
 
         add(inputPanel, BorderLayout.NORTH);
         add(new JScrollPane(activityHistoryArea), BorderLayout.CENTER);
@@ -116,31 +222,36 @@ public class ActivityPanel extends JPanel {
     }
 
     /**
-     * 멘토-멘티 쌍 선택 콤보박스를 최신 데이터로 업데이트합니다.
+     * 멘토-멘티 쌍 선택 목록을 최신 데이터로 다시 구성합니다.
      */
     public void updatePairSelector() {
-        pairSelector.removeAllItems();
-
-        for (String pairId : mainProgram.getMatches().keySet()) {
-            Pair pair = mainProgram.getMatches().get(pairId);
-            pairSelector.addItem(String.format("%s (%s - %s)",
-                    pairId,
-                    pair.getMentor().getName(),
-                    pair.getMentee().getName()));
-        }
+        pairPicker.reload();
+    }
+
+    private String formatPairHeader(String pairId) {
+        Pair pair = mainProgram.getMatches().get(pairId);
+        return "[ " + pair.getMentor().getName() + " - " + pair.getMentee().getName() + " ]\n";
+    }
+
+    private String formatActivityLine(int row) {
+        StringBuilder line = new StringBuilder(64).append("- ");
+        cachedLog.appendTo(row, line);
+        return line.append('\n').toString();
     }
 
     /**
      * 새로운 활동을 등록합니다.
      * <p>
-     * 사용자가 입력한 활동 내용과 장소를 기반으로 새로운 {@link Activity} 객체를 생성하여
-     * 해당 멘토-멘티 쌍의 활동 목록에 추가합니다. 입력 필드는 초기화되며,
+     * 사용자가 입력한 활동 내용, 장소, 일시를 기반으로 새로운 {@link Activity} 객체를 생성하여
+     * 해당 멘토-멘티 쌍의 활동 목록에 추가합니다. 일시가 미래이면 예정 활동으로 알림이 예약됩니다.
+     * 입력 필드는 초기화되며,
      * 활동 이력이 업데이트됩니다.
      * </p>
      */
 
     private void registerActivity() {
-        if (pairSelector.getSelectedItem() == null) {
+        String pairId = pairPicker.getSelectedPairId();
+        if (pairId == null) {
             JOptionPane.showMessageDialog(this,
                     "매칭된 멘토-멘티 쌍을 선택해주세요.",
                     "경고",
@@ -148,8 +259,6 @@ public class ActivityPanel extends JPanel {
             return;
         }
 
-        String pairId = pairSelector.getSelectedItem().toString().split(" ")[0];
-
         if (contentField.getText().trim().isEmpty() || locationField.getText().trim().isEmpty()) {
             JOptionPane.showMessageDialog(this,
                     "활동 내용과 장소를 모두 입력해주세요.",
@@ -158,8 +267,9 @@ public class ActivityPanel extends JPanel {
             return;
         }
 
+        long epochMillis = ((Date) dateSpinner.getValue()).getTime();
         Activity activity = new Activity(
-                new Date(),
+                epochMillis,
                 contentField.getText(),
                 locationField.getText()
         );
@@ -168,30 +278,93 @@ public class ActivityPanel extends JPanel {
 
         clearFields();
 
-        updateActivityHistory();
-
         JOptionPane.showMessageDialog(this,
-                "활동이 성공적으로 등록되었습니다.",
+                epochMillis > System.currentTimeMillis()
+                        ? "예정 활동이 등록되었습니다. 시작 "
+                                + ActivityScheduler.REMINDER_LEAD_MILLIS / 60_000 + "분 전에 알림이 표시됩니다."
+                        : "활동이 성공적으로 등록되었습니다.",
                 "등록 완료",
                 JOptionPane.INFORMATION_MESSAGE);
     }
 
+    /**
+     * 선택한 매칭, 또는 미완료 활동이 남은 모든 매칭의 활동을 완료 처리합니다.
+     *
+     * <p>
+     * 미완료 매칭 목록은 활동 저장소가 유지하는 미완료 매칭 비트맵에서 바로 구합니다.
+     * </p>
+     */
+    private void completeActivities() {
+        ActivityLog log = mainProgram.getActivities();
+        List<String> openPairs = log.getPairIdsWithOpenActivities();
+        if (openPairs.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "완료되지 않은 활동이 없습니다.",
+                    "알림",
+                    JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        String selected = pairPicker.getSelectedPairId();
+        String[] options = {
+                "선택한 매칭 (" + (selected == null ? 0 : log.countOpen(selected)) + "건)",
+                "미완료 매칭 전체 (" + openPairs.size() + "개, "
+                        + (log.size() - log.countCompleted()) + "건)",
+                "취소"
+        };
+        int choice = JOptionPane.showOptionDialog(this,
+                "완료 처리할 활동을 선택해주세요.",
+                "활동 완료 처리",
+                JOptionPane.DEFAULT_OPTION,
+                JOptionPane.QUESTION_MESSAGE,
+                null, options, options[0]);
+        if (choice == 0 && selected == null) {
+            JOptionPane.showMessageDialog(this,
+                    "매칭된 멘토-멘티 쌍을 선택해주세요.",
+                    "경고",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (choice != 0 && choice != 1) {
+            return;
+        }
+
+        int changed = mainProgram.setActivitiesCompleted(
+                choice == 0 ? Collections.singletonList(selected) : openPairs, true);
+        JOptionPane.showMessageDialog(this,
+                changed + "건의 활동을 완료 처리했습니다.",
+                "완료 처리",
+                JOptionPane.INFORMATION_MESSAGE);
+    }
+
     /**
      * 모든 멘토-멘티 쌍의 활동 이력을 업데이트하여 표시합니다.
+     *
+     * <p>
+     * 매칭 제목 줄과 활동 줄은 표시 문자열 캐시를 거치므로,
+     * 마지막 갱신 이후 변경된 매칭과 활동만 다시 포맷팅됩니다.
+     * 모든 줄을 차례로 지나가므로 캐시는 활동이 있는 매칭 수와 활동 행 수만큼 보관하며,
+     * 크기 제한으로 다음 갱신 전에 밀려나는 항목이 없습니다.
+     * </p>
      */
     private void updateActivityHistory() {
+        ActivityLog log = mainProgram.getActivities();
+        if (log != cachedLog) {
+            activityLines.clear();
+            cachedLog = log;
+        }
         StringBuilder history = new StringBuilder("활동 내역:\n\n");
 
-        for (String pairId : mainProgram.getActivities().keySet()) {
-            Pair pair = mainProgram.getMatches().get(pairId);
-            history.append(String.format("[ %s - %s ]\n",
-                    pair.getMentor().getName(),
-                    pair.getMentee().getName()));
+        List<String> pairIds = log.getPairIds();
+        pairHeaders.ensureCapacity(pairIds.size());
+        for (String pairId : pairIds) {
+            history.append(pairHeaders.get(pairId, mainProgram.getMatchVersion(pairId)));
 
-            for (Activity activity : mainProgram.getActivities().get(pairId)) {
-                history.append("- ").append(activity.toString()).append("\n");
+            for (PrimitiveIterator.OfInt rows = log.rows(pairId); rows.hasNext(); ) {
+                int row = rows.nextInt();
+                history.append(activityLines.get(row, log.getVersion(row)));
             }
-            history.append("\n");
+            history.append('\n');
         }
 
         activityHistoryArea.setText(history.toString());
@@ -203,23 +376,35 @@ public class ActivityPanel extends JPanel {
     private void clearFields() {
         contentField.setText("");
         locationField.setText("");
+        dateSpinner.setValue(new Date());
     }
 
     /**
      * 활동 데이터를 파일에 저장합니다.
+     *
+     * <p>
+     * {@link ActivityImporter}가 읽는 형식 그대로, UTF-8로 인코딩하여 {@link ReportEncoder}의
+     * direct 버퍼를 거쳐 파일 채널에 바로 기록합니다.
+     * </p>
      */
     private void saveActivitiesToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter("activities.txt"))) {
-            for (String pairId : mainProgram.getActivities().keySet()) {
+        ActivityLog log = mainProgram.getActivities();
+        StringBuilder line = new StringBuilder(128);
+        try (ReportEncoder out = ReportEncoder.open(Paths.get("activities.txt"), false)) {
+            for (String pairId : log.getPairIds()) {
                 Pair pair = mainProgram.getMatches().get(pairId);
-                writer.write(String.format("[ %s - %s ]\n",
-                        pair.getMentor().getName(),
-                        pair.getMentee().getName()));
-
-                for (Activity activity : mainProgram.getActivities().get(pairId)) {
-                    writer.write("- " + activity.toString() + "\n");
+                out.append("[ ")
+                        .append(pair.getMentor().getName())
+                        .append(" - ")
+                        .append(pair.getMentee().getName())
+                        .append(" ]\n");
+
+                for (PrimitiveIterator.OfInt rows = log.rows(pairId); rows.hasNext(); ) {
+                    out.append("- ");
+                    log.appendTo(rows.nextInt(), line, out);
+                    out.append('\n');
                 }
-                writer.write("\n");
+                out.append('\n');
             }
             JOptionPane.showMessageDialog(this,
                     "활동 데이터가 성공적으로 저장되었습니다.",
@@ -235,22 +420,55 @@ public class ActivityPanel extends JPanel {
 
     /**
      * 활동 데이터를 파일에서 불러옵니다.
+     *
+     * <p>
+     * "activities.txt" 파일을 {@link ActivityImporter}로 백그라운드 스레드에서 파싱한 뒤,
+     * 이벤트 디스패치 스레드에서 활동 저장소에 한 번에 반영합니다.
+     * 매칭을 찾지 못한 그룹과 형식이 잘못된 줄, 이미 저장소에 있는 활동은 건너뛰고 그 수를 알려 줍니다.
+     * </p>
      */
     private void loadActivitiesFromFile() {
-        try (BufferedReader reader = new BufferedReader(new FileReader("activities.txt"))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                System.out.println(line); // 읽은 데이터 출력 (파싱 로직 추가 필요)
+        ActivityImporter importer = new ActivityImporter(mainProgram.getMatches());
+
+        new SwingWorker<ActivityImporter.Result, Void>() {
+            @Override
+            protected ActivityImporter.Result doInBackground() throws IOException {
+                return importer.importFile(Paths.get("activities.txt"));
             }
-            JOptionPane.showMessageDialog(this,
-                    "활동 데이터가 성공적으로 로드되었습니다.",
-                    "불러오기 성공",
-                    JOptionPane.INFORMATION_MESSAGE);
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this,
-                    "파일 불러오기 중 오류가 발생했습니다: " + e.getMessage(),
-                    "오류",
-                    JOptionPane.ERROR_MESSAGE);
-        }
+
+            @Override
+            protected void done() {
+                try {
+                    ActivityImporter.Result result = get();
+                    int parsed = result.getActivities().size();
+                    int added = mainProgram.addActivities(result.getActivities());
+                    result.getActivities().release();
+
+                    StringBuilder message = new StringBuilder()
+                            .append(added).append("건의 활동 데이터가 성공적으로 로드되었습니다.");
+                    if (parsed > added) {
+                        message.append("\n이미 있는 활동 ").append(parsed - added).append("건은 건너뛰었습니다.");
+                    }
+                    if (result.getUnresolvedGroupCount() > 0) {
+                        message.append("\n매칭을 찾지 못한 그룹 ")
+                                .append(result.getUnresolvedGroupCount()).append("개를 건너뛰었습니다.");
+                    }
+                    if (result.getMalformedLines() > 0) {
+                        message.append("\n형식이 올바르지 않은 ")
+                                .append(result.getMalformedLines()).append("줄을 건너뛰었습니다.");
+                    }
+                    JOptionPane.showMessageDialog(ActivityPanel.this,
+                            message.toString(),
+                            "불러오기 성공",
+                            JOptionPane.INFORMATION_MESSAGE);
+                } catch (InterruptedException | ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    JOptionPane.showMessageDialog(ActivityPanel.this,
+                            "파일 불러오기 중 오류가 발생했습니다: " + cause.getMessage(),
+                            "오류",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
     }
 }
@@ -0,0 +1,503 @@
+package com.globalbridge.gui;
+
+import com.globalbridge.event.ModelEvent;
+import com.globalbridge.model.PageCache;
+import com.globalbridge.model.Pair;
+import com.globalbridge.report.ChangeExporter;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.rollup.Dimension;
+import com.globalbridge.rollup.Granularity;
+import com.globalbridge.rollup.RollupBucket;
+import com.globalbridge.sketch.ActivitySketches;
+import com.globalbridge.sketch.SpaceSaving;
+import com.globalbridge.util.ArchivedSemester;
+import com.globalbridge.util.SemesterStore;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * @version 1.3
+ * @since 2026-10-18
+ *
+ * 기간별 활동 수와 완료율을 보여 주는 대시보드 패널 클래스.
+ *
+ * <p>
+ * 구간 단위(일, 주, 월)와 기준(전체, 매칭, 전공, 장소)을 고르면 {@link ActivityRollup}에 미리 집계된
+ * 카운터만 읽어 표로 보여 주며, 활동 기록은 다시 훑지 않습니다.
+ * 전체 기준은 구간마다 한 행을 최근 구간부터 보여 주고, 나머지 기준은 고른 기간의 키마다 한 행을
+ * 활동 수가 많은 순서로 보여 줍니다.
+ * 오른쪽에는 {@link ActivitySketches}로 추정한 참여 참가자 수와 자주 쓰인 장소, 활동 내용을 함께 보여 주며,
+ * 메모리 제한 모드이면 활동 페이지 캐시의 적중률도 보여 줍니다.
+ * </p>
+ *
+ * <p>
+ * 학기 목록에서 마감된 학기를 고르면 그 학기의 샤드를 백그라운드에서 불러와 같은 방식으로 보여 주며,
+ * 마감된 학기는 읽기 전용입니다. "학기 마감" 버튼으로 현재 학기를 마감하고 다음 학기를 시작할 수 있습니다.
+ * "변경분 내보내기" 버튼은 지난 내보내기 이후에 바뀐 참가자와 매칭만 {@value ChangeExporter#DEFAULT_FILE} 파일 끝에 덧붙입니다.
+ * </p>
+ *
+ * <p>
+ * 활동이 추가되거나 완료 상태가 바뀌면 {@link com.globalbridge.event.ModelEventBus}의 이벤트로 갱신되며,
+ * 탭이 보이지 않는 동안 쌓인 변경은 탭이 다시 보일 때 한 번에 반영됩니다.
+ * </p>
+ */
+public class DashboardPanel extends JPanel {
+    private static final String[] PERIOD_COLUMNS = {"기간", "활동 수", "완료 수", "완료율"};
+
+    /** 추정 통계에 보여 줄 상위 장소와 활동 내용 수 */
+    private static final int TOP_LIMIT = 10;
+
+    private final GlobalBridgeProgram mainProgram;
+    private final JComboBox<Granularity> granularityBox = new JComboBox<>(Granularity.values());
+    private final JComboBox<Dimension> dimensionBox = new JComboBox<>(Dimension.values());
+    private final JComboBox<Integer> periodBox = new JComboBox<>();
+    private final JComboBox<String> semesterBox = new JComboBox<>();
+    private final JButton closeSemesterButton = new JButton("학기 마감...");
+    private final JButton exportChangesButton = new JButton("변경분 내보내기");
+    private final JLabel summaryLabel = new JLabel(" ");
+    private final RollupTableModel tableModel = new RollupTableModel();
+    private final JTextArea sketchArea = new JTextArea(20, 28);
+
+    /** 기간 목록을 다시 채우는 동안 선택 변경 이벤트를 무시하기 위한 플래그 */
+    private boolean updatingPeriods;
+
+    /** 학기 목록을 다시 채우는 동안 선택 변경 이벤트를 무시하기 위한 플래그 */
+    private boolean updatingSemesters;
+
+    /** 보고 있는 마감된 학기, 현재 학기를 보고 있으면 null */
+    private ArchivedSemester archived;
+
+    /**
+     * DashboardPanel 생성자.
+     *
+     * @param mainProgram 메인 프로그램 객체. 활동 집계를 관리합니다.
+     */
+    public DashboardPanel(GlobalBridgeProgram mainProgram) {
+        this.mainProgram = mainProgram;
+        setLayout(new BorderLayout(10, 10));
+        initComponents();
+        updateSemesters();
+        refresh();
+        mainProgram.getEventBus().subscribe(this, this::modelChanged);
+    }
+
+    private void initComponents() {
+        JPanel controlPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
+        controlPanel.add(new JLabel("학기:"));
+        controlPanel.add(semesterBox);
+        controlPanel.add(new JLabel("단위:"));
+        controlPanel.add(granularityBox);
+        controlPanel.add(new JLabel("기준:"));
+        controlPanel.add(dimensionBox);
+        controlPanel.add(new JLabel("기간:"));
+        controlPanel.add(periodBox);
+        controlPanel.add(closeSemesterButton);
+        controlPanel.add(exportChangesButton);
+
+        semesterBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                SemesterStore store = mainProgram.getSemesterStore();
+                Object text = value == null ? " "
+                        : store != null && value.equals(store.getActiveSemester()) ? value + " (현재)" : value;
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        semesterBox.addActionListener(e -> {
+            if (!updatingSemesters) {
+                selectSemester();
+            }
+        });
+        closeSemesterButton.addActionListener(e -> closeSemester());
+        exportChangesButton.addActionListener(e -> exportChanges());
+        granularityBox.setSelectedItem(Granularity.WEEK);
+        periodBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                Object text = value == null ? " " : selectedGranularity().format((Integer) value);
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        granularityBox.addActionListener(e -> refresh());
+        dimensionBox.addActionListener(e -> refresh());
+        periodBox.addActionListener(e -> {
+            if (!updatingPeriods) {
+                updateTable();
+            }
+        });
+
+        JTable table = new JTable(tableModel);
+        table.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+        table.setRowHeight(22);
+        table.getTableHeader().setFont(new Font("맑은 고딕", Font.BOLD, 14));
+        table.setFillsViewportHeight(true);
+
+        summaryLabel.setFont(new Font("맑은 고딕", Font.BOLD, 14));
+
+        sketchArea.setEditable(false);
+        sketchArea.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+        JScrollPane sketchPane = new JScrollPane(sketchArea);
+        sketchPane.setBorder(BorderFactory.createTitledBorder("추정 통계"));
+
+        add(controlPanel, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(sketchPane, BorderLayout.EAST);
+        add(summaryLabel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * 데이터 변경 이벤트 묶음을 반영합니다.
+     *
+     * <p>
+     * 활동이 추가되거나 완료 상태가 바뀌었거나 데이터를 다시 불러왔으면 묶음당 한 번만 다시 그립니다.
+     * 참가자 등록과 매칭 변경은 집계를 바꾸지 않으므로 무시합니다.
+     * </p>
+     *
+     * @param events 마지막 전달 이후 발생한 이벤트 목록
+     */
+    private void modelChanged(List<ModelEvent> events) {
+        for (ModelEvent event : events) {
+            if (event instanceof ModelEvent.ActivityAdded || event instanceof ModelEvent.ActivitiesImported
+                    || event instanceof ModelEvent.ActivitiesCompleted || event instanceof ModelEvent.DataReloaded) {
+                refresh();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 기간 목록을 최근 구간부터 다시 채우고 표를 갱신합니다. 고른 기간이 남아 있으면 선택을 유지합니다.
+     */
+    private void refresh() {
+        Object selected = periodBox.getSelectedItem();
+        int[] buckets = rollup().buckets(selectedGranularity());
+        updatingPeriods = true;
+        try {
+            DefaultComboBoxModel<Integer> periods = new DefaultComboBoxModel<>();
+            for (int i = buckets.length - 1; i >= 0; i--) {
+                periods.addElement(buckets[i]);
+            }
+            periodBox.setModel(periods);
+            if (selected != null && periods.getIndexOf(selected) >= 0) {
+                periods.setSelectedItem(selected);
+            }
+            // 전체 기준은 모든 기간을 행으로 보여 주므로 기간을 고를 필요가 없습니다.
+            periodBox.setEnabled(selectedDimension() != Dimension.ALL);
+        } finally {
+            updatingPeriods = false;
+        }
+        updateTable();
+        updateSketches();
+    }
+
+    /**
+     * 활동 스케치로 추정한 참가자 수와 상위 장소, 활동 내용을 표시합니다.
+     */
+    private void updateSketches() {
+        ActivitySketches sketches = archived != null ? archived.getSketches() : mainProgram.getSketches();
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("활동에 참여한 참가자: 약 %,d명 (오차 ±%.1f%%)\n",
+                sketches.estimateParticipants(), sketches.getDistinctError() * 100));
+        text.append(String.format("빈도 추정 오차: 최대 +%,d건\n", sketches.getFrequencyErrorBound()));
+
+        text.append("\n자주 쓰인 장소\n");
+        int rank = 1;
+        for (SpaceSaving.HeavyHitter location : sketches.topLocations(TOP_LIMIT)) {
+            text.append(String.format("%2d. %s: 약 %,d건", rank++, label(location.getItem()), location.getCount()));
+            long participants = sketches.estimateParticipants(location.getItem());
+            if (participants >= 0) {
+                text.append(String.format(", 참가자 약 %,d명", participants));
+            }
+            text.append('\n');
+        }
+
+        text.append("\n자주 한 활동\n");
+        rank = 1;
+        for (SpaceSaving.HeavyHitter content : sketches.topContents(TOP_LIMIT)) {
+            text.append(String.format("%2d. %s: 약 %,d건\n", rank++, label(content.getItem()), content.getCount()));
+        }
+
+        PageCache pageCache = mainProgram.getActivities().getPageCache();
+        if (pageCache != null && archived == null) {
+            PageCache.Stats stats = pageCache.getStats();
+            text.append(String.format("\n활동 페이지 캐시 (%s)\n", pageCache.getPolicy()));
+            text.append(String.format("적중률 %.1f%% (적중 %,d, 실패 %,d)\n",
+                    stats.getHitRate() * 100, stats.getHits(), stats.getMisses()));
+            text.append(String.format("메모리 %,dMB / %,dMB, 내보냄 %,d, 페이지 파일 %,dMB\n",
+                    stats.getResidentBytes() >> 20, stats.getBudgetBytes() >> 20, stats.getEvictions(),
+                    stats.getPageFileBytes() >> 20));
+        }
+        sketchArea.setText(text.toString());
+        sketchArea.setCaretPosition(0);
+    }
+
+    private static String label(String item) {
+        return item == null || item.isBlank() ? "(없음)" : item;
+    }
+
+    /**
+     * 고른 단위, 기준, 기간의 집계로 표와 요약을 갱신합니다.
+     */
+    private void updateTable() {
+        ActivityRollup rollup = rollup();
+        Granularity granularity = selectedGranularity();
+        Dimension dimension = selectedDimension();
+        List<Row> rows = new ArrayList<>();
+
+        if (dimension == Dimension.ALL) {
+            int[] buckets = rollup.buckets(granularity);
+            for (int i = buckets.length - 1; i >= 0; i--) {
+                RollupBucket bucket = rollup.get(granularity, Dimension.ALL, null, buckets[i]);
+                rows.add(new Row(granularity.format(buckets[i]), bucket));
+            }
+            tableModel.setRows(PERIOD_COLUMNS[0], rows);
+            summaryLabel.setText(String.format("전체 활동 %,d건, 완료 %,d건 (%.1f%%)",
+                    rollup.getActivityCount(), rollup.getCompletedCount(),
+                    rate(rollup.getActivityCount(), rollup.getCompletedCount())));
+            return;
+        }
+
+        Integer period = (Integer) periodBox.getSelectedItem();
+        if (period != null) {
+            for (String key : rollup.keys(dimension)) {
+                RollupBucket bucket = rollup.get(granularity, dimension, key, period);
+                if (bucket.getTotal() > 0) {
+                    rows.add(new Row(keyLabel(dimension, key), bucket));
+                }
+            }
+            rows.sort(Comparator.comparingInt((Row row) -> row.bucket.getTotal()).reversed()
+                    .thenComparing(row -> row.label));
+        }
+        tableModel.setRows(dimension.toString(), rows);
+        if (period == null) {
+            summaryLabel.setText("집계된 활동이 없습니다.");
+        } else {
+            RollupBucket total = rollup.get(granularity, Dimension.ALL, null, period);
+            summaryLabel.setText(String.format("%s: 활동 %,d건, 완료 %,d건 (%.1f%%), %s %,d개",
+                    granularity.format(period), total.getTotal(), total.getCompleted(),
+                    total.getCompletionRate() * 100, dimension, rows.size()));
+        }
+    }
+
+    /**
+     * 기준 키를 표에 보여 줄 문자열로 바꿉니다. 매칭은 현재 매칭이 남아 있으면 멘토와 멘티 이름을 덧붙입니다.
+     */
+    private String keyLabel(Dimension dimension, String key) {
+        if (key == null || key.isEmpty()) {
+            return "(없음)";
+        }
+        if (dimension == Dimension.PAIR) {
+            Map<String, Pair> matches = archived != null ? archived.getMatches() : mainProgram.getMatches();
+            Pair pair = matches.get(key);
+            if (pair != null) {
+                return key + " (" + pair.getMentor().getName() + " - " + pair.getMentee().getName() + ")";
+            }
+        }
+        return key;
+    }
+
+    /**
+     * 학기 목록을 현재 학기, 마감된 학기(최근 순) 순서로 다시 채우고 현재 학기를 선택합니다.
+     * 데이터 디렉터리를 사용하지 않으면 학기 선택과 마감을 막습니다.
+     */
+    private void updateSemesters() {
+        SemesterStore store = mainProgram.getSemesterStore();
+        updatingSemesters = true;
+        try {
+            DefaultComboBoxModel<String> semesters = new DefaultComboBoxModel<>();
+            if (store != null) {
+                semesters.addElement(store.getActiveSemester());
+                List<SemesterStore.Semester> closed = store.getArchivedSemesters();
+                for (int i = closed.size() - 1; i >= 0; i--) {
+                    semesters.addElement(closed.get(i).getId());
+                }
+            }
+            semesterBox.setModel(semesters);
+        } finally {
+            updatingSemesters = false;
+        }
+        semesterBox.setEnabled(store != null);
+        closeSemesterButton.setEnabled(store != null);
+        exportChangesButton.setEnabled(mainProgram.isChangeExportAvailable());
+        archived = null;
+    }
+
+    /**
+     * 고른 학기를 보여 줍니다. 마감된 학기는 백그라운드에서 불러온 뒤 표시하며,
+     * 불러오는 동안 다른 학기를 고르면 늦게 끝난 결과는 버립니다.
+     */
+    private void selectSemester() {
+        SemesterStore store = mainProgram.getSemesterStore();
+        String id = (String) semesterBox.getSelectedItem();
+        if (store == null || id == null || id.equals(store.getActiveSemester())) {
+            archived = null;
+            refresh();
+            return;
+        }
+        summaryLabel.setText(id + " 학기를 불러오는 중...");
+        store.openSemesterAsync(id).whenComplete((semester, error) -> SwingUtilities.invokeLater(() -> {
+            if (!id.equals(semesterBox.getSelectedItem())) {
+                return;
+            }
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                summaryLabel.setText(id + " 학기를 불러오지 못했습니다: " + cause.getMessage());
+                return;
+            }
+            archived = semester;
+            refresh();
+        }));
+    }
+
+    /**
+     * 확인을 받은 뒤 현재 학기를 마감하고 다음 학기를 시작합니다.
+     */
+    private void closeSemester() {
+        SemesterStore store = mainProgram.getSemesterStore();
+        JCheckBox carryOver = new JCheckBox("참가자와 매칭을 새 학기로 이어 가기", true);
+        Object[] message = {
+                store.getActiveSemester() + " 학기를 마감하고 새 학기를 시작하시겠습니까?\n"
+                        + "마감된 학기의 활동 기록은 읽기 전용으로 보관되며 필요할 때만 불러옵니다.",
+                carryOver
+        };
+        if (JOptionPane.showConfirmDialog(this, message, "학기 마감", JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.QUESTION_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        try {
+            String next = mainProgram.closeSemester(carryOver.isSelected());
+            updateSemesters();
+            refresh();
+            JOptionPane.showMessageDialog(this,
+                    next + " 학기를 시작했습니다.",
+                    "학기 마감",
+                    JOptionPane.INFORMATION_MESSAGE);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this,
+                    "학기를 마감하지 못했습니다: " + e.getMessage(),
+                    "오류",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * 지난 내보내기 이후에 바뀐 참가자와 매칭을 변경분 파일 끝에 덧붙입니다.
+     */
+    private void exportChanges() {
+        try {
+            ChangeExporter.Result result = mainProgram.exportChanges(Paths.get(ChangeExporter.DEFAULT_FILE));
+            String message = result.getCount() == 0
+                    ? "지난 내보내기 이후 바뀐 참가자와 매칭이 없습니다."
+                    : String.format("변경 %d건(순번 %d~%d)을 %s 파일에 덧붙였습니다.", result.getCount(),
+                    result.getFirstSequence(), result.getLastSequence(), ChangeExporter.DEFAULT_FILE);
+            JOptionPane.showMessageDialog(this,
+                    message,
+                    "변경분 내보내기",
+                    JOptionPane.INFORMATION_MESSAGE);
+        } catch (IOException | IllegalStateException e) {
+            JOptionPane.showMessageDialog(this,
+                    "변경분을 내보내지 못했습니다: " + e.getMessage(),
+                    "오류",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private ActivityRollup rollup() {
+        return archived != null ? archived.getRollup() : mainProgram.getRollup();
+    }
+
+    private Granularity selectedGranularity() {
+        return (Granularity) granularityBox.getSelectedItem();
+    }
+
+    private Dimension selectedDimension() {
+        return (Dimension) dimensionBox.getSelectedItem();
+    }
+
+    private static double rate(int total, int completed) {
+        return total == 0 ? 0 : completed * 100.0 / total;
+    }
+
+    /**
+     * 표의 한 행 (기간 또는 기준 키와 그 집계)입니다.
+     */
+    private static final class Row {
+        final String label;
+        final RollupBucket bucket;
+
+        Row(String label, RollupBucket bucket) {
+            this.label = label;
+            this.bucket = bucket;
+        }
+    }
+
+    /**
+     * 집계 행을 보여 주는 표 모델입니다. 첫 열의 제목은 기준에 따라 바뀝니다.
+     */
+    private static final class RollupTableModel extends AbstractTableModel {
+        private String firstColumn = PERIOD_COLUMNS[0];
+        private List<Row> rows = new ArrayList<>();
+
+        void setRows(String firstColumn, List<Row> rows) {
+            boolean structureChanged = !this.firstColumn.equals(firstColumn);
+            this.firstColumn = firstColumn;
+            this.rows = rows;
+            if (structureChanged) {
+                fireTableStructureChanged();
+            } else {
+                fireTableDataChanged();
+            }
+        }
+
+        @Override
+        public int getRowCount() { return rows.size(); }
+
+        @Override
+        public int getColumnCount() { return PERIOD_COLUMNS.length; }
+
+        @Override
+        public String getColumnName(int column) {
+            return column == 0 ? firstColumn : PERIOD_COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column == 1 || column == 2 ? Integer.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int column) {
+            Row row = rows.get(rowIndex);
+            switch (column) {
+                case 0:
+                    return row.label;
+                case 1:
+                    return row.bucket.getTotal();
+                case 2:
+                    return row.bucket.getCompleted();
+                default:
+                    return String.format("%.1f%%", row.bucket.getCompletionRate() * 100);
+            }
+        }
+    }
+}
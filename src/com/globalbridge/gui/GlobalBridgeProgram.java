@@ -1,10 +1,25 @@
 package com.globalbridge.gui;
 
+import com.globalbridge.event.ModelEvent;
+import com.globalbridge.event.ModelEventBus;
+import com.globalbridge.matching.OnlineMatcher;
+import com.globalbridge.query.QueryEngine;
+import com.globalbridge.report.ChangeExporter;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+import com.globalbridge.schedule.ActivityScheduler;
 import com.globalbridge.model.*;
+import com.globalbridge.util.ChangeFeed;
 import com.globalbridge.util.DataManager;
+import com.globalbridge.util.ParticipantFacets;
+import com.globalbridge.util.SemesterStore;
+import com.globalbridge.util.StudentIdIndex;
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.List;
 
 /**
  * @author Kim Hyeong Jun
@@ -14,6 +29,12 @@ import java.util.*;
  * @version 1.1
  * @since 2024-12-23
  *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * @version 1.3
+ * @since 2026-10-18
+ *
  *
  * 글로벌 브릿지 프로그램의 메인 GUI 프레임 클래스.
  *
@@ -33,6 +54,16 @@ import java.util.*;
  * </ul>
  * </p>
  *
+ * <p>
+ * 데이터는 {@link SemesterStore}의 데이터 디렉터리에 학기별로 나뉘어 저장되며, 시작할 때는 현재 학기만 불러옵니다.
+ * 데이터 디렉터리를 열 수 없으면 예전처럼 단일 저장 파일을 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 데이터를 저장할 때마다 참가자와 매칭의 변경을 데이터 디렉터리의 {@link ChangeFeed}에 순번과 함께 기록하며,
+ * {@link #exportChanges(Path)}로 지난 내보내기 이후의 변경만 파일에 덧붙여 다른 캠퍼스 시스템에 넘길 수 있습니다.
+ * </p>
+ *
  *
  * @see RegistrationPanel
  * @see MatchingPanel
@@ -45,6 +76,16 @@ public class GlobalBridgeProgram extends JFrame {
      */
     private ArrayList<Participant> participants;
 
+    /**
+     * 학번 중복 검사를 위한 참가자 색인.
+     */
+    private StudentIdIndex studentIndex;
+
+    /**
+     * 역할, 학년, 전공별 참가자 번호 비트맵 색인.
+     */
+    private ParticipantFacets participantFacets;
+
     /**
      * 멘토-멘티 매칭 정보를 저장하는 HashMap.
      *
@@ -53,17 +94,128 @@ public class GlobalBridgeProgram extends JFrame {
     private HashMap<String, Pair> matches;
 
     /**
-     * 각 매칭 쌍의 활동 기록을 저장하는 HashMap.
+     * 각 매칭 쌍의 활동 기록을 저장하는 off-heap 활동 저장소.
+     *
+     * <p>활동은 매칭 ID("멘토학번-멘티학번" 형식)별로 묶여 기록됩니다.</p>
+     */
+    private ActivityLog activities;
+
+    /**
+     * 활동 수와 완료율을 일, 주, 월 구간별로 미리 집계한 결과.
+     * 활동 기록이 바뀔 때마다 함께 갱신되며 대시보드 탭이 이 집계만 읽어 표시합니다.
+     */
+    private ActivityRollup rollup;
+
+    /**
+     * 서로 다른 참가자 수, 자주 쓰인 장소와 활동 내용 등의 근사 통계.
+     * 활동이 추가될 때마다 함께 갱신되며 활동 수와 관계없이 일정한 메모리만 사용합니다.
+     */
+    private ActivitySketches sketches;
+
+    /**
+     * 매칭 ID별 마지막 변경 버전.
      *
-     * <p>키는 매칭 ID("멘토학번-멘티학번" 형식)이며, 값은 {@link Activity} 객체 리스트입니다.</p>
+     * <p>화면 표시 문자열 캐시가 변경된 매칭만 다시 포맷팅하도록 사용됩니다.</p>
+     */
+    private HashMap<String, Long> matchVersions;
+
+    /**
+     * 데이터가 변경될 때마다 증가하는 수정 카운터.
+     */
+    private long modificationCount;
+
+    /**
+     * 마지막으로 데이터를 불러온 시점의 수정 카운터 (불러온 뒤 변경되지 않은 매칭의 버전).
+     */
+    private long loadedVersion;
+
+    /**
+     * 신규 등록자를 즉시 매칭하는 온라인 매칭기 (미매칭 참가자 대기열 관리).
+     */
+    private OnlineMatcher onlineMatcher;
+
+    /**
+     * 등록 즉시 자동 매칭 사용 여부.
+     */
+    private boolean onlineMatchingEnabled;
+
+    /**
+     * 온라인 매칭으로 생성되었고 아직 활동이 없는 매칭 ID (재최적화 대상, 생성 순서).
+     */
+    private LinkedHashSet<String> provisionalMatches;
+
+    /**
+     * 멘토 한 명이 맡을 수 있는 최대 멘티 수 (정원).
+     */
+    private int mentorCapacity = 1;
+
+    /**
+     * 멘토 학번별로 현재 맡고 있는 매칭 수.
+     */
+    private HashMap<String, Integer> mentorLoad;
+
+    /**
+     * 온라인 매칭 재최적화를 주기적으로 실행하는 타이머.
+     */
+    private javax.swing.Timer reoptimizeTimer;
+
+    /**
+     * 예정된 활동의 알림과 기한 지남 표시를 예약하는 스케줄러.
+     */
+    private ActivityScheduler activityScheduler;
+
+    /**
+     * 활동 스케줄러의 시간을 진행시키는 타이머.
+     */
+    private javax.swing.Timer scheduleTimer;
+
+    /** 활동 스케줄러를 진행시키는 주기 (밀리초) */
+    private static final int SCHEDULE_INTERVAL_MS = 1_000;
+
+    /** 알림 창에 나열할 최대 활동 수 */
+    private static final int MAX_REMINDER_LINES = 10;
+
+    /** 온라인 매칭 재최적화 주기 (밀리초) */
+    private static final int REOPTIMIZE_INTERVAL_MS = 60_000;
+
+    /** 한 번의 재최적화에서 다루는 최대 매칭 수 (최근 생성 순) */
+    private static final int REOPTIMIZE_MAX_PAIRS = 2_000;
+
+    /**
+     * 저장된 데이터를 불러오는 동안 표시하는 화면.
+     */
+    private LoadingPane loadingPane;
+
+    /**
+     * 저장된 데이터 불러오기가 끝났는지 여부.
+     */
+    private boolean loaded;
+
+    /**
+     * 불러오기가 끝난 뒤 실행할 작업.
+     */
+    private final List<Runnable> loadCallbacks = new ArrayList<>();
+
+    /**
+     * 데이터 변경을 각 패널에 알리는 이벤트 버스.
      */
-    private HashMap<String, ArrayList<Activity>> activities;
+    private final ModelEventBus eventBus = new ModelEventBus();
 
     /**
-     * 데이터 저장 및 로드를 담당하는 매니저.
+     * 데이터 저장 및 로드를 담당하는 매니저 (현재 학기 샤드).
      */
     private DataManager dataManager;
 
+    /**
+     * 학기별 샤드와 목록 파일을 관리하는 저장소. 데이터 디렉터리를 열지 못했으면 null.
+     */
+    private SemesterStore semesterStore;
+
+    /**
+     * 참가자와 매칭의 변경 기록. 데이터 디렉터리를 사용하지 않거나 열지 못했으면 null.
+     */
+    private ChangeFeed changeFeed;
+
     /**
      * 참가자 등록을 위한 패널.
      */
@@ -79,6 +231,11 @@ public class GlobalBridgeProgram extends JFrame {
      */
     private ActivityPanel activityPanel;
 
+    /**
+     * 활동 통계 대시보드 패널.
+     */
+    private DashboardPanel dashboardPanel;
+
     /**
      * GlobalBridgeProgram의 메인 프레임을 생성하고 초기화합니다.
      *
@@ -88,30 +245,72 @@ public class GlobalBridgeProgram extends JFrame {
      *   <li>데이터 구조 초기화</li>
      *   <li>프레임 기본 설정(제목, 크기, 위치 등)</li>
      *   <li>UI 컴포넌트 초기화</li>
-     *   <li>저장된 데이터 로드</li>
+     *   <li>저장된 데이터 로드 시작 (백그라운드 스레드)</li>
      * </ul>
+     * 창은 데이터를 모두 불러오기 전에 표시될 수 있으며, 불러오는 동안에는 진행 상황이 표시됩니다.
      * </p>
      */
     public GlobalBridgeProgram() {
         participants = new ArrayList<>();
+        studentIndex = new StudentIdIndex();
+        participantFacets = new ParticipantFacets();
         matches = new HashMap<>();
-        activities = new HashMap<>();
-        dataManager = new DataManager();
+        activities = ActivityLog.create();
+        rollup = new ActivityRollup();
+        sketches = new ActivitySketches();
+        matchVersions = new HashMap<>();
+        onlineMatcher = new OnlineMatcher();
+        provisionalMatches = new LinkedHashSet<>();
+        mentorLoad = new HashMap<>();
+        reoptimizeTimer = new javax.swing.Timer(REOPTIMIZE_INTERVAL_MS, e -> reoptimizeOnlineMatches());
+        activityScheduler = new ActivityScheduler(activities, this::activitiesDue, System.currentTimeMillis());
+        scheduleTimer = new javax.swing.Timer(SCHEDULE_INTERVAL_MS,
+                e -> activityScheduler.advance(System.currentTimeMillis()));
+        try {
+            semesterStore = SemesterStore.openDefault();
+            dataManager = semesterStore.getActiveDataManager();
+        } catch (IOException e) {
+            System.err.println("데이터 디렉터리를 열지 못해 단일 저장 파일을 사용합니다: " + e.getMessage());
+            semesterStore = null;
+            dataManager = new DataManager();
+        }
+        if (semesterStore != null) {
+            try {
+                changeFeed = ChangeFeed.open(semesterStore.getDirectory().resolve(ChangeFeed.DIRECTORY_NAME));
+            } catch (IOException e) {
+                System.err.println("변경 기록을 열지 못해 변경분 내보내기를 사용할 수 없습니다: " + e.getMessage());
+            }
+        }
 
         setTitle("글로벌 브릿지 - 함께 성장하는 캠퍼스 문화 교류");
         setSize(900, 700); // UI 크기 조정
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null); // 화면 중앙에 배치
+        // 종료하기 전에 저장 엔진의 로그를 저장 장치에 기록합니다. 닫지 못해도 다음 시작 때 로그에서 되살아납니다.
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                try {
+                    dataManager.close();
+                } catch (IOException ex) {
+                    System.err.println("저장소를 닫는 중 오류 발생: " + ex.getMessage());
+                }
+                if (changeFeed != null) {
+                    closeChangeFeed();
+                }
+            }
+        });
 
         initializeUI();
-        loadData();
+        startLoading();
+        scheduleTimer.start();
     }
 
     /**
      * UI 컴포넌트들을 초기화하고 배치합니다.
      *
      * <p>
-     * 탭 패널(JTabbedPane)을 생성하고 각각의 기능별 패널(등록, 매칭, 활동 관리)을
+     * 탭 패널(JTabbedPane)을 생성하고 각각의 기능별 패널(등록, 매칭, 활동 관리, 대시보드)을
      * 탭으로 추가합니다. 각 탭에는 아이콘과 제목이 설정됩니다.
      * </p>
      */
@@ -122,11 +321,13 @@ public class GlobalBridgeProgram extends JFrame {
         registrationPanel = new RegistrationPanel(this);
         matchingPanel = new MatchingPanel(this);
         activityPanel = new ActivityPanel(this);
+        dashboardPanel = new DashboardPanel(this);
 
         // 탭 추가 (아이콘 포함)
         tabbedPane.addTab("참가자 등록", new ImageIcon("icons/register.png"), registrationPanel);
         tabbedPane.addTab("멘토-멘티 매칭", new ImageIcon("icons/matching.png"), matchingPanel);
         tabbedPane.addTab("활동 관리", new ImageIcon("icons/activity.png"), activityPanel);
+        tabbedPane.addTab("대시보드", new ImageIcon("icons/dashboard.png"), dashboardPanel);
 
         // 탭 스타일 설정
         tabbedPane.setFont(new Font("맑은 고딕", Font.BOLD, 14));
@@ -137,16 +338,93 @@ public class GlobalBridgeProgram extends JFrame {
      * 새로운 참가자를 시스템에 등록합니다.
      *
      * <p>
-     * 참가자를 목록에 추가하고, 매칭 패널의 리스트를 업데이트한 후,
+     * 참가자를 목록에 추가하고 등록 이벤트를 발행한 후,
      * 변경된 데이터를 저장합니다.
+     * 등록 즉시 자동 매칭이 켜져 있으면 대기 중인 상대 중 가장 알맞은 참가자와 바로 매칭하며,
+     * 새 멘토는 정원이 찰 때까지 대기 중인 멘티들과 매칭됩니다.
      * </p>
      *
      * @param participant 등록할 참가자 객체
+     * @throws IllegalStateException 같은 학번의 참가자가 이미 등록된 경우
      */
     public void addParticipant(Participant participant) {
+        if (!studentIndex.add(participant)) {
+            throw new IllegalStateException("이미 등록된 학번입니다: " + participant.getStudentId());
+        }
         participants.add(participant);
-        matchingPanel.updateLists();
-        dataManager.saveData(participants, matches, activities);
+        participantFacets.add(participant);
+        eventBus.publish(new ModelEvent.ParticipantAdded(participant));
+        if (changeFeed != null) {
+            changeFeed.recordParticipant(participant);
+        }
+        enqueue(participant);
+        saveData();
+    }
+
+    /**
+     * 여러 참가자를 한 번에 등록합니다.
+     *
+     * <p>
+     * 파일에서 불러온 참가자처럼 많은 참가자를 등록할 때 사용합니다.
+     * 이미 등록된 학번이나 목록 안에서 앞에 나온 학번과 같은 참가자는 건너뛰며,
+     * 데이터 저장은 마지막에 한 번만 수행합니다.
+     * </p>
+     *
+     * @param batch 등록할 참가자 목록
+     * @return 학번이 중복되어 건너뛴 참가자 목록 (입력 순서)
+     */
+    public List<Participant> addParticipants(List<Participant> batch) {
+        List<Participant> duplicates = new ArrayList<>();
+        for (Participant participant : batch) {
+            if (!studentIndex.add(participant)) {
+                duplicates.add(participant);
+                continue;
+            }
+            participants.add(participant);
+            participantFacets.add(participant);
+            eventBus.publish(new ModelEvent.ParticipantAdded(participant));
+            if (changeFeed != null) {
+                changeFeed.recordParticipant(participant);
+            }
+            enqueue(participant);
+        }
+
+        if (duplicates.size() < batch.size()) {
+            saveData();
+        }
+        return duplicates;
+    }
+
+    /**
+     * 학번으로 등록된 참가자를 찾습니다.
+     *
+     * @param studentId 학번
+     * @return 등록된 참가자, 없으면 null
+     */
+    public Participant findParticipant(String studentId) {
+        return studentIndex.get(studentId);
+    }
+
+    /**
+     * 새 참가자를 온라인 매칭 대기열에 넣거나, 등록 즉시 자동 매칭이 켜져 있으면 바로 매칭합니다.
+     */
+    private void enqueue(Participant participant) {
+        if (onlineMatchingEnabled) {
+            Participant counterpart;
+            do {
+                counterpart = onlineMatcher.offer(participant);
+                if (counterpart != null) {
+                    Participant mentor = participant.isMentor() ? participant : counterpart;
+                    Participant mentee = participant.isMentor() ? counterpart : participant;
+                    provisionalMatches.add(putMatch(mentor, mentee));
+                    if (getRemainingCapacity(mentor) > 0) {
+                        onlineMatcher.add(mentor);
+                    }
+                }
+            } while (counterpart != null && participant.isMentor() && getRemainingCapacity(participant) > 0);
+        } else {
+            onlineMatcher.add(participant);
+        }
     }
 
     /**
@@ -159,51 +437,594 @@ public class GlobalBridgeProgram extends JFrame {
      *
      * @param mentor 멘토로 지정될 참가자
      * @param mentee 멘티로 지정될 참가자
+     * @throws IllegalStateException 멘토의 정원이 이미 찬 경우
      */
     public void createMatch(Participant mentor, Participant mentee) {
+        ensureCapacity(Collections.singletonList(new Pair(mentor, mentee)));
+        putMatch(mentor, mentee);
+        saveData();
+    }
+
+    /**
+     * 여러 멘토-멘티 매칭을 한 번에 생성합니다.
+     *
+     * <p>
+     * 자동 매칭 결과처럼 많은 매칭을 만들 때 사용하며,
+     * 데이터 저장은 마지막에 한 번만 수행합니다.
+     * </p>
+     *
+     * @param pairs 생성할 매칭 목록
+     * @throws IllegalStateException 매칭을 모두 만들면 정원을 넘는 멘토가 있는 경우 (아무 매칭도 만들지 않음)
+     */
+    public void createMatches(List<Pair> pairs) {
+        ensureCapacity(pairs);
+        for (Pair pair : pairs) {
+            putMatch(pair.getMentor(), pair.getMentee());
+        }
+        if (!pairs.isEmpty()) {
+            saveData();
+        }
+    }
+
+    /**
+     * 새로 만들 매칭들이 멘토 정원을 넘지 않는지 확인합니다.
+     * 이미 존재하는 매칭을 다시 만드는 경우는 정원에 더해지지 않습니다.
+     */
+    private void ensureCapacity(List<Pair> pairs) {
+        HashMap<String, Integer> added = new HashMap<>();
+        HashSet<String> newIds = new HashSet<>();
+        for (Pair pair : pairs) {
+            String matchId = matchId(pair);
+            if (matches.containsKey(matchId) || !newIds.add(matchId)) {
+                continue;
+            }
+            String mentorId = pair.getMentor().getStudentId();
+            int load = mentorLoad.getOrDefault(mentorId, 0) + added.merge(mentorId, 1, Integer::sum);
+            if (load > mentorCapacity) {
+                throw new IllegalStateException(pair.getMentor().getName()
+                        + " 멘토의 정원(" + mentorCapacity + "명)이 모두 찼습니다.");
+            }
+        }
+    }
+
+    /**
+     * 매칭을 등록하고 멘티와 정원이 찬 멘토를 온라인 매칭 대기열에서 제거합니다.
+     * 변경 기록이 있으면 매칭을 갱신으로 기록합니다.
+     *
+     * @return 매칭 ID
+     */
+    private String putMatch(Participant mentor, Participant mentee) {
         String matchId = mentor.getStudentId() + "-" + mentee.getStudentId();
-        matches.put(matchId, new Pair(mentor, mentee));
-        activityPanel.updatePairSelector();
-        dataManager.saveData(participants, matches, activities);
+        Pair pair = new Pair(mentor, mentee);
+        if (matches.put(matchId, pair) == null) {
+            mentorLoad.merge(mentor.getStudentId(), 1, Integer::sum);
+        }
+        matchVersions.put(matchId, ++modificationCount);
+        eventBus.publish(new ModelEvent.MatchCreated(matchId));
+        if (changeFeed != null) {
+            changeFeed.recordMatch(matchId, pair);
+        }
+        if (getRemainingCapacity(mentor) == 0) {
+            onlineMatcher.remove(mentor);
+        }
+        onlineMatcher.remove(mentee);
+        return matchId;
+    }
+
+    /**
+     * 매칭을 제거하고 멘토의 매칭 수를 줄입니다.
+     * 변경 기록이 있으면 매칭을 삭제로 기록합니다.
+     */
+    private void removeMatch(String matchId) {
+        Pair pair = matches.remove(matchId);
+        if (pair != null) {
+            mentorLoad.computeIfPresent(pair.getMentor().getStudentId(), (id, load) -> load > 1 ? load - 1 : null);
+        }
+        matchVersions.remove(matchId);
+        provisionalMatches.remove(matchId);
+        eventBus.publish(new ModelEvent.MatchRemoved(matchId));
+        if (changeFeed != null) {
+            changeFeed.recordMatchRemoved(matchId);
+        }
+    }
+
+    /**
+     * 멘토 한 명이 맡을 수 있는 최대 멘티 수를 설정합니다.
+     *
+     * <p>
+     * 이미 정원보다 많은 매칭을 가진 멘토의 기존 매칭은 유지되며, 새 매칭만 제한됩니다.
+     * </p>
+     *
+     * @param capacity 멘토 정원 (1 이상)
+     */
+    public void setMentorCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("멘토 정원은 1 이상이어야 합니다.");
+        }
+        mentorCapacity = capacity;
+        resetOnlineMatcher();
+    }
+
+    /**
+     * 멘토 한 명이 맡을 수 있는 최대 멘티 수를 반환합니다.
+     * @return 멘토 정원
+     */
+    public int getMentorCapacity() { return mentorCapacity; }
+
+    /**
+     * 멘토가 더 맡을 수 있는 멘티 수를 반환합니다.
+     *
+     * @param mentor 멘토
+     * @return 남은 정원 (0 이상)
+     */
+    public int getRemainingCapacity(Participant mentor) {
+        return Math.max(0, mentorCapacity - mentorLoad.getOrDefault(mentor.getStudentId(), 0));
+    }
+
+    /**
+     * 정원이 남은 멘토와 아직 매칭되지 않은 멘티를 등록 순서대로 반환합니다.
+     *
+     * @return 매칭 가능한 참가자 목록
+     */
+    public List<Participant> getAvailableParticipants() {
+        Set<String> matchedMentees = new HashSet<>();
+        for (Pair pair : matches.values()) {
+            matchedMentees.add(pair.getMentee().getStudentId());
+        }
+        List<Participant> available = new ArrayList<>();
+        for (Participant participant : participants) {
+            if (participant.isMentor()
+                    ? getRemainingCapacity(participant) > 0
+                    : !matchedMentees.contains(participant.getStudentId())) {
+                available.add(participant);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * 온라인 매칭 대기열을 매칭 가능한 참가자들로 다시 구성합니다.
+     */
+    private void resetOnlineMatcher() {
+        onlineMatcher.reset(getAvailableParticipants());
+    }
+
+    /**
+     * 등록 즉시 자동 매칭을 켜거나 끕니다.
+     *
+     * <p>
+     * 켜져 있는 동안에는 {@link #REOPTIMIZE_INTERVAL_MS} 주기로 아직 활동이 없는
+     * 온라인 매칭들을 백그라운드에서 다시 짝지어 적합도를 높입니다.
+     * </p>
+     *
+     * @param enabled 사용 여부
+     */
+    public void setOnlineMatching(boolean enabled) {
+        onlineMatchingEnabled = enabled;
+        if (enabled) {
+            reoptimizeTimer.start();
+        } else {
+            reoptimizeTimer.stop();
+        }
+    }
+
+    /**
+     * 아직 활동이 없는 온라인 매칭들을 백그라운드 스레드에서 재최적화합니다.
+     *
+     * <p>
+     * 대상 매칭 목록은 이벤트 디스패치 스레드에서 복사하고, 계산은 작업 스레드에서 수행합니다.
+     * 계산이 끝났을 때 대상 매칭 중 하나라도 바뀌었거나 활동이 기록되었다면 결과를 버립니다.
+     * </p>
+     */
+    private void reoptimizeOnlineMatches() {
+        List<Pair> candidates = new ArrayList<>();
+        Iterator<String> ids = provisionalMatches.iterator();
+        for (int skip = provisionalMatches.size() - REOPTIMIZE_MAX_PAIRS; skip > 0; skip--) {
+            ids.next();
+        }
+        while (ids.hasNext()) {
+            Pair pair = matches.get(ids.next());
+            if (pair != null) {
+                candidates.add(pair);
+            }
+        }
+        if (candidates.size() < 2) {
+            return;
+        }
+
+        new SwingWorker<Map<Pair, Pair>, Void>() {
+            @Override
+            protected Map<Pair, Pair> doInBackground() {
+                return OnlineMatcher.reoptimize(candidates);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    applyReoptimization(get());
+                } catch (Exception e) {
+                    System.err.println("매칭 재최적화 중 오류 발생: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    private void applyReoptimization(Map<Pair, Pair> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Pair old : changes.keySet()) {
+            String oldId = matchId(old);
+            if (matches.get(oldId) != old || !provisionalMatches.contains(oldId)) {
+                return;
+            }
+        }
+        for (Pair old : changes.keySet()) {
+            removeMatch(matchId(old));
+        }
+        for (Pair pair : changes.values()) {
+            provisionalMatches.add(putMatch(pair.getMentor(), pair.getMentee()));
+        }
+        saveData();
+    }
+
+    private static String matchId(Pair pair) {
+        return pair.getMentor().getStudentId() + "-" + pair.getMentee().getStudentId();
     }
 
     /**
      * 매칭된 페어의 새로운 활동을 기록합니다.
      *
      * <p>
-     * 해당 페어의 첫 활동인 경우 새로운 활동 목록을 생성하고,
-     * 활동을 추가한 후 데이터를 저장합니다.
+     * 활동을 활동 저장소에 추가한 후 데이터를 저장합니다.
      * </p>
      *
      * @param pairId 매칭 ID (멘토학번-멘티학번 형식)
      * @param activity 기록할 활동 정보
      */
     public void addActivity(String pairId, Activity activity) {
-        if (!activities.containsKey(pairId)) {
-            activities.put(pairId, new ArrayList<>());
+        int row = activities.add(pairId, activity);
+        rollup.add(activities, row, matches);
+        sketches.add(activities, row, matches);
+        activityScheduler.update(row);
+        provisionalMatches.remove(pairId);
+        eventBus.publish(new ModelEvent.ActivityAdded(pairId, row));
+        saveData();
+    }
+
+    /**
+     * 여러 활동을 한 번에 기록합니다.
+     *
+     * <p>
+     * 파일에서 가져온 활동처럼 별도 저장소에 모아 둔 활동을 활동 저장소에 일괄 반영한 후,
+     * 데이터를 한 번만 저장합니다.
+     * 매칭, 시각, 내용, 장소가 같은 활동이 이미 있으면 건너뛰므로({@link ActivityLog#addAllNew(ActivityLog)}),
+     * 저장한 활동 파일을 다시 불러와도 기록이 두 배로 늘지 않습니다.
+     * </p>
+     *
+     * @param batch 추가할 활동이 담긴 저장소
+     * @return 추가된 활동 수 (이미 있어 건너뛴 활동은 제외)
+     */
+    public int addActivities(ActivityLog batch) {
+        int first = activities.size();
+        int added = activities.addAllNew(batch);
+        rollup.addRange(activities, first, first + added, matches);
+        sketches.addRange(activities, first, first + added, matches);
+        activityScheduler.update(first, first + added);
+        provisionalMatches.removeAll(batch.getPairIds());
+        if (added > 0) {
+            eventBus.publish(new ModelEvent.ActivitiesImported(added));
+            saveData();
+        }
+        return added;
+    }
+
+    /**
+     * 여러 매칭의 모든 활동을 한 번에 완료(또는 미완료) 처리합니다.
+     *
+     * <p>
+     * 상태가 바뀐 활동이 있으면 변경 이벤트를 발행하고 데이터를 한 번만 저장합니다.
+     * </p>
+     *
+     * @param pairIds 매칭 ID 목록
+     * @param completed 설정할 완료 상태
+     * @return 상태가 바뀐 활동 수
+     */
+    public int setActivitiesCompleted(Collection<String> pairIds, boolean completed) {
+        // 집계는 바뀌기 전의 완료 상태를 보고 갱신하므로 활동 기록보다 먼저 고칩니다.
+        rollup.setCompleted(activities, pairIds, completed, matches);
+        int changed = activities.setCompleted(pairIds, completed);
+        if (changed > 0) {
+            for (String pairId : pairIds) {
+                activityScheduler.updatePair(pairId);
+            }
+            eventBus.publish(new ModelEvent.ActivitiesCompleted(changed));
+            saveData();
+        }
+        return changed;
+    }
+
+    /**
+     * 활동 스케줄러에서 만료된 활동을 처리합니다.
+     *
+     * <p>
+     * 기한 지남으로 표시된 활동이 있으면 변경 이벤트를 발행하고 데이터를 저장하며,
+     * 곧 시작하는 활동이 있으면 다른 작업을 막지 않는 알림 창을 표시합니다.
+     * </p>
+     *
+     * @param reminders 곧 시작하는 활동의 행 번호
+     * @param overdue 기한 지남으로 표시된 활동의 행 번호
+     */
+    private void activitiesDue(int[] reminders, int[] overdue) {
+        if (overdue.length > 0) {
+            eventBus.publish(new ModelEvent.ActivitiesOverdue(overdue.length));
+            saveData();
+        }
+        if (reminders.length == 0) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder("곧 시작하는 활동이 있습니다.\n\n");
+        for (int i = 0; i < Math.min(reminders.length, MAX_REMINDER_LINES); i++) {
+            int row = reminders[i];
+            Pair pair = matches.get(activities.getPairId(row));
+            if (pair != null) {
+                message.append('[').append(pair.getMentor().getName())
+                        .append(" - ").append(pair.getMentee().getName()).append("] ");
+            }
+            activities.appendTo(row, message);
+            message.append('\n');
+        }
+        if (reminders.length > MAX_REMINDER_LINES) {
+            message.append("외 ").append(reminders.length - MAX_REMINDER_LINES).append("건\n");
         }
-        activities.get(pairId).add(activity);
-        dataManager.saveData(participants, matches, activities);
+        JDialog dialog = new JOptionPane(message.toString(), JOptionPane.INFORMATION_MESSAGE)
+                .createDialog(this, "활동 알림");
+        dialog.setModal(false);
+        dialog.setVisible(true);
     }
 
     /**
-     * 저장된 데이터를 로드하고 UI를 업데이트합니다.
+     * 저장된 데이터를 백그라운드 스레드에서 불러오기 시작합니다.
      *
      * <p>
-     * 데이터 매니저로부터 저장된 데이터를 불러와 각 컬렉션에 저장하고,
-     * 관련된 UI 컴포넌트들을 업데이트합니다.
-     *</P>.
+     * 불러오는 동안에는 창 위에 불러오는 중 화면을 표시하여 입력을 막고,
+     * 참가자, 매칭, 활동 기록 순서로 읽히는 대로 각 패널에 반영합니다.
+     * 이전 버전 형식의 활동 기록 변환도 백그라운드 스레드에서 수행합니다.
+     * </p>
+     */
+    private void startLoading() {
+        loadingPane = new LoadingPane();
+        setGlassPane(loadingPane);
+        loadingPane.setVisible(true);
+        loadingPane.requestFocusInWindow();
+        new DataLoader().execute();
+    }
+
+    /**
+     * 불러온 데이터의 한 부분을 반영하고 관련 UI를 업데이트합니다.
+     *
+     * <p>
+     * 같은 학번으로 중복 저장된 참가자는 먼저 등록된 참가자만 남깁니다.
+     * </p>
+     *
+     * @param index 데이터 부분 번호 (0: 참가자, 1: 매칭, 2: 활동 기록, 3: 활동 집계, 4: 활동 스케치)
+     * @param section 불러온 객체
+     */
+    @SuppressWarnings("unchecked")
+    private void applySection(int index, Object section) {
+        switch (index) {
+            case 0:
+                participants = (ArrayList<Participant>) section;
+                if (studentIndex.reset(participants) > 0) {
+                    int before = participants.size();
+                    participants.removeIf(p -> studentIndex.get(p.getStudentId()) != p);
+                    System.err.println("중복 학번 참가자 " + (before - participants.size()) + "명을 제외했습니다.");
+                }
+                participantFacets.reset(participants);
+                resetOnlineMatcher();
+                eventBus.publish(ModelEvent.DataReloaded.INSTANCE);
+                loadingPane.setStatus("참가자 " + participants.size() + "명을 불러왔습니다. 매칭 정보를 불러오는 중...");
+                break;
+            case 1:
+                matches = (HashMap<String, Pair>) section;
+                matchVersions.clear();
+                loadedVersion = ++modificationCount;
+                mentorLoad.clear();
+                for (Pair pair : matches.values()) {
+                    mentorLoad.merge(pair.getMentor().getStudentId(), 1, Integer::sum);
+                }
+                resetOnlineMatcher();
+                provisionalMatches.clear();
+                eventBus.publish(ModelEvent.DataReloaded.INSTANCE);
+                loadingPane.setStatus("매칭 " + matches.size() + "건을 불러왔습니다. 활동 기록을 불러오는 중...");
+                break;
+            case 2:
+                // 메모리 제한 모드에서 빈 저장소의 청크가 캐시 예산을 차지하지 않도록 바로 내보냅니다.
+                ActivityLog previous = activities;
+                activities = (ActivityLog) section;
+                if (previous != activities) {
+                    previous.release();
+                }
+                activityScheduler.rebuild(activities, System.currentTimeMillis());
+                eventBus.publish(ModelEvent.DataReloaded.INSTANCE);
+                loadingPane.setStatus("활동 " + activities.size() + "건을 불러왔습니다. 활동 집계를 불러오는 중...");
+                break;
+            case 3:
+                rollup = (ActivityRollup) section;
+                break;
+            default:
+                sketches = (ActivitySketches) section;
+                eventBus.publish(ModelEvent.DataReloaded.INSTANCE);
+                break;
+        }
+    }
+
+    /**
+     * 현재 학기 데이터를 저장하고, 그 사이에 변경 기록에 남긴 참가자와 매칭의 변경을 반영합니다.
+     * 반영하지 못한 변경은 다음에 저장할 때 함께 반영됩니다.
+     */
+    private void saveData() {
+        dataManager.saveData(participants, matches, activities, rollup, sketches);
+        if (changeFeed == null) {
+            return;
+        }
+        try {
+            changeFeed.flush();
+        } catch (IOException e) {
+            System.err.println("변경 기록 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 불러온 참가자와 매칭을 변경 기록의 마지막 상태와 비교하여, 저장한 뒤 변경 기록에 반영하지 못한 변경을 되살립니다.
+     */
+    private void reconcileChanges() {
+        if (changeFeed == null) {
+            return;
+        }
+        try {
+            changeFeed.reconcile(participants, matches);
+        } catch (IOException e) {
+            System.err.println("변경 기록 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 불러오기가 끝난 뒤 불러오는 중 화면을 닫고 대기 중인 작업을 실행합니다.
+     */
+    private void finishLoading() {
+        loadingPane.setVisible(false);
+        loaded = true;
+        reconcileChanges();
+        for (Runnable callback : loadCallbacks) {
+            callback.run();
+        }
+        loadCallbacks.clear();
+    }
+
+    /**
+     * 저장된 데이터 불러오기가 끝난 뒤 실행할 작업을 등록합니다.
+     *
+     * <p>
+     * 작업은 이벤트 디스패치 스레드에서 실행되며, 이미 불러오기가 끝났으면 바로 실행됩니다.
+     * </p>
+     *
+     * @param callback 실행할 작업
+     */
+    public void whenLoaded(Runnable callback) {
+        if (loaded) {
+            callback.run();
+        } else {
+            loadCallbacks.add(callback);
+        }
+    }
+
+    /**
+     * 저장 파일을 읽어 부분별로 이벤트 디스패치 스레드에 전달하는 백그라운드 작업입니다.
+     */
+    private final class DataLoader extends SwingWorker<Boolean, Integer> {
+        /** 작업 스레드에서 읽은 데이터 부분 (참가자, 매칭, 활동 기록, 활동 집계, 활동 스케치) */
+        private final Object[] sections = new Object[5];
+
+        /** 이벤트 디스패치 스레드에서 반영을 마친 부분 수 */
+        private int applied;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Boolean doInBackground() {
+            Object[] data = dataManager.loadData((index, section) -> {
+                if (index == 2 && !(section instanceof ActivityLog)) {
+                    section = ActivityLog.fromMap((Map<String, ArrayList<Activity>>) section);
+                }
+                sections[index] = section;
+                if (index < 3) {
+                    publish(index);
+                }
+            });
+            if (data == null) {
+                return false;
+            }
+            // 저장된 집계나 스케치가 없거나(이전 버전 파일) 활동 기록과 맞지 않으면 활동 기록에서 다시 만듭니다.
+            ActivityLog log = (ActivityLog) sections[2];
+            Map<String, Pair> loadedMatches = (Map<String, Pair>) sections[1];
+            ActivityRollup savedRollup = (ActivityRollup) sections[3];
+            if (savedRollup == null || !savedRollup.isConsistentWith(log)) {
+                sections[3] = ActivityRollup.build(log, loadedMatches);
+            }
+            ActivitySketches savedSketches = (ActivitySketches) sections[4];
+            if (savedSketches == null || !savedSketches.isConsistentWith(log)) {
+                sections[4] = ActivitySketches.build(log, loadedMatches);
+            }
+            publish(4);
+            return true;
+        }
+
+        @Override
+        protected void process(List<Integer> indexes) {
+            applyUpTo(Collections.max(indexes));
+        }
+
+        @Override
+        protected void done() {
+            boolean success = false;
+            try {
+                success = get();
+                if (success) {
+                    applyUpTo(sections.length - 1);
+                }
+            } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                System.err.println("데이터 로드 중 오류 발생: " + e.getMessage());
+            }
+            // 저장된 데이터를 읽지 못했는데 변경 기록이 있으면, 빈 데이터를 기록해 모든 레코드가 삭제로 나가지 않도록 기록을 멈춥니다.
+            if (!success && changeFeed != null && changeFeed.getLastSequence() > 0) {
+                System.err.println("데이터를 불러오지 못해 변경 기록을 멈춥니다.");
+                closeChangeFeed();
+            }
+            finishLoading();
+        }
+
+        private void applyUpTo(int last) {
+            while (applied <= last) {
+                applySection(applied, sections[applied]);
+                applied++;
+            }
+        }
+    }
+
+    /**
+     * 데이터를 불러오는 동안 창 전체를 덮어 진행 상황을 보여주고 입력을 막는 글래스 패널입니다.
      */
+    private static final class LoadingPane extends JPanel {
+        private final JLabel statusLabel = new JLabel("데이터를 불러오는 중...", SwingConstants.CENTER);
+
+        LoadingPane() {
+            super(new BorderLayout());
+            setOpaque(false);
+            setFocusable(true);
+            statusLabel.setFont(new Font("맑은 고딕", Font.BOLD, 18));
+            add(statusLabel, BorderLayout.CENTER);
+            // 불러오는 동안 아래 패널로 마우스, 키 입력이 전달되지 않도록 소비합니다.
+            addMouseListener(new java.awt.event.MouseAdapter() { });
+            addMouseMotionListener(new java.awt.event.MouseAdapter() { });
+            addKeyListener(new java.awt.event.KeyAdapter() {
+                @Override
+                public void keyPressed(java.awt.event.KeyEvent e) {
+                    e.consume();
+                }
+            });
+            setFocusTraversalKeysEnabled(false);
+        }
 
-     private void loadData() {
-        Object[] data = dataManager.loadData();
-        if (data != null) {
-            participants = (ArrayList<Participant>) data[0];
-            matches = (HashMap<String, Pair>) data[1];
-            activities = (HashMap<String, ArrayList<Activity>>) data[2];
+        void setStatus(String status) {
+            statusLabel.setText(status);
+        }
 
-            matchingPanel.updateLists();
-            activityPanel.updatePairSelector();
+        @Override
+        protected void paintComponent(Graphics g) {
+            g.setColor(new Color(255, 255, 255, 200));
+            g.fillRect(0, 0, getWidth(), getHeight());
+            super.paintComponent(g);
         }
     }
 
@@ -219,9 +1040,173 @@ public class GlobalBridgeProgram extends JFrame {
      */
     public HashMap<String, Pair> getMatches() { return matches; }
 
+    /**
+     * 매칭의 현재 버전을 반환합니다.
+     *
+     * <p>
+     * 매칭이 생성되거나 같은 ID로 다시 생성될 때마다 값이 바뀝니다.
+     * 불러온 뒤 변경되지 않은 매칭은 불러온 시점의 공통 버전을 가집니다.
+     * </p>
+     *
+     * @param matchId 매칭 ID (멘토학번-멘티학번 형식)
+     * @return 매칭 버전
+     */
+    public long getMatchVersion(String matchId) {
+        Long version = matchVersions.get(matchId);
+        return version != null ? version : loadedVersion;
+    }
+
+    /**
+     * 현재 학기를 마감하고 빈 활동 기록으로 다음 학기를 시작합니다.
+     *
+     * <p>
+     * 현재 데이터를 저장한 뒤 학기 목록에 마감된 학기로 기록하고, 다음 학기의 샤드에 새로 저장합니다.
+     * 마감된 학기는 이후 {@link SemesterStore#openSemester(String)}로 필요할 때 읽기 전용으로 불러옵니다.
+     * 참가자와 매칭을 이어 가지 않아도 변경 기록에는 삭제로 남지 않습니다({@link ChangeFeed#archive(List, Map)}).
+     * </p>
+     *
+     * @param carryOver true이면 참가자와 매칭을 새 학기로 이어 가고, false이면 새 학기를 비어 있는 상태로 시작
+     * @return 새 현재 학기 ID
+     * @throws IOException 학기 목록 파일을 기록하지 못한 경우 (데이터는 바뀌지 않음)
+     * @throws IllegalStateException 데이터 디렉터리를 사용하지 않는 경우
+     */
+    public String closeSemester(boolean carryOver) throws IOException {
+        if (semesterStore == null) {
+            throw new IllegalStateException("데이터 디렉터리를 사용하지 않아 학기를 마감할 수 없습니다.");
+        }
+        saveData();
+        String next = semesterStore.closeActiveSemester(participants, matches, activities, rollup, sketches);
+        dataManager = semesterStore.getActiveDataManager();
+        if (!carryOver) {
+            applySection(0, new ArrayList<Participant>());
+            applySection(1, new HashMap<String, Pair>());
+            archiveChanges();
+        }
+        applySection(2, ActivityLog.create());
+        applySection(3, new ActivityRollup());
+        applySection(4, new ActivitySketches());
+        saveData();
+        return next;
+    }
+
+    /**
+     * 지난 내보내기 이후에 바뀐 참가자와 매칭을 파일 끝에 덧붙입니다.
+     *
+     * <p>
+     * 파일 옆의 체크포인트 파일에 마지막으로 내보낸 순번을 기록하므로, 매번 전체 목록을 다시 쓰는
+     * 참가자, 매칭 저장과 달리 내보내는 양이 그 사이의 변경 수에 비례합니다.
+     * </p>
+     *
+     * @param output 출력 파일
+     * @return 내보낸 결과
+     * @throws IOException 기록 중 오류 발생 시
+     * @throws IllegalStateException 변경 기록을 사용할 수 없는 경우
+     * @see ChangeExporter
+     */
+    public ChangeExporter.Result exportChanges(Path output) throws IOException {
+        if (changeFeed == null) {
+            throw new IllegalStateException("변경 기록을 사용할 수 없어 변경분을 내보낼 수 없습니다.");
+        }
+        return ChangeExporter.export(changeFeed, output);
+    }
+
+    /**
+     * 변경분 내보내기를 사용할 수 있는지 확인합니다.
+     * @return 변경 기록이 열려 있으면 true
+     */
+    public boolean isChangeExportAvailable() { return changeFeed != null; }
+
+    /**
+     * 학기를 마감하며 새 학기에 없는 참가자와 매칭을 변경 기록에서 마감한 학기의 레코드로 표시합니다.
+     * 표시하지 못하면 이번 실행 동안은 변경 기록을 멈춥니다.
+     */
+    private void archiveChanges() {
+        if (changeFeed == null) {
+            return;
+        }
+        try {
+            changeFeed.archive(participants, matches);
+        } catch (IOException e) {
+            System.err.println("변경 기록 중 오류 발생, 변경 기록을 멈춥니다: " + e.getMessage());
+            closeChangeFeed();
+        }
+    }
+
+    /**
+     * 변경 기록을 닫고 더 이상 기록하지 않습니다.
+     */
+    private void closeChangeFeed() {
+        try {
+            changeFeed.close();
+        } catch (IOException e) {
+            System.err.println("변경 기록을 닫는 중 오류 발생: " + e.getMessage());
+        }
+        changeFeed = null;
+    }
+
+    /**
+     * 학기별 데이터 저장소를 반환합니다.
+     *
+     * <p>
+     * 마감된 학기 목록과 읽기 전용 학기 데이터, 여러 학기에 걸친 질의에 사용합니다.
+     * </p>
+     *
+     * @return 학기 저장소, 데이터 디렉터리를 사용하지 않으면 null
+     */
+    public SemesterStore getSemesterStore() { return semesterStore; }
+
+    /**
+     * 현재 데이터에 대한 질의 엔진을 생성합니다.
+     *
+     * <p>
+     * 학번 조건은 중복 검사용 학번 색인으로, 역할, 학년, 전공 조건은 참가자 패싯 비트맵으로 조회됩니다.
+     * 엔진은 호출 시점의 데이터를 읽으므로 데이터가 바뀐 뒤에는 다시 생성해야 하며,
+     * 이벤트 디스패치 스레드에서 사용해야 합니다.
+     * </p>
+     *
+     * @return 질의 엔진
+     */
+    public QueryEngine query() {
+        return new QueryEngine(participants, matches, activities, studentIndex::get, participantFacets);
+    }
+
+    /**
+     * 역할, 학년, 전공별 참가자 번호 색인을 반환합니다.
+     *
+     * <p>
+     * 참가자 번호는 {@link #getParticipants()} 목록에서의 위치입니다.
+     * </p>
+     *
+     * @return 참가자 패싯 색인
+     */
+    public ParticipantFacets getParticipantFacets() { return participantFacets; }
+
+    /**
+     * 데이터 변경 이벤트 버스를 반환합니다.
+     *
+     * <p>
+     * 패널은 이 버스를 구독하여 참가자, 매칭, 활동 변경을 묶음으로 전달받습니다.
+     * </p>
+     *
+     * @return 이벤트 버스
+     */
+    public ModelEventBus getEventBus() { return eventBus; }
+
     /**
      * 모든 활동 기록을 반환합니다.
-     * @return 활동 기록을 담은 HashMap
+     * @return 활동 기록을 담은 활동 저장소
+     */
+    public ActivityLog getActivities() { return activities; }
+
+    /**
+     * 활동 집계를 반환합니다.
+     * @return 일, 주, 월 구간별 활동 집계
+     */
+    public ActivityRollup getRollup() { return rollup; }
+
+    /**
+     * 활동 스케치를 반환합니다.
+     * @return 서로 다른 참가자 수, 상위 장소와 활동 내용 등의 근사 통계
      */
-    public HashMap<String, ArrayList<Activity>> getActivities() { return activities; }
+    public ActivitySketches getSketches() { return sketches; }
 }
\ No newline at end of file
@@ -1,13 +1,26 @@
 package com.globalbridge.gui;
 
+import com.globalbridge.event.ModelEvent;
+import com.globalbridge.matching.CandidateMatrix;
+import com.globalbridge.matching.CompatibilityScorer;
+import com.globalbridge.matching.MinCostFlowMatcher;
 import com.globalbridge.model.Participant;
 import com.globalbridge.model.Pair;
+import com.globalbridge.report.ReportEncoder;
+import com.globalbridge.report.ReportType;
+import com.globalbridge.util.RenderCache;
 
 import javax.swing.*;
 import java.awt.*;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Kim Hyeong Jun
@@ -20,6 +33,15 @@ import java.util.List;
  * @version 1.2
  * @since 2024-12-24
  *
+ * @version 1.3
+ * @since 2026-10-18
+ *
+ * @version 1.4
+ * @since 2026-10-18
+ *
+ * @version 1.5
+ * @since 2026-10-19
+ *
  * 멘토-멘티 매칭을 관리하는 GUI 패널 클래스.
  *
  * <p>
@@ -27,6 +49,16 @@ import java.util.List;
  * 자동 또는 수동으로 매칭을 수행할 수 있는 사용자 인터페이스를 제공합니다.
  * 또한, 매칭 데이터를 파일에 저장하거나 불러오는 기능도 제공합니다.
  * </p>
+ *
+ * <p>
+ * 목록과 매칭 결과는 {@link com.globalbridge.event.ModelEventBus}를 구독하여 갱신되며,
+ * 한 번에 전달된 이벤트 묶음마다 최대 한 번만 다시 그려집니다.
+ * </p>
+ *
+ * <p>
+ * 멘토와 멘티 목록은 {@link SortedListModel}로 이름의 한국어/영어 정렬 순서를 유지하며,
+ * 새 참가자는 다시 정렬하지 않고 정렬된 위치에 삽입됩니다.
+ * </p>
  */
 public class MatchingPanel extends JPanel {
     /**
@@ -40,12 +72,27 @@ public class MatchingPanel extends JPanel {
      * 현재 매칭 결과를 표시하는 텍스트 영역.
      */
     private GlobalBridgeProgram mainProgram;
-    private DefaultListModel<Participant> mentorModel;
-    private DefaultListModel<Participant> menteeModel;
+    private SortedListModel<Participant> mentorModel;
+    private SortedListModel<Participant> menteeModel;
     private JList<Participant> mentorList;
     private JList<Participant> menteeList;
     private JTextArea matchingResultArea;
 
+    /** 자동 매칭에서 멘티별로 고려하는 후보 멘토 수 */
+    private static final int CANDIDATES_PER_MENTEE = 16;
+
+    /** 자동 매칭 방식: 멘토 한 명당 멘티 한 명 (적합도순) */
+    private static final String MODE_ONE_TO_ONE = "1:1 적합도순";
+
+    /** 자동 매칭 방식: 멘토 정원까지 배정 (최소 비용 흐름) */
+    private static final String MODE_CAPACITY = "정원 기반 1:N";
+
+    /** 자동 매칭 방식 선택 상자 */
+    private JComboBox<String> matchingModeBox;
+
+    /** 매칭 결과 줄 캐시 ("멘토: ... - 멘티: ..."), 매칭 ID와 버전 기준 */
+    private final RenderCache<String> resultLines = new RenderCache<>(10_000, this::formatResultLine);
+
     /**
      * MatchingPanel 생성자.
      *
@@ -62,6 +109,55 @@ public class MatchingPanel extends JPanel {
         setLayout(new BorderLayout(10, 10));
         initComponents();
         updateLists();
+        mainProgram.getEventBus().subscribe(this, this::modelChanged);
+    }
+
+    /**
+     * 데이터 변경 이벤트 묶음을 반영합니다.
+     *
+     * <p>
+     * 새 참가자는 해당 리스트 모델의 정렬된 위치에 바로 추가하고, 매칭 결과는 묶음당 한 번만 다시 그립니다.
+     * 데이터가 다시 로드되었거나 매칭이 해제된 경우에는 목록 전체를 다시 구성합니다.
+     * </p>
+     *
+     * @param events 마지막 전달 이후 발생한 이벤트 목록
+     */
+    private void modelChanged(List<ModelEvent> events) {
+        List<Participant> added = new ArrayList<>();
+        boolean matchesChanged = false;
+        for (ModelEvent event : events) {
+            if (event instanceof ModelEvent.DataReloaded || event instanceof ModelEvent.MatchRemoved) {
+                updateLists();
+                return;
+            }
+            if (event instanceof ModelEvent.ParticipantAdded) {
+                added.add(((ModelEvent.ParticipantAdded) event).getParticipant());
+            } else if (event instanceof ModelEvent.MatchCreated) {
+                matchesChanged = true;
+            }
+        }
+
+        if (!added.isEmpty()) {
+            List<Participant> newMentors = new ArrayList<>();
+            List<Participant> newMentees = new ArrayList<>();
+            for (Participant participant : added) {
+                (participant.isMentor() ? newMentors : newMentees).add(participant);
+            }
+            // 대량 등록은 한 번에 병합되어 JList 갱신이 한 번으로 끝나며, 이때 바뀐 선택 위치를 다시 맞춥니다.
+            addSorted(mentorList, mentorModel, newMentors);
+            addSorted(menteeList, menteeModel, newMentees);
+        }
+        if (matchesChanged) {
+            updateMatchingResult();
+        }
+    }
+
+    private static void addSorted(JList<Participant> list, SortedListModel<Participant> model,
+                                  List<Participant> added) {
+        Participant selected = list.getSelectedValue();
+        if (model.addAll(added) && selected != null) {
+            list.setSelectedIndex(model.indexOf(selected));
+        }
     }
 
     /**
@@ -73,8 +169,8 @@ public class MatchingPanel extends JPanel {
      * </p>
      */
     private void initComponents() {
-        mentorModel = new DefaultListModel<>();
-        menteeModel = new DefaultListModel<>();
+        mentorModel = new SortedListModel<>(Participant::getSortKey);
+        menteeModel = new SortedListModel<>(Participant::getSortKey);
 
         mentorList = new JList<>(mentorModel);
         menteeList = new JList<>(menteeModel);
@@ -96,21 +192,42 @@ public class MatchingPanel extends JPanel {
         JButton manualMatchButton = new JButton("수동 매칭");
         JButton saveButton = new JButton("저장");
         JButton loadButton = new JButton("불러오기");
+        JButton reportButton = new JButton("보고서");
 
         autoMatchButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
         manualMatchButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
         saveButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
         loadButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
+        reportButton.setFont(new Font("맑은 고딕", Font.BOLD, 14));
 
         autoMatchButton.addActionListener(e -> performAutoMatching());
         manualMatchButton.addActionListener(e -> performManualMatching());
         saveButton.addActionListener(e -> saveMatchesToFile());
         loadButton.addActionListener(e -> loadMatchesFromFile());
+        reportButton.addActionListener(e -> new ReportDialog(
+                SwingUtilities.getWindowAncestor(this), mainProgram, ReportType.PAIRS).setVisible(true));
 
+        JCheckBox onlineMatchBox = new JCheckBox("등록 즉시 자동 매칭");
+        onlineMatchBox.setFont(new Font("맑은 고딕", Font.BOLD, 14));
+        onlineMatchBox.addActionListener(e -> mainProgram.setOnlineMatching(onlineMatchBox.isSelected()));
+
+        matchingModeBox = new JComboBox<>(new String[] {MODE_ONE_TO_ONE, MODE_CAPACITY});
+        matchingModeBox.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+
+        JSpinner capacitySpinner = new JSpinner(new SpinnerNumberModel(mainProgram.getMentorCapacity(), 1, 10, 1));
+        capacitySpinner.addChangeListener(e -> mainProgram.setMentorCapacity((Integer) capacitySpinner.getValue()));
+        JLabel capacityLabel = new JLabel("멘토 정원");
+        capacityLabel.setFont(new Font("맑은 고딕", Font.BOLD, 14));
+
+        buttonPanel.add(matchingModeBox);
         buttonPanel.add(autoMatchButton);
         buttonPanel.add(manualMatchButton);
         buttonPanel.add(saveButton);
         buttonPanel.add(loadButton);
+        buttonPanel.add(reportButton);
+        buttonPanel.add(onlineMatchBox);
+        buttonPanel.add(capacityLabel);
+        buttonPanel.add(capacitySpinner);
 
         add(buttonPanel, BorderLayout.NORTH);
         add(listPanel, BorderLayout.CENTER);
@@ -135,20 +252,22 @@ public class MatchingPanel extends JPanel {
      * 멘토와 멘티 목록을 최신 데이터로 업데이트합니다.
      *
      * <p>
-     * 참가자 데이터를 기반으로 멘토와 멘티를 분류하여 각각의 리스트 모델에 추가합니다.
+     * 참가자 데이터를 기반으로 멘토와 멘티를 분류하여 각각의 리스트 모델에 이름순으로 채웁니다.
      * </p>
      */
     public void updateLists() {
-        mentorModel.clear();
-        menteeModel.clear();
+        List<Participant> mentors = new ArrayList<>();
+        List<Participant> mentees = new ArrayList<>();
 
         for (Participant p : mainProgram.getParticipants()) {
             if (p.isMentor()) {
-                mentorModel.addElement(p);
+                mentors.add(p);
             } else {
-                menteeModel.addElement(p);
+                mentees.add(p);
             }
         }
+        mentorModel.setAll(mentors);
+        menteeModel.setAll(mentees);
 
         updateMatchingResult();
     }
@@ -157,31 +276,48 @@ public class MatchingPanel extends JPanel {
      * 자동 매칭을 수행합니다.
      *
      * <p>
-     * 멘토와 멘티를 순서대로 매칭하며,
-     * 가능한 모든 쌍이 매칭될 때까지 진행됩니다.
+     * 정원이 남은 멘토와 아직 매칭되지 않은 멘티를 대상으로 선택한 방식에 따라 배정합니다.
+     * <ul>
+     *   <li>1:1 적합도순: 멘티마다 적합도가 높은 멘토 후보 {@value #CANDIDATES_PER_MENTEE}명을
+     *   {@link CompatibilityScorer}로 구한 뒤, 점수가 높은 후보부터 겹치지 않게 배정합니다.
+     *   후보가 모두 배정된 멘티는 남은 멘토와 순서대로 매칭됩니다.</li>
+     *   <li>정원 기반 1:N: 멘토마다 남은 정원만큼 멘티를 맡도록 {@link MinCostFlowMatcher}로
+     *   배정 수를 최대화하고, 그중 적합도 합이 가장 큰 배정을 찾습니다.</li>
+     * </ul>
      * </p>
      */
     private void performAutoMatching() {
         List<Participant> mentors = new ArrayList<>();
         List<Participant> mentees = new ArrayList<>();
 
-        for (int i = 0; i < mentorModel.size(); i++) {
-            mentors.add(mentorModel.getElementAt(i));
+        for (Participant participant : mainProgram.getAvailableParticipants()) {
+            if (participant.isMentor()) {
+                mentors.add(participant);
+            } else {
+                mentees.add(participant);
+            }
         }
 
-        for (int i = 0; i < menteeModel.size(); i++) {
-            mentees.add(menteeModel.getElementAt(i));
+        int[] assignment;
+        if (MODE_CAPACITY.equals(matchingModeBox.getSelectedItem())) {
+            int[] capacities = new int[mentors.size()];
+            for (int i = 0; i < capacities.length; i++) {
+                capacities[i] = mainProgram.getRemainingCapacity(mentors.get(i));
+            }
+            assignment = new MinCostFlowMatcher().match(mentors, capacities, mentees);
+        } else {
+            CandidateMatrix candidates = new CompatibilityScorer().topK(mentors, mentees, CANDIDATES_PER_MENTEE);
+            assignment = candidates.assignGreedy(mentors.size());
         }
 
-        int matchCount = Math.min(mentors.size(), mentees.size());
-
-        for (int i = 0; i < matchCount; i++) {
-            Participant mentor = mentors.get(i);
-            Participant mentee = mentees.get(i);
-            mainProgram.createMatch(mentor, mentee);
+        List<Pair> pairs = new ArrayList<>();
+        for (int e = 0; e < assignment.length; e++) {
+            if (assignment[e] >= 0) {
+                pairs.add(new Pair(mentors.get(assignment[e]), mentees.get(e)));
+            }
         }
-
-        updateMatchingResult();
+        mainProgram.createMatches(pairs);
+        int matchCount = pairs.size();
 
         JOptionPane.showMessageDialog(this,
                 matchCount + "개의 매칭이 완료되었습니다.",
@@ -194,12 +330,12 @@ public class MatchingPanel extends JPanel {
      *
      * <p>
      * 사용자가 멘토 목록과 멘티 목록에서 각각 하나씩 선택한 후,
-     * 해당 멘토와 멘티를 매칭합니다. 매칭이 완료되면 결과를 업데이트하고
-     * 사용자에게 성공 메시지를 표시합니다.
+     * 해당 멘토와 멘티를 매칭합니다. 매칭이 완료되면 사용자에게 성공 메시지를 표시하며,
+     * 매칭 결과는 매칭 생성 이벤트로 갱신됩니다.
      * </p>
      *
      * <p>
-     * 만약 멘토 또는 멘티가 선택되지 않은 경우, 경고 메시지를 표시하고
+     * 만약 멘토 또는 멘티가 선택되지 않았거나 멘토의 정원이 찬 경우, 경고 메시지를 표시하고
      * 작업을 종료합니다.
      * </p>
      */
@@ -215,9 +351,15 @@ public class MatchingPanel extends JPanel {
         Participant mentor = mentorList.getSelectedValue();
         Participant mentee = menteeList.getSelectedValue();
 
-        mainProgram.createMatch(mentor, mentee);
-
-        updateMatchingResult();
+        try {
+            mainProgram.createMatch(mentor, mentee);
+        } catch (IllegalStateException e) {
+            JOptionPane.showMessageDialog(this,
+                    e.getMessage(),
+                    "알림",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
 
         JOptionPane.showMessageDialog(this,
                 "수동 매칭이 완료되었습니다.",
@@ -235,26 +377,29 @@ public class MatchingPanel extends JPanel {
      *
      * <p>
      * 각 매칭은 "멘토: [멘토 이름] (Korean) - 멘티: [멘티 이름] (English)" 형식으로 출력됩니다.
+     * 각 줄은 표시 문자열 캐시를 거치므로 변경된 매칭만 다시 포맷팅됩니다.
      * </p>
      */
     private void updateMatchingResult() {
         StringBuilder result = new StringBuilder("현재 매칭 현황:\n\n");
 
-        for (Pair pair : mainProgram.getMatches().values()) {
-            result.append(String.format("멘토: %s (Korean) - 멘티: %s (English)\n",
-                    pair.getMentor().getName(),
-                    pair.getMentee().getName()));
+        for (String matchId : mainProgram.getMatches().keySet()) {
+            result.append(resultLines.get(matchId, mainProgram.getMatchVersion(matchId)));
         }
 
         matchingResultArea.setText(result.toString());
     }
 
+    private String formatResultLine(String matchId) {
+        return mainProgram.getMatches().get(matchId).toString() + "\n";
+    }
+
     /**
      * 매칭 데이터를 파일에 저장합니다.
      *
      * <p>
      * 현재까지 생성된 모든 멘토-멘티 매칭 데이터를 "matches.txt" 파일에 저장합니다.
-     * 각 매칭은 CSV 형식으로 저장되며, 형식은 다음과 같습니다:
+     * 각 매칭은 CSV 형식(UTF-8)으로 {@link ReportEncoder}를 거쳐 저장되며, 형식은 다음과 같습니다:
      * </p>
      *
      * <pre>
@@ -267,13 +412,12 @@ public class MatchingPanel extends JPanel {
      * </p>
      */
     private void saveMatchesToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter("matches.txt"))) {
+        try (ReportEncoder out = ReportEncoder.open(Paths.get("matches.txt"), false)) {
             for (Pair pair : mainProgram.getMatches().values()) {
-                writer.write(String.format("%s,%s,%s,%s\n",
-                        pair.getMentor().getName(),
-                        pair.getMentor().getStudentId(),
-                        pair.getMentee().getName(),
-                        pair.getMentee().getStudentId()));
+                out.append(pair.getMentor().getName()).append(',')
+                        .append(pair.getMentor().getStudentId()).append(',')
+                        .append(pair.getMentee().getName()).append(',')
+                        .append(pair.getMentee().getStudentId()).append('\n');
             }
             JOptionPane.showMessageDialog(this,
                     "매칭 데이터가 성공적으로 저장되었습니다.",
@@ -301,25 +445,46 @@ public class MatchingPanel extends JPanel {
      * </pre>
      *
      * <p>
+     * 멘토 정원을 넘는 줄은 건너뛰고, 나머지 매칭은 {@link GlobalBridgeProgram#createMatches(List)}로
+     * 한 번에 만들어 데이터를 한 번만 저장합니다.
      * 데이터가 성공적으로 로드되면 결과를 업데이트하고 사용자에게 성공 메시지를 표시하며,
      * 파일 읽기 중 오류가 발생할 경우 오류 메시지를 표시합니다.
      * </p>
      */
     private void loadMatchesFromFile() {
-        try (BufferedReader reader = new BufferedReader(new FileReader("matches.txt"))) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream("matches.txt"), StandardCharsets.UTF_8))) {
             String line;
+            int skipped = 0;
+            List<Pair> pairs = new ArrayList<>();
+            Set<String> matchIds = new HashSet<>();
+            Map<String, Integer> remaining = new HashMap<>();
             while ((line = reader.readLine()) != null) {
                 String[] data = line.split(",");
                 if (data.length >= 4) { // 데이터 검증
                     Participant mentor = new Participant(data[0], data[1], null, "Korean", 1);
                     Participant mentee = new Participant(data[2], data[3], null, "English", 1);
-
-                    mainProgram.createMatch(mentor, mentee);
+                    String matchId = data[1] + "-" + data[3];
+                    if (!matchIds.add(matchId)) {
+                        continue;
+                    }
+                    // 이미 있는 매칭을 다시 만드는 것은 정원에 더해지지 않습니다.
+                    if (!mainProgram.getMatches().containsKey(matchId)) {
+                        int left = remaining.computeIfAbsent(data[1], id -> mainProgram.getRemainingCapacity(mentor));
+                        if (left == 0) {
+                            skipped++; // 멘토 정원 초과
+                            continue;
+                        }
+                        remaining.put(data[1], left - 1);
+                    }
+                    pairs.add(new Pair(mentor, mentee));
                 }
             }
-            updateMatchingResult();
+            mainProgram.createMatches(pairs);
             JOptionPane.showMessageDialog(this,
-                    "매칭 데이터가 성공적으로 불러와졌습니다.",
+                    skipped == 0
+                            ? "매칭 데이터가 성공적으로 불러와졌습니다."
+                            : "매칭 데이터를 불러왔습니다. (멘토 정원 초과로 " + skipped + "개 제외)",
                     "불러오기 성공",
                     JOptionPane.INFORMATION_MESSAGE);
         } catch (IOException e) {
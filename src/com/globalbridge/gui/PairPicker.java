@@ -0,0 +1,223 @@
+package com.globalbridge.gui;
+
+import com.globalbridge.model.Pair;
+import com.globalbridge.util.PairSearchIndex;
+import com.globalbridge.util.RenderCache;
+import com.globalbridge.util.SortKeys;
+
+import javax.accessibility.Accessible;
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.plaf.basic.ComboPopup;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-19
+ *
+ * 검색어로 좁혀 가며 멘토-멘티 매칭을 고르는 선택 컴포넌트 클래스.
+ *
+ * <p>
+ * 콤보박스의 항목은 표시 문자열이 아닌 매칭 ID이며, {@link #getSelectedPairId()}로 바로 얻습니다.
+ * 표시 문자열("ID (멘토 - 멘티)")은 렌더러가 화면에 보이는 항목에 대해서만 {@link RenderCache}에서 가져오고,
+ * 콤보박스와 팝업 목록은 고정된 크기를 사용하므로 매칭이 많아도 열 때 모든 항목을 그려 보지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 전체 매칭은 {@link SortedListModel}로 멘토 이름, 멘티 이름 순서를 유지하며 새 매칭은 정렬된 위치에 삽입됩니다.
+ * 검색 상자에 입력하면 {@link PairSearchIndex}에서 멘토나 멘티의 이름, 학번이 검색어로 시작하는 매칭을 찾아
+ * 최대 {@value #MAX_RESULTS}개를 같은 순서의 별도 모델로 보여 줍니다.
+ * </p>
+ */
+public class PairPicker extends JPanel {
+    /** 검색 결과로 보여 줄 최대 매칭 수 */
+    private static final int MAX_RESULTS = 1_000;
+
+    /** 표시 문자열 캐시에 보관할 최대 매칭 수 */
+    private static final int LABEL_CACHE_SIZE = 10_000;
+
+    /** 콤보박스와 팝업 목록의 너비를 정하는 견본 문자열 */
+    private static final String PROTOTYPE_LABEL = "00000000-00000000 (멘토 이름 - Mentee Name)";
+
+    private final GlobalBridgeProgram mainProgram;
+    private final JTextField searchField = new JTextField(10);
+    private final JComboBox<String> comboBox;
+    private final SortedListModel<String> allPairs = new SortedListModel<>(this::sortKey);
+    private final PairSearchIndex index = new PairSearchIndex();
+
+    /** 검색 중일 때 보여 주는 결과 모델, 검색어가 없으면 null */
+    private SortedListModel<String> results;
+
+    /** 매칭 선택 항목 문자열 캐시 ("ID (멘토 - 멘티)") */
+    private final RenderCache<String> labels = new RenderCache<>(LABEL_CACHE_SIZE, this::formatLabel);
+
+    /**
+     * PairPicker 생성자.
+     *
+     * @param mainProgram 메인 프로그램 객체. 매칭 정보를 관리합니다.
+     */
+    public PairPicker(GlobalBridgeProgram mainProgram) {
+        super(new BorderLayout(5, 0));
+        this.mainProgram = mainProgram;
+
+        comboBox = new JComboBox<>(allPairs);
+        comboBox.setPrototypeDisplayValue(PROTOTYPE_LABEL);
+        comboBox.setMaximumRowCount(15);
+        DefaultListCellRenderer renderer = new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                return super.getListCellRendererComponent(list, label(value), index, isSelected, cellHasFocus);
+            }
+        };
+        comboBox.setRenderer(renderer);
+        fixPopupCellSize(renderer);
+
+        searchField.setToolTipText("멘토/멘티 이름 또는 학번으로 검색");
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { applyFilter(); }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) { applyFilter(); }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) { applyFilter(); }
+        });
+
+        add(searchField, BorderLayout.WEST);
+        add(comboBox, BorderLayout.CENTER);
+    }
+
+    /**
+     * 팝업 목록의 칸 크기를 고정하여, 목록을 열 때 모든 항목의 크기를 계산하지 않도록 합니다.
+     */
+    private void fixPopupCellSize(ListCellRenderer<Object> renderer) {
+        Accessible popup = comboBox.getUI().getAccessibleChild(comboBox, 0);
+        if (popup instanceof ComboPopup) {
+            JList<Object> list = ((ComboPopup) popup).getList();
+            Component cell = renderer.getListCellRendererComponent(list, PROTOTYPE_LABEL, -1, false, false);
+            list.setFixedCellHeight(cell.getPreferredSize().height);
+            list.setFixedCellWidth(comboBox.getPreferredSize().width);
+        }
+    }
+
+    /**
+     * 선택된 매칭의 ID를 반환합니다.
+     *
+     * @return 매칭 ID, 선택된 매칭이 없으면 null
+     */
+    public String getSelectedPairId() {
+        return (String) comboBox.getSelectedItem();
+    }
+
+    /**
+     * 모든 매칭을 다시 읽어 목록과 검색 색인을 새로 만듭니다.
+     *
+     * <p>
+     * 매칭이 해제되었거나 데이터를 다시 불러왔을 때 호출합니다. 선택된 매칭이 남아 있으면 선택을 유지합니다.
+     * </p>
+     */
+    public void reload() {
+        index.clear();
+        mainProgram.getMatches().forEach(index::add);
+        allPairs.setAll(mainProgram.getMatches().keySet());
+        if (results != null) {
+            applyFilter();
+        }
+        selectFirst(allPairs);
+    }
+
+    /**
+     * 새로 만들어진 매칭을 목록과 검색 색인에 추가합니다.
+     *
+     * <p>
+     * 이미 해제된 매칭은 건너뛰며, 검색 중이면 검색어에 맞는 매칭은 결과 목록에도 추가합니다.
+     * 추가하면 결과가 {@value #MAX_RESULTS}개를 넘는 경우에는 검색을 다시 합니다.
+     * </p>
+     *
+     * @param pairIds 새 매칭 ID들
+     */
+    public void addPairs(Collection<String> pairIds) {
+        List<String> added = new ArrayList<>(pairIds.size());
+        for (String pairId : pairIds) {
+            Pair pair = mainProgram.getMatches().get(pairId);
+            if (pair != null) {
+                index.add(pairId, pair);
+                added.add(pairId);
+            }
+        }
+        allPairs.addAll(added);
+        if (results != null) {
+            String query = searchField.getText();
+            added.removeIf(pairId -> !PairSearchIndex.matches(mainProgram.getMatches().get(pairId), query));
+            if (results.getSize() + added.size() <= MAX_RESULTS) {
+                results.addAll(added);
+            } else {
+                // 결과가 최대 개수를 넘으면 일부만 넣지 않고 검색을 다시 하여 새로 검색한 것과 같은 결과를 보여 줍니다.
+                applyFilter();
+            }
+        }
+        selectFirst(results != null ? results : allPairs);
+    }
+
+    /**
+     * 검색어에 맞는 매칭만 보여 주도록 콤보박스의 모델을 바꿉니다. 검색어가 비어 있으면 전체 목록을 보여 줍니다.
+     */
+    private void applyFilter() {
+        String query = searchField.getText();
+        if (query.isBlank()) {
+            results = null;
+            comboBox.setModel(allPairs);
+            return;
+        }
+        Object selected = comboBox.getSelectedItem();
+        SortedListModel<String> filtered = new SortedListModel<>(this::sortKey);
+        filtered.setAll(index.search(query, MAX_RESULTS));
+        results = filtered;
+        comboBox.setModel(filtered);
+        if (selected != null && filtered.indexOf(selected) >= 0) {
+            filtered.setSelectedItem(selected);
+        } else {
+            selectFirst(filtered);
+        }
+    }
+
+    private static void selectFirst(SortedListModel<String> model) {
+        if (model.getSelectedItem() == null && model.getSize() > 0) {
+            model.setSelectedItem(model.getElementAt(0));
+        }
+    }
+
+    /**
+     * 매칭의 정렬 키(멘토 이름, 멘티 이름 순)를 만듭니다.
+     */
+    private byte[] sortKey(String pairId) {
+        Pair pair = mainProgram.getMatches().get(pairId);
+        if (pair == null) {
+            return SortKeys.of(pairId);
+        }
+        return SortKeys.composite(pair.getMentor().getSortKey(), pair.getMentee().getSortKey());
+    }
+
+    private Object label(Object value) {
+        if (value == null || !mainProgram.getMatches().containsKey(value)) {
+            return value;
+        }
+        String pairId = (String) value;
+        return labels.get(pairId, mainProgram.getMatchVersion(pairId));
+    }
+
+    private String formatLabel(String pairId) {
+        Pair pair = mainProgram.getMatches().get(pairId);
+        return pairId + " (" + pair.getMentor().getName() + " - " + pair.getMentee().getName() + ")";
+    }
+}
@@ -18,6 +18,9 @@ import java.util.List;
  *
  * @version 1.2
  * @since 2024-12-23
+ *
+ * @version 1.3
+ * @since 2026-10-18
  * 참가자 등록을 위한 GUI 패널 클래스.
  *
  * <p>
@@ -42,6 +45,9 @@ public class RegistrationPanel extends JPanel {
     private JComboBox<String> languageBox;
     private JComboBox<Integer> gradeBox;
 
+    /** 불러오기 결과 메시지에 표시하는 중복 학번의 최대 개수 */
+    private static final int MAX_REPORTED_DUPLICATES = 10;
+
     /**
      * RegistrationPanel 생성자.
      *
@@ -205,6 +211,15 @@ public class RegistrationPanel extends JPanel {
             return;
         }
 
+        // 학번 중복 검사
+        if (mainProgram.findParticipant(studentId) != null) {
+            JOptionPane.showMessageDialog(this,
+                    "이미 등록된 학번입니다.",
+                    "오류",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
         try {
             Participant participant = new Participant(
                     name,
@@ -282,12 +297,14 @@ public class RegistrationPanel extends JPanel {
      * </pre>
      *
      * <p>
-     * 데이터가 성공적으로 로드되면 관련 UI를 업데이트하고 사용자에게 성공 메시지를 표시하며,
+     * 파일의 참가자는 한 번에 등록되며, 이미 등록된 학번이나 파일 안에서 중복된 학번의 줄은 건너뜁니다.
+     * 데이터가 성공적으로 로드되면 관련 UI를 업데이트하고 사용자에게 성공 메시지와 건너뛴 학번을 표시하며,
      * 파일 읽기 중 오류가 발생할 경우 오류 메시지를 표시합니다.
      * </p>
      */
     private void loadParticipantsFromFile() {
         try (BufferedReader reader = new BufferedReader(new FileReader("participants.txt"))) {
+            List<Participant> batch = new ArrayList<>();
             String line;
             while ((line = reader.readLine()) != null) {
                 String[] data = line.split(",");
@@ -298,10 +315,22 @@ public class RegistrationPanel extends JPanel {
                         data[3], // 언어
                         Integer.parseInt(data[4]) // 학년
                 );
-                mainProgram.addParticipant(participant);
+                batch.add(participant);
+            }
+            List<Participant> duplicates = mainProgram.addParticipants(batch);
+
+            StringBuilder message = new StringBuilder("참가자 데이터가 성공적으로 불러와졌습니다.");
+            if (!duplicates.isEmpty()) {
+                message.append("\n이미 등록된 학번 ").append(duplicates.size()).append("건은 건너뛰었습니다: ");
+                for (int i = 0; i < Math.min(MAX_REPORTED_DUPLICATES, duplicates.size()); i++) {
+                    message.append(i == 0 ? "" : ", ").append(duplicates.get(i).getStudentId());
+                }
+                if (duplicates.size() > MAX_REPORTED_DUPLICATES) {
+                    message.append(" 외");
+                }
             }
             JOptionPane.showMessageDialog(this,
-                    "참가자 데이터가 성공적으로 불러와졌습니다.",
+                    message.toString(),
                     "불러오기 성공",
                     JOptionPane.INFORMATION_MESSAGE);
         } catch (IOException e) {
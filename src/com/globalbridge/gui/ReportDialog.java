@@ -0,0 +1,196 @@
+package com.globalbridge.gui;
+
+import com.globalbridge.report.ReportExporter;
+import com.globalbridge.report.ReportFormat;
+import com.globalbridge.report.ReportType;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 참가자, 매칭, 활동 보고서를 파일로 내보내는 대화 상자 클래스입니다.
+ *
+ * <p>
+ * 보고서 종류, 파일 형식, GZIP 압축 여부를 고른 뒤 저장할 파일을 지정하면
+ * {@link ReportExporter}가 백그라운드 스레드에서 파일을 기록하고, 진행 막대에 진행률이 표시됩니다.
+ * 대화 상자는 모달이므로 내보내는 동안에는 다른 화면에서 데이터를 변경할 수 없으며,
+ * 취소하거나 오류가 발생하면 일부만 기록된 파일은 삭제됩니다.
+ * </p>
+ */
+public class ReportDialog extends JDialog {
+    private final GlobalBridgeProgram mainProgram;
+    private final JComboBox<ReportType> typeBox = new JComboBox<>(ReportType.values());
+    private final JComboBox<ReportFormat> formatBox = new JComboBox<>(ReportFormat.values());
+    private final JCheckBox gzipBox = new JCheckBox("GZIP 압축 (.gz)");
+    private final JProgressBar progressBar = new JProgressBar(0, 1000);
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton exportButton = new JButton("내보내기");
+    private final JButton closeButton = new JButton("닫기");
+
+    /** 실행 중인 내보내기 작업, 없으면 null */
+    private SwingWorker<Long, long[]> worker;
+
+    /**
+     * ReportDialog 생성자.
+     *
+     * @param owner 대화 상자를 소유하는 창
+     * @param mainProgram 메인 프로그램 객체
+     * @param initialType 처음 선택할 보고서 종류
+     */
+    public ReportDialog(Window owner, GlobalBridgeProgram mainProgram, ReportType initialType) {
+        super(owner, "보고서 내보내기", ModalityType.APPLICATION_MODAL);
+        this.mainProgram = mainProgram;
+        typeBox.setSelectedItem(initialType);
+        initComponents();
+        pack();
+        setLocationRelativeTo(owner);
+    }
+
+    private void initComponents() {
+        JPanel form = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        gbc.gridx = 0; gbc.gridy = 0;
+        form.add(new JLabel("보고서:"), gbc);
+        gbc.gridx = 1;
+        form.add(typeBox, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        form.add(new JLabel("형식:"), gbc);
+        gbc.gridx = 1;
+        form.add(formatBox, gbc);
+
+        gbc.gridx = 1; gbc.gridy = 2;
+        form.add(gzipBox, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 3; gbc.gridwidth = 2;
+        progressBar.setStringPainted(true);
+        progressBar.setString("");
+        form.add(progressBar, gbc);
+
+        gbc.gridy = 4;
+        form.add(statusLabel, gbc);
+
+        exportButton.addActionListener(e -> startExport());
+        closeButton.addActionListener(e -> closeOrCancel());
+
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.add(exportButton);
+        buttonPanel.add(closeButton);
+
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                closeOrCancel();
+            }
+        });
+
+        setLayout(new BorderLayout(10, 10));
+        add(form, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * 저장할 파일을 묻고 백그라운드에서 보고서를 기록합니다.
+     */
+    private void startExport() {
+        ReportType type = (ReportType) typeBox.getSelectedItem();
+        ReportFormat format = (ReportFormat) formatBox.getSelectedItem();
+        boolean gzip = gzipBox.isSelected();
+
+        JFileChooser chooser = new JFileChooser(new File("."));
+        chooser.setSelectedFile(new File(type.getFileName() + "." + format.getExtension() + (gzip ? ".gz" : "")));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = chooser.getSelectedFile().toPath();
+
+        ReportExporter exporter = new ReportExporter(
+                mainProgram.getParticipants(), mainProgram.getMatches(), mainProgram.getActivities());
+        long startTime = System.nanoTime();
+        setRunning(true);
+        statusLabel.setText(String.format("0 / %,d행", exporter.count(type)));
+
+        worker = new SwingWorker<>() {
+            @Override
+            protected Long doInBackground() throws IOException {
+                return exporter.export(type, format, file, gzip, (done, total) -> publish(new long[] {done, total}));
+            }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                int permille = latest[1] == 0 ? 1000 : (int) (latest[0] * 1000 / latest[1]);
+                progressBar.setValue(permille);
+                progressBar.setString(permille / 10 + "%");
+                statusLabel.setText(String.format("%,d / %,d행", latest[0], latest[1]));
+            }
+
+            @Override
+            protected void done() {
+                worker = null;
+                setRunning(false);
+                try {
+                    long bytes = get();
+                    double seconds = (System.nanoTime() - startTime) / 1e9;
+                    statusLabel.setText(String.format("완료: %s (%,.1f MB, %.1f초)",
+                            file.getFileName(), bytes / 1e6, seconds));
+                } catch (CancellationException e) {
+                    deletePartial(file);
+                    progressBar.setValue(0);
+                    progressBar.setString("");
+                    statusLabel.setText("내보내기가 취소되었습니다.");
+                } catch (InterruptedException | ExecutionException e) {
+                    deletePartial(file);
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    statusLabel.setText(" ");
+                    JOptionPane.showMessageDialog(ReportDialog.this,
+                            "보고서 내보내기 중 오류가 발생했습니다: " + cause.getMessage(),
+                            "오류",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void setRunning(boolean running) {
+        exportButton.setEnabled(!running);
+        typeBox.setEnabled(!running);
+        formatBox.setEnabled(!running);
+        gzipBox.setEnabled(!running);
+        closeButton.setText(running ? "취소" : "닫기");
+    }
+
+    private void closeOrCancel() {
+        if (worker != null) {
+            worker.cancel(true);
+        } else {
+            dispose();
+        }
+    }
+
+    private static void deletePartial(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 삭제하지 못한 파일은 다음 내보내기에서 덮어씁니다.
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.globalbridge.gui;
+
+import com.globalbridge.util.SortKeys;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 항목을 정렬 키 순서로 유지하는 JList/JComboBox 모델 클래스입니다.
+ *
+ * <p>
+ * 항목마다 {@link SortKeys} 정렬 키를 추가할 때 한 번 구해 항목과 함께 보관하므로,
+ * 정렬과 삽입 위치 탐색은 Collator를 거치지 않고 키의 바이트 비교만으로 이루어집니다.
+ * 항목 하나는 이진 탐색으로 찾은 위치에 O(log n) 비교로 삽입하며,
+ * 키가 같은 항목들은 추가된 순서를 유지합니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * </p>
+ *
+ * @param <E> 항목 타입
+ */
+final class SortedListModel<E> extends AbstractListModel<E> implements ComboBoxModel<E> {
+    /** 한 번에 추가하는 항목이 이 비율보다 많으면 하나씩 삽입하지 않고 병합합니다. */
+    private static final int MERGE_DIVISOR = 16;
+
+    private final Function<? super E, byte[]> sortKey;
+    private final ArrayList<E> elements = new ArrayList<>();
+    private final ArrayList<byte[]> keys = new ArrayList<>();
+    private Object selectedItem;
+
+    /**
+     * @param sortKey 항목의 정렬 키를 구하는 함수
+     */
+    SortedListModel(Function<? super E, byte[]> sortKey) {
+        this.sortKey = sortKey;
+    }
+
+    @Override
+    public int getSize() { return elements.size(); }
+
+    @Override
+    public E getElementAt(int index) { return elements.get(index); }
+
+    /**
+     * 항목을 정렬된 위치에 추가합니다.
+     *
+     * @param element 추가할 항목
+     * @return 추가된 위치
+     */
+    int add(E element) {
+        byte[] key = sortKey.apply(element);
+        int index = upperBound(key);
+        elements.add(index, element);
+        keys.add(index, key);
+        fireIntervalAdded(this, index, index);
+        return index;
+    }
+
+    /**
+     * 여러 항목을 정렬된 위치에 추가합니다.
+     *
+     * <p>
+     * 추가하는 항목이 적으면 하나씩 삽입하고, 많으면 새 항목만 정렬한 뒤 기존 목록과 한 번에 병합하여
+     * 변경 이벤트를 한 번만 보냅니다. 병합한 경우 기존 항목의 위치가 바뀌므로 목록 선택은 호출하는 쪽에서 다시 맞춰야 합니다.
+     * </p>
+     *
+     * @param added 추가할 항목들
+     * @return 병합하여 기존 항목의 위치가 바뀌었으면 true
+     */
+    boolean addAll(Collection<? extends E> added) {
+        if (added.size() * MERGE_DIVISOR < elements.size() || added.size() == 1) {
+            added.forEach(this::add);
+            return false;
+        }
+        Entry<E>[] sorted = sort(added);
+        int oldSize = elements.size();
+        ArrayList<E> mergedElements = new ArrayList<>(oldSize + sorted.length);
+        ArrayList<byte[]> mergedKeys = new ArrayList<>(oldSize + sorted.length);
+        int i = 0;
+        int j = 0;
+        while (i < oldSize || j < sorted.length) {
+            // 키가 같으면 기존 항목을 먼저 두어 추가 순서를 유지합니다.
+            if (j == sorted.length || (i < oldSize && SortKeys.compare(keys.get(i), sorted[j].key) <= 0)) {
+                mergedElements.add(elements.get(i));
+                mergedKeys.add(keys.get(i++));
+            } else {
+                mergedElements.add(sorted[j].element);
+                mergedKeys.add(sorted[j++].key);
+            }
+        }
+        replace(mergedElements, mergedKeys, oldSize);
+        return oldSize > 0;
+    }
+
+    /**
+     * 모든 항목을 주어진 항목들로 바꿉니다.
+     *
+     * @param all 새 항목들
+     */
+    void setAll(Collection<? extends E> all) {
+        Entry<E>[] sorted = sort(all);
+        ArrayList<E> newElements = new ArrayList<>(sorted.length);
+        ArrayList<byte[]> newKeys = new ArrayList<>(sorted.length);
+        for (Entry<E> entry : sorted) {
+            newElements.add(entry.element);
+            newKeys.add(entry.key);
+        }
+        int oldSize = elements.size();
+        elements.clear();
+        keys.clear();
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+        replace(newElements, newKeys, 0);
+        if (selectedItem != null && indexOf(selectedItem) < 0) {
+            setSelectedItem(null);
+        }
+    }
+
+    /**
+     * 항목의 위치를 반환합니다.
+     *
+     * @param element 찾을 항목
+     * @return 위치, 없으면 -1
+     */
+    @SuppressWarnings("unchecked")
+    int indexOf(Object element) {
+        byte[] key;
+        try {
+            key = sortKey.apply((E) element);
+        } catch (ClassCastException e) {
+            return -1;
+        }
+        for (int index = lowerBound(key);
+             index < keys.size() && SortKeys.compare(keys.get(index), key) == 0; index++) {
+            if (Objects.equals(elements.get(index), element)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void setSelectedItem(Object item) {
+        if (!Objects.equals(selectedItem, item)) {
+            selectedItem = item;
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+
+    @Override
+    public Object getSelectedItem() { return selectedItem; }
+
+    private void replace(List<E> newElements, List<byte[]> newKeys, int oldSize) {
+        elements.clear();
+        elements.addAll(newElements);
+        keys.clear();
+        keys.addAll(newKeys);
+        if (elements.size() > oldSize) {
+            fireIntervalAdded(this, oldSize, elements.size() - 1);
+        }
+        if (oldSize > 0) {
+            fireContentsChanged(this, 0, oldSize - 1);
+        }
+    }
+
+    /**
+     * 항목마다 정렬 키를 구해 키 순서로 안정 정렬합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Entry<E>[] sort(Collection<? extends E> items) {
+        Entry<E>[] entries = (Entry<E>[]) new Entry<?>[items.size()];
+        int i = 0;
+        for (E item : items) {
+            entries[i++] = new Entry<>(item, sortKey.apply(item));
+        }
+        Arrays.sort(entries, Comparator.comparing((Entry<E> entry) -> entry.key, SortKeys::compare));
+        return entries;
+    }
+
+    /** 키가 key보다 큰 첫 위치 */
+    private int upperBound(byte[] key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (SortKeys.compare(keys.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** 키가 key 이상인 첫 위치 */
+    private int lowerBound(byte[] key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (SortKeys.compare(keys.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Entry<E> {
+        final E element;
+        final byte[] key;
+
+        Entry(E element, byte[] key) {
+            this.element = element;
+            this.key = key;
+        }
+    }
+}
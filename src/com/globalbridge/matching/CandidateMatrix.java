@@ -0,0 +1,146 @@
+package com.globalbridge.matching;
+
+import java.util.Arrays;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 멘티별 상위 K명의 후보 멘토와 적합도 점수를 저장하는 희소 점수 행렬 클래스입니다.
+ *
+ * <p>
+ * 멘티 e의 i번째 후보는 배열의 {@code e * K + i} 위치에 저장되며,
+ * 후보는 점수가 높은 순서(같으면 멘토 번호가 작은 순서)로 정렬되어 있습니다.
+ * 멘토와 멘티는 {@link CompatibilityScorer#topK}에 전달한 목록의 번호로 표현됩니다.
+ * </p>
+ *
+ * @see CompatibilityScorer
+ */
+public class CandidateMatrix {
+    private final int menteeCount;
+    private final int k;
+    private final int[] mentors;
+    private final int[] scores;
+    private final int[] counts;
+
+    /**
+     * CandidateMatrix 생성자.
+     *
+     * @param menteeCount 멘티 수
+     * @param k 멘티별 최대 후보 수
+     */
+    public CandidateMatrix(int menteeCount, int k) {
+        this.menteeCount = menteeCount;
+        this.k = k;
+        this.mentors = new int[Math.multiplyExact(menteeCount, k)];
+        this.scores = new int[mentors.length];
+        this.counts = new int[menteeCount];
+    }
+
+    /**
+     * 멘티 수를 반환합니다.
+     * @return 멘티 수
+     */
+    public int getMenteeCount() { return menteeCount; }
+
+    /**
+     * 멘티별 최대 후보 수(K)를 반환합니다.
+     * @return K
+     */
+    public int getK() { return k; }
+
+    /**
+     * 멘티의 후보 수를 반환합니다.
+     *
+     * @param mentee 멘티 번호
+     * @return 후보 수 (K 이하)
+     */
+    public int getCount(int mentee) { return counts[mentee]; }
+
+    /**
+     * 멘티의 i번째 후보 멘토 번호를 반환합니다.
+     *
+     * @param mentee 멘티 번호
+     * @param i 후보 순위 (0이 가장 적합)
+     * @return 멘토 번호
+     */
+    public int getMentor(int mentee, int i) { return mentors[mentee * k + i]; }
+
+    /**
+     * 멘티의 i번째 후보 점수를 반환합니다.
+     *
+     * @param mentee 멘티 번호
+     * @param i 후보 순위 (0이 가장 적합)
+     * @return 적합도 점수
+     */
+    public int getScore(int mentee, int i) { return scores[mentee * k + i]; }
+
+    void set(int mentee, int i, int mentor, int score) {
+        mentors[mentee * k + i] = mentor;
+        scores[mentee * k + i] = score;
+    }
+
+    void setCount(int mentee, int count) {
+        counts[mentee] = count;
+    }
+
+    /**
+     * 후보 점수를 이용해 멘토 한 명당 멘티 한 명씩 탐욕적으로 배정합니다.
+     *
+     * <p>
+     * 최고 후보 점수가 높은 멘티부터 차례로, 아직 배정되지 않은 후보 중 가장 적합한 멘토를 배정합니다.
+     * 후보가 모두 배정된 멘티에게는 남은 멘토를 번호 순서대로 배정하므로,
+     * 배정 수는 항상 min(멘토 수, 멘티 수)입니다.
+     * </p>
+     *
+     * @param mentorCount 멘토 수
+     * @return 멘티 번호별 배정된 멘토 번호 (배정되지 않으면 -1)
+     */
+    public int[] assignGreedy(int mentorCount) {
+        Integer[] order = new Integer[menteeCount];
+        for (int e = 0; e < menteeCount; e++) {
+            order[e] = e;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(bestScore(b), bestScore(a)));
+
+        boolean[] taken = new boolean[mentorCount];
+        int[] assignment = new int[menteeCount];
+        Arrays.fill(assignment, -1);
+        int assigned = 0;
+        int limit = Math.min(mentorCount, menteeCount);
+
+        for (int e : order) {
+            if (assigned == limit) {
+                break;
+            }
+            for (int i = 0; i < counts[e]; i++) {
+                int mentor = getMentor(e, i);
+                if (!taken[mentor]) {
+                    taken[mentor] = true;
+                    assignment[e] = mentor;
+                    assigned++;
+                    break;
+                }
+            }
+        }
+
+        int nextFree = 0;
+        for (int e = 0; e < menteeCount && assigned < limit; e++) {
+            if (assignment[e] >= 0) {
+                continue;
+            }
+            while (taken[nextFree]) {
+                nextFree++;
+            }
+            taken[nextFree] = true;
+            assignment[e] = nextFree;
+            assigned++;
+        }
+        return assignment;
+    }
+
+    private int bestScore(int mentee) {
+        return counts[mentee] > 0 ? getScore(mentee, 0) : Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,294 @@
+package com.globalbridge.matching;
+
+import com.globalbridge.model.Participant;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 멘토 × 멘티 적합도 점수를 계산하여 멘티별 상위 K명의 후보 멘토를 구하는 클래스입니다.
+ *
+ * <p>
+ * 참가자의 전공, 학년, 언어 역할, 관심사는 먼저 기본형 배열(전공 사전 번호, 학년, 관심사 비트셋)로
+ * 인코딩됩니다. 점수 행렬은 캐시에 들어가는 크기의 타일(멘티 {@value #MENTEE_TILE}명 ×
+ * 멘토 {@value #MENTOR_TILE}명) 단위로 fork-join 풀에서 병렬 계산되며, 전체 행렬을 저장하지 않고
+ * 멘티마다 상위 K개 후보만 희소 형태({@link CandidateMatrix})로 남기므로
+ * 메모리 사용량은 멘티 수 × K에 비례합니다.
+ * </p>
+ *
+ * <p>
+ * 점수 규칙 (높을수록 적합):
+ * <ul>
+ *   <li>같은 전공: {@value #MAJOR_WEIGHT}점</li>
+ *   <li>학년 차이: max(0, 3 - |차이|)점</li>
+ *   <li>공통 관심사: 관심사 하나당 1점 (참가자 관심사 정보가 생기면 특징 배열에 채워 사용)</li>
+ * </ul>
+ * </p>
+ *
+ * @see CandidateMatrix
+ */
+public class CompatibilityScorer {
+    /** 같은 전공일 때 더하는 점수 */
+    public static final int MAJOR_WEIGHT = 4;
+
+    /** 한 타일에 포함되는 멘티 수 */
+    static final int MENTEE_TILE = 256;
+
+    /** 한 타일에 포함되는 멘토 수 (멘토 특징 배열이 L2 캐시에 들어가는 크기) */
+    static final int MENTOR_TILE = 2048;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * 공용 fork-join 풀을 사용하는 CompatibilityScorer를 생성합니다.
+     */
+    public CompatibilityScorer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 지정한 fork-join 풀을 사용하는 CompatibilityScorer를 생성합니다.
+     *
+     * @param pool 점수 계산에 사용할 풀
+     */
+    public CompatibilityScorer(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 멘토와 멘티 한 쌍의 적합도 점수를 계산합니다.
+     *
+     * @param mentor 멘토
+     * @param mentee 멘티
+     * @return 적합도 점수
+     */
+    public static int score(Participant mentor, Participant mentee) {
+        int score = Objects.equals(mentor.getMajor(), mentee.getMajor()) ? MAJOR_WEIGHT : 0;
+        return score + gradeScore(mentor.getGrade(), mentee.getGrade());
+    }
+
+    private static int gradeScore(int mentorGrade, int menteeGrade) {
+        return Math.max(0, 3 - Math.abs(mentorGrade - menteeGrade));
+    }
+
+    /**
+     * 멘티마다 적합도가 가장 높은 멘토 후보 K명을 타일 단위 병렬 계산으로 구합니다.
+     *
+     * <p>
+     * 점수가 같으면 목록에서 앞에 있는 멘토가 우선합니다.
+     * </p>
+     *
+     * @param mentors 멘토 목록
+     * @param mentees 멘티 목록
+     * @param k 멘티별로 남길 후보 수
+     * @return 멘티별 상위 K 후보
+     */
+    public CandidateMatrix topK(List<Participant> mentors, List<Participant> mentees, int k) {
+        Features features = new Features(mentors, mentees);
+        CandidateMatrix result = new CandidateMatrix(mentees.size(), Math.min(k, mentors.size()));
+        if (result.getK() > 0) {
+            pool.invoke(new TileTask(features, result, 0, mentees.size()));
+        }
+        return result;
+    }
+
+    /**
+     * 모든 쌍의 점수를 이중 반복문으로 계산한 뒤 정렬하여 상위 K 후보를 구합니다.
+     *
+     * <p>
+     * {@link #topK(List, List, int)}의 결과 검증과 성능 비교를 위한 기준 구현입니다.
+     * </p>
+     *
+     * @param mentors 멘토 목록
+     * @param mentees 멘티 목록
+     * @param k 멘티별로 남길 후보 수
+     * @return 멘티별 상위 K 후보
+     */
+    public static CandidateMatrix topKNaive(List<Participant> mentors, List<Participant> mentees, int k) {
+        CandidateMatrix result = new CandidateMatrix(mentees.size(), Math.min(k, mentors.size()));
+        Integer[] order = new Integer[mentors.size()];
+        int[] scores = new int[mentors.size()];
+        for (int e = 0; e < mentees.size(); e++) {
+            for (int m = 0; m < mentors.size(); m++) {
+                order[m] = m;
+                scores[m] = score(mentors.get(m), mentees.get(e));
+            }
+            Arrays.sort(order, (a, b) -> scores[a] != scores[b] ? scores[b] - scores[a] : a - b);
+            for (int i = 0; i < result.getK(); i++) {
+                result.set(e, i, order[i], scores[order[i]]);
+            }
+            result.setCount(e, result.getK());
+        }
+        return result;
+    }
+
+    /**
+     * 참가자 속성을 인코딩한 기본형 특징 배열입니다.
+     */
+    static final class Features {
+        final int[] mentorMajor;
+        final int[] mentorGrade;
+        final long[] mentorInterests;
+        final int[] menteeMajor;
+        final int[] menteeGrade;
+        final long[] menteeInterests;
+
+        Features(List<Participant> mentors, List<Participant> mentees) {
+            HashMap<String, Integer> majors = new HashMap<>();
+            mentorMajor = new int[mentors.size()];
+            mentorGrade = new int[mentors.size()];
+            mentorInterests = new long[mentors.size()];
+            for (int i = 0; i < mentors.size(); i++) {
+                Participant mentor = mentors.get(i);
+                mentorMajor[i] = majorId(majors, mentor.getMajor());
+                mentorGrade[i] = mentor.getGrade();
+            }
+            menteeMajor = new int[mentees.size()];
+            menteeGrade = new int[mentees.size()];
+            menteeInterests = new long[mentees.size()];
+            for (int i = 0; i < mentees.size(); i++) {
+                Participant mentee = mentees.get(i);
+                menteeMajor[i] = majorId(majors, mentee.getMajor());
+                menteeGrade[i] = mentee.getGrade();
+            }
+        }
+
+        /** 번호로 지정한 멘토와 멘티의 적합도 점수 */
+        int score(int mentor, int mentee) {
+            return (mentorMajor[mentor] == menteeMajor[mentee] ? MAJOR_WEIGHT : 0)
+                    + gradeScore(mentorGrade[mentor], menteeGrade[mentee])
+                    + Long.bitCount(mentorInterests[mentor] & menteeInterests[mentee]);
+        }
+
+        private static int majorId(HashMap<String, Integer> majors, String major) {
+            return majors.computeIfAbsent(major, key -> majors.size());
+        }
+    }
+
+    /**
+     * 멘티 구간을 타일 크기까지 나누어 병렬로 처리하는 fork-join 작업입니다.
+     */
+    private static final class TileTask extends RecursiveAction {
+        private final Features features;
+        private final CandidateMatrix result;
+        private final int from;
+        private final int to;
+
+        TileTask(Features features, CandidateMatrix result, int from, int to) {
+            this.features = features;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > MENTEE_TILE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TileTask(features, result, from, mid), new TileTask(features, result, mid, to));
+                return;
+            }
+
+            int k = result.getK();
+            int tileSize = to - from;
+            // 멘티별 최소 힙 (점수가 가장 낮은 후보가 루트)
+            int[] heapMentor = new int[tileSize * k];
+            int[] heapScore = new int[tileSize * k];
+            int[] heapSize = new int[tileSize];
+
+            int mentorCount = features.mentorMajor.length;
+            for (int mentorStart = 0; mentorStart < mentorCount; mentorStart += MENTOR_TILE) {
+                int mentorEnd = Math.min(mentorCount, mentorStart + MENTOR_TILE);
+                for (int e = from; e < to; e++) {
+                    int major = features.menteeMajor[e];
+                    int grade = features.menteeGrade[e];
+                    long interests = features.menteeInterests[e];
+                    int base = (e - from) * k;
+                    int size = heapSize[e - from];
+                    for (int m = mentorStart; m < mentorEnd; m++) {
+                        int score = (features.mentorMajor[m] == major ? MAJOR_WEIGHT : 0)
+                                + gradeScore(features.mentorGrade[m], grade)
+                                + Long.bitCount(features.mentorInterests[m] & interests);
+                        if (size < k) {
+                            heapPush(heapMentor, heapScore, base, size++, m, score);
+                        } else if (score > heapScore[base]) {
+                            // 같은 점수면 먼저 들어온(앞 번호) 멘토를 유지합니다.
+                            heapReplaceRoot(heapMentor, heapScore, base, k, m, score);
+                        }
+                    }
+                    heapSize[e - from] = size;
+                }
+            }
+
+            for (int e = from; e < to; e++) {
+                int base = (e - from) * k;
+                int size = heapSize[e - from];
+                for (int i = size - 1; i >= 0; i--) {
+                    result.set(e, i, heapMentor[base], heapScore[base]);
+                    heapPopRoot(heapMentor, heapScore, base, i + 1);
+                }
+                result.setCount(e, size);
+            }
+        }
+
+        /** 힙 순서: 점수가 낮을수록, 점수가 같으면 멘토 번호가 클수록 루트에 가깝습니다. */
+        private static boolean lower(int[] mentor, int[] score, int a, int b) {
+            return score[a] != score[b] ? score[a] < score[b] : mentor[a] > mentor[b];
+        }
+
+        private static void heapPush(int[] mentor, int[] score, int base, int size, int m, int s) {
+            int i = size;
+            mentor[base + i] = m;
+            score[base + i] = s;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!lower(mentor, score, base + i, base + parent)) {
+                    break;
+                }
+                swap(mentor, score, base + i, base + parent);
+                i = parent;
+            }
+        }
+
+        private static void heapReplaceRoot(int[] mentor, int[] score, int base, int size, int m, int s) {
+            mentor[base] = m;
+            score[base] = s;
+            siftDown(mentor, score, base, size);
+        }
+
+        private static void heapPopRoot(int[] mentor, int[] score, int base, int size) {
+            swap(mentor, score, base, base + size - 1);
+            siftDown(mentor, score, base, size - 1);
+        }
+
+        private static void siftDown(int[] mentor, int[] score, int base, int size) {
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int child = left + 1 < size && lower(mentor, score, base + left + 1, base + left) ? left + 1 : left;
+                if (!lower(mentor, score, base + child, base + i)) {
+                    return;
+                }
+                swap(mentor, score, base + i, base + child);
+                i = child;
+            }
+        }
+
+        private static void swap(int[] mentor, int[] score, int a, int b) {
+            int m = mentor[a];
+            mentor[a] = mentor[b];
+            mentor[b] = m;
+            int s = score[a];
+            score[a] = score[b];
+            score[b] = s;
+        }
+    }
+}
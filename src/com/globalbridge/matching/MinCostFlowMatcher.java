@@ -0,0 +1,446 @@
+package com.globalbridge.matching;
+
+import com.globalbridge.model.Participant;
+
+import java.util.*;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 멘토별 정원을 지키면서 전체 적합도가 최대가 되도록 멘티를 배정하는 최소 비용 흐름 매칭 클래스입니다.
+ *
+ * <p>
+ * 배정 문제를 다음과 같은 흐름 네트워크로 풉니다.
+ * <pre>
+ * 멘티 ──(비용 = 최고점 - 점수)──▶ 멘토 ──(용량 = 정원)──▶ 싱크
+ *   └──────(미배정, 매우 큰 비용)──────────────────────────▶ 싱크
+ * </pre>
+ * 미배정 간선 덕분에 모든 멘티가 항상 흐름을 보낼 수 있으므로, 멘티를 하나씩 추가하면서
+ * 잔여 그래프에서 싱크까지의 최단 증가 경로로 흐름을 보내는 successive shortest path 방식이
+ * 최적해(배정 수 최대, 그중 적합도 합 최대)를 구합니다. 정점 포텐셜로 간선 비용을 음이 아니게 유지하여
+ * 다익스트라 탐색을 사용하며, 탐색은 싱크에 도달하는 즉시 멈춥니다.
+ * </p>
+ *
+ * <p>
+ * 적합도 점수는 전공, 학년, 관심사에만 의존하므로 특징이 같은 참가자들은 하나의 정점(클래스)으로 묶어
+ * 클래스 간 완전 이분 그래프에서 여러 단위의 흐름을 한 번에 보냅니다. 5만 명 규모라도 클래스 수는
+ * 수백 개 수준이므로 몇 초 안에 풀 수 있습니다. 클래스 간 간선 수가 {@value #MAX_CLASS_EDGES}개를 넘으면
+ * 참가자 단위 정점과 {@link CompatibilityScorer}의 멘티별 상위 {@value #SPARSE_CANDIDATES}개 후보 간선만
+ * 사용하며, 이때 후보로 닿지 않는 멘티는 남은 정원이 있는 멘토에게 순서대로 배정됩니다.
+ * </p>
+ *
+ * @see CompatibilityScorer
+ */
+public class MinCostFlowMatcher {
+    /** 클래스 단위 완전 이분 그래프로 풀 수 있는 최대 간선 수 */
+    static final int MAX_CLASS_EDGES = 1 << 22;
+
+    /** 참가자 단위 그래프에서 멘티별로 사용하는 후보 멘토 수 */
+    static final int SPARSE_CANDIDATES = 32;
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final CompatibilityScorer scorer;
+
+    /**
+     * 공용 fork-join 풀의 점수 계산기를 사용하는 MinCostFlowMatcher를 생성합니다.
+     */
+    public MinCostFlowMatcher() {
+        this(new CompatibilityScorer());
+    }
+
+    /**
+     * 지정한 점수 계산기를 사용하는 MinCostFlowMatcher를 생성합니다.
+     *
+     * @param scorer 참가자 단위 후보를 구할 때 사용할 점수 계산기
+     */
+    public MinCostFlowMatcher(CompatibilityScorer scorer) {
+        this.scorer = scorer;
+    }
+
+    /**
+     * 멘티별 배정 멘토를 계산합니다.
+     *
+     * @param mentors 멘토 목록
+     * @param capacities 멘토 번호별 남은 정원
+     * @param mentees 멘티 목록
+     * @return 멘티 번호 → 멘토 번호 배열 (배정되지 않은 멘티는 -1)
+     */
+    public int[] match(List<Participant> mentors, int[] capacities, List<Participant> mentees) {
+        if (capacities.length != mentors.size()) {
+            throw new IllegalArgumentException("멘토 수와 정원 배열의 길이가 다릅니다.");
+        }
+        CompatibilityScorer.Features features = new CompatibilityScorer.Features(mentors, mentees);
+        Classes mentorClasses = Classes.ofMentors(features);
+        Classes menteeClasses = Classes.ofMentees(features);
+
+        if ((long) mentorClasses.count() * menteeClasses.count() <= MAX_CLASS_EDGES) {
+            return solve(features, mentorClasses, menteeClasses, capacities);
+        }
+        return solve(scorer.topK(mentors, mentees, SPARSE_CANDIDATES), capacities);
+    }
+
+    private int[] solve(CompatibilityScorer.Features features, Classes mentorClasses, Classes menteeClasses,
+                        int[] capacities) {
+        int maxScore = 0;
+        int[][] scores = new int[menteeClasses.count()][mentorClasses.count()];
+        for (int e = 0; e < menteeClasses.count(); e++) {
+            int mentee = menteeClasses.representative(e);
+            for (int m = 0; m < mentorClasses.count(); m++) {
+                scores[e][m] = features.score(mentorClasses.representative(m), mentee);
+                maxScore = Math.max(maxScore, scores[e][m]);
+            }
+        }
+
+        Network network = new Network(menteeClasses, mentorClasses, capacities,
+                menteeClasses.count() * mentorClasses.count(), maxScore);
+        for (int e = 0; e < menteeClasses.count(); e++) {
+            for (int m = 0; m < mentorClasses.count(); m++) {
+                network.addCandidate(e, m, maxScore - scores[e][m]);
+            }
+        }
+        return network.solve();
+    }
+
+    private int[] solve(CandidateMatrix candidates, int[] capacities) {
+        int maxScore = 0;
+        int edgeCount = 0;
+        for (int e = 0; e < candidates.getMenteeCount(); e++) {
+            edgeCount += candidates.getCount(e);
+            if (candidates.getCount(e) > 0) {
+                maxScore = Math.max(maxScore, candidates.getScore(e, 0));
+            }
+        }
+
+        Network network = new Network(Classes.singletons(candidates.getMenteeCount()),
+                Classes.singletons(capacities.length), capacities, edgeCount, maxScore);
+        for (int e = 0; e < candidates.getMenteeCount(); e++) {
+            for (int i = 0; i < candidates.getCount(e); i++) {
+                network.addCandidate(e, candidates.getMentor(e, i), maxScore - candidates.getScore(e, i));
+            }
+        }
+        return network.solve();
+    }
+
+    /**
+     * 점수 계산에 쓰이는 특징이 같은 참가자들의 묶음입니다.
+     * 클래스 번호별 참가자는 원래 목록의 순서를 유지합니다.
+     */
+    private static final class Classes {
+        /** 클래스 번호별 소속 참가자 번호 */
+        private final List<int[]> members;
+
+        private Classes(List<int[]> members) {
+            this.members = members;
+        }
+
+        static Classes ofMentors(CompatibilityScorer.Features f) {
+            return group(f.mentorMajor, f.mentorGrade, f.mentorInterests);
+        }
+
+        static Classes ofMentees(CompatibilityScorer.Features f) {
+            return group(f.menteeMajor, f.menteeGrade, f.menteeInterests);
+        }
+
+        static Classes singletons(int size) {
+            List<int[]> members = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                members.add(new int[] {i});
+            }
+            return new Classes(members);
+        }
+
+        private static Classes group(int[] major, int[] grade, long[] interests) {
+            LinkedHashMap<List<Long>, List<Integer>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < major.length; i++) {
+                List<Long> key = Arrays.asList(((long) major[i] << 32) | (grade[i] & 0xFFFFFFFFL), interests[i]);
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+            List<int[]> members = new ArrayList<>(groups.size());
+            for (List<Integer> group : groups.values()) {
+                members.add(group.stream().mapToInt(Integer::intValue).toArray());
+            }
+            return new Classes(members);
+        }
+
+        int count() { return members.size(); }
+
+        int representative(int classId) { return members.get(classId)[0]; }
+
+        int[] members(int classId) { return members.get(classId); }
+    }
+
+    /**
+     * 멘티 클래스 → 멘토 클래스 → 싱크로 이어지는 흐름 네트워크입니다.
+     * 간선 i의 역방향 간선은 i ^ 1입니다.
+     */
+    private static final class Network {
+        private final Classes menteeClasses;
+        private final Classes mentorClasses;
+        private final int[] capacities;
+        private final int sink;
+        private final int unmatched;
+        private final int penalty;
+
+        private final int[] head;
+        private final int[] next;
+        private final int[] to;
+        private final int[] cap;
+        private final int[] cost;
+        private int size;
+
+        Network(Classes menteeClasses, Classes mentorClasses, int[] capacities, int candidateEdges, int maxScore) {
+            this.menteeClasses = menteeClasses;
+            this.mentorClasses = mentorClasses;
+            this.capacities = capacities;
+            int menteeNodes = menteeClasses.count();
+            int mentorNodes = mentorClasses.count();
+            sink = menteeNodes + mentorNodes;
+            unmatched = sink + 1;
+
+            int demand = 0;
+            for (int e = 0; e < menteeNodes; e++) {
+                demand += menteeClasses.members(e).length;
+            }
+            // 미배정 비용은 실제 간선 비용의 어떤 합보다도 커서, 배정 수를 먼저 최대화합니다.
+            long bigCost = (long) maxScore * demand + 1;
+            if (bigCost > Integer.MAX_VALUE / 8) {
+                throw new IllegalArgumentException("점수 범위가 너무 커서 최소 비용 흐름으로 풀 수 없습니다.");
+            }
+            penalty = (int) bigCost;
+
+            int edgeCapacity = 2 * (candidateEdges + mentorNodes + menteeNodes + 1);
+            head = new int[sink + 2];
+            Arrays.fill(head, -1);
+            next = new int[edgeCapacity];
+            to = new int[edgeCapacity];
+            cap = new int[edgeCapacity];
+            cost = new int[edgeCapacity];
+
+            for (int m = 0; m < mentorNodes; m++) {
+                long total = 0;
+                for (int mentor : mentorClasses.members(m)) {
+                    total += Math.max(0, capacities[mentor]);
+                }
+                addEdge(menteeNodes + m, sink, (int) Math.min(total, demand), 0);
+            }
+            for (int e = 0; e < menteeNodes; e++) {
+                addEdge(e, unmatched, menteeClasses.members(e).length, penalty);
+            }
+            addEdge(unmatched, sink, demand, 0);
+        }
+
+        void addCandidate(int menteeClass, int mentorClass, int edgeCost) {
+            addEdge(menteeClass, menteeClasses.count() + mentorClass, menteeClasses.members(menteeClass).length,
+                    edgeCost);
+        }
+
+        private void addEdge(int from, int target, int capacity, int edgeCost) {
+            link(from, target, capacity, edgeCost);
+            link(target, from, 0, -edgeCost);
+        }
+
+        private void link(int from, int target, int capacity, int edgeCost) {
+            to[size] = target;
+            cap[size] = capacity;
+            cost[size] = edgeCost;
+            next[size] = head[from];
+            head[from] = size++;
+        }
+
+        int[] solve() {
+            ShortestPath search = new ShortestPath(this);
+            for (int e = 0; e < menteeClasses.count(); e++) {
+                for (int demand = menteeClasses.members(e).length; demand > 0; ) {
+                    demand -= search.augment(e, demand);
+                }
+            }
+            return assign();
+        }
+
+        /** 클래스 간 흐름을 실제 멘티와 멘토에게 나누어 배정합니다. */
+        private int[] assign() {
+            int menteeNodes = menteeClasses.count();
+            int menteeCount = 0;
+            for (int e = 0; e < menteeNodes; e++) {
+                menteeCount += menteeClasses.members(e).length;
+            }
+            int[] assignment = new int[menteeCount];
+            Arrays.fill(assignment, -1);
+            int[] remaining = new int[capacities.length];
+            for (int m = 0; m < capacities.length; m++) {
+                remaining[m] = Math.max(0, capacities[m]);
+            }
+            int[] nextMentor = new int[mentorClasses.count()];
+
+            for (int e = 0; e < menteeNodes; e++) {
+                int[] mentees = menteeClasses.members(e);
+                int nextMentee = 0;
+                for (int edge = head[e]; edge >= 0; edge = next[edge]) {
+                    int target = to[edge];
+                    if ((edge & 1) != 0 || target == unmatched) {
+                        continue;
+                    }
+                    int mentorClass = target - menteeNodes;
+                    int[] mentors = mentorClasses.members(mentorClass);
+                    for (int flow = cap[edge ^ 1]; flow > 0; flow--) {
+                        while (remaining[mentors[nextMentor[mentorClass]]] == 0) {
+                            nextMentor[mentorClass]++;
+                        }
+                        int mentor = mentors[nextMentor[mentorClass]];
+                        remaining[mentor]--;
+                        assignment[mentees[nextMentee++]] = mentor;
+                    }
+                }
+            }
+
+            // 후보 간선으로 닿지 않은 멘티는 남은 정원이 있는 멘토에게 순서대로 배정합니다.
+            int nextFree = 0;
+            for (int e = 0; e < menteeCount; e++) {
+                if (assignment[e] >= 0) {
+                    continue;
+                }
+                while (nextFree < remaining.length && remaining[nextFree] == 0) {
+                    nextFree++;
+                }
+                if (nextFree == remaining.length) {
+                    break;
+                }
+                remaining[nextFree]--;
+                assignment[e] = nextFree;
+            }
+            return assignment;
+        }
+    }
+
+    /**
+     * 포텐셜을 사용하는 다익스트라 최단 증가 경로 탐색입니다.
+     */
+    private static final class ShortestPath {
+        private final Network network;
+        private final int[] potential;
+        private final int[] dist;
+        private final int[] prevEdge;
+
+        /** 이번 탐색에서 거리가 기록된 정점 (탐색 후 이 정점들만 초기화) */
+        private int[] touched = new int[64];
+        private int touchedSize;
+
+        /** (거리 << 32 | 정점) 값의 최소 힙 */
+        private long[] heap = new long[64];
+        private int heapSize;
+
+        ShortestPath(Network network) {
+            this.network = network;
+            int nodeCount = network.head.length;
+            potential = new int[nodeCount];
+            dist = new int[nodeCount];
+            prevEdge = new int[nodeCount];
+            Arrays.fill(dist, INF);
+        }
+
+        /**
+         * 정점 source에서 싱크까지의 최단 증가 경로로 최대 limit 단위의 흐름을 보냅니다.
+         *
+         * @return 보낸 흐름의 양
+         */
+        int augment(int source, int limit) {
+            Network g = network;
+            relax(source, 0, -1);
+            while (heapSize > 0) {
+                long top = pop();
+                int d = (int) (top >>> 32);
+                int u = (int) top;
+                if (d > dist[u]) {
+                    continue;
+                }
+                if (u == g.sink) {
+                    break;
+                }
+                for (int edge = g.head[u]; edge >= 0; edge = g.next[edge]) {
+                    if (g.cap[edge] > 0) {
+                        int v = g.to[edge];
+                        relax(v, d + g.cost[edge] + potential[u] - potential[v], edge);
+                    }
+                }
+            }
+            heapSize = 0;
+
+            // 미배정 간선이 있으므로 싱크에는 항상 도달합니다.
+            int sinkDist = dist[g.sink];
+            int flow = limit;
+            for (int v = g.sink; v != source; v = g.to[prevEdge[v] ^ 1]) {
+                flow = Math.min(flow, g.cap[prevEdge[v]]);
+            }
+            for (int v = g.sink; v != source; v = g.to[prevEdge[v] ^ 1]) {
+                g.cap[prevEdge[v]] -= flow;
+                g.cap[prevEdge[v] ^ 1] += flow;
+            }
+            for (int i = 0; i < touchedSize; i++) {
+                int v = touched[i];
+                // 싱크보다 가까운(확정된) 정점만 포텐셜을 갱신합니다.
+                if (dist[v] < sinkDist) {
+                    potential[v] -= sinkDist - dist[v];
+                }
+                dist[v] = INF;
+            }
+            touchedSize = 0;
+            return flow;
+        }
+
+        private void relax(int v, int d, int edge) {
+            if (d >= dist[v]) {
+                return;
+            }
+            if (dist[v] == INF) {
+                if (touchedSize == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedSize * 2);
+                }
+                touched[touchedSize++] = v;
+            }
+            dist[v] = d;
+            prevEdge[v] = edge;
+            push(((long) d << 32) | v);
+        }
+
+        private void push(long value) {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize * 2);
+            }
+            int i = heapSize++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+        }
+
+        private long pop() {
+            long top = heap[0];
+            long last = heap[--heapSize];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= last) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.globalbridge.matching;
+
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+
+import java.util.*;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 새로 등록되는 참가자를 즉시 매칭하는 온라인(증분) 매칭 클래스입니다.
+ *
+ * <p>
+ * 아직 매칭되지 않은 멘토와 멘티를 각각 전공별, 학년별 색인에 보관합니다.
+ * 새 참가자가 들어오면 반대 역할의 대기자 중에서 다음 우선순위로 가장 알맞은 상대를
+ * O(log n) 시간에 찾아 매칭합니다.
+ * <ol>
+ *   <li>같은 전공 중 학년 차이가 가장 작은 참가자</li>
+ *   <li>전공과 관계없이 학년 차이가 가장 작은 참가자</li>
+ * </ol>
+ * 학년 차이가 같은 참가자가 위와 아래 학년에 모두 있으면 낮은 학년의 참가자가 우선하고,
+ * 같은 학년 안에서는 먼저 등록된 참가자가 우선합니다.
+ * 상대가 없으면 새 참가자는 대기자로 보관됩니다.
+ * </p>
+ *
+ * <p>
+ * 온라인 매칭은 도착 순서에 따라 결정되므로, {@link #reoptimize(List)}로
+ * 아직 활동이 없는 매칭들을 다시 짝지어 전체 적합도를 높일 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * {@link #reoptimize(List)}는 상태를 사용하지 않으므로 어느 스레드에서나 호출할 수 있습니다.
+ * </p>
+ */
+public class OnlineMatcher {
+    /** 재최적화 시 반복하는 최대 패스 수 */
+    private static final int MAX_PASSES = 5;
+
+    /** 대기 중인 멘토 */
+    private final WaitingPool mentors = new WaitingPool();
+
+    /** 대기 중인 멘티 */
+    private final WaitingPool mentees = new WaitingPool();
+
+    /**
+     * 대기자 목록을 주어진 미매칭 참가자들로 다시 구성합니다.
+     *
+     * @param unmatched 아직 매칭되지 않은 참가자 목록 (등록 순서)
+     */
+    public void reset(Collection<Participant> unmatched) {
+        mentors.clear();
+        mentees.clear();
+        for (Participant participant : unmatched) {
+            add(participant);
+        }
+    }
+
+    /**
+     * 참가자를 매칭 없이 대기자로 추가합니다.
+     *
+     * @param participant 추가할 참가자
+     */
+    public void add(Participant participant) {
+        (participant.isMentor() ? mentors : mentees).add(participant);
+    }
+
+    /**
+     * 새 참가자에게 가장 알맞은 대기 중인 상대를 찾아 대기자에서 제거하고 반환합니다.
+     *
+     * <p>
+     * 상대가 없으면 새 참가자를 대기자로 추가하고 null을 반환합니다.
+     * </p>
+     *
+     * @param participant 새로 등록된 참가자
+     * @return 매칭할 상대 참가자, 없으면 null
+     */
+    public Participant offer(Participant participant) {
+        WaitingPool counterparts = participant.isMentor() ? mentees : mentors;
+        Participant best = counterparts.pollBest(participant);
+        if (best == null) {
+            add(participant);
+        }
+        return best;
+    }
+
+    /**
+     * 매칭된 참가자를 대기자에서 제거합니다.
+     *
+     * @param participant 제거할 참가자
+     */
+    public void remove(Participant participant) {
+        (participant.isMentor() ? mentors : mentees).remove(participant);
+    }
+
+    /**
+     * 대기 중인 멘토 수를 반환합니다.
+     * @return 대기 멘토 수
+     */
+    public int getWaitingMentors() { return mentors.size; }
+
+    /**
+     * 대기 중인 멘티 수를 반환합니다.
+     * @return 대기 멘티 수
+     */
+    public int getWaitingMentees() { return mentees.size; }
+
+    /**
+     * 매칭들의 멘티를 서로 맞바꾸어 전체 적합도를 높입니다.
+     *
+     * <p>
+     * 두 매칭 (A, a), (B, b)를 (A, b), (B, a)로 바꾸었을 때
+     * {@link CompatibilityScorer#score} 합이 커지면 교환하는
+     * 국소 탐색을 개선이 없을 때까지(최대 5회) 반복합니다.
+     * 입력 목록은 변경하지 않으며, 변경이 필요한 매칭만 새 매칭으로 대응시켜 반환합니다.
+     * </p>
+     *
+     * @param pairs 재배치할 매칭 목록
+     * @return 기존 매칭 → 새 매칭 대응 (변경된 매칭만 포함)
+     */
+    public static Map<Pair, Pair> reoptimize(List<Pair> pairs) {
+        int n = pairs.size();
+        Participant[] mentorOf = new Participant[n];
+        Participant[] menteeOf = new Participant[n];
+        for (int i = 0; i < n; i++) {
+            mentorOf[i] = pairs.get(i).getMentor();
+            menteeOf[i] = pairs.get(i).getMentee();
+        }
+
+        boolean improved = true;
+        for (int pass = 0; pass < MAX_PASSES && improved; pass++) {
+            improved = false;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int current = CompatibilityScorer.score(mentorOf[i], menteeOf[i])
+                            + CompatibilityScorer.score(mentorOf[j], menteeOf[j]);
+                    int swapped = CompatibilityScorer.score(mentorOf[i], menteeOf[j])
+                            + CompatibilityScorer.score(mentorOf[j], menteeOf[i]);
+                    if (swapped > current) {
+                        Participant mentee = menteeOf[i];
+                        menteeOf[i] = menteeOf[j];
+                        menteeOf[j] = mentee;
+                        improved = true;
+                    }
+                }
+            }
+        }
+
+        Map<Pair, Pair> changes = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            if (menteeOf[i] != pairs.get(i).getMentee()) {
+                changes.put(pairs.get(i), new Pair(mentorOf[i], menteeOf[i]));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 한 역할의 대기자를 전공별·학년별로 색인하는 클래스입니다.
+     */
+    private static final class WaitingPool {
+        /** 전공 → 학년 → 대기자 (등록 순서) */
+        private final HashMap<String, TreeMap<Integer, LinkedHashSet<Participant>>> byMajor = new HashMap<>();
+
+        /** 학년 → 대기자 (등록 순서) */
+        private final TreeMap<Integer, LinkedHashSet<Participant>> byGrade = new TreeMap<>();
+
+        private int size;
+
+        void add(Participant participant) {
+            if (byMajor.computeIfAbsent(majorKey(participant), k -> new TreeMap<>())
+                    .computeIfAbsent(participant.getGrade(), k -> new LinkedHashSet<>())
+                    .add(participant)) {
+                byGrade.computeIfAbsent(participant.getGrade(), k -> new LinkedHashSet<>()).add(participant);
+                size++;
+            }
+        }
+
+        void remove(Participant participant) {
+            TreeMap<Integer, LinkedHashSet<Participant>> grades = byMajor.get(majorKey(participant));
+            if (grades == null || !removeFrom(grades, participant)) {
+                return;
+            }
+            if (grades.isEmpty()) {
+                byMajor.remove(majorKey(participant));
+            }
+            removeFrom(byGrade, participant);
+            size--;
+        }
+
+        Participant pollBest(Participant target) {
+            TreeMap<Integer, LinkedHashSet<Participant>> sameMajor = byMajor.get(majorKey(target));
+            Participant best = sameMajor != null ? nearest(sameMajor, target.getGrade()) : null;
+            if (best == null) {
+                best = nearest(byGrade, target.getGrade());
+            }
+            if (best != null) {
+                remove(best);
+            }
+            return best;
+        }
+
+        void clear() {
+            byMajor.clear();
+            byGrade.clear();
+            size = 0;
+        }
+
+        /** 학년 차이가 가장 작은(같으면 낮은 학년) 그룹의 가장 먼저 등록된 참가자 */
+        private static Participant nearest(TreeMap<Integer, LinkedHashSet<Participant>> grades, int grade) {
+            Map.Entry<Integer, LinkedHashSet<Participant>> floor = grades.floorEntry(grade);
+            Map.Entry<Integer, LinkedHashSet<Participant>> ceiling = grades.ceilingEntry(grade);
+            Map.Entry<Integer, LinkedHashSet<Participant>> best;
+            if (floor == null) {
+                best = ceiling;
+            } else if (ceiling == null) {
+                best = floor;
+            } else {
+                best = grade - floor.getKey() <= ceiling.getKey() - grade ? floor : ceiling;
+            }
+            return best == null ? null : best.getValue().iterator().next();
+        }
+
+        private static boolean removeFrom(TreeMap<Integer, LinkedHashSet<Participant>> grades,
+                                          Participant participant) {
+            LinkedHashSet<Participant> bucket = grades.get(participant.getGrade());
+            if (bucket == null || !bucket.remove(participant)) {
+                return false;
+            }
+            if (bucket.isEmpty()) {
+                grades.remove(participant.getGrade());
+            }
+            return true;
+        }
+
+        private static String majorKey(Participant participant) {
+            return participant.getMajor() == null ? "" : participant.getMajor();
+        }
+    }
+}
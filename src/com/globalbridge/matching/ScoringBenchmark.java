@@ -0,0 +1,85 @@
+package com.globalbridge.matching;
+
+import com.globalbridge.model.Participant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 타일 단위 병렬 점수 계산과 이중 반복문 기준 구현의 성능을 비교하는 벤치마크입니다.
+ *
+ * <p>
+ * 사용법: {@code java com.globalbridge.matching.ScoringBenchmark [멘토수] [멘티수] [K]}
+ * (기본값 5000 5000 16). 임의의 전공과 학년을 가진 참가자를 만들어 두 구현의 실행 시간을 출력하고,
+ * 결과가 같은지 확인합니다.
+ * </p>
+ */
+public class ScoringBenchmark {
+    private static final String[] MAJORS = {
+            "컴퓨터공학", "경영학", "경제학", "국어국문학", "영어영문학",
+            "기계공학", "전자공학", "화학", "물리학", "심리학"
+    };
+
+    /**
+     * 벤치마크를 실행합니다.
+     *
+     * @param args [멘토수] [멘티수] [K]
+     */
+    public static void main(String[] args) {
+        int mentorCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int menteeCount = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int k = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+
+        Random random = new Random(42);
+        List<Participant> mentors = generate(random, mentorCount, "Korean");
+        List<Participant> mentees = generate(random, menteeCount, "English");
+        CompatibilityScorer scorer = new CompatibilityScorer();
+
+        // JIT 워밍업
+        for (int i = 0; i < 3; i++) {
+            scorer.topK(mentors.subList(0, Math.min(2000, mentorCount)),
+                    mentees.subList(0, Math.min(2000, menteeCount)), k);
+        }
+
+        long start = System.nanoTime();
+        CandidateMatrix tiled = scorer.topK(mentors, mentees, k);
+        long tiledMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        CandidateMatrix naive = CompatibilityScorer.topKNaive(mentors, mentees, k);
+        long naiveMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("멘토 %d명 × 멘티 %d명 (K=%d)%n", mentorCount, menteeCount, k);
+        System.out.printf("타일 병렬 계산: %d ms%n", tiledMillis);
+        System.out.printf("이중 반복문:    %d ms%n", naiveMillis);
+        System.out.println("결과 일치: " + sameCandidates(tiled, naive));
+    }
+
+    private static List<Participant> generate(Random random, int count, String language) {
+        List<Participant> participants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            participants.add(new Participant(language + i, language.charAt(0) + String.valueOf(i),
+                    MAJORS[random.nextInt(MAJORS.length)], language, 1 + random.nextInt(4)));
+        }
+        return participants;
+    }
+
+    private static boolean sameCandidates(CandidateMatrix a, CandidateMatrix b) {
+        for (int e = 0; e < a.getMenteeCount(); e++) {
+            if (a.getCount(e) != b.getCount(e)) {
+                return false;
+            }
+            for (int i = 0; i < a.getCount(e); i++) {
+                if (a.getMentor(e, i) != b.getMentor(e, i) || a.getScore(e, i) != b.getScore(e, i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
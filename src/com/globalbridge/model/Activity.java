@@ -1,14 +1,21 @@
 package com.globalbridge.model;
 
-import java.io.Serializable;
+import java.io.*;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
-import java.text.SimpleDateFormat;
 
 /**
  * @author Kim Hyeong Jun
  * @version 1.0
  * @since 2024-12-09
  *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
  * 글로벌 브릿지 프로그램의 멘토-멘티 활동 정보를 관리하는 클래스입니다.
  *
  * <p>
@@ -17,12 +24,49 @@ import java.text.SimpleDateFormat;
  * Serializable을 구현하여 활동 데이터의 영구 저장을 지원합니다.
  * </p>
  *
+ * <p>
+ * 활동 시각은 epoch millis 값으로 저장되며, 화면 표시와 파일 저장에 쓰이는 문자열은
+ * {@link #appendTo(StringBuilder)}를 통해 호출자가 넘긴 버퍼에 바로 기록됩니다.
+ * 같은 날짜의 활동을 연속으로 출력할 때는 추가 객체를 생성하지 않습니다.
+ * </p>
+ *
  * @see Pair
  * @see Participant
  */
 public class Activity implements Serializable {
-    /** 활동이 진행된 날짜와 시간 */
-    private Date date;
+    private static final long serialVersionUID = 4273094650726938001L;
+
+    /**
+     * 직렬화 필드 목록.
+     *
+     * <p>이전 버전은 활동 시각을 {@code Date date} 필드로 저장했으므로,
+     * 예전 파일을 읽을 수 있도록 두 필드를 모두 선언합니다.</p>
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("date", Date.class),
+            new ObjectStreamField("epochMillis", long.class),
+            new ObjectStreamField("content", String.class),
+            new ObjectStreamField("location", String.class),
+            new ObjectStreamField("isCompleted", boolean.class)
+    };
+
+    /** 활동 시각의 표시 형식 ("yyyy-MM-dd HH:mm") */
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /** 활동 시각을 표시할 때 사용하는 시간대 */
+    public static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /** 스레드별 날짜 캐시 (같은 날짜의 시각을 객체 생성 없이 출력하기 위해 사용) */
+    private static final ThreadLocal<DayCache> DAY_CACHE = ThreadLocal.withInitial(DayCache::new);
+
+    /** {@link #appendTo(Appendable)}에서 사용하는 스레드별 작업 버퍼 */
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    /** Writer로 문자를 옮길 때 사용하는 스레드별 문자 배열 */
+    private static final ThreadLocal<char[]> CHAR_BUFFER = ThreadLocal.withInitial(() -> new char[1024]);
+
+    /** 활동이 진행된 날짜와 시간 (epoch millis) */
+    private long epochMillis;
 
     /** 활동 내용에 대한 설명 */
     private String content;
@@ -33,6 +77,12 @@ public class Activity implements Serializable {
     /** 활동 완료 여부를 나타내는 플래그 */
     private boolean isCompleted;
 
+    /** 플라이웨이트 뷰인 경우 데이터를 읽어 올 활동 저장소, 독립 객체이면 null */
+    private transient ActivityLog log;
+
+    /** 플라이웨이트 뷰가 가리키는 저장소의 행 번호 */
+    private transient int row;
+
     /**
      * Activity 객체를 생성하여 새로운 활동을 기록합니다.
      *
@@ -42,51 +92,130 @@ public class Activity implements Serializable {
      * 나중에 변경할 수 있습니다.
      * </p>
      *
-     * @param date 활동 날짜와 시간
+     * @param epochMillis 활동 날짜와 시간 (epoch millis)
      * @param content 활동 내용
      * @param location 활동 장소
      */
-    public Activity(Date date, String content, String location) {
-        this.date = date;
+    public Activity(long epochMillis, String content, String location) {
+        this.epochMillis = epochMillis;
         this.content = content;
         this.location = location;
         this.isCompleted = false;
     }
 
     /**
-     * 활동 날짜와 시간을 반환합니다.
+     * 활동 저장소의 행을 가리키는 플라이웨이트 뷰를 생성합니다.
+     *
+     * @param log 활동 저장소
+     * @param row 행 번호
+     * @see ActivityLog#get(int)
+     */
+    Activity(ActivityLog log, int row) {
+        this.log = log;
+        this.row = row;
+    }
+
+    /**
+     * 활동 날짜와 시간을 epoch millis 값으로 반환합니다.
      *
-     * @return 활동이 진행된 Date 객체
+     * @return 활동 시각 (epoch millis)
      */
-    public Date getDate() { return date; }
+    public long getEpochMillis() { return log != null ? log.getEpochMillis(row) : epochMillis; }
+
+    /**
+     * 활동 날짜와 시간을 {@link #ZONE} 기준의 지역 시각으로 반환합니다.
+     *
+     * @return 활동이 진행된 LocalDateTime 객체
+     */
+    public LocalDateTime getDateTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(getEpochMillis()), ZONE);
+    }
 
     /**
      * 활동 내용을 반환합니다.
      *
      * @return 활동 내용 문자열
      */
-    public String getContent() { return content; }
+    public String getContent() { return log != null ? log.getContent(row) : content; }
 
     /**
      * 활동 장소를 반환합니다.
      *
      * @return 활동 장소 문자열
      */
-    public String getLocation() { return location; }
+    public String getLocation() { return log != null ? log.getLocation(row) : location; }
 
     /**
      * 활동 완료 여부를 반환합니다.
      *
      * @return 활동이 완료되었으면 true, 진행 중이면 false
      */
-    public boolean isCompleted() { return isCompleted; }
+    public boolean isCompleted() { return log != null ? log.isCompleted(row) : isCompleted; }
+
+    /**
+     * 활동 시각이 지나도록 완료되지 않아 기한 지남으로 표시되었는지 반환합니다.
+     *
+     * <p>
+     * 기한 지남 표시는 활동 저장소에 기록된 활동에만 있으며, 독립 객체는 항상 false를 반환합니다.
+     * </p>
+     *
+     * @return 기한이 지났으면 true
+     * @see com.globalbridge.schedule.ActivityScheduler
+     */
+    public boolean isOverdue() { return log != null && log.isOverdue(row); }
 
     /**
      * 활동의 완료 상태를 설정합니다.
      *
+     * <p>
+     * 플라이웨이트 뷰인 경우 변경 내용이 활동 저장소에 바로 기록됩니다.
+     * </p>
+     *
      * @param completed 설정할 완료 상태 (완료: true, 진행 중: false)
      */
-    public void setCompleted(boolean completed) { isCompleted = completed; }
+    public void setCompleted(boolean completed) {
+        if (log != null) {
+            log.setCompleted(row, completed);
+        } else {
+            isCompleted = completed;
+        }
+    }
+
+    /**
+     * 직렬화 시 플라이웨이트 뷰를 저장소와 분리된 독립 객체로 대체합니다.
+     *
+     * @return 직렬화할 객체
+     */
+    private Object writeReplace() {
+        if (log == null) {
+            return this;
+        }
+        Activity detached = new Activity(getEpochMillis(), getContent(), getLocation());
+        detached.setCompleted(isCompleted());
+        return detached;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("epochMillis", epochMillis);
+        fields.put("content", content);
+        fields.put("location", location);
+        fields.put("isCompleted", isCompleted);
+        out.writeFields();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        if (fields.defaulted("epochMillis")) {
+            Date date = (Date) fields.get("date", null);
+            epochMillis = date != null ? date.getTime() : 0L;
+        } else {
+            epochMillis = fields.get("epochMillis", 0L);
+        }
+        content = (String) fields.get("content", null);
+        location = (String) fields.get("location", null);
+        isCompleted = fields.get("isCompleted", false);
+    }
 
     /**
      * 활동 정보를 문자열로 변환합니다.
@@ -105,11 +234,146 @@ public class Activity implements Serializable {
      */
     @Override
     public String toString() {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-        return String.format("%s | %s @ %s [%s]",
-                sdf.format(date),
-                content,
-                location,
-                isCompleted ? "완료" : "진행중");
+        StringBuilder sb = new StringBuilder(64);
+        appendTo(sb);
+        return sb.toString();
+    }
+
+    /**
+     * 활동 정보를 {@link #toString()}과 같은 형식으로 버퍼 끝에 덧붙입니다.
+     *
+     * <p>
+     * 중간 문자열을 만들지 않으므로 많은 활동을 한 번에 출력할 때 사용합니다.
+     * </p>
+     *
+     * @param sb 출력할 버퍼
+     */
+    public void appendTo(StringBuilder sb) {
+        if (log != null) {
+            log.appendTo(row, sb);
+            return;
+        }
+        appendTimestamp(sb, epochMillis);
+        sb.append(" | ").append(content).append(" @ ").append(location);
+        appendStatus(sb, isCompleted, false);
+    }
+
+    /**
+     * 활동 정보를 {@link #toString()}과 같은 형식으로 출력 대상에 기록합니다.
+     *
+     * @param out 출력 대상 (Writer, StringBuilder 등)
+     * @throws IOException 출력 중 오류 발생 시
+     */
+    public void appendTo(Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendTo((StringBuilder) out);
+            return;
+        }
+        StringBuilder sb = SCRATCH.get();
+        sb.setLength(0);
+        appendTo(sb);
+        writeTo(sb, out);
+    }
+
+    /**
+     * 활동 시각을 "yyyy-MM-dd HH:mm" 형식으로 버퍼에 덧붙입니다.
+     *
+     * <p>
+     * 직전에 출력한 시각과 같은 날짜이면 캐시된 날짜 부분을 재사용하여
+     * 객체를 생성하지 않습니다. 하루 중 시차가 바뀌는 날(일광 절약 시간 전환일)은
+     * {@link #DATE_FORMAT}으로 처리합니다.
+     * </p>
+     *
+     * @param sb 출력할 버퍼
+     * @param epochMillis 활동 시각 (epoch millis)
+     */
+    public static void appendTimestamp(StringBuilder sb, long epochMillis) {
+        DayCache cache = DAY_CACHE.get();
+        if ((epochMillis < cache.dayStart || epochMillis >= cache.dayEnd) && !cache.load(epochMillis)) {
+            DATE_FORMAT.formatTo(Instant.ofEpochMilli(epochMillis).atZone(ZONE), sb);
+            return;
+        }
+        int minutes = (int) ((epochMillis - cache.dayStart) / 60_000L);
+        sb.append(cache.datePrefix);
+        appendTwoDigits(sb, minutes / 60);
+        sb.append(':');
+        appendTwoDigits(sb, minutes % 60);
+    }
+
+    /**
+     * 완료 상태를 " [완료]", " [기한 지남]" 또는 " [진행중]" 형식으로 버퍼에 덧붙입니다.
+     *
+     * @param sb 출력할 버퍼
+     * @param completed 완료 여부
+     * @param overdue 기한 지남 여부 (완료된 활동이면 무시)
+     */
+    static void appendStatus(StringBuilder sb, boolean completed, boolean overdue) {
+        sb.append(completed ? " [완료]" : overdue ? " [기한 지남]" : " [진행중]");
+    }
+
+    /**
+     * 버퍼의 내용을 중간 문자열 없이 출력 대상에 옮깁니다.
+     *
+     * @param sb 옮길 버퍼
+     * @param out 출력 대상
+     * @throws IOException 출력 중 오류 발생 시
+     */
+    static void writeTo(StringBuilder sb, Appendable out) throws IOException {
+        if (!(out instanceof Writer)) {
+            out.append(sb);
+            return;
+        }
+        Writer writer = (Writer) out;
+        char[] buffer = CHAR_BUFFER.get();
+        for (int start = 0; start < sb.length(); start += buffer.length) {
+            int end = Math.min(sb.length(), start + buffer.length);
+            sb.getChars(start, end, buffer, 0);
+            writer.write(buffer, 0, end - start);
+        }
+    }
+
+    private static void appendTwoDigits(StringBuilder sb, int value) {
+        sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * 마지막으로 출력한 날짜의 범위와 "yyyy-MM-dd " 문자열을 보관하는 캐시입니다.
+     */
+    private static final class DayCache {
+        long dayStart = 1;
+        long dayEnd = 0;
+        final char[] datePrefix = new char[11];
+
+        /**
+         * 주어진 시각이 속한 날짜를 캐시에 적재합니다.
+         *
+         * @return 하루 동안 시차가 일정하여 캐시를 사용할 수 있으면 true
+         */
+        boolean load(long epochMillis) {
+            LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(ZONE).toLocalDate();
+            ZonedDateTime start = date.atStartOfDay(ZONE);
+            ZonedDateTime end = date.plusDays(1).atStartOfDay(ZONE);
+            if (!start.getOffset().equals(end.getOffset()) || date.getYear() < 0 || date.getYear() > 9999) {
+                dayStart = 1;
+                dayEnd = 0;
+                return false;
+            }
+            dayStart = start.toInstant().toEpochMilli();
+            dayEnd = end.toInstant().toEpochMilli();
+
+            int year = date.getYear();
+            datePrefix[0] = (char) ('0' + year / 1000);
+            datePrefix[1] = (char) ('0' + year / 100 % 10);
+            datePrefix[2] = (char) ('0' + year / 10 % 10);
+            datePrefix[3] = (char) ('0' + year % 10);
+            datePrefix[4] = '-';
+            datePrefix[5] = (char) ('0' + date.getMonthValue() / 10);
+            datePrefix[6] = (char) ('0' + date.getMonthValue() % 10);
+            datePrefix[7] = '-';
+            datePrefix[8] = (char) ('0' + date.getDayOfMonth() / 10);
+            datePrefix[9] = (char) ('0' + date.getDayOfMonth() % 10);
+            datePrefix[10] = ' ';
+            return true;
+        }
     }
-}
\ No newline at end of file
+}
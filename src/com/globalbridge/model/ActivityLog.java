@@ -0,0 +1,1388 @@
+package com.globalbridge.model;
+
+import com.globalbridge.util.RoaringBitmap;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * @version 1.3
+ * @since 2026-10-18
+ *
+ * @version 1.4
+ * @since 2026-10-18
+ *
+ * @version 1.5
+ * @since 2026-10-18
+ *
+ * 모든 멘토-멘티 활동 기록을 힙 외부(off-heap) 메모리에 저장하는 활동 저장소 클래스입니다.
+ *
+ * <p>
+ * 활동 하나하나를 {@link Activity} 객체로 힙에 유지하면 기록이 쌓일수록
+ * GC 부담이 커집니다. 이 클래스는 활동을 direct {@link ByteBuffer} 청크에
+ * 고정 길이 행(row)으로 기록하고, 활동 내용 문자열은 별도의 문자열 아레나(arena)에,
+ * 매칭 ID와 장소는 사전(dictionary) ID로 저장합니다.
+ * {@link Activity} 객체는 {@link #get(int)} 등으로 접근할 때마다 행을 가리키는
+ * 플라이웨이트(flyweight) 뷰로 생성됩니다.
+ * </p>
+ *
+ * <p>
+ * 행 레이아웃 (32바이트):
+ * <ul>
+ *   <li>0: 활동 시각 (epoch millis, long)</li>
+ *   <li>8: 매칭 ID 사전 번호 (int)</li>
+ *   <li>12: 장소 사전 번호 (int)</li>
+ *   <li>16: 같은 매칭의 다음 행 번호, 없으면 -1 (int)</li>
+ *   <li>20: 활동 내용이 저장된 아레나 청크 번호 (int)</li>
+ *   <li>24: 아레나 청크 내 오프셋 (int)</li>
+ *   <li>28: 상태 플래그 (int, 0번 비트: 완료 여부, 1번 비트: 기한 지남 여부, 8~31번 비트: 행 버전)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 행 번호는 0부터 시작하는 연속된 정수이며 한 번 부여되면 바뀌지 않습니다.
+ * 완료된 행 번호, 기한이 지난 행 번호, 미완료 활동이 남은 매칭 번호는 {@link RoaringBitmap}으로 함께 유지되므로,
+ * 미완료 활동이나 미완료 매칭, 아직 기한을 기다리는 활동을 전체 행을 훑지 않고 세거나 찾을 수 있습니다.
+ * 이 클래스는 동기화되어 있지 않으므로 변경은 이벤트 디스패치 스레드에서만 수행해야 합니다.
+ * </p>
+ *
+ * <p>
+ * 저장 파일에는 {@link #writeIndex(DataOutput)}로 사전과 매칭별 정보를, {@link #writeShard(int, DataOutput)}로
+ * {@value #SHARD_ROWS}행 단위의 샤드를 따로 기록할 수 있습니다. 샤드는 전체 행 번호와 사전 번호를 그대로 담고
+ * 행 청크 경계에서 나뉘므로, {@link ShardReader}로 여러 스레드에서 각각 읽은 뒤 청크를 이어 붙이기만 하면 저장소가 됩니다.
+ * </p>
+ *
+ * <p>
+ * {@link PageCache}를 지정하여 만든 저장소(메모리 제한 모드)는 행 청크와 아레나 청크를 캐시의 예산 안에서만 메모리에 두고,
+ * 내보낸 청크는 접근할 때 페이지 파일에서 다시 읽어 옵니다. 사전, 매칭별 정보, 비트맵은 항상 메모리에 있으므로
+ * 개수 세기나 미완료 매칭 찾기는 청크를 읽지 않습니다. 청크의 값은 {@link ChunkStore}의 {@code put} 메서드로만 변경합니다.
+ * </p>
+ *
+ * <p>
+ * 모든 청크를 메모리에 두는 저장소는 청크를 direct 버퍼로 할당하며, 청크는 저장소가 GC될 때에만 돌려받습니다.
+ * 행 65,536개마다 2MB 행 청크 하나, 활동 내용(4바이트 길이 + UTF-8 바이트)이 4MB를 채울 때마다
+ * 아레나 청크 하나가 할당되므로, 저장소 하나가 차지하는 direct 메모리는 대략 (32 + 4 + 평균 내용 바이트) × 행 수를
+ * 2MB와 4MB 단위로 올림한 크기입니다. JVM의 direct 메모리 한도({@code -XX:MaxDirectMemorySize}, 지정하지 않으면 최대 힙 크기)를
+ * 넘으면 {@link OutOfMemoryError}가 발생하므로, 주 활동 기록과 함께 불러오기나 가져오기 중인 저장소까지 들어가도록 한도를 잡거나,
+ * 기록이 그보다 크면 {@value PageCache#BUDGET_PROPERTY} 속성으로 메모리 제한 모드(힙 버퍼와 페이지 파일 사용)를 사용해야 합니다.
+ * 짧게 쓰고 버리는 저장소를 반복해서 만들면 GC가 돌기 전까지 direct 메모리가 쌓이므로, 가져오기처럼 조각마다 행을 모을 때는
+ * 힙 배열에 모은 뒤 {@link #add(String, long, byte[], int, int, String, boolean)}로 옮깁니다.
+ * </p>
+ *
+ * @see Activity
+ */
+public class ActivityLog implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** 행 하나의 크기 (바이트) */
+    static final int ROW_BYTES = 32;
+
+    /** 행 청크 하나에 담기는 행의 개수 (2MB 청크) */
+    private static final int ROWS_PER_CHUNK = 1 << 16;
+
+    /** 저장 파일 샤드 하나에 담기는 행의 개수 (행 청크 4개) */
+    public static final int SHARD_ROWS = ROWS_PER_CHUNK * 4;
+
+    /** 문자열 아레나 청크의 기본 크기 (4MB) */
+    private static final int ARENA_CHUNK_BYTES = 1 << 22;
+
+    private static final int OFF_EPOCH = 0;
+    private static final int OFF_PAIR = 8;
+    private static final int OFF_LOCATION = 12;
+    private static final int OFF_NEXT = 16;
+    private static final int OFF_CONTENT_CHUNK = 20;
+    private static final int OFF_CONTENT_POS = 24;
+    private static final int OFF_FLAGS = 28;
+
+    private static final int FLAG_COMPLETED = 1;
+    private static final int FLAG_OVERDUE = 2;
+
+    /** 플래그 워드에서 행 버전이 시작하는 비트 위치 */
+    private static final int VERSION_SHIFT = 8;
+
+    /** 청크를 둘 페이지 캐시, 모든 청크를 메모리에 두면 null */
+    private final transient PageCache pageCache;
+
+    /** 고정 길이 행이 저장되는 청크 목록 */
+    private transient ChunkStore rowChunks;
+
+    /** 활동 내용(길이 + UTF-8 바이트)이 저장되는 청크 목록 */
+    private transient ChunkStore arenaChunks;
+
+    /** 마지막 아레나 청크에서 사용한 바이트 수 */
+    private transient int arenaUsed;
+
+    /** 행 하나를 모아 한 번에 기록하기 위한 작업 버퍼 */
+    private transient ByteBuffer rowScratch;
+
+    /** 저장된 행의 개수 */
+    private transient int size;
+
+    /** 매칭 ID 사전 (활동이 한 건 이상 있는 매칭만 포함, 첫 활동 순서) */
+    private transient StringDictionary pairIds;
+
+    /** 활동 장소 사전 */
+    private transient StringDictionary locations;
+
+    /** 매칭 사전 번호별 첫 행, 마지막 행, 활동 수 */
+    private transient int[] pairHead;
+    private transient int[] pairTail;
+    private transient int[] pairCount;
+
+    /** 매칭 사전 번호별 미완료 활동 수 */
+    private transient int[] pairOpen;
+
+    /** 완료된 행 번호 */
+    private transient RoaringBitmap completedRows;
+
+    /** 기한이 지난 것으로 표시된 행 번호 */
+    private transient RoaringBitmap overdueRows;
+
+    /** 미완료 활동이 한 건 이상 있는 매칭 사전 번호 */
+    private transient RoaringBitmap openPairs;
+
+    /**
+     * 모든 청크를 메모리에 두는 비어 있는 활동 저장소를 생성합니다.
+     */
+    public ActivityLog() {
+        this(null);
+    }
+
+    /**
+     * 청크를 페이지 캐시에 두는 비어 있는 활동 저장소를 생성합니다.
+     *
+     * @param pageCache 청크를 둘 페이지 캐시, null이면 모든 청크를 메모리에 둠
+     */
+    public ActivityLog(PageCache pageCache) {
+        this.pageCache = pageCache;
+        init();
+    }
+
+    /**
+     * 시스템 속성에 따라 비어 있는 활동 저장소를 생성합니다.
+     *
+     * <p>
+     * {@value PageCache#BUDGET_PROPERTY} 속성이 있으면 공유 페이지 캐시({@link PageCache#getDefault()})를 쓰는
+     * 메모리 제한 모드로, 없으면 모든 청크를 메모리에 두는 저장소로 만듭니다.
+     * 프로그램의 주 활동 기록은 이 메서드로 만듭니다.
+     * </p>
+     *
+     * @return 새 저장소
+     */
+    public static ActivityLog create() {
+        return new ActivityLog(PageCache.getDefault());
+    }
+
+    /**
+     * 이전 버전의 활동 기록(매칭 ID별 활동 리스트)으로부터 저장소를 생성합니다.
+     *
+     * <p>
+     * 예전 형식의 {@code globalbridge_data.ser} 파일을 불러올 때 사용합니다.
+     * </p>
+     *
+     * @param legacy 매칭 ID를 키로, 활동 리스트를 값으로 가지는 Map
+     * @return 같은 활동을 담은 새 저장소
+     */
+    public static ActivityLog fromMap(Map<String, ? extends List<Activity>> legacy) {
+        ActivityLog log = create();
+        for (Map.Entry<String, ? extends List<Activity>> entry : legacy.entrySet()) {
+            for (Activity activity : entry.getValue()) {
+                log.add(entry.getKey(), activity);
+            }
+        }
+        return log;
+    }
+
+    private void init() {
+        rowChunks = pageCache == null ? ChunkStore.resident(true) : pageCache.newStore();
+        arenaChunks = pageCache == null ? ChunkStore.resident(true) : pageCache.newStore();
+        arenaUsed = 0;
+        rowScratch = ByteBuffer.allocate(ROW_BYTES);
+        size = 0;
+        pairIds = new StringDictionary();
+        locations = new StringDictionary();
+        pairHead = new int[16];
+        pairTail = new int[16];
+        pairCount = new int[16];
+        pairOpen = new int[16];
+        completedRows = new RoaringBitmap();
+        overdueRows = new RoaringBitmap();
+        openPairs = new RoaringBitmap();
+    }
+
+    /**
+     * 매칭에 새로운 활동을 추가합니다.
+     *
+     * <p>
+     * 전달된 활동의 날짜, 내용, 장소, 완료 여부가 저장소로 복사되며,
+     * 이후 전달된 객체를 변경해도 저장소에는 반영되지 않습니다.
+     * </p>
+     *
+     * @param pairId 매칭 ID (멘토학번-멘티학번 형식)
+     * @param activity 추가할 활동
+     * @return 새로 부여된 행 번호
+     */
+    public int add(String pairId, Activity activity) {
+        return append(pairId, activity.getEpochMillis(), activity.getContent(),
+                activity.getLocation(), activity.isCompleted() ? FLAG_COMPLETED : 0);
+    }
+
+    /**
+     * UTF-8로 인코딩된 활동 내용으로 매칭에 새로운 활동을 추가합니다.
+     *
+     * <p>
+     * 가져오기처럼 힙 배열에 모아 둔 활동을 {@link Activity} 객체 없이 옮길 때 사용합니다.
+     * 내용 바이트는 저장소로 복사됩니다.
+     * </p>
+     *
+     * @param pairId 매칭 ID (멘토학번-멘티학번 형식)
+     * @param epochMillis 활동 시각 (epoch millis)
+     * @param content 활동 내용의 UTF-8 바이트가 담긴 배열
+     * @param offset 내용의 시작 위치
+     * @param length 내용의 바이트 수
+     * @param location 활동 장소
+     * @param completed 완료 여부
+     * @return 새로 부여된 행 번호
+     */
+    public int add(String pairId, long epochMillis, byte[] content, int offset, int length, String location,
+                   boolean completed) {
+        return appendRow(pairId, epochMillis, writeBytes(ByteBuffer.wrap(content), offset, length), location,
+                completed ? FLAG_COMPLETED : 0);
+    }
+
+    /**
+     * 다른 저장소의 모든 활동을 기록 순서대로 이 저장소 끝에 추가합니다.
+     *
+     * <p>
+     * 활동 내용은 아레나의 UTF-8 바이트를 그대로 복사하므로 힙에 문자열을 만들지 않습니다.
+     * 가져오기 등에서 별도 저장소에 모아 둔 활동을 한 번에 반영할 때 사용합니다.
+     * </p>
+     *
+     * @param other 추가할 활동이 담긴 저장소
+     * @return 추가된 활동 수
+     */
+    public int addAll(ActivityLog other) {
+        for (int row = 0; row < other.size; row++) {
+            copyRow(other, row);
+        }
+        return other.size;
+    }
+
+    /**
+     * 다른 저장소의 활동 중 이 저장소에 아직 없는 활동만 기록 순서대로 이 저장소 끝에 추가합니다.
+     *
+     * <p>
+     * 매칭 ID, 시각, 활동 내용, 장소가 모두 같은 활동을 같은 활동으로 봅니다 (완료 여부는 비교하지 않음).
+     * 같은 활동이 이 저장소에 n건 있으면 다른 저장소의 같은 활동 중 앞의 n건을 건너뛰므로,
+     * 저장한 파일을 다시 가져와도 활동이 늘지 않으면서 원래 같은 활동이 여러 건 있던 기록도 그대로 유지됩니다.
+     * 다른 저장소에 나오는 매칭의 기존 활동만 비교하므로 비용은 그 매칭들의 활동 수에 비례합니다.
+     * </p>
+     *
+     * @param other 추가할 활동이 담긴 저장소
+     * @return 추가된 활동 수 (건너뛴 활동 수는 {@code other.size()}에서 뺀 값)
+     */
+    public int addAllNew(ActivityLog other) {
+        HashMap<RowKey, Integer> existing = new HashMap<>();
+        for (int otherPair = 0; otherPair < other.pairIds.size(); otherPair++) {
+            int pair = pairIds.find(other.pairIds.get(otherPair));
+            if (pair < 0) {
+                continue;
+            }
+            for (int row = pairCount[pair] == 0 ? -1 : pairHead[pair]; row >= 0;
+                 row = rowChunk(row).getInt(rowOffset(row) + OFF_NEXT)) {
+                existing.merge(rowKey(row), 1, Integer::sum);
+            }
+        }
+        int added = 0;
+        for (int row = 0; row < other.size; row++) {
+            if (!existing.isEmpty()) {
+                RowKey key = other.rowKey(row);
+                Integer count = existing.get(key);
+                if (count != null) {
+                    if (count == 1) {
+                        existing.remove(key);
+                    } else {
+                        existing.put(key, count - 1);
+                    }
+                    continue;
+                }
+            }
+            copyRow(other, row);
+            added++;
+        }
+        return added;
+    }
+
+    private void copyRow(ActivityLog other, int row) {
+        ByteBuffer chunk = other.rowChunk(row);
+        int base = rowOffset(row);
+        ByteBuffer arena = other.arenaChunks.get(chunk.getInt(base + OFF_CONTENT_CHUNK));
+        int position = chunk.getInt(base + OFF_CONTENT_POS);
+        long contentRef = writeBytes(arena, position + Integer.BYTES, arena.getInt(position));
+        appendRow(other.pairIds.get(chunk.getInt(base + OFF_PAIR)),
+                chunk.getLong(base + OFF_EPOCH),
+                contentRef,
+                other.locations.get(chunk.getInt(base + OFF_LOCATION)),
+                chunk.getInt(base + OFF_FLAGS) & (FLAG_COMPLETED | FLAG_OVERDUE));
+    }
+
+    /**
+     * 중복 비교에 쓰는 행의 (매칭 ID, 시각, 장소, 내용 UTF-8 바이트)를 만듭니다.
+     */
+    private RowKey rowKey(int row) {
+        ByteBuffer chunk = rowChunk(row);
+        int base = rowOffset(row);
+        ByteBuffer arena = arenaChunks.get(chunk.getInt(base + OFF_CONTENT_CHUNK));
+        int position = chunk.getInt(base + OFF_CONTENT_POS);
+        byte[] content = new byte[arena.getInt(position)];
+        arena.get(position + Integer.BYTES, content);
+        return new RowKey(pairIds.get(chunk.getInt(base + OFF_PAIR)), chunk.getLong(base + OFF_EPOCH),
+                locations.get(chunk.getInt(base + OFF_LOCATION)), content);
+    }
+
+    private int append(String pairId, long epochMillis, String content, String location, int flags) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return appendRow(pairId, epochMillis, writeBytes(ByteBuffer.wrap(bytes), 0, bytes.length), location, flags);
+    }
+
+    private int appendRow(String pairId, long epochMillis, long contentRef, String location, int flags) {
+        int row = size;
+        if (row == Integer.MAX_VALUE) {
+            throw new IllegalStateException("활동 저장소의 최대 행 수를 초과했습니다.");
+        }
+        if ((row & (ROWS_PER_CHUNK - 1)) == 0) {
+            rowChunks.add(ROWS_PER_CHUNK * ROW_BYTES);
+        }
+
+        int pair = pairIds.intern(pairId);
+        ensurePairCapacity(pair);
+
+        putRow(row / ROWS_PER_CHUNK, rowOffset(row), epochMillis, pair, locations.intern(location), -1,
+                contentRef, flags);
+
+        if (pairCount[pair] == 0) {
+            pairHead[pair] = row;
+        } else {
+            int tail = pairTail[pair];
+            rowChunks.putInt(tail / ROWS_PER_CHUNK, rowOffset(tail) + OFF_NEXT, row);
+        }
+        pairTail[pair] = row;
+        pairCount[pair]++;
+        if ((flags & FLAG_OVERDUE) != 0) {
+            overdueRows.add(row);
+        }
+        if ((flags & FLAG_COMPLETED) != 0) {
+            completedRows.add(row);
+        } else if (pairOpen[pair]++ == 0) {
+            openPairs.add(pair);
+        }
+
+        size++;
+        return row;
+    }
+
+    /**
+     * 행 하나를 작업 버퍼에 모아 청크에 한 번에 기록합니다.
+     */
+    private void putRow(int chunkIndex, int base, long epochMillis, int pair, int location, int next,
+                        long contentRef, int flags) {
+        rowScratch.putLong(OFF_EPOCH, epochMillis);
+        rowScratch.putInt(OFF_PAIR, pair);
+        rowScratch.putInt(OFF_LOCATION, location);
+        rowScratch.putInt(OFF_NEXT, next);
+        rowScratch.putInt(OFF_CONTENT_CHUNK, (int) (contentRef >>> 32));
+        rowScratch.putInt(OFF_CONTENT_POS, (int) contentRef);
+        rowScratch.putInt(OFF_FLAGS, flags);
+        rowChunks.put(chunkIndex, base, rowScratch);
+    }
+
+    private void ensurePairCapacity(int pair) {
+        if (pair < pairHead.length) {
+            return;
+        }
+        int capacity = Math.max(pairHead.length * 2, pair + 1);
+        pairHead = Arrays.copyOf(pairHead, capacity);
+        pairTail = Arrays.copyOf(pairTail, capacity);
+        pairCount = Arrays.copyOf(pairCount, capacity);
+        pairOpen = Arrays.copyOf(pairOpen, capacity);
+    }
+
+    /**
+     * UTF-8 바이트를 아레나에 기록하고 (청크 번호 &lt;&lt; 32 | 오프셋) 형태의 참조를 반환합니다.
+     */
+    private long writeBytes(ByteBuffer source, int offset, int length) {
+        int needed = Integer.BYTES + length;
+
+        int chunk = arenaChunks.size() - 1;
+        if (chunk < 0 || arenaChunks.capacity(chunk) - arenaUsed < needed) {
+            chunk = arenaChunks.add(Math.max(ARENA_CHUNK_BYTES, needed));
+            arenaUsed = 0;
+        }
+
+        int position = arenaUsed;
+        arenaChunks.putInt(chunk, position, length);
+        arenaChunks.put(chunk, position + Integer.BYTES, source.duplicate().limit(offset + length).position(offset));
+        arenaUsed += needed;
+        return ((long) chunk << 32) | (position & 0xFFFFFFFFL);
+    }
+
+    private String readString(int chunkIndex, int position) {
+        ByteBuffer arena = arenaChunks.get(chunkIndex);
+        byte[] bytes = new byte[arena.getInt(position)];
+        arena.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 아레나에 저장된 UTF-8 문자열을 중간 문자열 없이 버퍼에 디코딩하여 덧붙입니다.
+     */
+    private void appendString(int chunkIndex, int position, StringBuilder sb) {
+        ByteBuffer arena = arenaChunks.get(chunkIndex);
+        int index = position + Integer.BYTES;
+        int end = index + arena.getInt(position);
+        while (index < end) {
+            int b = arena.get(index++) & 0xFF;
+            if (b < 0x80) {
+                sb.append((char) b);
+            } else if (b < 0xE0) {
+                sb.append((char) (((b & 0x1F) << 6) | (arena.get(index++) & 0x3F)));
+            } else if (b < 0xF0) {
+                sb.append((char) (((b & 0x0F) << 12)
+                        | ((arena.get(index++) & 0x3F) << 6)
+                        | (arena.get(index++) & 0x3F)));
+            } else {
+                sb.appendCodePoint(((b & 0x07) << 18)
+                        | ((arena.get(index++) & 0x3F) << 12)
+                        | ((arena.get(index++) & 0x3F) << 6)
+                        | (arena.get(index++) & 0x3F));
+            }
+        }
+    }
+
+    private ByteBuffer rowChunk(int row) {
+        return rowChunks.get(row / ROWS_PER_CHUNK);
+    }
+
+    private static int rowOffset(int row) {
+        return (row & (ROWS_PER_CHUNK - 1)) * ROW_BYTES;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("행 번호: " + row + ", 크기: " + size);
+        }
+    }
+
+    /**
+     * 저장된 활동의 개수를 반환합니다.
+     *
+     * @return 전체 활동 수
+     */
+    public int size() { return size; }
+
+    /**
+     * 지정한 행의 활동을 플라이웨이트 뷰로 반환합니다.
+     *
+     * <p>
+     * 반환된 객체는 데이터를 복사하지 않고 저장소의 행을 직접 읽으며,
+     * {@link Activity#setCompleted(boolean)} 호출은 저장소에 바로 반영됩니다.
+     * </p>
+     *
+     * @param row 행 번호
+     * @return 행을 가리키는 Activity 뷰
+     */
+    public Activity get(int row) {
+        checkRow(row);
+        return new Activity(this, row);
+    }
+
+    /**
+     * 활동이 한 건 이상 기록된 매칭 ID 목록을 첫 활동이 기록된 순서대로 반환합니다.
+     *
+     * @return 수정할 수 없는 매칭 ID 목록
+     */
+    public List<String> getPairIds() {
+        return pairIds.values();
+    }
+
+    /**
+     * 특정 매칭의 활동 목록을 기록 순서대로 반환합니다.
+     *
+     * <p>
+     * 반환되는 컬렉션은 읽기 전용이며, 순회할 때마다 각 행의 플라이웨이트 뷰를 생성합니다.
+     * 활동이 없는 매칭이면 빈 컬렉션을 반환합니다.
+     * </p>
+     *
+     * @param pairId 매칭 ID (멘토학번-멘티학번 형식)
+     * @return 해당 매칭의 활동 컬렉션
+     */
+    public Collection<Activity> getActivities(String pairId) {
+        int pair = pairIds.find(pairId);
+        if (pair < 0) {
+            return Collections.emptyList();
+        }
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Activity> iterator() {
+                return new Iterator<>() {
+                    private int next = pairCount[pair] == 0 ? -1 : pairHead[pair];
+
+                    @Override
+                    public boolean hasNext() { return next >= 0; }
+
+                    @Override
+                    public Activity next() {
+                        if (next < 0) {
+                            throw new NoSuchElementException();
+                        }
+                        int row = next;
+                        next = rowChunk(row).getInt(rowOffset(row) + OFF_NEXT);
+                        return new Activity(ActivityLog.this, row);
+                    }
+                };
+            }
+
+            @Override
+            public int size() { return pairCount[pair]; }
+        };
+    }
+
+    /**
+     * 특정 매칭의 행 번호를 기록 순서대로 순회하는 반복자를 반환합니다.
+     *
+     * <p>
+     * {@link #getActivities(String)}와 달리 행마다 뷰 객체를 만들지 않으므로,
+     * {@link #appendTo(int, StringBuilder)}와 함께 대량 출력에 사용합니다.
+     * </p>
+     *
+     * @param pairId 매칭 ID (멘토학번-멘티학번 형식)
+     * @return 행 번호 반복자
+     */
+    public PrimitiveIterator.OfInt rows(String pairId) {
+        int pair = pairIds.find(pairId);
+        return new PrimitiveIterator.OfInt() {
+            private int next = pair < 0 || pairCount[pair] == 0 ? -1 : pairHead[pair];
+
+            @Override
+            public boolean hasNext() { return next >= 0; }
+
+            @Override
+            public int nextInt() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                int row = next;
+                next = rowChunk(row).getInt(rowOffset(row) + OFF_NEXT);
+                return row;
+            }
+        };
+    }
+
+    /**
+     * 지정한 행의 활동 정보를 {@link Activity#toString()}과 같은 형식으로 버퍼에 덧붙입니다.
+     *
+     * <p>
+     * 활동 내용은 아레나에서 버퍼로 바로 디코딩되고 장소는 사전의 문자열을 그대로 사용하므로,
+     * 같은 날짜의 활동을 연속으로 출력하는 동안 객체를 생성하지 않습니다.
+     * </p>
+     *
+     * @param row 행 번호
+     * @param sb 출력할 버퍼
+     */
+    public void appendTo(int row, StringBuilder sb) {
+        checkRow(row);
+        ByteBuffer chunk = rowChunk(row);
+        int base = rowOffset(row);
+        Activity.appendTimestamp(sb, chunk.getLong(base + OFF_EPOCH));
+        sb.append(" | ");
+        appendString(chunk.getInt(base + OFF_CONTENT_CHUNK), chunk.getInt(base + OFF_CONTENT_POS), sb);
+        sb.append(" @ ").append(locations.get(chunk.getInt(base + OFF_LOCATION)));
+        int flags = chunk.getInt(base + OFF_FLAGS);
+        Activity.appendStatus(sb, (flags & FLAG_COMPLETED) != 0, (flags & FLAG_OVERDUE) != 0);
+    }
+
+    /**
+     * 지정한 행의 활동 정보를 출력 대상에 기록합니다.
+     *
+     * <p>
+     * 호출자가 넘긴 작업 버퍼를 재사용하여 Writer 등으로 옮기며, 중간 문자열을 만들지 않습니다.
+     * </p>
+     *
+     * @param row 행 번호
+     * @param scratch 재사용할 작업 버퍼 (내용은 덮어씀)
+     * @param out 출력 대상
+     * @throws IOException 출력 중 오류 발생 시
+     */
+    public void appendTo(int row, StringBuilder scratch, Appendable out) throws IOException {
+        scratch.setLength(0);
+        appendTo(row, scratch);
+        Activity.writeTo(scratch, out);
+    }
+
+    /**
+     * 지정한 행의 활동 시각을 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 활동 시각 (epoch millis)
+     */
+    public long getEpochMillis(int row) {
+        checkRow(row);
+        return rowChunk(row).getLong(rowOffset(row) + OFF_EPOCH);
+    }
+
+    /**
+     * 지정한 행이 속한 매칭 ID를 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 매칭 ID
+     */
+    public String getPairId(int row) {
+        checkRow(row);
+        return pairIds.get(rowChunk(row).getInt(rowOffset(row) + OFF_PAIR));
+    }
+
+    /**
+     * 지정한 행의 활동 내용을 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 활동 내용
+     */
+    public String getContent(int row) {
+        checkRow(row);
+        ByteBuffer chunk = rowChunk(row);
+        int base = rowOffset(row);
+        return readString(chunk.getInt(base + OFF_CONTENT_CHUNK), chunk.getInt(base + OFF_CONTENT_POS));
+    }
+
+    /**
+     * 지정한 행의 활동 내용을 UTF-8 바이트 그대로 반환합니다.
+     *
+     * <p>
+     * 반환된 버퍼는 문자열 아레나를 복사 없이 가리키는 읽기 전용 뷰이므로,
+     * 보고서 내보내기처럼 내용을 다시 UTF-8로 기록할 때 디코딩과 인코딩을 건너뛸 수 있습니다.
+     * </p>
+     *
+     * @param row 행 번호
+     * @return position부터 limit까지 활동 내용이 담긴 읽기 전용 버퍼
+     */
+    public ByteBuffer getContentBytes(int row) {
+        checkRow(row);
+        ByteBuffer chunk = rowChunk(row);
+        int base = rowOffset(row);
+        ByteBuffer arena = arenaChunks.get(chunk.getInt(base + OFF_CONTENT_CHUNK));
+        int position = chunk.getInt(base + OFF_CONTENT_POS);
+        int start = position + Integer.BYTES;
+        return arena.asReadOnlyBuffer().limit(start + arena.getInt(position)).position(start);
+    }
+
+    /**
+     * 지정한 행의 활동 장소를 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 활동 장소
+     */
+    public String getLocation(int row) {
+        checkRow(row);
+        return locations.get(rowChunk(row).getInt(rowOffset(row) + OFF_LOCATION));
+    }
+
+    /**
+     * 지정한 행의 완료 여부를 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 완료되었으면 true
+     */
+    public boolean isCompleted(int row) {
+        checkRow(row);
+        return (rowChunk(row).getInt(rowOffset(row) + OFF_FLAGS) & FLAG_COMPLETED) != 0;
+    }
+
+    /**
+     * 지정한 행이 기한이 지난 것으로 표시되어 있는지 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 기한이 지났으면 true
+     */
+    public boolean isOverdue(int row) {
+        checkRow(row);
+        return (rowChunk(row).getInt(rowOffset(row) + OFF_FLAGS) & FLAG_OVERDUE) != 0;
+    }
+
+    /**
+     * 지정한 행의 버전을 반환합니다.
+     *
+     * <p>
+     * 행의 상태가 변경될 때마다 증가하므로, 표시 문자열 캐시 등에서
+     * 변경 여부를 확인하는 데 사용합니다.
+     * </p>
+     *
+     * @param row 행 번호
+     * @return 행 버전
+     */
+    public int getVersion(int row) {
+        checkRow(row);
+        return rowChunk(row).getInt(rowOffset(row) + OFF_FLAGS) >>> VERSION_SHIFT;
+    }
+
+    /**
+     * 지정한 행의 완료 여부를 변경합니다.
+     *
+     * <p>
+     * 상태가 실제로 바뀐 경우에만 행 버전이 증가합니다.
+     * </p>
+     *
+     * @param row 행 번호
+     * @param completed 설정할 완료 상태
+     */
+    public void setCompleted(int row, boolean completed) {
+        checkRow(row);
+        updateCompleted(row, completed);
+    }
+
+    /**
+     * 여러 매칭의 모든 활동의 완료 여부를 한 번에 변경합니다.
+     *
+     * <p>
+     * 완료로 바꿀 때는 미완료 활동이 없는 매칭을 행을 읽지 않고 건너뜁니다.
+     * 상태가 실제로 바뀐 행만 버전이 증가합니다.
+     * </p>
+     *
+     * @param pairIds 매칭 ID 목록 (활동이 없는 매칭은 무시)
+     * @param completed 설정할 완료 상태
+     * @return 상태가 바뀐 활동 수
+     */
+    public int setCompleted(Collection<String> pairIds, boolean completed) {
+        int changed = 0;
+        for (String pairId : pairIds) {
+            int pair = this.pairIds.find(pairId);
+            if (pair < 0 || (completed && pairOpen[pair] == 0)
+                    || (!completed && pairOpen[pair] == pairCount[pair])) {
+                continue;
+            }
+            for (int row = pairHead[pair]; row >= 0; row = rowChunk(row).getInt(rowOffset(row) + OFF_NEXT)) {
+                if (updateCompleted(row, completed)) {
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private boolean updateCompleted(int row, boolean completed) {
+        ByteBuffer chunk = rowChunk(row);
+        int offset = rowOffset(row) + OFF_FLAGS;
+        int flags = chunk.getInt(offset);
+        int updated = completed ? flags | FLAG_COMPLETED : flags & ~FLAG_COMPLETED;
+        if (updated == flags) {
+            return false;
+        }
+        rowChunks.putInt(row / ROWS_PER_CHUNK, offset, updated + (1 << VERSION_SHIFT));
+
+        int pair = chunk.getInt(rowOffset(row) + OFF_PAIR);
+        if (completed) {
+            completedRows.add(row);
+            if (--pairOpen[pair] == 0) {
+                openPairs.remove(pair);
+            }
+        } else {
+            completedRows.remove(row);
+            if (pairOpen[pair]++ == 0) {
+                openPairs.add(pair);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 지정한 행의 기한 지남 표시를 변경합니다.
+     *
+     * <p>
+     * 상태가 실제로 바뀐 경우에만 행 버전이 증가합니다.
+     * </p>
+     *
+     * @param row 행 번호
+     * @param overdue 설정할 기한 지남 여부
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean setOverdue(int row, boolean overdue) {
+        checkRow(row);
+        ByteBuffer chunk = rowChunk(row);
+        int offset = rowOffset(row) + OFF_FLAGS;
+        int flags = chunk.getInt(offset);
+        int updated = overdue ? flags | FLAG_OVERDUE : flags & ~FLAG_OVERDUE;
+        if (updated == flags) {
+            return false;
+        }
+        rowChunks.putInt(row / ROWS_PER_CHUNK, offset, updated + (1 << VERSION_SHIFT));
+        if (overdue) {
+            overdueRows.add(row);
+        } else {
+            overdueRows.remove(row);
+        }
+        return true;
+    }
+
+    /**
+     * 기한이 지난 것으로 표시된 활동 수를 반환합니다.
+     *
+     * @return 활동 수
+     */
+    public int countOverdue() {
+        return overdueRows.getCardinality();
+    }
+
+    /**
+     * 완료되지 않았고 기한 지남으로 표시되지도 않은, 아직 기한을 기다리는 활동의 행 번호 집합을 반환합니다.
+     *
+     * <p>
+     * 완료 행과 기한 지남 행 비트맵의 차집합으로 구하므로 행을 읽지 않습니다.
+     * 예약 알림을 다시 구성할 때 사용합니다.
+     * </p>
+     *
+     * @return 행 번호 비트맵
+     */
+    public RoaringBitmap getPendingRows() {
+        return RoaringBitmap.andNot(getOpenRows(), overdueRows);
+    }
+
+    /**
+     * 기한이 지난 것으로 표시된 활동의 행 번호 집합을 반환합니다.
+     *
+     * @return 행 번호 비트맵의 복사본
+     */
+    public RoaringBitmap getOverdueRows() {
+        return new RoaringBitmap(overdueRows);
+    }
+
+    /**
+     * 완료된 활동 수를 반환합니다.
+     *
+     * @return 완료된 활동 수
+     */
+    public int countCompleted() {
+        return completedRows.getCardinality();
+    }
+
+    /**
+     * 특정 매칭의 미완료 활동 수를 반환합니다.
+     *
+     * @param pairId 매칭 ID (멘토학번-멘티학번 형식)
+     * @return 미완료 활동 수, 활동이 없는 매칭이면 0
+     */
+    public int countOpen(String pairId) {
+        int pair = pairIds.find(pairId);
+        return pair < 0 ? 0 : pairOpen[pair];
+    }
+
+    /**
+     * 완료된 활동의 행 번호 집합을 반환합니다.
+     *
+     * @return 행 번호 비트맵의 복사본
+     */
+    public RoaringBitmap getCompletedRows() {
+        return new RoaringBitmap(completedRows);
+    }
+
+    /**
+     * 완료되지 않은 활동의 행 번호 집합을 반환합니다.
+     *
+     * @return 행 번호 비트맵
+     */
+    public RoaringBitmap getOpenRows() {
+        return RoaringBitmap.andNot(RoaringBitmap.range(0, size), completedRows);
+    }
+
+    /**
+     * 주어진 매칭들의 모든 활동 행 번호 집합을 반환합니다.
+     *
+     * @param pairIds 매칭 ID 목록 (활동이 없는 매칭은 무시)
+     * @return 행 번호 비트맵
+     */
+    public RoaringBitmap getRows(Collection<String> pairIds) {
+        RoaringBitmap rows = new RoaringBitmap();
+        for (String pairId : pairIds) {
+            rows(pairId).forEachRemaining((int row) -> rows.add(row));
+        }
+        return rows;
+    }
+
+    /**
+     * 완료되지 않은 활동이 한 건 이상 남은 매칭 ID 목록을 첫 활동이 기록된 순서대로 반환합니다.
+     *
+     * @return 매칭 ID 목록
+     */
+    public List<String> getPairIdsWithOpenActivities() {
+        List<String> result = new ArrayList<>(openPairs.getCardinality());
+        openPairs.forEach(pair -> result.add(pairIds.get(pair)));
+        return result;
+    }
+
+    /**
+     * 청크를 두는 페이지 캐시를 반환합니다.
+     *
+     * @return 페이지 캐시, 모든 청크를 메모리에 두는 저장소이면 null
+     */
+    public PageCache getPageCache() { return pageCache; }
+
+    /**
+     * 더 이상 사용하지 않는 저장소의 청크를 페이지 캐시에서 바로 내보냅니다.
+     *
+     * <p>
+     * 불러오기 등으로 저장소를 교체할 때 이전 저장소의 청크가 캐시 예산을 차지하거나
+     * 페이지 파일에 기록되지 않도록 호출합니다. 호출한 뒤에는 저장소를 사용하면 안 됩니다.
+     * 모든 청크를 메모리에 두는 저장소에서는 아무 일도 하지 않습니다.
+     * </p>
+     */
+    public void release() {
+        rowChunks.release();
+        arenaChunks.release();
+    }
+
+    /**
+     * 저장소를 직렬화합니다.
+     *
+     * <p>
+     * 사전을 먼저 기록한 뒤 각 행을 (시각, 매칭 번호, 장소 번호, 플래그, 내용) 순서로 기록합니다.
+     * 내용 문자열은 아레나의 UTF-8 바이트를 그대로 복사하여 힙에 문자열을 만들지 않습니다.
+     * </p>
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        pairIds.write(out);
+        locations.write(out);
+        out.writeInt(size);
+
+        byte[] buffer = new byte[256];
+        for (int row = 0; row < size; row++) {
+            ByteBuffer chunk = rowChunk(row);
+            int base = rowOffset(row);
+            out.writeLong(chunk.getLong(base + OFF_EPOCH));
+            out.writeInt(chunk.getInt(base + OFF_PAIR));
+            out.writeInt(chunk.getInt(base + OFF_LOCATION));
+            out.writeInt(chunk.getInt(base + OFF_FLAGS));
+
+            ByteBuffer arena = arenaChunks.get(chunk.getInt(base + OFF_CONTENT_CHUNK));
+            int position = chunk.getInt(base + OFF_CONTENT_POS);
+            int length = arena.getInt(position);
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            arena.get(position + Integer.BYTES, buffer, 0, length);
+            out.writeInt(length);
+            out.write(buffer, 0, length);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        init();
+        StringDictionary storedPairs = StringDictionary.read(in);
+        StringDictionary storedLocations = StringDictionary.read(in);
+        int count = in.readInt();
+
+        byte[] buffer = new byte[256];
+        for (int i = 0; i < count; i++) {
+            long epochMillis = in.readLong();
+            String pairId = storedPairs.get(in.readInt());
+            String location = storedLocations.get(in.readInt());
+            int flags = in.readInt();
+            int length = in.readInt();
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            in.readFully(buffer, 0, length);
+            append(pairId, epochMillis, new String(buffer, 0, length, StandardCharsets.UTF_8),
+                    location, flags);
+        }
+    }
+
+    /**
+     * 샤드로 나누어 기록할 때의 샤드 수를 반환합니다.
+     *
+     * @return 샤드 수 (비어 있으면 0)
+     */
+    public int getShardCount() {
+        return (size + SHARD_ROWS - 1) / SHARD_ROWS;
+    }
+
+    /**
+     * 샤드를 읽는 데 필요한 사전과 매칭별 정보(첫 행, 마지막 행, 활동 수, 미완료 활동 수)를 기록합니다.
+     *
+     * @param out 기록할 대상
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public void writeIndex(DataOutput out) throws IOException {
+        pairIds.write(out);
+        locations.write(out);
+        out.writeInt(size);
+        int pairs = pairIds.size();
+        for (int[] values : new int[][] {pairHead, pairTail, pairCount, pairOpen}) {
+            for (int pair = 0; pair < pairs; pair++) {
+                out.writeInt(values[pair]);
+            }
+        }
+    }
+
+    /**
+     * 샤드 하나의 행을 (시각, 매칭 번호, 장소 번호, 다음 행, 플래그, 내용) 순서로 기록합니다.
+     *
+     * <p>
+     * 행 번호와 사전 번호는 저장소 전체 기준 그대로 기록되므로, 샤드는 다른 샤드와 관계없이 읽을 수 있습니다.
+     * </p>
+     *
+     * @param shard 샤드 번호 (0 ~ {@link #getShardCount()} - 1)
+     * @param out 기록할 대상
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public void writeShard(int shard, DataOutput out) throws IOException {
+        if (shard < 0 || shard >= getShardCount()) {
+            throw new IndexOutOfBoundsException("샤드 번호: " + shard + ", 샤드 수: " + getShardCount());
+        }
+        int from = shard * SHARD_ROWS;
+        int to = Math.min(size, from + SHARD_ROWS);
+        byte[] buffer = new byte[256];
+        for (int row = from; row < to; row++) {
+            ByteBuffer chunk = rowChunk(row);
+            int base = rowOffset(row);
+            out.writeLong(chunk.getLong(base + OFF_EPOCH));
+            out.writeInt(chunk.getInt(base + OFF_PAIR));
+            out.writeInt(chunk.getInt(base + OFF_LOCATION));
+            out.writeInt(chunk.getInt(base + OFF_NEXT));
+            out.writeInt(chunk.getInt(base + OFF_FLAGS));
+
+            ByteBuffer arena = arenaChunks.get(chunk.getInt(base + OFF_CONTENT_CHUNK));
+            int position = chunk.getInt(base + OFF_CONTENT_POS);
+            int length = arena.getInt(position);
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            arena.get(position + Integer.BYTES, buffer, 0, length);
+            out.writeInt(length);
+            out.write(buffer, 0, length);
+        }
+    }
+
+    /**
+     * {@link #writeIndex(DataOutput)}와 {@link #writeShard(int, DataOutput)}로 기록된 저장소를 읽는 클래스입니다.
+     *
+     * <p>
+     * 색인을 읽어 만든 뒤 {@link #readShard(int, DataInput)}를 여러 스레드에서 동시에 호출하여 샤드를 읽고,
+     * 모든 샤드가 준비되면 {@link #assemble(List)}로 저장소를 만듭니다.
+     * 샤드는 자기 행 청크와 아레나 청크만 채우므로, 조립할 때는 청크 목록을 이어 붙이고
+     * 아레나 청크 번호만 앞 샤드들의 청크 수만큼 옮깁니다.
+     * </p>
+     *
+     * <p>
+     * 페이지 캐시를 지정한 경우 샤드는 힙 버퍼로 읽히며, 읽은 순서대로 {@link #append(Shard)}하면
+     * 샤드의 청크가 바로 캐시로 넘어가므로 모든 샤드를 메모리에 모아 둘 필요가 없습니다.
+     * 모든 샤드를 넘긴 뒤 {@link #finish()}로 저장소를 얻습니다.
+     * </p>
+     */
+    public static final class ShardReader {
+        private final StringDictionary pairIds;
+        private final StringDictionary locations;
+        private final int size;
+        private final int[] pairHead;
+        private final int[] pairTail;
+        private final int[] pairCount;
+        private final int[] pairOpen;
+        private final PageCache pageCache;
+
+        /** {@link #append(Shard)}로 조립 중인 저장소, 아직 시작하지 않았으면 null */
+        private ActivityLog target;
+        private int appended;
+
+        /**
+         * 사전과 매칭별 정보를 읽습니다. 조립된 저장소는 모든 청크를 메모리에 둡니다.
+         *
+         * @param in {@link #writeIndex(DataOutput)}로 기록된 데이터
+         * @throws IOException 읽기 중 오류가 발생했거나 형식이 올바르지 않은 경우
+         */
+        public ShardReader(DataInput in) throws IOException {
+            this(in, null);
+        }
+
+        /**
+         * 사전과 매칭별 정보를 읽습니다.
+         *
+         * @param in {@link #writeIndex(DataOutput)}로 기록된 데이터
+         * @param pageCache 조립된 저장소의 청크를 둘 페이지 캐시, null이면 모든 청크를 메모리에 둠
+         * @throws IOException 읽기 중 오류가 발생했거나 형식이 올바르지 않은 경우
+         */
+        public ShardReader(DataInput in, PageCache pageCache) throws IOException {
+            this.pageCache = pageCache;
+            pairIds = StringDictionary.read(in);
+            locations = StringDictionary.read(in);
+            size = in.readInt();
+            if (size < 0) {
+                throw new IOException("활동 수가 올바르지 않습니다: " + size);
+            }
+            int pairs = pairIds.size();
+            pairHead = readInts(in, pairs);
+            pairTail = readInts(in, pairs);
+            pairCount = readInts(in, pairs);
+            pairOpen = readInts(in, pairs);
+        }
+
+        private static int[] readInts(DataInput in, int count) throws IOException {
+            int[] values = new int[Math.max(16, count)];
+            for (int i = 0; i < count; i++) {
+                values[i] = in.readInt();
+            }
+            return values;
+        }
+
+        /**
+         * 저장소의 샤드 수를 반환합니다.
+         *
+         * @return 샤드 수
+         */
+        public int getShardCount() {
+            return (size + SHARD_ROWS - 1) / SHARD_ROWS;
+        }
+
+        /**
+         * 샤드 하나를 읽습니다. 여러 스레드에서 서로 다른 샤드를 동시에 읽을 수 있습니다.
+         *
+         * @param shard 샤드 번호
+         * @param in {@link #writeShard(int, DataOutput)}로 기록된 데이터
+         * @return 읽은 샤드
+         * @throws IOException 읽기 중 오류가 발생했거나 형식이 올바르지 않은 경우
+         */
+        public Shard readShard(int shard, DataInput in) throws IOException {
+            if (shard < 0 || shard >= getShardCount()) {
+                throw new IOException("샤드 번호가 올바르지 않습니다: " + shard);
+            }
+            int from = shard * SHARD_ROWS;
+            int to = Math.min(size, from + SHARD_ROWS);
+            // 페이지 캐시로 넘길 샤드는 힙 버퍼로 읽어, 캐시에서 내보낸 뒤 GC로 바로 회수되게 합니다.
+            ActivityLog part = new ActivityLog();
+            if (pageCache != null) {
+                part.rowChunks = ChunkStore.resident(false);
+                part.arenaChunks = ChunkStore.resident(false);
+            }
+            byte[] buffer = new byte[256];
+            for (int row = from; row < to; row++) {
+                if ((row & (ROWS_PER_CHUNK - 1)) == 0) {
+                    part.rowChunks.add(ROWS_PER_CHUNK * ROW_BYTES);
+                }
+                long epochMillis = in.readLong();
+                int pair = in.readInt();
+                int location = in.readInt();
+                int next = in.readInt();
+                int flags = in.readInt();
+                int length = in.readInt();
+                if (pair < 0 || pair >= pairIds.size() || location < 0 || location >= locations.size()
+                        || next < -1 || next >= size || length < 0) {
+                    throw new IOException("활동 행이 올바르지 않습니다: " + row);
+                }
+                if (buffer.length < length) {
+                    buffer = new byte[Math.max(length, buffer.length * 2)];
+                }
+                in.readFully(buffer, 0, length);
+                long contentRef = part.writeBytes(ByteBuffer.wrap(buffer), 0, length);
+                part.putRow((row - from) / ROWS_PER_CHUNK, rowOffset(row), epochMillis, pair, location, next,
+                        contentRef, flags);
+                if ((flags & FLAG_COMPLETED) != 0) {
+                    part.completedRows.add(row);
+                }
+                if ((flags & FLAG_OVERDUE) != 0) {
+                    part.overdueRows.add(row);
+                }
+            }
+            return new Shard(shard, part);
+        }
+
+        /**
+         * 모든 샤드를 이어 붙여 저장소를 만듭니다.
+         *
+         * @param shards 샤드 번호 순서의 모든 샤드
+         * @return 조립된 저장소
+         * @throws IllegalArgumentException 샤드가 빠졌거나 순서가 맞지 않는 경우
+         */
+        public ActivityLog assemble(List<Shard> shards) {
+            if (shards.size() != getShardCount()) {
+                throw new IllegalArgumentException("샤드 수가 맞지 않습니다: " + shards.size() + " / " + getShardCount());
+            }
+            for (Shard shard : shards) {
+                append(shard);
+            }
+            return finish();
+        }
+
+        /**
+         * 다음 순서의 샤드를 조립 중인 저장소 끝에 붙입니다.
+         *
+         * @param shard 샤드 번호 순서로 다음에 올 샤드
+         * @throws IllegalArgumentException 샤드 순서가 맞지 않는 경우
+         */
+        public void append(Shard shard) {
+            if (shard.index != appended) {
+                throw new IllegalArgumentException("샤드 순서가 맞지 않습니다: " + shard.index);
+            }
+            if (target == null) {
+                target = new ActivityLog(pageCache);
+            }
+            ActivityLog part = shard.part;
+            int arenaBase = target.arenaChunks.size();
+            if (arenaBase > 0) {
+                int from = shard.index * SHARD_ROWS;
+                int to = Math.min(size, from + SHARD_ROWS);
+                for (int row = from; row < to; row++) {
+                    int chunk = (row - from) / ROWS_PER_CHUNK;
+                    int offset = rowOffset(row) + OFF_CONTENT_CHUNK;
+                    part.rowChunks.putInt(chunk, offset, part.rowChunks.get(chunk).getInt(offset) + arenaBase);
+                }
+            }
+            for (int i = 0; i < part.rowChunks.size(); i++) {
+                target.rowChunks.adopt(part.rowChunks.get(i));
+            }
+            for (int i = 0; i < part.arenaChunks.size(); i++) {
+                target.arenaChunks.adopt(part.arenaChunks.get(i));
+            }
+            target.arenaUsed = part.arenaUsed;
+            target.completedRows = RoaringBitmap.or(target.completedRows, part.completedRows);
+            target.overdueRows = RoaringBitmap.or(target.overdueRows, part.overdueRows);
+            appended++;
+        }
+
+        /**
+         * 모든 샤드를 붙인 저장소에 사전과 매칭별 정보를 채워 반환합니다.
+         *
+         * @return 조립된 저장소
+         * @throws IllegalArgumentException 붙인 샤드 수가 맞지 않는 경우
+         */
+        public ActivityLog finish() {
+            if (appended != getShardCount()) {
+                throw new IllegalArgumentException("샤드 수가 맞지 않습니다: " + appended + " / " + getShardCount());
+            }
+            ActivityLog log = target != null ? target : new ActivityLog(pageCache);
+            log.size = size;
+            log.pairIds = pairIds;
+            log.locations = locations;
+            log.pairHead = pairHead;
+            log.pairTail = pairTail;
+            log.pairCount = pairCount;
+            log.pairOpen = pairOpen;
+            for (int pair = 0; pair < pairIds.size(); pair++) {
+                if (pairOpen[pair] > 0) {
+                    log.openPairs.add(pair);
+                }
+            }
+            return log;
+        }
+    }
+
+    /**
+     * {@link ShardReader#readShard(int, DataInput)}로 읽은, 아직 조립되지 않은 샤드입니다.
+     */
+    public static final class Shard {
+        private final int index;
+        private final ActivityLog part;
+
+        private Shard(int index, ActivityLog part) {
+            this.index = index;
+            this.part = part;
+        }
+
+        /**
+         * 샤드 번호를 반환합니다.
+         *
+         * @return 샤드 번호
+         */
+        public int getIndex() { return index; }
+    }
+
+    /**
+     * 중복 활동 비교에 쓰는 (매칭 ID, 시각, 장소, 내용) 키입니다.
+     */
+    private static final class RowKey {
+        private final String pairId;
+        private final long epochMillis;
+        private final String location;
+        private final byte[] content;
+        private final int hash;
+
+        RowKey(String pairId, long epochMillis, String location, byte[] content) {
+            this.pairId = pairId;
+            this.epochMillis = epochMillis;
+            this.location = location;
+            this.content = content;
+            this.hash = Objects.hash(pairId, epochMillis, location) * 31 + Arrays.hashCode(content);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof RowKey)) {
+                return false;
+            }
+            RowKey other = (RowKey) o;
+            return epochMillis == other.epochMillis && pairId.equals(other.pairId)
+                    && Objects.equals(location, other.location) && Arrays.equals(content, other.content);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+    }
+
+    /**
+     * 문자열과 연속된 정수 ID를 서로 대응시키는 사전입니다.
+     */
+    private static final class StringDictionary {
+        private final ArrayList<String> values = new ArrayList<>();
+        private final HashMap<String, Integer> ids = new HashMap<>();
+
+        int intern(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                values.add(value);
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        int size() { return values.size(); }
+
+        int find(String value) {
+            Integer id = ids.get(value);
+            return id == null ? -1 : id;
+        }
+
+        String get(int id) { return values.get(id); }
+
+        List<String> values() { return Collections.unmodifiableList(values); }
+
+        void write(DataOutput out) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        static StringDictionary read(DataInput in) throws IOException {
+            StringDictionary dictionary = new StringDictionary();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                dictionary.intern(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return dictionary;
+        }
+    }
+}
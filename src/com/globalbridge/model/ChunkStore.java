@@ -0,0 +1,149 @@
+package com.globalbridge.model;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link ActivityLog}의 행 청크와 문자열 아레나 청크를 보관하는 청크 목록입니다.
+ *
+ * <p>
+ * 청크는 번호로 구분되며 추가만 할 수 있습니다. {@link #get(int)}로 얻은 버퍼는 읽기에만 사용하고,
+ * 값을 바꿀 때는 반드시 {@code put} 메서드를 거쳐야 합니다. 메모리 제한 모드({@link PageCache})에서는
+ * 청크가 디스크로 내려갔다 다시 올라올 수 있으므로, 쓰기는 캐시에 있는 최신 청크에 기록되고 변경된 청크로 표시되어야 하기 때문입니다.
+ * 이전에 얻은 버퍼는 청크가 내려간 뒤에도 그때까지의 내용을 그대로 읽을 수 있습니다.
+ * </p>
+ */
+abstract class ChunkStore {
+
+    /**
+     * 청크 수를 반환합니다.
+     *
+     * @return 청크 수
+     */
+    abstract int size();
+
+    /**
+     * 읽기용 청크 버퍼를 반환합니다.
+     *
+     * @param index 청크 번호
+     * @return 청크 버퍼 (위치와 한도는 사용하지 않음)
+     */
+    abstract ByteBuffer get(int index);
+
+    /**
+     * 청크의 크기를 반환합니다. 메모리 제한 모드에서도 청크를 읽어 오지 않습니다.
+     *
+     * @param index 청크 번호
+     * @return 청크 크기 (바이트)
+     */
+    abstract int capacity(int index);
+
+    /**
+     * 0으로 채워진 새 청크를 끝에 추가합니다.
+     *
+     * @param capacity 청크 크기 (바이트)
+     * @return 새 청크 번호
+     */
+    abstract int add(int capacity);
+
+    /**
+     * 이미 채워진 청크를 끝에 추가합니다. 추가한 뒤에는 호출한 쪽에서 버퍼를 변경하면 안 됩니다.
+     *
+     * @param chunk 청크 버퍼
+     */
+    abstract void adopt(ByteBuffer chunk);
+
+    /**
+     * 청크의 지정한 위치에 int 값을 기록합니다.
+     *
+     * @param index 청크 번호
+     * @param offset 청크 내 위치
+     * @param value 기록할 값
+     */
+    abstract void putInt(int index, int offset, int value);
+
+    /**
+     * 청크의 지정한 위치에 long 값을 기록합니다.
+     *
+     * @param index 청크 번호
+     * @param offset 청크 내 위치
+     * @param value 기록할 값
+     */
+    abstract void putLong(int index, int offset, long value);
+
+    /**
+     * 원본 버퍼의 position부터 limit까지의 바이트를 청크에 복사합니다.
+     *
+     * @param index 청크 번호
+     * @param offset 청크 내 위치
+     * @param source 복사할 바이트 (position은 바뀌지 않음)
+     */
+    abstract void put(int index, int offset, ByteBuffer source);
+
+    /**
+     * 더 이상 사용하지 않는 청크 목록의 자원을 돌려줍니다. 이후에는 청크 목록을 사용하면 안 됩니다.
+     */
+    void release() {
+    }
+
+    /**
+     * 모든 청크를 메모리에 유지하는 청크 목록을 생성합니다.
+     *
+     * @param direct true이면 direct 버퍼, false이면 힙 버퍼로 청크를 할당
+     * @return 새 청크 목록
+     */
+    static ChunkStore resident(boolean direct) {
+        return new Resident(direct);
+    }
+
+    /**
+     * 모든 청크를 메모리에 유지하는 기본 청크 목록입니다.
+     */
+    private static final class Resident extends ChunkStore {
+        private final ArrayList<ByteBuffer> chunks = new ArrayList<>();
+        private final boolean direct;
+
+        Resident(boolean direct) {
+            this.direct = direct;
+        }
+
+        @Override
+        int size() { return chunks.size(); }
+
+        @Override
+        ByteBuffer get(int index) { return chunks.get(index); }
+
+        @Override
+        int capacity(int index) { return chunks.get(index).capacity(); }
+
+        @Override
+        int add(int capacity) {
+            chunks.add(direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+            return chunks.size() - 1;
+        }
+
+        @Override
+        void adopt(ByteBuffer chunk) {
+            chunks.add(chunk);
+        }
+
+        @Override
+        void putInt(int index, int offset, int value) {
+            chunks.get(index).putInt(offset, value);
+        }
+
+        @Override
+        void putLong(int index, int offset, long value) {
+            chunks.get(index).putLong(offset, value);
+        }
+
+        @Override
+        void put(int index, int offset, ByteBuffer source) {
+            chunks.get(index).put(offset, source, source.position(), source.remaining());
+        }
+    }
+}
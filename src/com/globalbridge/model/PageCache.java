@@ -0,0 +1,667 @@
+package com.globalbridge.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 메모리 제한 모드의 {@link ActivityLog} 청크를 정해진 바이트 예산 안에서만 메모리에 두는 페이지 캐시 클래스입니다.
+ *
+ * <p>
+ * 행 청크와 문자열 아레나 청크를 페이지로 보고, 메모리에 올라온 페이지의 크기 합이 예산을 넘으면
+ * 교체 정책에 따라 페이지를 내보냅니다. 변경된 페이지는 내보낼 때 페이지 파일에 기록되며,
+ * 내보낸 페이지에 다시 접근하면 페이지 파일에서 읽어 옵니다. 페이지는 힙 버퍼로 할당되므로
+ * 활동 기록이 아무리 많아도 힙은 예산과 색인 크기만큼만 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 교체 정책은 두 가지입니다.
+ * <ul>
+ *   <li>{@link Policy#LRU}: 가장 오래 사용되지 않은 페이지를 내보냅니다.</li>
+ *   <li>{@link Policy#TINY_LFU}: W-TinyLFU. 새 페이지는 작은 LRU 창(예산의 1%)에 들어가고,
+ *       창에서 밀려난 페이지는 최근 접근 빈도가 주 영역(수습 20%, 보호 80%의 구간 LRU)에서 내보낼 페이지보다
+ *       높을 때만 주 영역에 들어갑니다. 접근 빈도는 주기적으로 절반이 되는 4비트 Count-Min 스케치로 셉니다.
+ *       저장이나 전체 집계처럼 모든 페이지를 한 번씩 훑는 작업이 자주 보는 최근 학기의 페이지를 밀어내지 않습니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 캐시는 스레드 안전하며, 모든 페이지 접근과 쓰기는 캐시 객체로 동기화됩니다.
+ * 페이지 파일은 임시 파일로 만들어지며 캐시가 더 이상 쓰이지 않거나 프로그램이 끝나면 삭제됩니다.
+ * </p>
+ */
+public final class PageCache {
+    /** 캐시 예산 시스템 속성 (예: 256m, 1g). 없으면 모든 활동을 메모리에 둡니다. */
+    public static final String BUDGET_PROPERTY = "globalbridge.activityCache";
+
+    /** 교체 정책 시스템 속성 (lru 또는 tinylfu, 기본 tinylfu) */
+    public static final String POLICY_PROPERTY = "globalbridge.activityCachePolicy";
+
+    /** 페이지 파일 디렉터리 시스템 속성 (기본 java.io.tmpdir) */
+    public static final String DIRECTORY_PROPERTY = "globalbridge.activityCacheDir";
+
+    /** 허용하는 최소 예산 (가장 큰 기본 청크 4개) */
+    public static final long MIN_BUDGET_BYTES = 16L << 20;
+
+    /** {@link #getDefault()}가 반환하는 공유 캐시, 시스템 속성을 아직 읽지 않았으면 null */
+    private static PageCache defaultCache;
+    private static boolean defaultResolved;
+
+    private static final Pattern SIZE_PATTERN = Pattern.compile("(\\d+)\\s*([kmg]?)b?");
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * 페이지 교체 정책입니다.
+     */
+    public enum Policy {
+        /** 가장 오래 사용되지 않은 페이지부터 내보냄 */
+        LRU,
+        /** 최근 접근 빈도로 주 영역 진입을 결정하는 W-TinyLFU */
+        TINY_LFU
+    }
+
+    private final long budget;
+    private final Policy policy;
+    private final Path file;
+    private final FileChannel channel;
+    private long fileEnd;
+
+    private final HashMap<Long, Page> pages = new HashMap<>();
+    private long residentBytes;
+    private int nextStoreId;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long writeBacks;
+
+    /** LRU 정책의 페이지 목록, TinyLFU 정책의 창 */
+    private final PageList window = new PageList();
+    private final PageList probation = new PageList();
+    private final PageList protectedPages = new PageList();
+    private final long windowMax;
+    private final long protectedMax;
+    private final FrequencySketch sketch;
+
+    /**
+     * 페이지 캐시를 생성하고 페이지 파일을 만듭니다.
+     *
+     * @param budgetBytes 메모리에 둘 페이지 크기 합의 상한 ({@value #MIN_BUDGET_BYTES}보다 작으면 최소값을 사용)
+     * @param policy 교체 정책
+     * @param directory 페이지 파일을 만들 디렉터리
+     * @throws IOException 페이지 파일을 만들지 못한 경우
+     */
+    public PageCache(long budgetBytes, Policy policy, Path directory) throws IOException {
+        this.budget = Math.max(MIN_BUDGET_BYTES, budgetBytes);
+        this.policy = policy;
+        this.windowMax = budget / 100;
+        this.protectedMax = (budget - windowMax) * 4 / 5;
+        this.sketch = policy == Policy.TINY_LFU ? new FrequencySketch(budget) : null;
+        this.file = Files.createTempFile(directory, "globalbridge-activities-", ".pages");
+        file.toFile().deleteOnExit();
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        CLEANER.register(this, new FileCleanup(channel, file));
+    }
+
+    /**
+     * 시스템 속성으로 만든 공유 페이지 캐시를 반환합니다.
+     *
+     * <p>
+     * 처음 호출할 때 {@link #fromSystemProperties()}로 캐시를 만들고, 이후에는 같은 캐시를 반환합니다.
+     * 프로그램의 모든 활동 저장소가 하나의 예산을 나누어 쓰게 됩니다.
+     * </p>
+     *
+     * @return 공유 페이지 캐시, 메모리 제한 모드가 아니면 null
+     */
+    public static synchronized PageCache getDefault() {
+        if (!defaultResolved) {
+            defaultCache = fromSystemProperties();
+            defaultResolved = true;
+        }
+        return defaultCache;
+    }
+
+    /**
+     * 시스템 속성으로 페이지 캐시를 만듭니다.
+     *
+     * <p>
+     * {@value #BUDGET_PROPERTY} 속성이 없거나 올바르지 않으면, 또는 페이지 파일을 만들지 못하면
+     * null을 반환하여 모든 활동을 메모리에 두도록 합니다.
+     * </p>
+     *
+     * @return 페이지 캐시, 메모리 제한 모드가 아니면 null
+     */
+    static PageCache fromSystemProperties() {
+        String budgetValue = System.getProperty(BUDGET_PROPERTY);
+        if (budgetValue == null || budgetValue.isBlank()) {
+            return null;
+        }
+        long budgetBytes = parseSize(budgetValue);
+        if (budgetBytes <= 0) {
+            System.err.println("시스템 속성 " + BUDGET_PROPERTY + "의 값이 올바르지 않아 모든 활동을 메모리에 둡니다: "
+                    + budgetValue);
+            return null;
+        }
+        String policyValue = System.getProperty(POLICY_PROPERTY, "tinylfu").trim().toLowerCase(Locale.ROOT);
+        Policy policy = policyValue.equals("lru") ? Policy.LRU : Policy.TINY_LFU;
+        try {
+            return new PageCache(budgetBytes, policy,
+                    Paths.get(System.getProperty(DIRECTORY_PROPERTY, System.getProperty("java.io.tmpdir"))));
+        } catch (IOException e) {
+            System.err.println("활동 페이지 파일을 만들지 못해 모든 활동을 메모리에 둡니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * "256m", "1g", "65536" 같은 크기 문자열을 바이트 수로 바꿉니다.
+     *
+     * @param value 크기 문자열 (k, m, g 단위, 대소문자 구분 없음)
+     * @return 바이트 수, 올바르지 않으면 -1
+     */
+    static long parseSize(String value) {
+        Matcher matcher = SIZE_PATTERN.matcher(value.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            return -1;
+        }
+        try {
+            long number = Long.parseLong(matcher.group(1));
+            int shift = "kmg".indexOf(matcher.group(2)) * 10 + 10;
+            return matcher.group(2).isEmpty() ? number : Math.multiplyExact(number, 1L << shift);
+        } catch (NumberFormatException | ArithmeticException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 이 캐시에 페이지를 두는 새 청크 목록을 생성합니다.
+     *
+     * @return 청크 목록
+     */
+    synchronized ChunkStore newStore() {
+        return new Store(nextStoreId++);
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     *
+     * @return 적중, 실패, 내보낸 페이지 수 등
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hits, misses, evictions, writeBacks, residentBytes, budget, fileEnd);
+    }
+
+    /**
+     * 교체 정책을 반환합니다.
+     * @return 교체 정책
+     */
+    public Policy getPolicy() { return policy; }
+
+    /**
+     * 페이지 크기 합의 상한을 반환합니다.
+     * @return 예산 (바이트)
+     */
+    public long getBudget() { return budget; }
+
+    /**
+     * 페이지를 찾고, 없으면 페이지 파일에서 읽어 옵니다. 호출하는 쪽에서 캐시를 잠가야 합니다.
+     */
+    private Page access(Store store, int index) {
+        if (store.released) {
+            throw new IllegalStateException("이미 해제된 활동 저장소입니다.");
+        }
+        if (index < 0 || index >= store.size) {
+            throw new IndexOutOfBoundsException("청크 번호: " + index + ", 청크 수: " + store.size);
+        }
+        long key = key(store.id, index);
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        Page page = pages.get(key);
+        if (page != null) {
+            hits++;
+            onHit(page);
+            return page;
+        }
+        misses++;
+        ByteBuffer buffer = ByteBuffer.allocate(store.capacities[index]);
+        try {
+            long offset = store.offsets[index];
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("활동 페이지 파일이 잘렸습니다.");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("활동 페이지를 읽지 못했습니다: " + e.getMessage(), e);
+        }
+        return insert(new Page(store, index, key, buffer, false));
+    }
+
+    private static long key(int storeId, int index) {
+        return ((long) storeId << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    private Page insert(Page page) {
+        pages.put(page.key, page);
+        residentBytes += page.weight;
+        if (policy == Policy.LRU) {
+            window.addLast(page);
+            while (residentBytes > budget && window.first != page) {
+                evict(window.first);
+            }
+            return page;
+        }
+
+        window.addLast(page);
+        while (window.bytes > windowMax && window.first != page) {
+            Page candidate = window.first;
+            window.remove(candidate);
+            admit(candidate);
+        }
+        while (residentBytes > budget && mainVictim() != null) {
+            evict(mainVictim());
+        }
+        return page;
+    }
+
+    /**
+     * 창에서 밀려난 페이지를 주 영역에 넣거나, 주 영역의 희생 페이지보다 덜 자주 쓰였으면 내보냅니다.
+     */
+    private void admit(Page candidate) {
+        long mainMax = budget - windowMax;
+        while (probation.bytes + protectedPages.bytes + candidate.weight > mainMax) {
+            Page victim = mainVictim();
+            if (victim == null) {
+                break;
+            }
+            if (sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                evict(candidate);
+                return;
+            }
+            evict(victim);
+        }
+        probation.addLast(candidate);
+    }
+
+    private Page mainVictim() {
+        return probation.first != null ? probation.first : protectedPages.first;
+    }
+
+    private void onHit(Page page) {
+        PageList list = page.list;
+        if (list == probation) {
+            probation.remove(page);
+            protectedPages.addLast(page);
+            while (protectedPages.bytes > protectedMax && protectedPages.first != page) {
+                Page demoted = protectedPages.first;
+                protectedPages.remove(demoted);
+                probation.addLast(demoted);
+            }
+        } else if (list != null) {
+            list.remove(page);
+            list.addLast(page);
+        }
+    }
+
+    /**
+     * 페이지를 캐시에서 내보냅니다. 변경된 페이지는 페이지 파일에 먼저 기록합니다.
+     */
+    private void evict(Page page) {
+        if (page.dirty) {
+            Store store = page.store;
+            if (store.offsets[page.index] < 0) {
+                store.offsets[page.index] = fileEnd;
+                fileEnd += page.weight;
+            }
+            ByteBuffer source = page.buffer.duplicate().clear();
+            try {
+                long offset = store.offsets[page.index];
+                while (source.hasRemaining()) {
+                    channel.write(source, offset + source.position());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("활동 페이지를 기록하지 못했습니다: " + e.getMessage(), e);
+            }
+            writeBacks++;
+        }
+        if (page.list != null) {
+            page.list.remove(page);
+        }
+        pages.remove(page.key);
+        residentBytes -= page.weight;
+        evictions++;
+    }
+
+    /**
+     * 페이지 캐시에 페이지를 두는 청크 목록입니다.
+     */
+    private final class Store extends ChunkStore {
+        private final int id;
+        private int size;
+        private long[] offsets = new long[16];
+        private int[] capacities = new int[16];
+        private boolean released;
+
+        Store(int id) {
+            this.id = id;
+        }
+
+        @Override
+        int size() {
+            synchronized (PageCache.this) {
+                return size;
+            }
+        }
+
+        @Override
+        ByteBuffer get(int index) {
+            synchronized (PageCache.this) {
+                return access(this, index).buffer;
+            }
+        }
+
+        @Override
+        int capacity(int index) {
+            synchronized (PageCache.this) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("청크 번호: " + index + ", 청크 수: " + size);
+                }
+                return capacities[index];
+            }
+        }
+
+        @Override
+        int add(int capacity) {
+            return append(ByteBuffer.allocate(capacity));
+        }
+
+        @Override
+        void adopt(ByteBuffer chunk) {
+            append(chunk);
+        }
+
+        private int append(ByteBuffer chunk) {
+            synchronized (PageCache.this) {
+                if (size == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, size * 2);
+                    capacities = Arrays.copyOf(capacities, size * 2);
+                }
+                int index = size++;
+                offsets[index] = -1;
+                capacities[index] = chunk.capacity();
+                insert(new Page(this, index, key(id, index), chunk, true));
+                return index;
+            }
+        }
+
+        @Override
+        void putInt(int index, int offset, int value) {
+            synchronized (PageCache.this) {
+                Page page = access(this, index);
+                page.dirty = true;
+                page.buffer.putInt(offset, value);
+            }
+        }
+
+        @Override
+        void putLong(int index, int offset, long value) {
+            synchronized (PageCache.this) {
+                Page page = access(this, index);
+                page.dirty = true;
+                page.buffer.putLong(offset, value);
+            }
+        }
+
+        @Override
+        void put(int index, int offset, ByteBuffer source) {
+            synchronized (PageCache.this) {
+                Page page = access(this, index);
+                page.dirty = true;
+                page.buffer.put(offset, source, source.position(), source.remaining());
+            }
+        }
+
+        /**
+         * 이 목록의 페이지를 페이지 파일에 기록하지 않고 캐시에서 내보냅니다.
+         * 페이지 파일에 이미 기록된 영역은 재사용하지 않습니다.
+         */
+        @Override
+        void release() {
+            synchronized (PageCache.this) {
+                released = true;
+                for (int index = 0; index < size; index++) {
+                    Page page = pages.get(key(id, index));
+                    if (page != null) {
+                        page.dirty = false;
+                        evict(page);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 메모리에 올라온 청크 하나입니다.
+     */
+    private static final class Page {
+        final Store store;
+        final int index;
+        final long key;
+        final ByteBuffer buffer;
+        final int weight;
+        boolean dirty;
+
+        /** 페이지가 속한 목록과 목록 안의 이웃 */
+        PageList list;
+        Page previous;
+        Page next;
+
+        Page(Store store, int index, long key, ByteBuffer buffer, boolean dirty) {
+            this.store = store;
+            this.index = index;
+            this.key = key;
+            this.buffer = buffer;
+            this.weight = buffer.capacity();
+            this.dirty = dirty;
+        }
+    }
+
+    /**
+     * 오래된 페이지부터 새 페이지 순서로 이어진 목록입니다.
+     */
+    private static final class PageList {
+        Page first;
+        Page last;
+        long bytes;
+
+        void addLast(Page page) {
+            page.list = this;
+            page.previous = last;
+            page.next = null;
+            if (last == null) {
+                first = page;
+            } else {
+                last.next = page;
+            }
+            last = page;
+            bytes += page.weight;
+        }
+
+        void remove(Page page) {
+            if (page.previous == null) {
+                first = page.next;
+            } else {
+                page.previous.next = page.next;
+            }
+            if (page.next == null) {
+                last = page.previous;
+            } else {
+                page.next.previous = page.previous;
+            }
+            page.list = null;
+            page.previous = null;
+            page.next = null;
+            bytes -= page.weight;
+        }
+    }
+
+    /**
+     * 페이지별 최근 접근 빈도를 세는 4비트 Count-Min 스케치입니다.
+     *
+     * <p>
+     * 카운터는 15에서 멈추며, 증가 횟수가 카운터 수의 10배가 되면 모든 카운터를 절반으로 줄여
+     * 오래전의 접근이 점점 잊히도록 합니다.
+     * </p>
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long budget) {
+            // 메모리에 둘 수 있는 페이지 수(1MB 페이지 기준)의 8배 이상인 2의 거듭제곱
+            long pages = Math.max(64, (budget >> 20) * 8);
+            int width = Integer.highestOneBit((int) Math.min(1 << 20, pages - 1)) << 1;
+            counters = new byte[width * DEPTH];
+            mask = width - 1;
+            sampleSize = width * 10;
+        }
+
+        int frequency(long key) {
+            long hash = mix(key);
+            int min = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                min = Math.min(min, counters[i * (mask + 1) + index(hash, i)]);
+            }
+            return min;
+        }
+
+        void increment(long key) {
+            long hash = mix(key);
+            for (int i = 0; i < DEPTH; i++) {
+                int slot = i * (mask + 1) + index(hash, i);
+                if (counters[slot] < MAX_COUNT) {
+                    counters[slot]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int index(long hash, int row) {
+            return (int) (hash >>> (row * 16)) & mask;
+        }
+
+        private static long mix(long key) {
+            long h = key * 0x9e3779b97f4a7c15L;
+            h ^= h >>> 29;
+            h *= 0xbf58476d1ce4e5b9L;
+            return h ^ (h >>> 32);
+        }
+    }
+
+    /**
+     * 캐시가 정리될 때 페이지 파일을 닫고 삭제하는 작업입니다. 캐시 객체를 참조하지 않아야 합니다.
+     */
+    private static final class FileCleanup implements Runnable {
+        private final FileChannel channel;
+        private final Path file;
+
+        FileCleanup(FileChannel channel, Path file) {
+            this.channel = channel;
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.err.println("활동 페이지 파일을 삭제하지 못했습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 페이지 캐시 통계입니다.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long writeBacks;
+        private final long residentBytes;
+        private final long budgetBytes;
+        private final long pageFileBytes;
+
+        Stats(long hits, long misses, long evictions, long writeBacks, long residentBytes, long budgetBytes,
+              long pageFileBytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.writeBacks = writeBacks;
+            this.residentBytes = residentBytes;
+            this.budgetBytes = budgetBytes;
+            this.pageFileBytes = pageFileBytes;
+        }
+
+        /** @return 메모리에서 찾은 접근 수 */
+        public long getHits() { return hits; }
+
+        /** @return 페이지 파일에서 읽어 온 접근 수 */
+        public long getMisses() { return misses; }
+
+        /** @return 내보낸 페이지 수 */
+        public long getEvictions() { return evictions; }
+
+        /** @return 내보낼 때 페이지 파일에 기록한 페이지 수 */
+        public long getWriteBacks() { return writeBacks; }
+
+        /** @return 메모리에 올라온 페이지 크기 합 (바이트) */
+        public long getResidentBytes() { return residentBytes; }
+
+        /** @return 예산 (바이트) */
+        public long getBudgetBytes() { return budgetBytes; }
+
+        /** @return 페이지 파일 크기 (바이트) */
+        public long getPageFileBytes() { return pageFileBytes; }
+
+        /** @return 적중률 (0~1), 접근이 없으면 0 */
+        public double getHitRate() {
+            long accesses = hits + misses;
+            return accesses == 0 ? 0 : (double) hits / accesses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("적중 %,d, 실패 %,d (적중률 %.1f%%), 내보냄 %,d, 메모리 %,dKB / %,dKB, 페이지 파일 %,dKB",
+                    hits, misses, getHitRate() * 100, evictions, residentBytes >> 10, budgetBytes >> 10,
+                    pageFileBytes >> 10);
+        }
+    }
+}
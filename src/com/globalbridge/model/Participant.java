@@ -1,5 +1,7 @@
 package com.globalbridge.model;
 
+import com.globalbridge.util.SortKeys;
+
 import java.io.Serializable;
 
 /**
@@ -7,6 +9,9 @@ import java.io.Serializable;
  * @version 1.0
  * @since 2024-12-09
  *
+ * @version 1.1
+ * @since 2026-10-18
+ *
  * 글로벌 브릿지 프로그램의 참가자 정보를 관리하는 클래스입니다.
  *
  * <p>
@@ -23,10 +28,18 @@ import java.io.Serializable;
  * </ul>
  * </p>
  *
+ * <p>
+ * 이름 정렬에 사용하는 {@link SortKeys} 정렬 키는 처음 요청될 때 한 번 만들어 보관하며,
+ * 저장 파일에는 기록하지 않습니다.
+ * </p>
+ *
  * @see Pair
  * @see Activity
  */
 public class Participant implements Serializable {
+    /** 메서드 추가 전의 직렬화 형식과 호환되도록 고정한 값 */
+    private static final long serialVersionUID = 4167466565881691371L;
+
     /** 참가자 이름 */
     private String name;
 
@@ -42,6 +55,9 @@ public class Participant implements Serializable {
     /** 학년 (1~4) */
     private int grade;
 
+    /** 이름의 정렬 키 (처음 요청될 때 생성) */
+    private transient volatile byte[] sortKey;
+
     /**
      * Participant 객체를 생성하여 새로운 참가자를 등록합니다.
      *
@@ -109,6 +125,25 @@ public class Participant implements Serializable {
      */
     public int getGrade() { return grade; }
 
+    /**
+     * 이름의 정렬 키를 반환합니다.
+     *
+     * <p>
+     * 이름은 바뀌지 않으므로 키는 처음 한 번만 만들며, 여러 스레드에서 호출해도 같은 순서의 키를 얻습니다.
+     * 반환된 배열은 수정하면 안 됩니다.
+     * </p>
+     *
+     * @return {@link SortKeys#compare}로 비교할 수 있는 정렬 키
+     */
+    public byte[] getSortKey() {
+        byte[] key = sortKey;
+        if (key == null) {
+            key = SortKeys.of(name);
+            sortKey = key;
+        }
+        return key;
+    }
+
     /**
      * 참가자 정보를 문자열로 변환합니다.
      *
@@ -0,0 +1,252 @@
+package com.globalbridge.query;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 질의 결과 행이 만족해야 하는 조건입니다.
+ *
+ * <p>
+ * 조건은 {@link Field}의 비교 메서드와 {@link #and(Condition...)}, {@link #or(Condition...)},
+ * {@link #not(Condition)}으로 만듭니다. 각 조건은 참조하는 필드의 데이터 종류({@link #getSources()})를
+ * 알고 있으므로, 실행 계획은 필요한 데이터가 연결된 직후에 조건을 적용합니다.
+ * </p>
+ */
+public abstract class Condition {
+    Condition() {
+    }
+
+    /**
+     * 행이 조건을 만족하는지 확인합니다.
+     *
+     * @param row 질의 결과 행
+     * @return 만족하면 true
+     */
+    abstract boolean test(Row row);
+
+    /**
+     * 조건이 참조하는 데이터 종류를 반환합니다.
+     *
+     * @return 데이터 종류 집합
+     */
+    public abstract Set<Source> getSources();
+
+    /**
+     * 매칭 요약 필드를 참조하는지 확인합니다.
+     */
+    abstract boolean usesSummary();
+
+    /**
+     * 모든 조건을 만족하는 행.
+     *
+     * @param conditions 조건 목록
+     * @return 조건
+     */
+    public static Condition and(Condition... conditions) {
+        return new Junction(true, Arrays.asList(conditions));
+    }
+
+    /**
+     * 조건 중 하나 이상을 만족하는 행.
+     *
+     * @param conditions 조건 목록
+     * @return 조건
+     */
+    public static Condition or(Condition... conditions) {
+        return new Junction(false, Arrays.asList(conditions));
+    }
+
+    /**
+     * 조건을 만족하지 않는 행.
+     *
+     * @param condition 조건
+     * @return 조건
+     */
+    public static Condition not(Condition condition) {
+        return new Not(condition);
+    }
+
+    /**
+     * AND로 묶인 조건을 개별 조건으로 펼쳐 목록에 추가합니다.
+     */
+    static void flatten(Condition condition, List<Condition> conjuncts) {
+        if (condition instanceof Junction && ((Junction) condition).all) {
+            for (Condition part : ((Junction) condition).parts) {
+                flatten(part, conjuncts);
+            }
+        } else {
+            conjuncts.add(condition);
+        }
+    }
+
+    /** 필드 비교 연산자 */
+    enum Op {
+        EQ("="), NE("<>"), LT("<"), LE("<="), GT(">"), GE(">="), IN("IN"),
+        IS_NULL("IS NULL"), NOT_NULL("IS NOT NULL"), MATCHES("MATCHES");
+
+        final String symbol;
+
+        Op(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    /**
+     * 필드 하나와 값의 비교 조건입니다.
+     */
+    static final class Comparison extends Condition {
+        final Field<?> field;
+        final Op op;
+        final Object value;
+        final Set<?> values;
+        private final Predicate<Object> predicate;
+
+        @SuppressWarnings("unchecked")
+        Comparison(Field<?> field, Op op, Object value, Set<?> values, Predicate<?> predicate) {
+            this.field = field;
+            this.op = op;
+            this.value = value;
+            this.values = values;
+            this.predicate = (Predicate<Object>) predicate;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        boolean test(Row row) {
+            Object actual = field.get(row);
+            switch (op) {
+                case IS_NULL:
+                    return actual == null;
+                case NOT_NULL:
+                    return actual != null;
+                default:
+                    break;
+            }
+            if (actual == null) {
+                return false;
+            }
+            switch (op) {
+                case EQ:
+                    return actual.equals(value);
+                case NE:
+                    return !actual.equals(value);
+                case IN:
+                    return values.contains(actual);
+                case MATCHES:
+                    return predicate.test(actual);
+                default:
+                    int cmp = ((Comparable) actual).compareTo(value);
+                    return op == Op.LT ? cmp < 0 : op == Op.LE ? cmp <= 0 : op == Op.GT ? cmp > 0 : cmp >= 0;
+            }
+        }
+
+        @Override
+        public Set<Source> getSources() {
+            return EnumSet.of(field.getSource());
+        }
+
+        @Override
+        boolean usesSummary() {
+            return field.isSummary();
+        }
+
+        @Override
+        public String toString() {
+            switch (op) {
+                case IS_NULL:
+                case NOT_NULL:
+                    return field + " " + op.symbol;
+                case IN:
+                    return field + " IN (" + values.stream().map(Comparison::literal)
+                            .collect(Collectors.joining(", ")) + ")";
+                case MATCHES:
+                    return field + " " + value;
+                default:
+                    return field + " " + op.symbol + " " + literal(value);
+            }
+        }
+
+        private static String literal(Object value) {
+            return value instanceof String ? "'" + value + "'" : String.valueOf(value);
+        }
+    }
+
+    /**
+     * AND 또는 OR로 묶인 조건입니다.
+     */
+    private static final class Junction extends Condition {
+        private final boolean all;
+        private final List<Condition> parts;
+
+        Junction(boolean all, List<Condition> parts) {
+            this.all = all;
+            this.parts = List.copyOf(parts);
+        }
+
+        @Override
+        boolean test(Row row) {
+            for (Condition part : parts) {
+                if (part.test(row) != all) {
+                    return !all;
+                }
+            }
+            return all;
+        }
+
+        @Override
+        public Set<Source> getSources() {
+            EnumSet<Source> sources = EnumSet.noneOf(Source.class);
+            for (Condition part : parts) {
+                sources.addAll(part.getSources());
+            }
+            return sources;
+        }
+
+        @Override
+        boolean usesSummary() {
+            return parts.stream().anyMatch(Condition::usesSummary);
+        }
+
+        @Override
+        public String toString() {
+            return parts.stream().map(Condition::toString)
+                    .collect(Collectors.joining(all ? " AND " : " OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * 부정 조건입니다.
+     */
+    private static final class Not extends Condition {
+        private final Condition condition;
+
+        Not(Condition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        boolean test(Row row) {
+            return !condition.test(row);
+        }
+
+        @Override
+        public Set<Source> getSources() {
+            return condition.getSources();
+        }
+
+        @Override
+        boolean usesSummary() {
+            return condition.usesSummary();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + condition;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.globalbridge.query;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 질의 결과 행에서 읽을 수 있는 값(필드)을 나타내는 클래스입니다.
+ *
+ * <p>
+ * 각 필드는 값이 속한 {@link Source}를 가지며, 질의에 해당 데이터가 연결되어 있을 때만 사용할 수 있습니다.
+ * 필드의 비교 메서드({@link #eq(Comparable)}, {@link #lt(Comparable)} 등)는 조건({@link Condition})을 만들고,
+ * 실행 계획은 이 조건을 보고 색인 조회나 이른 필터링을 결정합니다.
+ * 값이 없으면(예: 매칭이 없는 참가자의 매칭 필드) null이며, null은 {@link #isNull()} 외의 비교를 모두 통과하지 못합니다.
+ * </p>
+ *
+ * <p>
+ * 매칭 요약 필드({@link #ACTIVITY_COUNT}, {@link #LAST_ACTIVITY_TIME}, {@link #LAST_ACTIVITY_LOCATION})는
+ * 매칭별 활동 목록을 처음 읽을 때 한 번 계산되어 질의 엔진에 보관됩니다.
+ * </p>
+ *
+ * @param <T> 필드 값의 형식
+ */
+public final class Field<T extends Comparable<? super T>> {
+    /** 참가자 학번 (학번 색인 조회 가능) */
+    public static final Field<String> STUDENT_ID = participant("studentId", row -> row.getParticipant().getStudentId());
+
+    /** 참가자 이름 */
+    public static final Field<String> NAME = participant("name", row -> row.getParticipant().getName());
+
+    /** 참가자 전공 */
+    public static final Field<String> MAJOR = participant("major", row -> row.getParticipant().getMajor());
+
+    /** 참가자 학년 */
+    public static final Field<Integer> GRADE = participant("grade", row -> row.getParticipant().getGrade());
+
+    /** 참가자 사용 언어 */
+    public static final Field<String> LANGUAGE = participant("language", row -> row.getParticipant().getLanguage());
+
+    /** 참가자가 멘토(Korean)이면 true, 멘티(English)이면 false */
+    public static final Field<Boolean> IS_MENTOR = participant("isMentor", row -> row.getParticipant().isMentor());
+
+    /** 매칭 ID (멘토학번-멘티학번 형식, 매칭 색인 조회 가능) */
+    public static final Field<String> MATCH_ID = pair("matchId", Row::getMatchId);
+
+    /** 매칭의 멘토 학번 */
+    public static final Field<String> MENTOR_ID = pair("mentorId", row -> row.getPair().getMentor().getStudentId());
+
+    /** 매칭의 멘토 이름 */
+    public static final Field<String> MENTOR_NAME = pair("mentorName", row -> row.getPair().getMentor().getName());
+
+    /** 매칭의 멘티 학번 */
+    public static final Field<String> MENTEE_ID = pair("menteeId", row -> row.getPair().getMentee().getStudentId());
+
+    /** 매칭의 멘티 이름 */
+    public static final Field<String> MENTEE_NAME = pair("menteeName", row -> row.getPair().getMentee().getName());
+
+    /** 매칭의 활동 수 (매칭 요약) */
+    public static final Field<Integer> ACTIVITY_COUNT = summary("activityCount", row -> row.getSummary().count);
+
+    /** 매칭의 가장 최근 활동 시각 (epoch millis, 활동이 없으면 null, 매칭 요약) */
+    public static final Field<Long> LAST_ACTIVITY_TIME = summary("lastActivityTime", row -> {
+        PairSummary summary = row.getSummary();
+        return summary.count == 0 ? null : summary.lastEpochMillis;
+    });
+
+    /** 매칭의 가장 최근 활동 장소 (활동이 없으면 null, 매칭 요약) */
+    public static final Field<String> LAST_ACTIVITY_LOCATION = summary("lastActivityLocation", row -> {
+        PairSummary summary = row.getSummary();
+        return summary.count == 0 ? null : row.getLog().getLocation(summary.lastRow);
+    });
+
+    /** 활동 시각 (epoch millis) */
+    public static final Field<Long> ACTIVITY_TIME = activity("time", row -> row.getLog().getEpochMillis(row.getActivityRow()));
+
+    /** 활동 내용 */
+    public static final Field<String> CONTENT = activity("content", row -> row.getLog().getContent(row.getActivityRow()));
+
+    /** 활동 장소 */
+    public static final Field<String> LOCATION = activity("location", row -> row.getLog().getLocation(row.getActivityRow()));
+
+    /** 활동 완료 여부 */
+    public static final Field<Boolean> COMPLETED = activity("completed", row -> row.getLog().isCompleted(row.getActivityRow()));
+
+    /** 활동 기한 지남 여부 */
+    public static final Field<Boolean> OVERDUE = activity("overdue", row -> row.getLog().isOverdue(row.getActivityRow()));
+
+    private final String name;
+    private final Source source;
+    private final boolean summary;
+    private final Function<Row, T> extractor;
+
+    private Field(String name, Source source, boolean summary, Function<Row, T> extractor) {
+        this.name = name;
+        this.source = source;
+        this.summary = summary;
+        this.extractor = extractor;
+    }
+
+    private static <T extends Comparable<? super T>> Field<T> participant(String name, Function<Row, T> extractor) {
+        return new Field<>(name, Source.PARTICIPANT, false, extractor);
+    }
+
+    private static <T extends Comparable<? super T>> Field<T> pair(String name, Function<Row, T> extractor) {
+        return new Field<>(name, Source.PAIR, false, extractor);
+    }
+
+    private static <T extends Comparable<? super T>> Field<T> summary(String name, Function<Row, T> extractor) {
+        return new Field<>(name, Source.PAIR, true, extractor);
+    }
+
+    private static <T extends Comparable<? super T>> Field<T> activity(String name, Function<Row, T> extractor) {
+        return new Field<>(name, Source.ACTIVITY, false, extractor);
+    }
+
+    /**
+     * 필드 이름을 반환합니다.
+     * @return 필드 이름
+     */
+    public String getName() { return name; }
+
+    /**
+     * 필드 값이 속한 데이터 종류를 반환합니다.
+     * @return 데이터 종류
+     */
+    public Source getSource() { return source; }
+
+    /**
+     * 매칭 요약(활동 목록 집계)에서 계산되는 필드인지 확인합니다.
+     * @return 매칭 요약 필드이면 true
+     */
+    public boolean isSummary() { return summary; }
+
+    /**
+     * 행에서 필드 값을 읽습니다.
+     *
+     * @param row 질의 결과 행
+     * @return 필드 값, 해당 데이터가 없으면 null
+     */
+    T get(Row row) {
+        return row.has(source) ? extractor.apply(row) : null;
+    }
+
+    /** 값이 {@code value}와 같은 행 */
+    public Condition eq(T value) {
+        return new Condition.Comparison(this, Condition.Op.EQ, Objects.requireNonNull(value), null, null);
+    }
+
+    /** 값이 {@code value}와 다른 행 */
+    public Condition ne(T value) {
+        return new Condition.Comparison(this, Condition.Op.NE, Objects.requireNonNull(value), null, null);
+    }
+
+    /** 값이 {@code value}보다 작은 행 */
+    public Condition lt(T value) {
+        return new Condition.Comparison(this, Condition.Op.LT, Objects.requireNonNull(value), null, null);
+    }
+
+    /** 값이 {@code value} 이하인 행 */
+    public Condition le(T value) {
+        return new Condition.Comparison(this, Condition.Op.LE, Objects.requireNonNull(value), null, null);
+    }
+
+    /** 값이 {@code value}보다 큰 행 */
+    public Condition gt(T value) {
+        return new Condition.Comparison(this, Condition.Op.GT, Objects.requireNonNull(value), null, null);
+    }
+
+    /** 값이 {@code value} 이상인 행 */
+    public Condition ge(T value) {
+        return new Condition.Comparison(this, Condition.Op.GE, Objects.requireNonNull(value), null, null);
+    }
+
+    /** 값이 {@code from} 이상 {@code to} 미만인 행 */
+    public Condition between(T from, T to) {
+        return Condition.and(ge(from), lt(to));
+    }
+
+    /** 값이 주어진 값 중 하나인 행 */
+    @SafeVarargs
+    public final Condition in(T... values) {
+        LinkedHashSet<T> set = new LinkedHashSet<>();
+        for (T value : values) {
+            set.add(value);
+        }
+        return in(set);
+    }
+
+    /** 값이 주어진 값 중 하나인 행 */
+    public Condition in(Collection<? extends T> values) {
+        return new Condition.Comparison(this, Condition.Op.IN, null, new LinkedHashSet<>(values), null);
+    }
+
+    /** 값이 없는 행 */
+    public Condition isNull() {
+        return new Condition.Comparison(this, Condition.Op.IS_NULL, null, null, null);
+    }
+
+    /** 값이 있는 행 */
+    public Condition isNotNull() {
+        return new Condition.Comparison(this, Condition.Op.NOT_NULL, null, null, null);
+    }
+
+    /**
+     * 값이 임의의 조건을 만족하는 행. 색인 조회에는 사용되지 않습니다.
+     *
+     * @param description 실행 계획에 표시할 조건 설명
+     * @param predicate 값에 대한 조건 (null 값에는 호출되지 않음)
+     * @return 조건
+     */
+    public Condition matches(String description, Predicate<? super T> predicate) {
+        return new Condition.Comparison(this, Condition.Op.MATCHES, description, null, predicate);
+    }
+
+    @Override
+    public String toString() {
+        return source.getLabel() + "." + name;
+    }
+}
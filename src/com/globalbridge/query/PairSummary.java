@@ -0,0 +1,43 @@
+package com.globalbridge.query;
+
+import com.globalbridge.model.ActivityLog;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * 매칭 하나의 활동 수와 가장 최근 활동을 모아 둔 요약입니다.
+ */
+final class PairSummary {
+    /** 활동이 없는 매칭의 요약 */
+    static final PairSummary EMPTY = new PairSummary(0, -1, 0L);
+
+    final int count;
+    final int lastRow;
+    final long lastEpochMillis;
+
+    private PairSummary(int count, int lastRow, long lastEpochMillis) {
+        this.count = count;
+        this.lastRow = lastRow;
+        this.lastEpochMillis = lastEpochMillis;
+    }
+
+    /**
+     * 활동 저장소의 매칭별 행 목록을 따라가며 요약을 계산합니다.
+     * 시각이 같으면 나중에 기록된 활동을 최근 활동으로 봅니다.
+     */
+    static PairSummary of(ActivityLog log, String matchId) {
+        int count = 0;
+        int lastRow = -1;
+        long lastEpochMillis = Long.MIN_VALUE;
+        for (PrimitiveIterator.OfInt rows = log.rows(matchId); rows.hasNext(); ) {
+            int row = rows.nextInt();
+            long epochMillis = log.getEpochMillis(row);
+            if (epochMillis >= lastEpochMillis) {
+                lastEpochMillis = epochMillis;
+                lastRow = row;
+            }
+            count++;
+        }
+        return count == 0 ? EMPTY : new PairSummary(count, lastRow, lastEpochMillis);
+    }
+}
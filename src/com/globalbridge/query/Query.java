@@ -0,0 +1,194 @@
+package com.globalbridge.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 참가자, 매칭, 활동을 조회하는 질의를 만드는 빌더 클래스입니다.
+ *
+ * <p>
+ * {@link QueryEngine#participants()}, {@link QueryEngine#pairs()}, {@link QueryEngine#activities()} 중
+ * 하나로 시작하여 조건, 연결, 정렬, 개수 제한을 차례로 지정한 뒤 {@link #execute()}로 실행합니다.
+ * 예를 들어 이번 달 활동이 없는 경영학과 3학년 멘티는 다음과 같이 찾습니다.
+ * </p>
+ *
+ * <pre>
+ * engine.participants()
+ *       .where(Field.IS_MENTOR.eq(false))
+ *       .where(Field.GRADE.eq(3))
+ *       .where(Field.MAJOR.eq("경영학"))
+ *       .leftJoin(Source.PAIR)
+ *       .where(Condition.or(Field.LAST_ACTIVITY_TIME.isNull(), Field.LAST_ACTIVITY_TIME.lt(monthStart)))
+ *       .execute();
+ * </pre>
+ *
+ * <p>
+ * 연결할 수 있는 데이터는 다음과 같습니다.
+ * <ul>
+ *   <li>참가자 → 매칭: 참가자가 멘토 또는 멘티인 매칭</li>
+ *   <li>매칭 → 활동: 매칭의 활동 기록</li>
+ *   <li>매칭 → 참가자: 매칭의 멘토와 멘티 (매칭당 두 행)</li>
+ * </ul>
+ * 활동으로 시작한 질의에는 활동이 속한 매칭이 처음부터 연결되어 있습니다.
+ * 조건은 지정한 순서와 관계없이 필요한 데이터가 연결된 직후에 적용됩니다.
+ * </p>
+ */
+public final class Query {
+    private final QueryEngine engine;
+    final Source root;
+    final List<Join> joins = new ArrayList<>();
+    final List<Condition> conditions = new ArrayList<>();
+    final List<SortKey> order = new ArrayList<>();
+    int limit = -1;
+
+    Query(QueryEngine engine, Source root) {
+        this.engine = engine;
+        this.root = root;
+    }
+
+    /**
+     * 조건을 추가합니다. 여러 조건은 모두 만족해야 합니다(AND).
+     *
+     * @param condition 추가할 조건
+     * @return 이 질의
+     */
+    public Query where(Condition condition) {
+        conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * 데이터를 연결합니다. 짝이 없는 행은 결과에서 제외됩니다.
+     *
+     * @param target 연결할 데이터
+     * @return 이 질의
+     * @throws IllegalArgumentException 현재 연결 상태에서 연결할 수 없는 데이터인 경우
+     */
+    public Query join(Source target) {
+        return addJoin(target, false);
+    }
+
+    /**
+     * 데이터를 왼쪽 연결(left join)합니다. 짝이 없는 행은 연결된 데이터가 없는 상태로 남습니다.
+     *
+     * @param target 연결할 데이터
+     * @return 이 질의
+     * @throws IllegalArgumentException 현재 연결 상태에서 연결할 수 없는 데이터인 경우
+     */
+    public Query leftJoin(Source target) {
+        return addJoin(target, true);
+    }
+
+    private Query addJoin(Source target, boolean left) {
+        List<Source> bound = boundSources();
+        if (bound.contains(target)) {
+            throw new IllegalArgumentException("이미 연결된 데이터입니다: " + target.getLabel());
+        }
+        if (!bound.contains(Source.PAIR) && target != Source.PAIR) {
+            throw new IllegalArgumentException(target.getLabel() + "은(는) 매칭을 통해서만 연결할 수 있습니다.");
+        }
+        joins.add(new Join(target, left));
+        return this;
+    }
+
+    /**
+     * 필드 값의 오름차순 정렬 기준을 추가합니다. 값이 없는 행은 마지막에 놓입니다.
+     *
+     * @param field 정렬할 필드
+     * @return 이 질의
+     */
+    public Query orderBy(Field<?> field) {
+        order.add(new SortKey(field, false));
+        return this;
+    }
+
+    /**
+     * 필드 값의 내림차순 정렬 기준을 추가합니다. 값이 없는 행은 마지막에 놓입니다.
+     *
+     * @param field 정렬할 필드
+     * @return 이 질의
+     */
+    public Query orderByDescending(Field<?> field) {
+        order.add(new SortKey(field, true));
+        return this;
+    }
+
+    /**
+     * 결과 행 수를 제한합니다.
+     *
+     * @param limit 최대 행 수
+     * @return 이 질의
+     * @throws IllegalArgumentException 음수인 경우
+     */
+    public Query limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("결과 행 수는 0 이상이어야 합니다.");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * 질의를 실행합니다.
+     *
+     * @return 질의 결과와 실행 계획
+     * @throws IllegalArgumentException 연결되지 않은 데이터의 필드를 사용한 경우
+     */
+    public QueryResult execute() {
+        return engine.execute(this);
+    }
+
+    /**
+     * 질의를 실행하고 단계별 처리 행 수와 소요 시간이 담긴 실행 계획을 반환합니다.
+     *
+     * @return 실행 계획
+     */
+    public String explain() {
+        return execute().explain();
+    }
+
+    /** 시작 데이터와 연결된 데이터 (연결 순서) */
+    List<Source> boundSources() {
+        List<Source> bound = new ArrayList<>();
+        bound.add(root);
+        if (root == Source.ACTIVITY) {
+            bound.add(Source.PAIR);
+        }
+        for (Join join : joins) {
+            bound.add(join.target);
+        }
+        return Collections.unmodifiableList(bound);
+    }
+
+    /** 연결 하나 */
+    static final class Join {
+        final Source target;
+        final boolean left;
+
+        Join(Source target, boolean left) {
+            this.target = target;
+            this.left = left;
+        }
+    }
+
+    /** 정렬 기준 하나 */
+    static final class SortKey {
+        final Field<?> field;
+        final boolean descending;
+
+        SortKey(Field<?> field, boolean descending) {
+            this.field = field;
+            this.descending = descending;
+        }
+
+        @Override
+        public String toString() {
+            return field + (descending ? " DESC" : " ASC");
+        }
+    }
+}
@@ -0,0 +1,643 @@
+package com.globalbridge.query;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.util.ParticipantFacets;
+import com.globalbridge.util.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * 참가자, 매칭, 활동 데이터에 대한 질의({@link Query})를 계획하고 실행하는 질의 엔진 클래스입니다.
+ *
+ * <p>
+ * 실행 계획은 다음 순서로 만들어집니다.
+ * <ol>
+ *   <li>시작 데이터 접근: 학번 조건({@link Field#STUDENT_ID})은 학번 색인으로,
+ *   매칭 ID 조건({@link Field#MATCH_ID})은 매칭 Map과 활동 저장소의 매칭별 행 목록으로 바로 찾습니다.
+ *   역할, 학년, 전공 조건({@link Field#IS_MENTOR}, {@link Field#GRADE}, {@link Field#MAJOR})은 참가자 패싯 비트맵의
+ *   교집합으로, 완료 여부와 기한 지남 조건({@link Field#COMPLETED}, {@link Field#OVERDUE})은 활동 저장소의
+ *   완료/기한 지남 행 비트맵으로 대상 번호를 먼저 구합니다.
+ *   사용할 색인이 없으면 전체를 훑으며, 대상이 {@value #PARALLEL_THRESHOLD}건 이상이면 병렬로 훑습니다.</li>
+ *   <li>연결(join): 참가자 → 매칭은 학번별 매칭 해시 색인으로, 매칭 → 활동은 활동 저장소의 매칭별 행 목록으로 연결합니다.</li>
+ *   <li>조건은 참조하는 데이터가 연결된 직후 단계에 붙여 행 수를 일찍 줄이며,
+ *   매칭 요약을 계산해야 하는 조건은 같은 단계에서 가장 나중에 검사합니다.</li>
+ *   <li>정렬: 개수 제한이 있으면 상위 K개만 힙으로 고르고, 정렬이 없으면 제한 수에 도달하는 즉시 멈춥니다.</li>
+ * </ol>
+ * </p>
+ *
+ * <p>
+ * 질의 엔진은 생성 시점의 데이터 구조를 그대로 읽으며, 매칭 요약과 학번별 매칭 색인은 처음 필요할 때 만들어 보관합니다.
+ * 따라서 데이터가 바뀌면 새 엔진을 만들어야 하며, 질의가 실행되는 동안 데이터를 변경해서는 안 됩니다.
+ * 학기 샤드처럼 데이터가 여러 엔진에 나뉘어 있으면 엔진마다 같은 질의를 만들어 {@link #executeAll(List)}로
+ * 병렬 실행하고 결과를 합칩니다.
+ * </p>
+ */
+public class QueryEngine {
+    /** 병렬로 처리하기 시작하는 행 수 */
+    static final int PARALLEL_THRESHOLD = 16_384;
+
+    private final List<Participant> participants;
+    private final Map<String, Pair> matches;
+    private final ActivityLog log;
+    private final Function<String, Participant> studentIndex;
+    private final ParticipantFacets facets;
+
+    /** 매칭 ID → 매칭 요약 (병렬 단계에서 함께 채움) */
+    private final ConcurrentHashMap<String, PairSummary> summaries = new ConcurrentHashMap<>();
+
+    /** 학번 → 그 학생이 속한 매칭 ID 목록 (처음 참가자 → 매칭 연결 시 생성) */
+    private Map<String, List<String>> matchesByStudent;
+
+    /**
+     * 질의 엔진을 생성합니다.
+     *
+     * @param participants 참가자 목록
+     * @param matches 매칭 ID → 매칭
+     * @param log 활동 저장소
+     * @param studentIndex 학번으로 참가자를 찾는 색인 (없으면 null)
+     */
+    public QueryEngine(List<Participant> participants, Map<String, Pair> matches, ActivityLog log,
+                       Function<String, Participant> studentIndex) {
+        this(participants, matches, log, studentIndex, null);
+    }
+
+    /**
+     * 참가자 패싯 색인을 사용하는 질의 엔진을 생성합니다.
+     *
+     * @param participants 참가자 목록
+     * @param matches 매칭 ID → 매칭
+     * @param log 활동 저장소
+     * @param studentIndex 학번으로 참가자를 찾는 색인 (없으면 null)
+     * @param facets 참가자 목록과 같은 순서로 구성된 패싯 색인 (없으면 null)
+     */
+    public QueryEngine(List<Participant> participants, Map<String, Pair> matches, ActivityLog log,
+                       Function<String, Participant> studentIndex, ParticipantFacets facets) {
+        this.participants = participants;
+        this.matches = matches;
+        this.log = log;
+        this.studentIndex = studentIndex;
+        // 참가자 목록과 어긋난 색인은 잘못된 참가자를 돌려주므로 사용하지 않습니다.
+        this.facets = facets != null && facets.size() == participants.size() ? facets : null;
+    }
+
+    /**
+     * 참가자로 시작하는 질의를 만듭니다.
+     * @return 새 질의
+     */
+    public Query participants() { return new Query(this, Source.PARTICIPANT); }
+
+    /**
+     * 매칭으로 시작하는 질의를 만듭니다.
+     * @return 새 질의
+     */
+    public Query pairs() { return new Query(this, Source.PAIR); }
+
+    /**
+     * 활동으로 시작하는 질의를 만듭니다. 활동이 속한 매칭이 함께 연결됩니다.
+     * @return 새 질의
+     */
+    public Query activities() { return new Query(this, Source.ACTIVITY); }
+
+    ActivityLog getLog() { return log; }
+
+    PairSummary summary(String matchId) {
+        return summaries.computeIfAbsent(matchId, id -> PairSummary.of(log, id));
+    }
+
+    QueryResult execute(Query query) {
+        long start = System.nanoTime();
+        List<Condition> pending = new ArrayList<>();
+        for (Condition condition : query.conditions) {
+            Condition.flatten(condition, pending);
+        }
+        validate(query, pending);
+
+        List<String> steps = new ArrayList<>();
+        // 정렬이 없으면 마지막 단계가 제한 수만큼만 만들고 멈춥니다.
+        int cap = query.order.isEmpty() ? query.limit : -1;
+
+        EnumSet<Source> bound = EnumSet.of(query.root);
+        if (query.root == Source.ACTIVITY) {
+            bound.add(Source.PAIR);
+        }
+        List<Row> rows = access(query.root, pending, bound, query.joins.isEmpty() ? cap : -1, steps);
+
+        for (int i = 0; i < query.joins.size(); i++) {
+            Query.Join join = query.joins.get(i);
+            bound.add(join.target);
+            rows = join(join, rows, takeFilters(pending, bound), i == query.joins.size() - 1 ? cap : -1, steps);
+        }
+
+        if (!query.order.isEmpty()) {
+            rows = sort(rows, query.order, query.limit, steps);
+        }
+        return new QueryResult(rows, steps, System.nanoTime() - start);
+    }
+
+    /**
+     * 서로 다른 엔진에서 만든 같은 모양의 질의들을 병렬로 실행하고 결과를 하나로 합칩니다.
+     *
+     * <p>
+     * 각 질의는 자기 엔진에서 정렬과 개수 제한까지 적용한 뒤 실행되므로, 엔진마다 많아야 제한 수만큼의 행만 남습니다.
+     * 합친 행은 질의 순서대로 이어지며, 정렬 기준이 있으면 전체를 다시 정렬하고(제한이 있으면 상위 K개만),
+     * 정렬 기준이 없으면 앞에서부터 제한 수만큼 남깁니다. 결과 행은 자기 엔진의 데이터를 계속 가리킵니다.
+     * 실행 계획에는 엔진마다 한 단계와 합치는 단계가 기록됩니다.
+     * </p>
+     *
+     * @param queries 엔진마다 하나씩 만든 질의 (시작 데이터, 정렬 기준, 개수 제한이 같아야 함)
+     * @return 합친 결과와 실행 계획
+     * @throws IllegalArgumentException 질의가 없거나 모양이 다른 경우, 연결되지 않은 데이터의 필드를 사용한 경우
+     */
+    public static QueryResult executeAll(List<Query> queries) {
+        if (queries.isEmpty()) {
+            throw new IllegalArgumentException("실행할 질의가 없습니다.");
+        }
+        Query first = queries.get(0);
+        for (Query query : queries) {
+            if (query.root != first.root || query.limit != first.limit
+                    || !query.order.toString().equals(first.order.toString())) {
+                throw new IllegalArgumentException("시작 데이터, 정렬 기준, 개수 제한이 같은 질의만 합칠 수 있습니다.");
+            }
+        }
+        long start = System.nanoTime();
+        List<QueryResult> results = queries.parallelStream().map(Query::execute).collect(Collectors.toList());
+
+        List<String> steps = new ArrayList<>();
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            QueryResult result = results.get(i);
+            rows.addAll(result.getRows());
+            steps.add(String.format(Locale.ROOT, "Shard %d (%d steps)  [-> %,d rows, %.3f ms]",
+                    i, result.steps.size(), result.size(), result.getElapsedNanos() / 1e6));
+        }
+        long unionStart = System.nanoTime();
+        int input = rows.size();
+        if (!first.order.isEmpty()) {
+            steps.add(step("Union " + results.size() + " shards", Filter.NONE, input, input, unionStart));
+            rows = sort(rows, first.order, first.limit, steps);
+        } else {
+            if (first.limit >= 0 && first.limit < rows.size()) {
+                rows = new ArrayList<>(rows.subList(0, first.limit));
+            }
+            steps.add(step("Union " + results.size() + " shards", Filter.NONE, input, rows.size(), unionStart));
+        }
+        return new QueryResult(rows, steps, System.nanoTime() - start);
+    }
+
+    private static void validate(Query query, List<Condition> conditions) {
+        List<Source> bound = query.boundSources();
+        for (Condition condition : conditions) {
+            if (!bound.containsAll(condition.getSources())) {
+                throw new IllegalArgumentException("연결되지 않은 데이터의 필드를 사용했습니다: " + condition);
+            }
+        }
+        for (Query.SortKey key : query.order) {
+            if (!bound.contains(key.field.getSource())) {
+                throw new IllegalArgumentException("연결되지 않은 데이터의 필드로 정렬할 수 없습니다: " + key.field);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- 시작 데이터 접근
+
+    private List<Row> access(Source root, List<Condition> pending, Set<Source> bound, int cap, List<String> steps) {
+        long start = System.nanoTime();
+        Collection<?> keys;
+        String description;
+        int scanned;
+        List<Row> rows;
+        Filter filter;
+        RoaringBitmap ids;
+        List<Condition> used = new ArrayList<>();
+
+        switch (root) {
+            case PARTICIPANT:
+                keys = studentIndex != null ? takeIndexKeys(pending, Field.STUDENT_ID) : null;
+                ids = keys == null && facets != null ? takeBitmap(pending, used, this::facetBitmap) : null;
+                filter = takeFilters(pending, bound);
+                if (keys != null) {
+                    description = "IndexLookup participant.studentId (" + keys.size() + " keys, StudentIdIndex)";
+                    scanned = keys.size();
+                    rows = collect(keys.stream()
+                            .map(key -> studentIndex.apply((String) key))
+                            .filter(Objects::nonNull)
+                            .map(participant -> new Row(this, participant, null, null, -1)), filter, cap);
+                } else if (ids != null) {
+                    description = "BitmapIndexScan participant (" + joinAnd(used) + ") (" + ids.getCardinality()
+                            + " ids, participant facets)";
+                    scanned = ids.getCardinality();
+                    rows = scan(ids, i -> new Row(this, participants.get(i), null, null, -1), filter, cap);
+                } else {
+                    description = scanName("participants", participants.size());
+                    scanned = participants.size();
+                    rows = scan(participants.size(),
+                            i -> new Row(this, participants.get(i), null, null, -1), filter, cap);
+                }
+                break;
+
+            case PAIR:
+                keys = matchKeys(pending);
+                filter = takeFilters(pending, bound);
+                if (keys != null) {
+                    description = "IndexLookup pair.matchId (" + keys.size() + " keys, match map)";
+                    scanned = keys.size();
+                    rows = collect(keys.stream()
+                            .map(key -> (String) key)
+                            .filter(matches::containsKey)
+                            .map(key -> new Row(this, null, key, matches.get(key), -1)), filter, cap);
+                } else {
+                    List<Map.Entry<String, Pair>> entries = new ArrayList<>(matches.entrySet());
+                    description = scanName("pairs", entries.size());
+                    scanned = entries.size();
+                    rows = scan(entries.size(), i -> new Row(this, null, entries.get(i).getKey(),
+                            entries.get(i).getValue(), -1), filter, cap);
+                }
+                break;
+
+            default:
+                keys = matchKeys(pending);
+                ids = keys == null ? takeBitmap(pending, used, this::completionBitmap) : null;
+                filter = takeFilters(pending, bound);
+                if (keys != null) {
+                    description = "IndexLookup activity by pair.matchId (" + keys.size() + " keys, activity log)";
+                    scanned = keys.size();
+                    rows = collect(keys.stream()
+                            .map(key -> (String) key)
+                            .flatMap(key -> {
+                                Row pairRow = new Row(this, null, key, matches.get(key), -1);
+                                Stream.Builder<Row> builder = Stream.builder();
+                                log.rows(key).forEachRemaining((int row) -> builder.add(pairRow.withActivity(row)));
+                                return builder.build();
+                            }), filter, cap);
+                } else {
+                    IntFunction<Row> rowAt = row -> {
+                        String matchId = log.getPairId(row);
+                        return new Row(this, null, matchId, matches.get(matchId), row);
+                    };
+                    if (ids != null) {
+                        description = "BitmapIndexScan activity (" + joinAnd(used) + ") (" + ids.getCardinality()
+                                + " rows, completion bitmap)";
+                        scanned = ids.getCardinality();
+                        rows = scan(ids, rowAt, filter, cap);
+                    } else {
+                        description = scanName("activities", log.size());
+                        scanned = log.size();
+                        rows = scan(log.size(), rowAt, filter, cap);
+                    }
+                }
+                break;
+        }
+
+        steps.add(step(description, filter, scanned, rows.size(), start));
+        return rows;
+    }
+
+    private static String joinAnd(List<Condition> conditions) {
+        return conditions.stream().map(Condition::toString).collect(Collectors.joining(" AND "));
+    }
+
+    private static String scanName(String name, int size) {
+        return (size >= PARALLEL_THRESHOLD ? "ParallelScan " : "Scan ") + name;
+    }
+
+    /**
+     * 필드의 = 또는 IN 조건을 찾아 색인 조회 키로 꺼냅니다. 꺼낸 조건은 다시 검사하지 않습니다.
+     */
+    private static Collection<?> takeIndexKeys(List<Condition> pending, Field<String> field) {
+        for (Iterator<Condition> it = pending.iterator(); it.hasNext(); ) {
+            Condition condition = it.next();
+            if (condition instanceof Condition.Comparison) {
+                Condition.Comparison comparison = (Condition.Comparison) condition;
+                if (comparison.field == field && comparison.op == Condition.Op.EQ) {
+                    it.remove();
+                    return Collections.singletonList(comparison.value);
+                }
+                if (comparison.field == field && comparison.op == Condition.Op.IN) {
+                    it.remove();
+                    return comparison.values;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 비트맵으로 대상 번호를 구할 수 있는 조건을 모두 찾아 그 교집합을 꺼냅니다.
+     * 꺼낸 조건은 다시 검사하지 않으며, 해당하는 조건이 없으면 null을 반환합니다.
+     */
+    private static RoaringBitmap takeBitmap(List<Condition> pending, List<Condition> used,
+                                            Function<Condition.Comparison, RoaringBitmap> lookup) {
+        RoaringBitmap result = null;
+        for (Iterator<Condition> it = pending.iterator(); it.hasNext(); ) {
+            Condition condition = it.next();
+            RoaringBitmap bitmap = condition instanceof Condition.Comparison
+                    ? lookup.apply((Condition.Comparison) condition)
+                    : null;
+            if (bitmap != null) {
+                it.remove();
+                used.add(condition);
+                result = result == null ? bitmap : RoaringBitmap.and(result, bitmap);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 역할 =, &lt;&gt; 조건과 학년, 전공 =, IN 조건의 참가자 번호 비트맵. 그 밖의 조건은 null.
+     */
+    private RoaringBitmap facetBitmap(Condition.Comparison comparison) {
+        Condition.Op op = comparison.op;
+        if (comparison.field == Field.IS_MENTOR && (op == Condition.Op.EQ || op == Condition.Op.NE)
+                && comparison.value instanceof Boolean) {
+            return facets.role((Boolean) comparison.value == (op == Condition.Op.EQ));
+        }
+        if ((comparison.field != Field.GRADE && comparison.field != Field.MAJOR)
+                || (op != Condition.Op.EQ && op != Condition.Op.IN)) {
+            return null;
+        }
+        Collection<?> values = op == Condition.Op.EQ ? Collections.singletonList(comparison.value) : comparison.values;
+        RoaringBitmap union = new RoaringBitmap();
+        for (Object value : values) {
+            if (value instanceof Integer) {
+                union = RoaringBitmap.or(union, facets.grade((Integer) value));
+            } else if (value instanceof String) {
+                union = RoaringBitmap.or(union, facets.major((String) value));
+            } else {
+                return null;
+            }
+        }
+        return union;
+    }
+
+    /**
+     * 완료 여부, 기한 지남 =, &lt;&gt; 조건의 활동 행 번호 비트맵. 그 밖의 조건은 null.
+     */
+    private RoaringBitmap completionBitmap(Condition.Comparison comparison) {
+        Condition.Op op = comparison.op;
+        if ((comparison.field != Field.COMPLETED && comparison.field != Field.OVERDUE)
+                || (op != Condition.Op.EQ && op != Condition.Op.NE) || !(comparison.value instanceof Boolean)) {
+            return null;
+        }
+        boolean wanted = (Boolean) comparison.value == (op == Condition.Op.EQ);
+        if (comparison.field == Field.OVERDUE) {
+            RoaringBitmap overdue = log.getOverdueRows();
+            return wanted ? overdue : RoaringBitmap.andNot(RoaringBitmap.range(0, log.size()), overdue);
+        }
+        return wanted ? log.getCompletedRows() : log.getOpenRows();
+    }
+
+    /**
+     * 매칭 ID 조건, 또는 멘토 학번과 멘티 학번 = 조건에서 매칭 ID를 구합니다.
+     * 멘토/멘티 조건은 매칭 ID 조합이 모호할 수 있으므로 필터로도 남겨 둡니다.
+     */
+    private static Collection<?> matchKeys(List<Condition> pending) {
+        Collection<?> keys = takeIndexKeys(pending, Field.MATCH_ID);
+        if (keys != null) {
+            return keys;
+        }
+        Object mentorId = null;
+        Object menteeId = null;
+        for (Condition condition : pending) {
+            if (condition instanceof Condition.Comparison && ((Condition.Comparison) condition).op == Condition.Op.EQ) {
+                Condition.Comparison comparison = (Condition.Comparison) condition;
+                if (comparison.field == Field.MENTOR_ID) {
+                    mentorId = comparison.value;
+                } else if (comparison.field == Field.MENTEE_ID) {
+                    menteeId = comparison.value;
+                }
+            }
+        }
+        return mentorId != null && menteeId != null
+                ? Collections.singletonList(mentorId + "-" + menteeId)
+                : null;
+    }
+
+    // ---------------------------------------------------------------- 연결
+
+    private List<Row> join(Query.Join join, List<Row> input, Filter filter, int cap, List<String> steps) {
+        long start = System.nanoTime();
+        String description;
+        Function<Row, Stream<Row>> expand;
+
+        switch (join.target) {
+            case PAIR: {
+                Map<String, List<String>> index = matchesByStudent();
+                description = "HashJoin pair ON participant.studentId = pair.mentorId|menteeId";
+                expand = row -> {
+                    List<String> ids = index.getOrDefault(row.getParticipant().getStudentId(), List.of());
+                    return ids.stream().map(id -> row.withPair(id, matches.get(id)));
+                };
+                break;
+            }
+            case ACTIVITY:
+                description = "IndexJoin activity ON pair.matchId (activity log)";
+                expand = row -> {
+                    if (row.getPair() == null) {
+                        return Stream.empty();
+                    }
+                    Stream.Builder<Row> builder = Stream.builder();
+                    log.rows(row.getMatchId()).forEachRemaining((int r) -> builder.add(row.withActivity(r)));
+                    return builder.build();
+                };
+                break;
+            default:
+                description = "Expand pair members (mentor, mentee)";
+                expand = row -> row.getPair() == null
+                        ? Stream.empty()
+                        : Stream.of(row.withParticipant(row.getPair().getMentor()),
+                                    row.withParticipant(row.getPair().getMentee()));
+                break;
+        }
+
+        Function<Row, Stream<Row>> joined = expand;
+        if (join.left) {
+            description = description.replaceFirst(" ", " LEFT ");
+            joined = row -> {
+                List<Row> matched = expand.apply(row).collect(Collectors.toList());
+                return matched.isEmpty() ? Stream.of(row) : matched.stream();
+            };
+        }
+
+        Stream<Row> stream = input.size() >= PARALLEL_THRESHOLD ? input.parallelStream() : input.stream();
+        List<Row> rows = collect(stream.flatMap(joined), filter, cap);
+        steps.add(step(description, filter, input.size(), rows.size(), start));
+        return rows;
+    }
+
+    private Map<String, List<String>> matchesByStudent() {
+        if (matchesByStudent == null) {
+            HashMap<String, List<String>> index = new HashMap<>();
+            for (Map.Entry<String, Pair> entry : matches.entrySet()) {
+                Pair pair = entry.getValue();
+                index.computeIfAbsent(pair.getMentor().getStudentId(), k -> new ArrayList<>(1)).add(entry.getKey());
+                index.computeIfAbsent(pair.getMentee().getStudentId(), k -> new ArrayList<>(1)).add(entry.getKey());
+            }
+            matchesByStudent = index;
+        }
+        return matchesByStudent;
+    }
+
+    // ---------------------------------------------------------------- 필터, 정렬
+
+    /**
+     * 현재 연결된 데이터만으로 검사할 수 있는 조건을 꺼내 하나의 필터로 묶습니다.
+     */
+    private static Filter takeFilters(List<Condition> pending, Set<Source> bound) {
+        List<Condition> ready = new ArrayList<>();
+        for (Iterator<Condition> it = pending.iterator(); it.hasNext(); ) {
+            Condition condition = it.next();
+            if (bound.containsAll(condition.getSources())) {
+                ready.add(condition);
+                it.remove();
+            }
+        }
+        // 매칭 요약은 활동 목록을 따라가야 하므로 값싼 조건으로 먼저 거릅니다.
+        ready.sort(Comparator.comparing(Condition::usesSummary));
+        return new Filter(ready);
+    }
+
+    private static List<Row> scan(int size, IntFunction<Row> rowAt, Filter filter, int cap) {
+        IntStream range = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        return collect(range.mapToObj(rowAt), filter, cap);
+    }
+
+    private static List<Row> scan(RoaringBitmap ids, IntFunction<Row> rowAt, Filter filter, int cap) {
+        // 비트맵 반복자는 나눌 수 없으므로, 병렬로 훑을 때는 배열로 풀어 고르게 나눕니다.
+        IntStream stream = ids.getCardinality() >= PARALLEL_THRESHOLD
+                ? Arrays.stream(ids.toArray()).parallel()
+                : ids.stream();
+        return collect(stream.mapToObj(rowAt), filter, cap);
+    }
+
+    private static List<Row> collect(Stream<Row> stream, Filter filter, int cap) {
+        if (!filter.conditions.isEmpty()) {
+            stream = stream.filter(filter);
+        }
+        if (cap >= 0) {
+            stream = stream.limit(cap);
+        }
+        return stream.collect(Collectors.toList());
+    }
+
+    private static List<Row> sort(List<Row> rows, List<Query.SortKey> keys, int limit, List<String> steps) {
+        long start = System.nanoTime();
+        Comparator<Row> comparator = comparator(keys);
+        int input = rows.size();
+        String description;
+        List<Row> sorted;
+
+        if (limit >= 0 && limit < rows.size()) {
+            description = "TopK " + limit + " ORDER BY " + keys;
+            // 뒤에 올 행이 루트에 있는 크기 K의 힙, 같으면 먼저 나온 행을 앞에 둡니다.
+            PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, limit),
+                    (a, b) -> {
+                        int cmp = comparator.compare(rows.get(b), rows.get(a));
+                        return cmp != 0 ? cmp : Integer.compare(b, a);
+                    });
+            for (int i = 0; i < rows.size() && limit > 0; i++) {
+                heap.add(i);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+            Row[] top = new Row[heap.size()];
+            for (int i = top.length - 1; i >= 0; i--) {
+                top[i] = rows.get(heap.poll());
+            }
+            sorted = Arrays.asList(top);
+        } else {
+            description = "Sort ORDER BY " + keys;
+            if (rows.size() >= PARALLEL_THRESHOLD) {
+                sorted = rows.parallelStream().sorted(comparator).collect(Collectors.toList());
+            } else {
+                sorted = new ArrayList<>(rows);
+                sorted.sort(comparator);
+            }
+        }
+
+        steps.add(step(description, Filter.NONE, input, sorted.size(), start));
+        return sorted;
+    }
+
+    /**
+     * 정렬 기준 목록의 비교자. 값이 없는 행은 방향과 관계없이 마지막에 놓입니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Row> comparator(List<Query.SortKey> keys) {
+        return (a, b) -> {
+            for (Query.SortKey key : keys) {
+                Comparable left = key.field.get(a);
+                Comparable right = key.field.get(b);
+                int cmp;
+                if (left == null || right == null) {
+                    cmp = left == right ? 0 : left == null ? 1 : -1;
+                } else {
+                    cmp = key.descending ? right.compareTo(left) : left.compareTo(right);
+                }
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        };
+    }
+
+    private static String step(String description, Filter filter, int input, int output, long start) {
+        return String.format(Locale.ROOT, "%s%s  [%,d -> %,d rows, %.3f ms]",
+                description, filter, input, output, (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * 한 단계에 붙은 조건 묶음입니다.
+     */
+    private static final class Filter implements Predicate<Row> {
+        static final Filter NONE = new Filter(List.of());
+
+        final List<Condition> conditions;
+
+        Filter(List<Condition> conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        public boolean test(Row row) {
+            for (Condition condition : conditions) {
+                if (!condition.test(row)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            if (conditions.isEmpty()) {
+                return "";
+            }
+            String text = conditions.stream().map(Condition::toString).collect(Collectors.joining(" AND "));
+            return " FILTER " + text + (conditions.stream().anyMatch(Condition::usesSummary) ? " (pair summary)" : "");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.globalbridge.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 질의 실행 결과입니다.
+ *
+ * <p>
+ * 결과 행과 함께, 실행된 계획의 단계별 입력/출력 행 수와 소요 시간을 담고 있습니다.
+ * </p>
+ */
+public final class QueryResult {
+    private final List<Row> rows;
+    final List<String> steps;
+    private final long elapsedNanos;
+
+    QueryResult(List<Row> rows, List<String> steps, long elapsedNanos) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.steps = steps;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * 결과 행 목록을 반환합니다.
+     * @return 변경할 수 없는 결과 행 목록
+     */
+    public List<Row> getRows() { return rows; }
+
+    /**
+     * 결과 행 수를 반환합니다.
+     * @return 결과 행 수
+     */
+    public int size() { return rows.size(); }
+
+    /**
+     * 질의 실행에 걸린 시간을 반환합니다.
+     * @return 소요 시간 (나노초)
+     */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * 실행 계획을 사람이 읽을 수 있는 문자열로 반환합니다.
+     *
+     * <p>
+     * 각 줄은 실행 순서대로 한 단계를 나타내며, 단계 설명, 입력 → 출력 행 수, 소요 시간을 포함합니다.
+     * </p>
+     *
+     * @return 실행 계획
+     */
+    public String explain() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "Query plan: %d rows, %.3f ms%n", rows.size(), elapsedNanos / 1e6));
+        for (int i = 0; i < steps.size(); i++) {
+            sb.append(String.format(Locale.ROOT, "  %d. %s%n", i + 1, steps.get(i)));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
@@ -0,0 +1,118 @@
+package com.globalbridge.query;
+
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 질의 결과 행 하나입니다.
+ *
+ * <p>
+ * 질의의 시작 데이터와 연결(join)된 데이터를 함께 가리킵니다.
+ * 연결되지 않았거나 왼쪽 연결(left join)에서 짝이 없는 데이터는 null(활동은 -1)입니다.
+ * </p>
+ */
+public final class Row {
+    private final QueryEngine engine;
+    private final Participant participant;
+    private final String matchId;
+    private final Pair pair;
+    private final int activityRow;
+
+    Row(QueryEngine engine, Participant participant, String matchId, Pair pair, int activityRow) {
+        this.engine = engine;
+        this.participant = participant;
+        this.matchId = matchId;
+        this.pair = pair;
+        this.activityRow = activityRow;
+    }
+
+    Row withParticipant(Participant participant) {
+        return new Row(engine, participant, matchId, pair, activityRow);
+    }
+
+    Row withPair(String matchId, Pair pair) {
+        return new Row(engine, participant, matchId, pair, activityRow);
+    }
+
+    Row withActivity(int activityRow) {
+        return new Row(engine, participant, matchId, pair, activityRow);
+    }
+
+    boolean has(Source source) {
+        switch (source) {
+            case PARTICIPANT:
+                return participant != null;
+            case PAIR:
+                return pair != null;
+            default:
+                return activityRow >= 0;
+        }
+    }
+
+    ActivityLog getLog() { return engine.getLog(); }
+
+    PairSummary getSummary() { return engine.summary(matchId); }
+
+    /**
+     * 필드 값을 읽습니다.
+     *
+     * @param field 읽을 필드
+     * @param <T> 필드 값의 형식
+     * @return 필드 값, 해당 데이터가 없으면 null
+     */
+    public <T extends Comparable<? super T>> T get(Field<T> field) {
+        return field.get(this);
+    }
+
+    /**
+     * 참가자를 반환합니다.
+     * @return 참가자, 없으면 null
+     */
+    public Participant getParticipant() { return participant; }
+
+    /**
+     * 매칭 ID를 반환합니다.
+     * @return 매칭 ID, 없으면 null
+     */
+    public String getMatchId() { return matchId; }
+
+    /**
+     * 매칭을 반환합니다.
+     * @return 매칭, 없으면 null
+     */
+    public Pair getPair() { return pair; }
+
+    /**
+     * 활동의 행 번호를 반환합니다.
+     * @return 활동 저장소의 행 번호, 없으면 -1
+     */
+    public int getActivityRow() { return activityRow; }
+
+    /**
+     * 활동을 플라이웨이트 뷰로 반환합니다.
+     * @return 활동, 없으면 null
+     */
+    public Activity getActivity() { return activityRow >= 0 ? engine.getLog().get(activityRow) : null; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (participant != null) {
+            sb.append(participant);
+        }
+        if (pair != null) {
+            sb.append(sb.length() > 0 ? " | " : "").append(pair);
+        }
+        if (activityRow >= 0) {
+            sb.append(sb.length() > 0 ? " | " : "");
+            engine.getLog().appendTo(activityRow, sb);
+        }
+        return sb.toString();
+    }
+}
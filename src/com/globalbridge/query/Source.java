@@ -0,0 +1,32 @@
+package com.globalbridge.query;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 질의에서 조회하거나 연결(join)할 수 있는 데이터 종류입니다.
+ */
+public enum Source {
+    /** 등록된 참가자 */
+    PARTICIPANT("participant"),
+
+    /** 멘토-멘티 매칭 */
+    PAIR("pair"),
+
+    /** 매칭의 활동 기록 */
+    ACTIVITY("activity");
+
+    private final String label;
+
+    Source(String label) {
+        this.label = label;
+    }
+
+    /**
+     * 실행 계획에 표시할 이름을 반환합니다.
+     *
+     * @return 데이터 종류 이름
+     */
+    public String getLabel() { return label; }
+}
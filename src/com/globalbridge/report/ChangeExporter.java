@@ -0,0 +1,199 @@
+package com.globalbridge.report;
+
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.util.ChangeFeed;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link ChangeFeed}의 변경 중 지난 내보내기 이후의 것만 JSON Lines 파일 끝에 덧붙이는 클래스입니다.
+ *
+ * <p>
+ * 출력 파일 옆의 체크포인트 파일({@code 출력파일}{@value #CHECKPOINT_SUFFIX})에 마지막으로 내보낸 순번과
+ * 그때의 출력 파일 크기를 기록해 두고, 다음 내보내기는 그 순번 이후에 바뀐 레코드만 씁니다.
+ * 따라서 한 번에 쓰는 양은 전체 참가자와 매칭 수가 아니라 그 사이에 바뀐 레코드 수에 비례하며,
+ * 출력 파일은 덧붙이기만 하므로 받는 쪽은 파일 끝을 따라 읽으며({@code tail -F}) 순번 순서대로 반영하면 됩니다.
+ * 한 줄은 변경 하나이며 다음과 같은 형식입니다.
+ * </p>
+ * <pre>
+ * {"seq":41,"op":"upsert","type":"participant","id":"20241234","name":"홍길동","major":"컴퓨터공학","language":"Korean","grade":2}
+ * {"seq":42,"op":"upsert","type":"match","id":"20241234-20245678","mentorId":"20241234","mentorName":"홍길동","menteeId":"20245678","menteeName":"John"}
+ * {"seq":43,"op":"delete","type":"match","id":"20241234-20245678"}
+ * </pre>
+ *
+ * <p>
+ * 변경을 모두 쓰고 저장 장치에 기록한 뒤에 체크포인트를 원자적으로 바꿉니다.
+ * 그 사이에 중단되면 다음 내보내기가 체크포인트 이후에 덧붙은 불완전한 내용을 잘라 내고 다시 쓰므로,
+ * 같은 변경이 두 번 쓰이거나 줄이 중간에 끊긴 채 남지 않습니다.
+ * 출력 파일을 옮기거나 지우면 다음 내보내기는 새 파일에 체크포인트 이후의 변경부터 씁니다.
+ * </p>
+ */
+public final class ChangeExporter {
+    /** 기본 출력 파일 이름 */
+    public static final String DEFAULT_FILE = "changes.jsonl";
+
+    /** 체크포인트 파일 이름에 붙이는 확장자 */
+    public static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private ChangeExporter() {
+    }
+
+    /**
+     * 체크포인트 이후의 변경을 출력 파일 끝에 덧붙이고 체크포인트를 옮깁니다.
+     *
+     * @param feed 변경 기록
+     * @param output 출력 파일 (없으면 만듦)
+     * @return 내보낸 결과
+     * @throws IOException 체크포인트를 읽지 못했거나 기록 중 오류 발생 시 (체크포인트는 바뀌지 않음)
+     */
+    public static Result export(ChangeFeed feed, Path output) throws IOException {
+        Path checkpoint = checkpointFile(output);
+        Properties properties = new Properties();
+        if (Files.exists(checkpoint)) {
+            try (InputStream in = Files.newInputStream(checkpoint)) {
+                properties.load(in);
+            }
+        }
+        long after;
+        long committedBytes;
+        try {
+            after = Long.parseLong(properties.getProperty("sequence", "0"));
+            committedBytes = Long.parseLong(properties.getProperty("bytes", "0"));
+        } catch (NumberFormatException e) {
+            throw new IOException("체크포인트 형식이 올바르지 않습니다: " + checkpoint, e);
+        }
+
+        long[] range = {0, after};
+        int[] count = {0};
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() > committedBytes) {
+                channel.truncate(committedBytes);
+            }
+            channel.position(channel.size());
+            // 채널을 닫지 않도록 감싼 스트림은 닫지 않고 비우기만 합니다.
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+            StringBuilder line = new StringBuilder(256);
+            feed.changesSince(after, change -> {
+                line.setLength(0);
+                appendChange(line, change);
+                writer.append(line).append('\n');
+                if (range[0] == 0) {
+                    range[0] = change.getSequence();
+                }
+                range[1] = change.getSequence();
+                count[0]++;
+                return true;
+            });
+            writer.flush();
+            channel.force(true);
+            committedBytes = channel.size();
+        }
+
+        properties.setProperty("sequence", Long.toString(range[1]));
+        properties.setProperty("bytes", Long.toString(committedBytes));
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "Global Bridge change export checkpoint");
+        }
+        try {
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new Result(count[0], range[0], range[1]);
+    }
+
+    /**
+     * 출력 파일의 체크포인트 파일 경로를 반환합니다.
+     *
+     * @param output 출력 파일
+     * @return 체크포인트 파일
+     */
+    public static Path checkpointFile(Path output) {
+        return output.resolveSibling(output.getFileName() + CHECKPOINT_SUFFIX);
+    }
+
+    private static void appendChange(StringBuilder line, ChangeFeed.ChangeRecord change) {
+        line.append("{\"seq\":").append(change.getSequence());
+        line.append(",\"op\":\"").append(change.isDelete() ? "delete" : "upsert").append('"');
+        line.append(",\"type\":\"").append(change.getType().getLabel()).append('"');
+        appendField(line, "id", change.getId());
+        Participant participant = change.getParticipant();
+        if (participant != null) {
+            appendField(line, "name", participant.getName());
+            appendField(line, "major", participant.getMajor());
+            appendField(line, "language", participant.getLanguage());
+            line.append(",\"grade\":").append(participant.getGrade());
+        }
+        Pair pair = change.getPair();
+        if (pair != null) {
+            appendField(line, "mentorId", pair.getMentor().getStudentId());
+            appendField(line, "mentorName", pair.getMentor().getName());
+            appendField(line, "menteeId", pair.getMentee().getStudentId());
+            appendField(line, "menteeName", pair.getMentee().getName());
+        }
+        line.append('}');
+    }
+
+    private static void appendField(StringBuilder line, String name, String value) {
+        line.append(",\"").append(name).append("\":");
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = c < 0x80 ? Escaping.JSON.replacement(c) : null;
+            if (replacement != null) {
+                line.append(replacement);
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    /**
+     * 한 번의 내보내기 결과입니다.
+     */
+    public static final class Result {
+        private final int count;
+        private final long firstSequence;
+        private final long lastSequence;
+
+        Result(int count, long firstSequence, long lastSequence) {
+            this.count = count;
+            this.firstSequence = firstSequence;
+            this.lastSequence = lastSequence;
+        }
+
+        /** @return 내보낸 변경 수 */
+        public int getCount() { return count; }
+
+        /** @return 처음 내보낸 변경의 순번, 내보낸 변경이 없으면 0 */
+        public long getFirstSequence() { return firstSequence; }
+
+        /** @return 새 체크포인트 순번 */
+        public long getLastSequence() { return lastSequence; }
+    }
+}
@@ -0,0 +1,70 @@
+package com.globalbridge.report;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 보고서 형식별 문자열 이스케이프 규칙입니다.
+ *
+ * <p>
+ * 이스케이프가 필요한 문자는 모두 ASCII이므로, UTF-8 바이트 상태의 문자열에도
+ * 바이트 단위로 같은 규칙을 적용할 수 있습니다.
+ * </p>
+ */
+public enum Escaping {
+    /** 그대로 기록 */
+    NONE,
+
+    /** 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 큰따옴표는 두 번 씀 (RFC 4180) */
+    CSV,
+
+    /** HTML 특수 문자를 문자 참조로 바꿈 */
+    HTML,
+
+    /** JSON 문자열 안에서 쓸 수 없는 문자를 역슬래시로 이스케이프 */
+    JSON;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * 이 문자가 있으면 값 전체를 큰따옴표로 감싸야 하는지 확인합니다.
+     */
+    boolean needsQuotes(int c) {
+        return this == CSV && (c == ',' || c == '"' || c == '\n' || c == '\r');
+    }
+
+    /**
+     * ASCII 문자의 대체 문자열을 반환합니다.
+     *
+     * @param c 문자 (0~127)
+     * @return 대체 문자열, 그대로 쓰면 null
+     */
+    String replacement(int c) {
+        switch (this) {
+            case CSV:
+                return c == '"' ? "\"\"" : null;
+            case HTML:
+                switch (c) {
+                    case '&': return "&amp;";
+                    case '<': return "&lt;";
+                    case '>': return "&gt;";
+                    case '"': return "&quot;";
+                    case '\'': return "&#39;";
+                    default: return null;
+                }
+            case JSON:
+                switch (c) {
+                    case '"': return "\\\"";
+                    case '\\': return "\\\\";
+                    case '\n': return "\\n";
+                    case '\r': return "\\r";
+                    case '\t': return "\\t";
+                    default:
+                        return c < 0x20 ? "\\u00" + HEX[c >> 4] + HEX[c & 0xF] : null;
+                }
+            default:
+                return null;
+        }
+    }
+}
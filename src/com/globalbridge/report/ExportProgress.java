@@ -0,0 +1,23 @@
+package com.globalbridge.report;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 보고서 내보내기 진행 상황을 전달받는 콜백입니다.
+ *
+ * <p>
+ * 내보내기를 실행하는 스레드에서 호출되므로, 화면을 갱신하려면 이벤트 디스패치 스레드로 넘겨야 합니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface ExportProgress {
+    /**
+     * 진행 상황을 전달합니다.
+     *
+     * @param done 기록한 행 수
+     * @param total 전체 행 수
+     */
+    void update(long done, long total);
+}
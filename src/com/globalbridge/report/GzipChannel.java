@@ -0,0 +1,104 @@
+package com.globalbridge.report;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 기록하는 바이트를 GZIP 형식(RFC 1952)으로 압축하여 다른 채널에 전달하는 채널입니다.
+ *
+ * <p>
+ * {@link java.util.zip.GZIPOutputStream}과 달리 {@link Deflater}와 {@link CRC32}의
+ * {@link ByteBuffer} API를 사용하므로, direct 버퍼의 내용을 힙 배열로 복사하지 않고 압축합니다.
+ * </p>
+ */
+final class GzipChannel implements WritableByteChannel {
+    /** 압축 출력 버퍼 크기 */
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 18;
+
+    /** 헤더: ID1, ID2, CM=deflate, FLG, MTIME(4), XFL, OS=unknown */
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final WritableByteChannel out;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer compressed = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+    private boolean open = true;
+
+    GzipChannel(WritableByteChannel out) throws IOException {
+        this.out = out;
+        compressed.put(HEADER);
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        int length = src.remaining();
+        crc.update(src.duplicate());
+        // Deflater는 입력 버퍼를 계속 참조하므로, 호출자가 버퍼를 비우고 재사용해도
+        // 다시 읽히지 않도록 복제본을 넘기고 입력을 모두 소비한 뒤 반환합니다.
+        deflater.setInput(src.duplicate());
+        while (!deflater.needsInput()) {
+            deflate(Deflater.NO_FLUSH);
+        }
+        src.position(src.limit());
+        return length;
+    }
+
+    private void deflate(int flush) throws IOException {
+        deflater.deflate(compressed, flush);
+        if (!compressed.hasRemaining()) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        compressed.flip();
+        while (compressed.hasRemaining()) {
+            out.write(compressed);
+        }
+        compressed.clear();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 남은 데이터를 압축하고 트레일러(CRC-32, 원본 크기)를 기록한 뒤 대상 채널을 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(Deflater.NO_FLUSH);
+            }
+            if (compressed.remaining() < 8) {
+                drain();
+            }
+            compressed.order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt((int) crc.getValue())
+                    .putInt((int) deflater.getBytesRead());
+            drain();
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.globalbridge.report;
+
+import com.globalbridge.model.Activity;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 문자열과 숫자를 UTF-8로 인코딩하여 채널에 기록하는 재사용 가능한 인코더 클래스입니다.
+ *
+ * <p>
+ * 문자는 크기가 고정된 direct 버퍼에 바로 인코딩되고, 버퍼가 차면 채널(보통 {@link FileChannel})에
+ * 통째로 기록됩니다. 중간 문자열이나 {@code String.format}을 사용하지 않으므로,
+ * 출력 크기와 관계없이 메모리 사용량은 버퍼 크기로 고정됩니다.
+ * 이미 UTF-8 바이트로 저장된 값(활동 내용)은 {@link #append(ByteBuffer, Escaping)}로 디코딩 없이 옮깁니다.
+ * {@link Appendable}이므로 {@link com.globalbridge.model.ActivityLog#appendTo(int, StringBuilder, Appendable)}
+ * 등의 출력 대상으로도 사용할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 한 스레드에서만 사용해야 합니다.
+ * </p>
+ */
+public class ReportEncoder implements Appendable, Closeable {
+    /** 기본 버퍼 크기 (4MB) */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 22;
+
+    /** UTF-8 문자 하나의 최대 바이트 수 */
+    private static final int MAX_CHAR_BYTES = 4;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /** 숫자와 시각을 문자로 바꿀 때 재사용하는 작업 버퍼 */
+    private final StringBuilder scratch = new StringBuilder(32);
+
+    private long bytesWritten;
+
+    /**
+     * 기본 버퍼 크기로 인코더를 생성합니다.
+     *
+     * @param channel 출력 채널
+     */
+    public ReportEncoder(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 지정한 버퍼 크기로 인코더를 생성합니다.
+     *
+     * @param channel 출력 채널
+     * @param bufferSize 버퍼 크기 (바이트, 16 이상)
+     */
+    public ReportEncoder(WritableByteChannel channel, int bufferSize) {
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("버퍼 크기는 16바이트 이상이어야 합니다.");
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * 파일을 새로 만들거나 덮어쓰는 인코더를 엽니다.
+     *
+     * @param file 출력 파일
+     * @param gzip true이면 GZIP으로 압축하여 기록
+     * @return 인코더
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public static ReportEncoder open(Path file, boolean gzip) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            return new ReportEncoder(gzip ? new GzipChannel(channel) : channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 문자열을 그대로 기록합니다.
+     *
+     * @param text 문자열 (null이면 아무것도 기록하지 않음)
+     * @return 이 인코더
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    @Override
+    public ReportEncoder append(CharSequence text) throws IOException {
+        return append(text, Escaping.NONE);
+    }
+
+    /**
+     * 문자열의 일부를 그대로 기록합니다.
+     *
+     * @param text 문자열 (null이면 아무것도 기록하지 않음)
+     * @param start 시작 위치
+     * @param end 끝 위치 (제외)
+     * @return 이 인코더
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    @Override
+    public ReportEncoder append(CharSequence text, int start, int end) throws IOException {
+        return text == null ? this : append(text.subSequence(start, end), Escaping.NONE);
+    }
+
+    /**
+     * 문자 하나를 기록합니다.
+     *
+     * @param c 문자
+     * @return 이 인코더
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    @Override
+    public ReportEncoder append(char c) throws IOException {
+        if (c < 0x80) {
+            ensure(1);
+            buffer.put((byte) c);
+        } else {
+            putCodePoint(Character.isSurrogate(c) ? '?' : c);
+        }
+        return this;
+    }
+
+    /**
+     * 정수를 10진수로 기록합니다.
+     *
+     * @param value 값
+     * @return 이 인코더
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public ReportEncoder append(long value) throws IOException {
+        scratch.setLength(0);
+        scratch.append(value);
+        return append(scratch, Escaping.NONE);
+    }
+
+    /**
+     * 시각을 {@link Activity#DATE_FORMAT} 형식("yyyy-MM-dd HH:mm")으로 기록합니다.
+     *
+     * @param epochMillis 시각 (epoch millis)
+     * @return 이 인코더
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public ReportEncoder appendTimestamp(long epochMillis) throws IOException {
+        scratch.setLength(0);
+        Activity.appendTimestamp(scratch, epochMillis);
+        return append(scratch, Escaping.NONE);
+    }
+
+    /**
+     * 문자열을 이스케이프하여 기록합니다.
+     *
+     * @param text 문자열 (null이면 아무것도 기록하지 않음)
+     * @param escaping 이스케이프 규칙
+     * @return 이 인코더
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public ReportEncoder append(CharSequence text, Escaping escaping) throws IOException {
+        if (text == null) {
+            return this;
+        }
+        int length = text.length();
+        boolean quote = false;
+        if (escaping == Escaping.CSV) {
+            for (int i = 0; i < length && !quote; i++) {
+                quote = escaping.needsQuotes(text.charAt(i));
+            }
+        }
+        if (quote) {
+            append('"');
+        }
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                String replacement = escaping == Escaping.NONE ? null : escaping.replacement(c);
+                if (replacement != null) {
+                    appendAscii(replacement);
+                } else {
+                    ensure(1);
+                    buffer.put((byte) c);
+                }
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                putCodePoint(Character.toCodePoint(c, text.charAt(++i)));
+            } else {
+                putCodePoint(Character.isSurrogate(c) ? '?' : c);
+            }
+        }
+        if (quote) {
+            append('"');
+        }
+        return this;
+    }
+
+    /**
+     * UTF-8 바이트로 된 문자열을 디코딩 없이 이스케이프하여 기록합니다.
+     *
+     * @param utf8 position부터 limit까지 UTF-8 문자열이 담긴 버퍼 (위치는 바뀌지 않음)
+     * @param escaping 이스케이프 규칙
+     * @return 이 인코더
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public ReportEncoder append(ByteBuffer utf8, Escaping escaping) throws IOException {
+        int start = utf8.position();
+        int end = utf8.limit();
+        boolean quote = false;
+        boolean plain = true;
+        if (escaping != Escaping.NONE) {
+            for (int i = start; i < end; i++) {
+                int b = utf8.get(i);
+                if (b >= 0 && (escaping.needsQuotes(b) || escaping.replacement(b) != null)) {
+                    plain = false;
+                    quote |= escaping.needsQuotes(b);
+                }
+            }
+        }
+        if (plain) {
+            putBytes(utf8.duplicate());
+            return this;
+        }
+
+        if (quote) {
+            append('"');
+        }
+        int runStart = start;
+        for (int i = start; i < end; i++) {
+            int b = utf8.get(i);
+            String replacement = b >= 0 ? escaping.replacement(b) : null;
+            if (replacement != null) {
+                putBytes(utf8.duplicate().limit(i).position(runStart));
+                appendAscii(replacement);
+                runStart = i + 1;
+            }
+        }
+        putBytes(utf8.duplicate().limit(end).position(runStart));
+        if (quote) {
+            append('"');
+        }
+        return this;
+    }
+
+    /**
+     * 지금까지 기록된 바이트 수(압축 전, 버퍼에 남은 바이트 포함)를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public long getBytesWritten() {
+        return bytesWritten + buffer.position();
+    }
+
+    /**
+     * 버퍼에 남은 내용을 채널에 기록합니다.
+     *
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * 버퍼에 남은 내용을 기록하고 채널을 닫습니다.
+     *
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void appendAscii(String ascii) throws IOException {
+        ensure(ascii.length());
+        for (int i = 0; i < ascii.length(); i++) {
+            buffer.put((byte) ascii.charAt(i));
+        }
+    }
+
+    private void putCodePoint(int cp) throws IOException {
+        ensure(MAX_CHAR_BYTES);
+        if (cp < 0x80) {
+            buffer.put((byte) cp);
+        } else if (cp < 0x800) {
+            buffer.put((byte) (0xC0 | (cp >> 6)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        } else if (cp < 0x10000) {
+            buffer.put((byte) (0xE0 | (cp >> 12)));
+            buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        } else {
+            buffer.put((byte) (0xF0 | (cp >> 18)));
+            buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+            buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (cp & 0x3F)));
+        }
+    }
+
+    private void putBytes(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int count = Math.min(source.remaining(), buffer.remaining());
+            buffer.put(source.duplicate().limit(source.position() + count));
+            source.position(source.position() + count);
+        }
+    }
+}
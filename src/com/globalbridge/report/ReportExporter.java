@@ -0,0 +1,191 @@
+package com.globalbridge.report;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 참가자, 매칭, 활동 보고서를 CSV, HTML, JSON Lines 파일로 내보내는 클래스입니다.
+ *
+ * <p>
+ * 보고서는 저장소를 처음부터 순서대로 읽으며 {@link ReportEncoder}로 바로 기록되므로,
+ * 문서 전체를 메모리에 만들지 않습니다. 활동 내용은 활동 저장소의 UTF-8 바이트를 그대로 옮기고,
+ * 출력은 고정 크기 direct 버퍼를 거쳐 {@link java.nio.channels.FileChannel}에 기록되므로
+ * 활동 수와 관계없이 메모리 사용량이 일정합니다.
+ * </p>
+ *
+ * <p>
+ * 생성 시점의 참가자 목록과 매칭을 복사해 두고, 활동은 생성 시점까지 기록된 행만 내보냅니다.
+ * 활동 저장소는 동기화되어 있지 않으므로, 다른 스레드에서 내보내는 동안에는 활동을 추가하지 않아야 합니다.
+ * </p>
+ */
+public class ReportExporter {
+    /** 진행 상황을 알리고 취소 여부를 확인하는 행 간격 */
+    private static final int PROGRESS_INTERVAL = 1 << 16;
+
+    private final List<Participant> participants;
+    private final Map<String, Pair> matches;
+    private final ActivityLog log;
+    private final int activityCount;
+
+    /**
+     * 현재 데이터로 보고서 내보내기를 준비합니다. 이벤트 디스패치 스레드에서 호출해야 합니다.
+     *
+     * @param participants 참가자 목록
+     * @param matches 매칭 ID → 매칭
+     * @param log 활동 저장소
+     */
+    public ReportExporter(List<Participant> participants, Map<String, Pair> matches, ActivityLog log) {
+        this.participants = new ArrayList<>(participants);
+        this.matches = new HashMap<>(matches);
+        this.log = log;
+        this.activityCount = log.size();
+    }
+
+    /**
+     * 보고서의 전체 행 수를 반환합니다.
+     *
+     * @param type 보고서 종류
+     * @return 행 수
+     */
+    public long count(ReportType type) {
+        switch (type) {
+            case PARTICIPANTS:
+                return participants.size();
+            case PAIRS:
+                return matches.size();
+            default:
+                return activityCount;
+        }
+    }
+
+    /**
+     * 보고서를 파일로 내보냅니다.
+     *
+     * <p>
+     * 실행 중인 스레드가 인터럽트되면 진행 상황을 알리는 시점에 중단하고 {@link InterruptedIOException}을 던집니다.
+     * 이때 파일은 일부만 기록된 상태로 남습니다.
+     * </p>
+     *
+     * @param type 보고서 종류
+     * @param format 파일 형식
+     * @param file 출력 파일
+     * @param gzip true이면 GZIP으로 압축
+     * @param progress 진행 상황 콜백 (없으면 null)
+     * @return 기록한 바이트 수 (압축 전)
+     * @throws IOException 기록 중 오류가 발생하거나 중단된 경우
+     */
+    public long export(ReportType type, ReportFormat format, Path file, boolean gzip,
+                       ExportProgress progress) throws IOException {
+        try (ReportEncoder out = ReportEncoder.open(file, gzip)) {
+            switch (type) {
+                case PARTICIPANTS:
+                    writeParticipants(RowWriter.create(format, out,
+                            new String[] {"studentId", "name", "major", "language", "grade", "mentor"},
+                            new String[] {"학번", "이름", "전공", "언어", "학년", "멘토 여부"}), progress);
+                    break;
+                case PAIRS:
+                    writePairs(RowWriter.create(format, out,
+                            new String[] {"matchId", "mentorId", "mentorName", "menteeId", "menteeName", "activityCount"},
+                            new String[] {"매칭 ID", "멘토 학번", "멘토 이름", "멘티 학번", "멘티 이름", "활동 수"}), progress);
+                    break;
+                default:
+                    writeActivities(RowWriter.create(format, out,
+                            new String[] {"row", "matchId", "mentorName", "menteeName", "time", "content", "location", "completed"},
+                            new String[] {"번호", "매칭 ID", "멘토", "멘티", "일시", "내용", "장소", "완료"}), progress);
+                    break;
+            }
+            return out.getBytesWritten();
+        }
+    }
+
+    private void writeParticipants(RowWriter writer, ExportProgress progress) throws IOException {
+        writer.begin("참가자 목록");
+        long total = participants.size();
+        for (int i = 0; i < participants.size(); i++) {
+            Participant participant = participants.get(i);
+            writer.startRow();
+            writer.text(participant.getStudentId());
+            writer.text(participant.getName());
+            writer.text(participant.getMajor());
+            writer.text(participant.getLanguage());
+            writer.number(participant.getGrade());
+            writer.bool(participant.isMentor());
+            writer.endRow();
+            report(progress, i + 1, total);
+        }
+        writer.end();
+        finish(progress, total);
+    }
+
+    private void writePairs(RowWriter writer, ExportProgress progress) throws IOException {
+        writer.begin("매칭 목록");
+        long total = matches.size();
+        long done = 0;
+        for (Map.Entry<String, Pair> entry : matches.entrySet()) {
+            Pair pair = entry.getValue();
+            writer.startRow();
+            writer.text(entry.getKey());
+            writer.text(pair.getMentor().getStudentId());
+            writer.text(pair.getMentor().getName());
+            writer.text(pair.getMentee().getStudentId());
+            writer.text(pair.getMentee().getName());
+            writer.number(log.getActivities(entry.getKey()).size());
+            writer.endRow();
+            report(progress, ++done, total);
+        }
+        writer.end();
+        finish(progress, total);
+    }
+
+    private void writeActivities(RowWriter writer, ExportProgress progress) throws IOException {
+        writer.begin("활동 기록");
+        for (int row = 0; row < activityCount; row++) {
+            String matchId = log.getPairId(row);
+            Pair pair = matches.get(matchId);
+            writer.startRow();
+            writer.number(row);
+            writer.text(matchId);
+            writer.text(pair != null ? pair.getMentor().getName() : null);
+            writer.text(pair != null ? pair.getMentee().getName() : null);
+            writer.timestamp(log.getEpochMillis(row));
+            writer.text(log.getContentBytes(row));
+            writer.text(log.getLocation(row));
+            writer.bool(log.isCompleted(row));
+            writer.endRow();
+            report(progress, row + 1, activityCount);
+        }
+        writer.end();
+        finish(progress, activityCount);
+    }
+
+    private static void report(ExportProgress progress, long done, long total) throws InterruptedIOException {
+        if ((done & (PROGRESS_INTERVAL - 1)) != 0) {
+            return;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("보고서 내보내기가 취소되었습니다.");
+        }
+        if (progress != null) {
+            progress.update(done, total);
+        }
+    }
+
+    private static void finish(ExportProgress progress, long total) {
+        if (progress != null) {
+            progress.update(total, total);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.globalbridge.report;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 보고서 파일 형식입니다.
+ */
+public enum ReportFormat {
+    /** 쉼표로 구분된 값 (UTF-8 BOM 포함, 엑셀에서 한글이 깨지지 않음) */
+    CSV("CSV", "csv"),
+
+    /** 표 하나로 된 HTML 문서 */
+    HTML("HTML", "html"),
+
+    /** 한 줄에 JSON 객체 하나 */
+    JSON_LINES("JSON Lines", "jsonl");
+
+    private final String label;
+    private final String extension;
+
+    ReportFormat(String label, String extension) {
+        this.label = label;
+        this.extension = extension;
+    }
+
+    /**
+     * 파일 확장자를 반환합니다.
+     * @return 점(.)을 제외한 확장자
+     */
+    public String getExtension() { return extension; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,38 @@
+package com.globalbridge.report;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 보고서에 담을 데이터 종류입니다.
+ */
+public enum ReportType {
+    /** 참가자 목록 */
+    PARTICIPANTS("참가자", "participants"),
+
+    /** 매칭 목록 */
+    PAIRS("매칭", "pairs"),
+
+    /** 활동 기록 */
+    ACTIVITIES("활동", "activities");
+
+    private final String label;
+    private final String fileName;
+
+    ReportType(String label, String fileName) {
+        this.label = label;
+        this.fileName = fileName;
+    }
+
+    /**
+     * 기본 파일 이름(확장자 제외)을 반환합니다.
+     * @return 파일 이름
+     */
+    public String getFileName() { return fileName; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,248 @@
+package com.globalbridge.report;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 보고서 형식에 맞추어 표 형태의 행을 인코더에 기록하는 클래스입니다.
+ *
+ * <p>
+ * 각 열은 JSON 키로 쓰는 영문 이름과 CSV/HTML 머리글로 쓰는 표시 이름을 가집니다.
+ * 행은 {@link #startRow()}, 열 순서대로의 값 기록, {@link #endRow()} 순으로 기록합니다.
+ * </p>
+ */
+abstract class RowWriter {
+    final ReportEncoder out;
+    final String[] keys;
+    final String[] labels;
+    int column;
+
+    RowWriter(ReportEncoder out, String[] keys, String[] labels) {
+        this.out = out;
+        this.keys = keys;
+        this.labels = labels;
+    }
+
+    static RowWriter create(ReportFormat format, ReportEncoder out, String[] keys, String[] labels) {
+        switch (format) {
+            case CSV:
+                return new Csv(out, keys, labels);
+            case HTML:
+                return new Html(out, keys, labels);
+            default:
+                return new JsonLines(out, keys, labels);
+        }
+    }
+
+    /** 문서 머리(머리글 행 등)를 기록합니다. */
+    abstract void begin(String title) throws IOException;
+
+    /** 문서 끝을 기록합니다. */
+    abstract void end() throws IOException;
+
+    void startRow() throws IOException {
+        column = 0;
+    }
+
+    abstract void endRow() throws IOException;
+
+    /** 다음 열의 시작을 기록합니다. */
+    abstract void startCell() throws IOException;
+
+    /** 현재 열의 끝을 기록합니다. */
+    void endCell() throws IOException {
+        column++;
+    }
+
+    abstract Escaping escaping();
+
+    /** 문자열 값을 기록할 때 앞뒤에 붙이는 문자 (JSON의 큰따옴표) */
+    String stringQuote() {
+        return null;
+    }
+
+    /** 값이 없을 때 기록하는 문자열 */
+    String nullValue() {
+        return "";
+    }
+
+    void text(CharSequence value) throws IOException {
+        startCell();
+        if (value == null) {
+            out.append(nullValue());
+        } else {
+            out.append(stringQuote()).append(value, escaping()).append(stringQuote());
+        }
+        endCell();
+    }
+
+    void text(ByteBuffer utf8) throws IOException {
+        startCell();
+        out.append(stringQuote()).append(utf8, escaping()).append(stringQuote());
+        endCell();
+    }
+
+    void number(long value) throws IOException {
+        startCell();
+        out.append(value);
+        endCell();
+    }
+
+    void bool(boolean value) throws IOException {
+        startCell();
+        out.append(value ? "true" : "false");
+        endCell();
+    }
+
+    void timestamp(long epochMillis) throws IOException {
+        startCell();
+        out.append(stringQuote()).appendTimestamp(epochMillis).append(stringQuote());
+        endCell();
+    }
+
+    /**
+     * CSV (RFC 4180). 엑셀이 UTF-8로 인식하도록 BOM으로 시작합니다.
+     */
+    private static final class Csv extends RowWriter {
+        Csv(ReportEncoder out, String[] keys, String[] labels) {
+            super(out, keys, labels);
+        }
+
+        @Override
+        void begin(String title) throws IOException {
+            out.append('\uFEFF');
+            startRow();
+            for (String label : labels) {
+                text(label);
+            }
+            endRow();
+        }
+
+        @Override
+        void end() {
+        }
+
+        @Override
+        void endRow() throws IOException {
+            out.append("\r\n");
+        }
+
+        @Override
+        void startCell() throws IOException {
+            if (column > 0) {
+                out.append(',');
+            }
+        }
+
+        @Override
+        Escaping escaping() {
+            return Escaping.CSV;
+        }
+    }
+
+    /**
+     * 표 하나로 된 HTML 문서.
+     */
+    private static final class Html extends RowWriter {
+        Html(ReportEncoder out, String[] keys, String[] labels) {
+            super(out, keys, labels);
+        }
+
+        @Override
+        void begin(String title) throws IOException {
+            out.append("<!DOCTYPE html>\n<html lang=\"ko\">\n<head>\n<meta charset=\"utf-8\">\n<title>")
+                    .append(title, Escaping.HTML)
+                    .append("</title>\n<style>table{border-collapse:collapse}"
+                            + "th,td{border:1px solid #ccc;padding:2px 6px}</style>\n</head>\n<body>\n<h1>")
+                    .append(title, Escaping.HTML)
+                    .append("</h1>\n<table>\n<thead><tr>");
+            for (String label : labels) {
+                out.append("<th>").append(label, Escaping.HTML).append("</th>");
+            }
+            out.append("</tr></thead>\n<tbody>\n");
+        }
+
+        @Override
+        void end() throws IOException {
+            out.append("</tbody>\n</table>\n</body>\n</html>\n");
+        }
+
+        @Override
+        void startRow() throws IOException {
+            super.startRow();
+            out.append("<tr>");
+        }
+
+        @Override
+        void endRow() throws IOException {
+            out.append("</tr>\n");
+        }
+
+        @Override
+        void startCell() throws IOException {
+            out.append("<td>");
+        }
+
+        @Override
+        void endCell() throws IOException {
+            out.append("</td>");
+            super.endCell();
+        }
+
+        @Override
+        Escaping escaping() {
+            return Escaping.HTML;
+        }
+    }
+
+    /**
+     * JSON Lines: 한 줄에 열 이름을 키로 하는 JSON 객체 하나.
+     */
+    private static final class JsonLines extends RowWriter {
+        JsonLines(ReportEncoder out, String[] keys, String[] labels) {
+            super(out, keys, labels);
+        }
+
+        @Override
+        void begin(String title) {
+        }
+
+        @Override
+        void end() {
+        }
+
+        @Override
+        void startRow() throws IOException {
+            super.startRow();
+            out.append('{');
+        }
+
+        @Override
+        void endRow() throws IOException {
+            out.append("}\n");
+        }
+
+        @Override
+        void startCell() throws IOException {
+            if (column > 0) {
+                out.append(',');
+            }
+            out.append('"').append(keys[column], Escaping.JSON).append("\":");
+        }
+
+        @Override
+        Escaping escaping() {
+            return Escaping.JSON;
+        }
+
+        @Override
+        String stringQuote() {
+            return "\"";
+        }
+
+        @Override
+        String nullValue() {
+            return "null";
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.globalbridge.rollup;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 활동 수와 완료된 활동 수를 일, 주, 월 구간과 기준(전체, 매칭, 전공, 장소)별로 미리 집계해 두는 클래스입니다.
+ *
+ * <p>
+ * 활동이 추가되거나 완료 상태가 바뀔 때마다 해당 활동이 속한 구간의 카운터만 고치므로,
+ * 대시보드는 활동 기록을 다시 훑지 않고 집계 결과만 읽어 표시할 수 있습니다.
+ * 기준 키마다 구간 번호 순으로 정렬된 배열({@code Series})을 두며, 활동은 대부분 시간 순으로 추가되므로
+ * 보통 배열 끝에 붙거나 마지막 구간을 고치는 것으로 끝납니다.
+ * 한 키의 구간 범위 조회는 이진 탐색 후 범위 안의 구간만 읽으므로 O(log n + 구간 수)입니다.
+ * </p>
+ *
+ * <p>
+ * 전공별 집계는 매칭의 멘토와 멘티 전공에 각각 반영하며, 매칭이 해제된 뒤에도 같은 전공에 반영되도록
+ * 매칭마다 처음 집계할 때의 전공을 기억합니다. 집계는 저장 파일에 함께 저장되며,
+ * 저장된 집계가 없거나 활동 기록과 맞지 않으면 {@link #build}로 다시 만듭니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 변경해야 하며,
+ * 활동 기록을 바꾸는 쪽에서 각 변경 메서드를 함께 호출해야 합니다.
+ * </p>
+ */
+public class ActivityRollup implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final Granularity[] GRANULARITIES = Granularity.values();
+    private static final Dimension[] DIMENSIONS = Dimension.values();
+
+    /** 전체 기준의 유일한 키 */
+    private static final String ALL_KEY = "";
+
+    /** 날짜를 정하는 시간대 ID */
+    private final String zoneId;
+
+    /** [단위 × 기준 수 + 기준] 위치의 키별 구간 계열 */
+    private final ArrayList<HashMap<String, Series>> tables;
+
+    /** 매칭 ID별로 처음 집계할 때의 전공 */
+    private final HashMap<String, String[]> pairMajors = new HashMap<>();
+
+    private int activityCount;
+    private int completedCount;
+
+    private transient ZoneId zone;
+
+    /**
+     * 시스템 기본 시간대로 날짜를 정하는 빈 집계를 생성합니다.
+     */
+    public ActivityRollup() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * 날짜를 정할 시간대를 지정하는 생성자.
+     *
+     * @param zone 시간대
+     */
+    public ActivityRollup(ZoneId zone) {
+        this.zone = zone;
+        this.zoneId = zone.getId();
+        this.tables = new ArrayList<>(GRANULARITIES.length * DIMENSIONS.length);
+        for (int i = 0; i < GRANULARITIES.length * DIMENSIONS.length; i++) {
+            tables.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 활동 기록 전체를 집계합니다.
+     *
+     * @param log 활동 기록
+     * @param matches 매칭 정보 (전공 조회용)
+     * @return 새 집계
+     */
+    public static ActivityRollup build(ActivityLog log, Map<String, ? extends Pair> matches) {
+        ActivityRollup rollup = new ActivityRollup();
+        rollup.addRange(log, 0, log.size(), matches);
+        return rollup;
+    }
+
+    /**
+     * 활동 기록에 추가된 활동 하나를 집계에 반영합니다.
+     *
+     * @param log 활동 기록
+     * @param row 추가된 활동의 행 번호
+     * @param matches 매칭 정보 (전공 조회용)
+     */
+    public void add(ActivityLog log, int row, Map<String, ? extends Pair> matches) {
+        apply(log, row, 1, log.isCompleted(row) ? 1 : 0, matches);
+    }
+
+    /**
+     * 활동 기록에 일괄 추가된 활동들을 집계에 반영합니다.
+     *
+     * @param log 활동 기록
+     * @param from 첫 행 번호
+     * @param to 마지막 행 번호 + 1
+     * @param matches 매칭 정보 (전공 조회용)
+     */
+    public void addRange(ActivityLog log, int from, int to, Map<String, ? extends Pair> matches) {
+        for (int row = from; row < to; row++) {
+            add(log, row, matches);
+        }
+    }
+
+    /**
+     * 여러 매칭의 활동 완료 상태가 바뀌는 것을 집계에 반영합니다.
+     *
+     * <p>
+     * 상태가 실제로 바뀌는 활동만 반영하므로, 활동 기록의 상태를 바꾸기 <em>전에</em> 호출해야 합니다.
+     * </p>
+     *
+     * @param log 활동 기록
+     * @param pairIds 매칭 ID 목록
+     * @param completed 설정할 완료 상태
+     * @param matches 매칭 정보 (전공 조회용)
+     */
+    public void setCompleted(ActivityLog log, Collection<String> pairIds, boolean completed,
+                             Map<String, ? extends Pair> matches) {
+        for (String pairId : pairIds) {
+            for (PrimitiveIterator.OfInt rows = log.rows(pairId); rows.hasNext(); ) {
+                int row = rows.nextInt();
+                if (log.isCompleted(row) != completed) {
+                    apply(log, row, 0, completed ? 1 : -1, matches);
+                }
+            }
+        }
+    }
+
+    private void apply(ActivityLog log, int row, int deltaTotal, int deltaCompleted,
+                       Map<String, ? extends Pair> matches) {
+        LocalDate date = Instant.ofEpochMilli(log.getEpochMillis(row)).atZone(getZone()).toLocalDate();
+        String pairId = log.getPairId(row);
+        String location = log.getLocation(row);
+        String[] majors = majorsOf(pairId, matches);
+        for (Granularity granularity : GRANULARITIES) {
+            int bucket = granularity.bucketOf(date);
+            add(granularity, Dimension.ALL, ALL_KEY, bucket, deltaTotal, deltaCompleted);
+            add(granularity, Dimension.PAIR, pairId, bucket, deltaTotal, deltaCompleted);
+            add(granularity, Dimension.LOCATION, location, bucket, deltaTotal, deltaCompleted);
+            for (String major : majors) {
+                add(granularity, Dimension.MAJOR, major, bucket, deltaTotal, deltaCompleted);
+            }
+        }
+        activityCount += deltaTotal;
+        completedCount += deltaCompleted;
+    }
+
+    private void add(Granularity granularity, Dimension dimension, String key, int bucket,
+                     int deltaTotal, int deltaCompleted) {
+        table(granularity, dimension).computeIfAbsent(key, k -> new Series())
+                .add(bucket, deltaTotal, deltaCompleted);
+    }
+
+    private String[] majorsOf(String pairId, Map<String, ? extends Pair> matches) {
+        String[] majors = pairMajors.get(pairId);
+        if (majors == null) {
+            Pair pair = matches.get(pairId);
+            Set<String> distinct = new LinkedHashSet<>(2);
+            if (pair != null) {
+                for (Participant participant : new Participant[] {pair.getMentor(), pair.getMentee()}) {
+                    String major = participant.getMajor();
+                    if (major != null && !major.isBlank()) {
+                        distinct.add(major.trim());
+                    }
+                }
+            }
+            majors = distinct.toArray(new String[0]);
+            pairMajors.put(pairId, majors);
+        }
+        return majors;
+    }
+
+    private HashMap<String, Series> table(Granularity granularity, Dimension dimension) {
+        return tables.get(granularity.ordinal() * DIMENSIONS.length + dimension.ordinal());
+    }
+
+    /**
+     * 한 구간의 집계를 반환합니다.
+     *
+     * @param granularity 구간 단위
+     * @param dimension 기준
+     * @param key 기준 키 (전체 기준이면 무시)
+     * @param bucket 구간 번호
+     * @return 집계 결과, 활동이 없으면 0건
+     */
+    public RollupBucket get(Granularity granularity, Dimension dimension, String key, int bucket) {
+        Series series = series(granularity, dimension, key);
+        int index = series == null ? -1 : series.indexOf(bucket);
+        return index < 0 ? new RollupBucket(bucket, 0, 0) : series.bucket(index);
+    }
+
+    /**
+     * 구간 범위 안에서 활동이 있는 구간들의 집계를 구간 순서로 반환합니다.
+     *
+     * @param granularity 구간 단위
+     * @param dimension 기준
+     * @param key 기준 키 (전체 기준이면 무시)
+     * @param fromBucket 첫 구간 번호
+     * @param toBucket 마지막 구간 번호 + 1
+     * @return 구간별 집계
+     */
+    public List<RollupBucket> range(Granularity granularity, Dimension dimension, String key,
+                                    int fromBucket, int toBucket) {
+        Series series = series(granularity, dimension, key);
+        if (series == null) {
+            return Collections.emptyList();
+        }
+        List<RollupBucket> result = new ArrayList<>();
+        for (int i = series.lowerBound(fromBucket); i < series.size && series.buckets[i] < toBucket; i++) {
+            result.add(series.bucket(i));
+        }
+        return result;
+    }
+
+    /**
+     * 구간 범위의 집계를 합산합니다.
+     *
+     * @param granularity 구간 단위
+     * @param dimension 기준
+     * @param key 기준 키 (전체 기준이면 무시)
+     * @param fromBucket 첫 구간 번호
+     * @param toBucket 마지막 구간 번호 + 1
+     * @return 합산 결과 (구간 번호는 fromBucket)
+     */
+    public RollupBucket total(Granularity granularity, Dimension dimension, String key,
+                              int fromBucket, int toBucket) {
+        int total = 0;
+        int completed = 0;
+        for (RollupBucket bucket : range(granularity, dimension, key, fromBucket, toBucket)) {
+            total += bucket.getTotal();
+            completed += bucket.getCompleted();
+        }
+        return new RollupBucket(fromBucket, total, completed);
+    }
+
+    /**
+     * 기준의 키 목록을 반환합니다.
+     *
+     * @param dimension 기준
+     * @return 활동이 집계된 키들 (읽기 전용)
+     */
+    public Set<String> keys(Dimension dimension) {
+        return Collections.unmodifiableSet(table(Granularity.MONTH, dimension).keySet());
+    }
+
+    /**
+     * 활동이 있는 구간 번호들을 오름차순으로 반환합니다.
+     *
+     * @param granularity 구간 단위
+     * @return 구간 번호 배열
+     */
+    public int[] buckets(Granularity granularity) {
+        Series series = series(granularity, Dimension.ALL, ALL_KEY);
+        return series == null ? new int[0] : Arrays.copyOf(series.buckets, series.size);
+    }
+
+    private Series series(Granularity granularity, Dimension dimension, String key) {
+        return table(granularity, dimension).get(dimension == Dimension.ALL ? ALL_KEY : key);
+    }
+
+    /**
+     * 시각이 속한 구간 번호를 이 집계의 시간대로 구합니다.
+     *
+     * @param granularity 구간 단위
+     * @param epochMillis 시각 (epoch 밀리초)
+     * @return 구간 번호
+     */
+    public int bucketOf(Granularity granularity, long epochMillis) {
+        return granularity.bucketOf(epochMillis, getZone());
+    }
+
+    /**
+     * 날짜를 정하는 시간대를 반환합니다.
+     * @return 시간대
+     */
+    public ZoneId getZone() {
+        if (zone == null) {
+            zone = ZoneId.of(zoneId);
+        }
+        return zone;
+    }
+
+    /**
+     * 집계된 활동 수를 반환합니다.
+     * @return 활동 수
+     */
+    public int getActivityCount() { return activityCount; }
+
+    /**
+     * 집계된 완료 활동 수를 반환합니다.
+     * @return 완료 활동 수
+     */
+    public int getCompletedCount() { return completedCount; }
+
+    /**
+     * 집계가 활동 기록과 맞는지 활동 수와 완료 활동 수로 확인합니다.
+     * 시스템 시간대가 집계할 때와 달라졌으면 날짜 구간이 달라지므로 맞지 않는 것으로 봅니다.
+     *
+     * @param log 활동 기록
+     * @return 두 수가 모두 같고 시간대가 같으면 true
+     */
+    public boolean isConsistentWith(ActivityLog log) {
+        return activityCount == log.size() && completedCount == log.countCompleted()
+                && zoneId.equals(ZoneId.systemDefault().getId());
+    }
+
+    /**
+     * 한 키의 구간별 카운터를 구간 번호 순으로 보관하는 배열입니다.
+     */
+    private static final class Series implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private int[] buckets = new int[4];
+        private int[] totals = new int[4];
+        private int[] completed = new int[4];
+        private int size;
+
+        void add(int bucket, int deltaTotal, int deltaCompleted) {
+            int index;
+            if (size > 0 && buckets[size - 1] == bucket) {
+                index = size - 1;
+            } else if (size == 0 || buckets[size - 1] < bucket) {
+                index = insert(size, bucket);
+            } else {
+                index = Arrays.binarySearch(buckets, 0, size, bucket);
+                if (index < 0) {
+                    index = insert(-index - 1, bucket);
+                }
+            }
+            totals[index] += deltaTotal;
+            completed[index] += deltaCompleted;
+        }
+
+        private int insert(int index, int bucket) {
+            if (size == buckets.length) {
+                int capacity = Math.max(4, size * 2);
+                buckets = Arrays.copyOf(buckets, capacity);
+                totals = Arrays.copyOf(totals, capacity);
+                completed = Arrays.copyOf(completed, capacity);
+            }
+            System.arraycopy(buckets, index, buckets, index + 1, size - index);
+            System.arraycopy(totals, index, totals, index + 1, size - index);
+            System.arraycopy(completed, index, completed, index + 1, size - index);
+            buckets[index] = bucket;
+            totals[index] = 0;
+            completed[index] = 0;
+            size++;
+            return index;
+        }
+
+        int indexOf(int bucket) {
+            return Arrays.binarySearch(buckets, 0, size, bucket);
+        }
+
+        int lowerBound(int bucket) {
+            int index = indexOf(bucket);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        RollupBucket bucket(int index) {
+            return new RollupBucket(buckets[index], totals[index], completed[index]);
+        }
+
+        /** 남는 용량을 잘라 낸 뒤 기록합니다. */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            buckets = Arrays.copyOf(buckets, Math.max(size, 1));
+            totals = Arrays.copyOf(totals, Math.max(size, 1));
+            completed = Arrays.copyOf(completed, Math.max(size, 1));
+            out.defaultWriteObject();
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            if (size < 0 || size > buckets.length || buckets.length != totals.length
+                    || buckets.length != completed.length) {
+                throw new InvalidObjectException("집계 구간 배열이 올바르지 않습니다.");
+            }
+        }
+    }
+}
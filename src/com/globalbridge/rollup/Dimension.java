@@ -0,0 +1,33 @@
+package com.globalbridge.rollup;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 활동 집계를 나누는 기준입니다.
+ */
+public enum Dimension {
+    /** 전체 (키는 빈 문자열 하나) */
+    ALL("전체"),
+
+    /** 매칭 ID별 */
+    PAIR("매칭"),
+
+    /** 전공별 (멘토와 멘티의 전공에 각각 집계, 두 사람의 전공이 같으면 한 번) */
+    MAJOR("전공"),
+
+    /** 활동 장소별 */
+    LOCATION("장소");
+
+    private final String label;
+
+    Dimension(String label) {
+        this.label = label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,105 @@
+package com.globalbridge.rollup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 활동 집계의 시간 구간 단위입니다.
+ *
+ * <p>
+ * 구간은 정수 번호로 나타내며, 번호가 클수록 나중 구간입니다.
+ * 일 단위는 1970-01-01부터의 일 수, 주 단위는 월요일에 시작하는 주의 번호, 월 단위는 (연도 × 12 + 월 - 1)입니다.
+ * </p>
+ */
+public enum Granularity {
+    /** 일 단위 */
+    DAY("일"),
+
+    /** 주 단위 (월요일 시작) */
+    WEEK("주"),
+
+    /** 월 단위 */
+    MONTH("월");
+
+    /** 1970-01-01(목요일)을 월요일 시작 주로 맞추기 위한 일 수 */
+    private static final int MONDAY_OFFSET = 3;
+
+    private final String label;
+
+    Granularity(String label) {
+        this.label = label;
+    }
+
+    /**
+     * 시각이 속한 구간 번호를 반환합니다.
+     *
+     * @param epochMillis 시각 (epoch 밀리초)
+     * @param zone 날짜를 정하는 시간대
+     * @return 구간 번호
+     */
+    public int bucketOf(long epochMillis, ZoneId zone) {
+        return bucketOf(Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate());
+    }
+
+    /**
+     * 날짜가 속한 구간 번호를 반환합니다.
+     *
+     * @param date 날짜
+     * @return 구간 번호
+     */
+    public int bucketOf(LocalDate date) {
+        switch (this) {
+            case DAY:
+                return (int) date.toEpochDay();
+            case WEEK:
+                return (int) Math.floorDiv(date.toEpochDay() + MONDAY_OFFSET, 7);
+            default:
+                return date.getYear() * 12 + date.getMonthValue() - 1;
+        }
+    }
+
+    /**
+     * 구간의 첫 날짜를 반환합니다.
+     *
+     * @param bucket 구간 번호
+     * @return 구간의 첫 날짜
+     */
+    public LocalDate startOf(int bucket) {
+        switch (this) {
+            case DAY:
+                return LocalDate.ofEpochDay(bucket);
+            case WEEK:
+                return LocalDate.ofEpochDay(bucket * 7L - MONDAY_OFFSET);
+            default:
+                return LocalDate.of(Math.floorDiv(bucket, 12), Math.floorMod(bucket, 12) + 1, 1);
+        }
+    }
+
+    /**
+     * 구간을 화면에 표시할 문자열로 바꿉니다. (예: "2026-10-18", "2026-10-12 주", "2026-10")
+     *
+     * @param bucket 구간 번호
+     * @return 표시 문자열
+     */
+    public String format(int bucket) {
+        switch (this) {
+            case DAY:
+                return startOf(bucket).toString();
+            case WEEK:
+                return startOf(bucket) + " 주";
+            default:
+                return YearMonth.from(startOf(bucket)).toString();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,56 @@
+package com.globalbridge.rollup;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 한 시간 구간의 활동 수와 완료된 활동 수를 담는 집계 결과입니다.
+ */
+public final class RollupBucket {
+    private final int bucket;
+    private final int total;
+    private final int completed;
+
+    /**
+     * @param bucket 구간 번호
+     * @param total 활동 수
+     * @param completed 완료된 활동 수
+     */
+    public RollupBucket(int bucket, int total, int completed) {
+        this.bucket = bucket;
+        this.total = total;
+        this.completed = completed;
+    }
+
+    /**
+     * 구간 번호를 반환합니다.
+     * @return 구간 번호 ({@link Granularity} 참조)
+     */
+    public int getBucket() { return bucket; }
+
+    /**
+     * 활동 수를 반환합니다.
+     * @return 활동 수
+     */
+    public int getTotal() { return total; }
+
+    /**
+     * 완료된 활동 수를 반환합니다.
+     * @return 완료된 활동 수
+     */
+    public int getCompleted() { return completed; }
+
+    /**
+     * 완료율을 반환합니다.
+     * @return 0~1 사이의 완료율, 활동이 없으면 0
+     */
+    public double getCompletionRate() {
+        return total == 0 ? 0 : (double) completed / total;
+    }
+
+    @Override
+    public String toString() {
+        return bucket + ": " + completed + "/" + total;
+    }
+}
@@ -0,0 +1,198 @@
+package com.globalbridge.schedule;
+
+import com.globalbridge.model.ActivityLog;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 예정된 활동의 알림과 기한 지남 표시를 {@link TimingWheel}로 예약하는 스케줄러 클래스입니다.
+ *
+ * <p>
+ * 완료되지 않은 활동마다 예약이 하나씩 있으며, 활동 시각에 따라 다음 순서로 진행됩니다.
+ * <ol>
+ *   <li>활동 시각 {@link #REMINDER_LEAD_MILLIS} 전: 알림 대상으로 전달하고, 기한 시각으로 다시 예약합니다.</li>
+ *   <li>활동 시각 {@link #OVERDUE_GRACE_MILLIS} 후: 그때까지 완료되지 않았으면
+ *   {@link ActivityLog#setOverdue(int, boolean)}로 기한 지남을 표시하고 전달합니다.</li>
+ * </ol>
+ * 예약이 만료될 때 활동의 현재 상태를 다시 확인하므로, 그 사이 완료된 활동은 조용히 제외됩니다.
+ * 이미 시작 시각이 지난 활동은 알림 없이 기한 시각으로만 예약됩니다.
+ * </p>
+ *
+ * <p>
+ * 기한 지남 표시는 활동 저장소의 행 플래그에 저장되므로, 프로그램을 다시 시작할 때는
+ * {@link ActivityLog#getPendingRows()}로 아직 기한을 기다리는 활동만 골라 다시 예약하며 전체 행을 훑지 않습니다.
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * </p>
+ */
+public class ActivityScheduler {
+    /** 활동 시각 몇 밀리초 전에 알림을 보낼지 (30분) */
+    public static final long REMINDER_LEAD_MILLIS = 30 * 60_000L;
+
+    /** 활동 시각이 지난 뒤 몇 밀리초가 지나도록 완료되지 않으면 기한 지남으로 표시할지 (24시간) */
+    public static final long OVERDUE_GRACE_MILLIS = 24 * 60 * 60_000L;
+
+    /** 타이밍 휠의 틱 길이 (1초) */
+    static final long TICK_MILLIS = 1_000L;
+
+    /**
+     * 예약이 만료된 활동을 전달받는 리스너입니다.
+     */
+    public interface Listener {
+        /**
+         * 한 번의 {@link #advance(long)} 호출에서 만료된 활동들을 전달합니다.
+         *
+         * @param reminders 곧 시작하는 활동의 행 번호 (만료 순서)
+         * @param overdue 이번에 기한 지남으로 표시된 활동의 행 번호
+         */
+        void activitiesDue(int[] reminders, int[] overdue);
+    }
+
+    private final TimingWheel wheel;
+    private final Listener listener;
+    private ActivityLog log;
+
+    /** 한 번의 진행에서 만료된 행 (재사용하는 작업 배열) */
+    private int[] reminders = new int[16];
+    private int reminderCount;
+    private int[] overdue = new int[16];
+    private int overdueCount;
+
+    /** 진행 중인 시각 (만료 콜백에서 사용) */
+    private long now;
+
+    /**
+     * 스케줄러를 생성합니다.
+     *
+     * @param log 활동 저장소
+     * @param listener 만료된 활동을 전달받을 리스너
+     * @param nowMillis 현재 시각 (epoch millis)
+     */
+    public ActivityScheduler(ActivityLog log, Listener listener, long nowMillis) {
+        this.wheel = new TimingWheel(TICK_MILLIS, nowMillis);
+        this.listener = listener;
+        this.log = log;
+        this.now = nowMillis;
+    }
+
+    /**
+     * 활동 저장소를 바꾸고, 아직 기한을 기다리는 활동만 골라 모든 예약을 다시 만듭니다.
+     *
+     * @param log 새 활동 저장소
+     * @param nowMillis 현재 시각 (epoch millis)
+     */
+    public void rebuild(ActivityLog log, long nowMillis) {
+        this.log = log;
+        this.now = nowMillis;
+        wheel.clear();
+        log.getPendingRows().forEach(this::schedule);
+    }
+
+    /**
+     * 새로 기록되었거나 상태가 바뀐 활동의 예약을 갱신합니다.
+     *
+     * <p>
+     * 완료되었거나 이미 기한 지남으로 표시된 활동은 예약을 취소하고, 그 밖의 활동은 활동 시각에 맞춰 예약합니다.
+     * </p>
+     *
+     * @param row 행 번호
+     */
+    public void update(int row) {
+        if (log.isCompleted(row) || log.isOverdue(row)) {
+            wheel.cancel(row);
+        } else {
+            schedule(row);
+        }
+    }
+
+    /**
+     * 연속된 행들의 예약을 갱신합니다. 가져오기 등으로 활동이 한 번에 추가된 뒤 호출합니다.
+     *
+     * @param fromRow 시작 행 번호 (포함)
+     * @param toRow 끝 행 번호 (제외)
+     */
+    public void update(int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            update(row);
+        }
+    }
+
+    /**
+     * 특정 매칭의 모든 활동의 예약을 갱신합니다.
+     *
+     * @param pairId 매칭 ID
+     */
+    public void updatePair(String pairId) {
+        for (PrimitiveIterator.OfInt rows = log.rows(pairId); rows.hasNext(); ) {
+            update(rows.nextInt());
+        }
+    }
+
+    /**
+     * 주어진 시각까지 만료된 예약을 처리하고, 만료된 활동이 있으면 리스너에 한 번 전달합니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     */
+    public void advance(long nowMillis) {
+        now = nowMillis;
+        reminderCount = 0;
+        overdueCount = 0;
+        wheel.advanceTo(nowMillis, this::expired);
+        if (reminderCount > 0 || overdueCount > 0) {
+            listener.activitiesDue(Arrays.copyOf(reminders, reminderCount), Arrays.copyOf(overdue, overdueCount));
+        }
+    }
+
+    /**
+     * 예약된 활동 수를 반환합니다.
+     *
+     * @return 예약 수
+     */
+    public int size() {
+        return wheel.size();
+    }
+
+    /**
+     * 활동의 다음 예약 시각을 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 다음 예약 시각 (epoch millis, 초 단위로 내림), 예약이 없으면 -1
+     */
+    public long getNextDeadline(int row) {
+        return wheel.getDeadline(row);
+    }
+
+    private void schedule(int row) {
+        long start = log.getEpochMillis(row);
+        long remindAt = start - REMINDER_LEAD_MILLIS;
+        wheel.schedule(row, now < start ? Math.max(remindAt, now) : start + OVERDUE_GRACE_MILLIS);
+    }
+
+    private void expired(int row) {
+        if (row >= log.size() || log.isCompleted(row) || log.isOverdue(row)) {
+            return;
+        }
+        long start = log.getEpochMillis(row);
+        if (now < start) {
+            reminders = append(reminders, reminderCount++, row);
+            wheel.schedule(row, start + OVERDUE_GRACE_MILLIS);
+        } else if (now < start + OVERDUE_GRACE_MILLIS) {
+            wheel.schedule(row, start + OVERDUE_GRACE_MILLIS);
+        } else {
+            log.setOverdue(row, true);
+            overdue = append(overdue, overdueCount++, row);
+        }
+    }
+
+    private static int[] append(int[] array, int index, int value) {
+        if (index == array.length) {
+            array = Arrays.copyOf(array, index * 2);
+        }
+        array[index] = value;
+        return array;
+    }
+}
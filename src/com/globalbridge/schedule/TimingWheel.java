@@ -0,0 +1,426 @@
+package com.globalbridge.schedule;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 정수 ID에 만료 시각을 예약하는 계층형 타이밍 휠(hierarchical timing wheel) 클래스입니다.
+ *
+ * <p>
+ * 시간은 고정 길이 틱(tick)으로 나뉘며, 휠은 {@value #LEVELS}단계, 단계마다 {@value #SLOTS}개의 칸으로 이루어집니다.
+ * 0단계의 한 칸은 1틱, 1단계의 한 칸은 256틱을 나타내는 식이므로 모든 단계를 합하면 2<sup>32</sup>틱을 다룹니다.
+ * 예약은 만료 틱과 현재 틱이 처음 달라지는 자리(8비트 단위)의 단계에 들어가고,
+ * 현재 틱이 상위 단계 칸의 경계를 지날 때 그 칸의 예약이 아래 단계로 내려옵니다(cascade).
+ * 예약과 취소는 칸의 이중 연결 리스트에 노드를 넣고 빼는 O(1) 작업이며,
+ * 노드는 객체 대신 정수 배열 풀에 저장되므로 수백만 건을 예약해도 객체가 생기지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 한 ID에는 예약이 하나만 있으며, 같은 ID를 다시 예약하면 이전 예약을 대체합니다.
+ * 다룰 수 있는 범위보다 먼 예약은 범위 끝에 넣었다가 그때 남은 시간만큼 다시 넣습니다.
+ * 이 클래스는 동기화되어 있지 않으므로 한 스레드에서만 사용해야 합니다.
+ * </p>
+ */
+public class TimingWheel {
+    /** 단계 하나의 칸 수를 나타내는 비트 수 */
+    private static final int SLOT_BITS = 8;
+
+    /** 단계 하나의 칸 수 */
+    static final int SLOTS = 1 << SLOT_BITS;
+
+    /** 단계 수 */
+    static final int LEVELS = 4;
+
+    /** 휠이 다룰 수 있는 가장 먼 틱 거리 */
+    private static final long MAX_SPAN = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private static final int NONE = -1;
+
+    /** 만료되어 콜백을 기다리는 노드의 칸 표시 */
+    private static final int FIRING = -2;
+
+    private final long tickMillis;
+    private final long originMillis;
+
+    /** 다음에 처리할 틱 (이보다 앞선 틱은 모두 처리됨) */
+    private long currentTick;
+
+    /** 단계별 칸의 첫 노드 (단계 * SLOTS + 칸) */
+    private final int[] heads = new int[LEVELS * SLOTS];
+
+    /** 단계별 예약 수 */
+    private final int[] levelCounts = new int[LEVELS];
+
+    /** 노드 풀: ID, 다음/이전 노드, 들어 있는 칸, 만료 틱 */
+    private int[] nodeIds;
+    private int[] nextNodes;
+    private int[] prevNodes;
+    private int[] nodeSlots;
+    private long[] deadlines;
+
+    /** 사용된 적이 있는 노드 수 */
+    private int allocated;
+
+    /** 반환된 노드의 연결 리스트 (nextNodes로 연결) */
+    private int freeNode = NONE;
+
+    /** 한 틱에 만료된 노드 (재사용하는 작업 배열) */
+    private int[] firing = new int[16];
+
+    /** ID → 노드 번호 */
+    private final IdIndex index = new IdIndex();
+
+    /**
+     * 타이밍 휠을 생성합니다.
+     *
+     * @param tickMillis 틱 길이 (밀리초, 1 이상)
+     * @param originMillis 0번 틱이 시작하는 시각 (epoch millis)
+     */
+    public TimingWheel(long tickMillis, long originMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("틱 길이는 1밀리초 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        Arrays.fill(heads, NONE);
+        nodeIds = new int[16];
+        nextNodes = new int[16];
+        prevNodes = new int[16];
+        nodeSlots = new int[16];
+        deadlines = new long[16];
+    }
+
+    /**
+     * ID의 만료 시각을 예약합니다. 이미 예약된 ID이면 새 시각으로 바꿉니다.
+     *
+     * <p>
+     * 이미 지난 시각이면 다음 {@link #advanceTo(long, IntConsumer)} 호출에서 만료됩니다.
+     * </p>
+     *
+     * @param id 예약할 ID
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     */
+    public void schedule(int id, long deadlineMillis) {
+        long tick = Math.max(currentTick, Math.floorDiv(deadlineMillis - originMillis, tickMillis));
+        int node = index.get(id);
+        if (node != NONE) {
+            unlink(node);
+        } else {
+            node = allocate();
+            nodeIds[node] = id;
+            index.put(id, node);
+        }
+        deadlines[node] = tick;
+        link(node);
+    }
+
+    /**
+     * ID의 예약을 취소합니다.
+     *
+     * @param id 취소할 ID
+     * @return 예약이 있었으면 true
+     */
+    public boolean cancel(int id) {
+        int node = index.remove(id);
+        if (node == NONE) {
+            return false;
+        }
+        unlink(node);
+        release(node);
+        return true;
+    }
+
+    /**
+     * ID가 예약되어 있는지 확인합니다.
+     *
+     * @param id ID
+     * @return 예약되어 있으면 true
+     */
+    public boolean isScheduled(int id) {
+        return index.get(id) != NONE;
+    }
+
+    /**
+     * ID의 만료 시각을 틱 단위로 내림하여 반환합니다.
+     *
+     * @param id ID
+     * @return 만료 틱이 시작하는 시각 (epoch millis), 예약이 없으면 -1
+     */
+    public long getDeadline(int id) {
+        int node = index.get(id);
+        return node == NONE ? -1 : originMillis + deadlines[node] * tickMillis;
+    }
+
+    /**
+     * 예약된 ID 수를 반환합니다.
+     *
+     * @return 예약 수
+     */
+    public int size() {
+        return index.size;
+    }
+
+    /**
+     * 모든 예약을 취소합니다. 현재 틱은 그대로 유지됩니다.
+     */
+    public void clear() {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(levelCounts, 0);
+        index.clear();
+        allocated = 0;
+        freeNode = NONE;
+    }
+
+    /**
+     * 주어진 시각까지 시간을 진행하고, 만료된 ID를 만료 순서대로 전달합니다.
+     *
+     * <p>
+     * 콜백에서 다른 ID를 예약하거나 취소해도 되며, 방금 만료된 ID를 다시 예약할 수도 있습니다.
+     * 지나간 시각으로 예약한 ID는 다음 틱에 만료됩니다.
+     * 아래 단계가 모두 비어 있는 구간은 칸을 하나씩 살피지 않고 건너뛰므로,
+     * 오랫동안 호출하지 않았다가 호출해도 비용은 예약 수와 단계 경계 수에 비례합니다.
+     * </p>
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param expired 만료된 ID를 받을 콜백
+     * @return 만료된 ID 수
+     */
+    public int advanceTo(long nowMillis, IntConsumer expired) {
+        long target = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        int fired = 0;
+        while (currentTick <= target) {
+            if (index.size == 0) {
+                currentTick = target + 1;
+                break;
+            }
+            long tick = currentTick;
+            cascade(tick);
+
+            int level = 0;
+            while (levelCounts[level] == 0) {
+                level++;
+            }
+            if (level > 0) {
+                // 아래 단계가 비어 있으면 다음 경계까지는 만료될 예약이 없습니다.
+                long boundary = ((tick >>> (SLOT_BITS * level)) + 1) << (SLOT_BITS * level);
+                currentTick = Math.min(boundary, target + 1);
+                continue;
+            }
+
+            // 칸의 예약을 모두 꺼낸 뒤 콜백을 호출하므로, 콜백이 같은 칸의 다른 예약을 바꿔도 안전합니다.
+            int slot = (int) (tick & (SLOTS - 1));
+            int node = heads[slot];
+            heads[slot] = NONE;
+            currentTick = tick + 1;
+            int count = 0;
+            while (node != NONE) {
+                int next = nextNodes[node];
+                levelCounts[0]--;
+                if (deadlines[node] > tick) {
+                    // 범위를 넘어 끝에 넣어 두었던 예약은 남은 시간만큼 다시 넣습니다.
+                    link(node);
+                } else {
+                    if (count == firing.length) {
+                        firing = Arrays.copyOf(firing, count * 2);
+                    }
+                    firing[count++] = node;
+                    nodeSlots[node] = FIRING;
+                }
+                node = next;
+            }
+            for (int i = 0; i < count; i++) {
+                node = firing[i];
+                // 앞선 콜백에서 취소되었거나 다시 예약된 노드는 건너뜁니다.
+                if (nodeSlots[node] == FIRING) {
+                    int id = nodeIds[node];
+                    index.remove(id);
+                    release(node);
+                    fired++;
+                    expired.accept(id);
+                }
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * 틱이 상위 단계 칸의 경계이면 그 칸의 예약을 아래 단계로 옮깁니다. 높은 단계부터 처리합니다.
+     */
+    private void cascade(long tick) {
+        int top = 0;
+        while (top + 1 < LEVELS && (tick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            int slot = level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+            int node = heads[slot];
+            heads[slot] = NONE;
+            while (node != NONE) {
+                int next = nextNodes[node];
+                levelCounts[level]--;
+                link(node);
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * 노드를 만료 틱에 맞는 칸의 맨 앞에 넣습니다.
+     */
+    private void link(int node) {
+        // 상위 비트가 현재 틱과 같은 범위 안으로 제한하고, 넘치는 예약은 만료될 때 다시 넣습니다.
+        long tick = Math.min(deadlines[node], currentTick | MAX_SPAN);
+        long diff = tick ^ currentTick;
+        int level = 0;
+        while (level + 1 < LEVELS && (diff >>> (SLOT_BITS * (level + 1))) != 0) {
+            level++;
+        }
+        int slot = level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+        int head = heads[slot];
+        nextNodes[node] = head;
+        prevNodes[node] = NONE;
+        if (head != NONE) {
+            prevNodes[head] = node;
+        }
+        heads[slot] = node;
+        nodeSlots[node] = slot;
+        levelCounts[level]++;
+    }
+
+    private void unlink(int node) {
+        int slot = nodeSlots[node];
+        if (slot == FIRING) {
+            return;
+        }
+        int prev = prevNodes[node];
+        int next = nextNodes[node];
+        if (prev != NONE) {
+            nextNodes[prev] = next;
+        } else {
+            heads[slot] = next;
+        }
+        if (next != NONE) {
+            prevNodes[next] = prev;
+        }
+        levelCounts[slot / SLOTS]--;
+    }
+
+    private int allocate() {
+        if (freeNode != NONE) {
+            int node = freeNode;
+            freeNode = nextNodes[node];
+            return node;
+        }
+        if (allocated == nodeIds.length) {
+            int capacity = allocated * 2;
+            nodeIds = Arrays.copyOf(nodeIds, capacity);
+            nextNodes = Arrays.copyOf(nextNodes, capacity);
+            prevNodes = Arrays.copyOf(prevNodes, capacity);
+            nodeSlots = Arrays.copyOf(nodeSlots, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+        }
+        return allocated++;
+    }
+
+    private void release(int node) {
+        nodeSlots[node] = NONE;
+        nextNodes[node] = freeNode;
+        freeNode = node;
+    }
+
+    /**
+     * ID → 노드 번호를 저장하는 개방 주소(open addressing) 해시 테이블입니다.
+     */
+    private static final class IdIndex {
+        private static final int EMPTY = Integer.MIN_VALUE;
+
+        private int[] keys = newKeys(16);
+        private int[] values = new int[16];
+        private int size;
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private int slot(int key) {
+            return (key * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(keys.length)) & (keys.length - 1);
+        }
+
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key); ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+                if (keys[i] == EMPTY) {
+                    return NONE;
+                }
+            }
+        }
+
+        void put(int key, int value) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = slot(key);
+            while (keys[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == EMPTY) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        int remove(int key) {
+            int mask = keys.length - 1;
+            int i = slot(key);
+            while (keys[i] != key) {
+                if (keys[i] == EMPTY) {
+                    return NONE;
+                }
+                i = (i + 1) & mask;
+            }
+            int value = values[i];
+            size--;
+            // 뒤따르는 항목을 당겨 탐색 경로에 빈칸이 생기지 않게 합니다.
+            for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+                int home = slot(keys[j]);
+                if (((j - home) & mask) >= ((j - i) & mask)) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    i = j;
+                }
+            }
+            keys[i] = EMPTY;
+            return value;
+        }
+
+        void clear() {
+            keys = newKeys(16);
+            values = new int[16];
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(capacity);
+            values = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
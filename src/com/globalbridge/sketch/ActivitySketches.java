@@ -0,0 +1,334 @@
+package com.globalbridge.sketch;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 활동 기록 전체에 대한 근사 통계를 고정된 메모리로 유지하는 스케치 모음 클래스입니다.
+ *
+ * <p>
+ * 활동이 추가될 때마다 다음 스케치를 함께 갱신합니다.
+ * <ul>
+ *   <li>활동에 참여한 서로 다른 참가자 수 ({@link HyperLogLog})</li>
+ *   <li>가장 자주 쓰인 장소와 활동 내용 상위 k개 ({@link SpaceSaving})</li>
+ *   <li>장소, 활동 내용, 매칭별 활동 빈도 ({@link CountMinSketch})</li>
+ *   <li>상위 장소마다 그 장소에서 활동한 서로 다른 참가자 수 ({@link HyperLogLog})</li>
+ * </ul>
+ * 장소별 참가자 수는 상위 장소 요약이 추적하는 장소에 대해서만 유지하므로 메모리는 k개 분량을 넘지 않습니다.
+ * 상위 목록에서 밀려났다가 다시 들어온 장소는 다시 들어온 뒤의 참가자만 세므로 실제보다 작게 추정될 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 오차 한계는 생성자에서 지정하며, 기본 생성자는 시스템 속성
+ * {@code globalbridge.sketch.distinctError}(기본 {@value #DEFAULT_DISTINCT_ERROR}),
+ * {@code globalbridge.sketch.frequencyError}(기본 {@value #DEFAULT_FREQUENCY_ERROR}),
+ * {@code globalbridge.sketch.frequencyConfidence}(기본 {@value #DEFAULT_FREQUENCY_DELTA}),
+ * {@code globalbridge.sketch.topK}(기본 {@value #DEFAULT_TOP_K})를 사용합니다.
+ * 설정이 같은 두 모음은 {@link #merge}로 합칠 수 있어, 학기별로 만든 통계를 합산할 수 있습니다.
+ * 스케치는 활동을 지울 수 없으므로 활동 기록에 추가만 되는 동안 유지되며, 저장 파일에 함께 저장됩니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 변경해야 합니다.
+ * </p>
+ */
+public class ActivitySketches implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** 서로 다른 참가자 수의 기본 상대 표준 오차 */
+    public static final double DEFAULT_DISTINCT_ERROR = 0.02;
+
+    /** 빈도 추정의 기본 허용 오차 비율 (전체 활동 수 대비) */
+    public static final double DEFAULT_FREQUENCY_ERROR = 0.001;
+
+    /** 빈도 추정이 허용 오차를 넘을 기본 확률 */
+    public static final double DEFAULT_FREQUENCY_DELTA = 0.01;
+
+    /** 상위 장소와 활동 내용의 기본 추적 수 */
+    public static final int DEFAULT_TOP_K = 100;
+
+    /** 장소별 참가자 수의 정밀도 (상대 표준 오차 약 6.5%, 장소당 256바이트) */
+    private static final int LOCATION_PRECISION = 8;
+
+    private static final String DISTINCT_ERROR_PROPERTY = "globalbridge.sketch.distinctError";
+    private static final String FREQUENCY_ERROR_PROPERTY = "globalbridge.sketch.frequencyError";
+    private static final String FREQUENCY_DELTA_PROPERTY = "globalbridge.sketch.frequencyConfidence";
+    private static final String TOP_K_PROPERTY = "globalbridge.sketch.topK";
+
+    private static final long LOCATION_SEED = 1;
+    private static final long CONTENT_SEED = 2;
+    private static final long PAIR_SEED = 3;
+
+    private final double distinctError;
+    private final double frequencyError;
+    private final double frequencyDelta;
+    private final int topK;
+
+    private final HyperLogLog participants;
+    private final SpaceSaving topLocations;
+    private final SpaceSaving topContents;
+    private final CountMinSketch locationFrequency;
+    private final CountMinSketch contentFrequency;
+    private final CountMinSketch pairFrequency;
+
+    /** 상위 장소 요약이 추적하는 장소별 참가자 수 */
+    private final HashMap<String, HyperLogLog> locationParticipants = new HashMap<>();
+
+    private long activityCount;
+
+    /**
+     * 시스템 속성의 오차 한계(없으면 기본값)로 빈 스케치 모음을 생성합니다.
+     */
+    public ActivitySketches() {
+        this(doubleProperty(DISTINCT_ERROR_PROPERTY, DEFAULT_DISTINCT_ERROR),
+                doubleProperty(FREQUENCY_ERROR_PROPERTY, DEFAULT_FREQUENCY_ERROR),
+                doubleProperty(FREQUENCY_DELTA_PROPERTY, DEFAULT_FREQUENCY_DELTA),
+                Integer.getInteger(TOP_K_PROPERTY, DEFAULT_TOP_K));
+    }
+
+    /**
+     * 오차 한계를 지정하는 생성자.
+     *
+     * @param distinctError 서로 다른 참가자 수의 목표 상대 표준 오차 (예: 0.02)
+     * @param frequencyError 빈도 추정의 허용 오차 비율 (전체 활동 수 대비)
+     * @param frequencyDelta 빈도 추정이 허용 오차를 넘을 확률
+     * @param topK 상위 장소와 활동 내용의 추적 수
+     * @throws IllegalArgumentException 인수가 범위를 벗어난 경우
+     */
+    public ActivitySketches(double distinctError, double frequencyError, double frequencyDelta, int topK) {
+        this.distinctError = distinctError;
+        this.frequencyError = frequencyError;
+        this.frequencyDelta = frequencyDelta;
+        this.topK = topK;
+        participants = new HyperLogLog(HyperLogLog.precisionFor(distinctError));
+        topLocations = new SpaceSaving(topK);
+        topContents = new SpaceSaving(topK);
+        locationFrequency = new CountMinSketch(frequencyError, frequencyDelta, LOCATION_SEED);
+        contentFrequency = new CountMinSketch(frequencyError, frequencyDelta, CONTENT_SEED);
+        pairFrequency = new CountMinSketch(frequencyError, frequencyDelta, PAIR_SEED);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            System.err.println("시스템 속성 " + name + "의 값이 올바르지 않아 기본값을 사용합니다: " + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 활동 기록 전체로 스케치 모음을 만듭니다.
+     *
+     * @param log 활동 기록
+     * @param matches 매칭 정보 (참가자 조회용)
+     * @return 새 스케치 모음
+     */
+    public static ActivitySketches build(ActivityLog log, Map<String, ? extends Pair> matches) {
+        ActivitySketches sketches = new ActivitySketches();
+        sketches.addRange(log, 0, log.size(), matches);
+        return sketches;
+    }
+
+    /**
+     * 활동 기록에 추가된 활동 하나를 반영합니다.
+     *
+     * <p>
+     * 매칭이 남아 있으면 멘토와 멘티의 학번을 참가자로 세고, 매칭이 이미 해제되었으면 매칭 ID를 한 명으로 셉니다.
+     * </p>
+     *
+     * @param log 활동 기록
+     * @param row 추가된 활동의 행 번호
+     * @param matches 매칭 정보 (참가자 조회용)
+     */
+    public void add(ActivityLog log, int row, Map<String, ? extends Pair> matches) {
+        String pairId = log.getPairId(row);
+        String location = log.getLocation(row);
+        String content = log.getContent(row);
+        Pair pair = matches.get(pairId);
+        String mentorId = pair != null ? pair.getMentor().getStudentId() : pairId;
+        String menteeId = pair != null ? pair.getMentee().getStudentId() : pairId;
+
+        participants.add(mentorId);
+        participants.add(menteeId);
+
+        String evicted = topLocations.offer(location);
+        if (evicted != null) {
+            locationParticipants.remove(evicted);
+        }
+        HyperLogLog atLocation = locationParticipants.computeIfAbsent(location,
+                key -> new HyperLogLog(LOCATION_PRECISION));
+        atLocation.add(mentorId);
+        atLocation.add(menteeId);
+
+        topContents.offer(content);
+        locationFrequency.add(location, 1);
+        contentFrequency.add(content, 1);
+        pairFrequency.add(pairId, 1);
+        activityCount++;
+    }
+
+    /**
+     * 활동 기록에 일괄 추가된 활동들을 반영합니다.
+     *
+     * @param log 활동 기록
+     * @param from 첫 행 번호
+     * @param to 마지막 행 번호 + 1
+     * @param matches 매칭 정보 (참가자 조회용)
+     */
+    public void addRange(ActivityLog log, int from, int to, Map<String, ? extends Pair> matches) {
+        for (int row = from; row < to; row++) {
+            add(log, row, matches);
+        }
+    }
+
+    /**
+     * 다른 스케치 모음(다른 학기 등)의 통계를 합칩니다.
+     *
+     * @param other 합칠 스케치 모음
+     * @throws IllegalArgumentException 오차 한계 설정이 다른 경우
+     */
+    public void merge(ActivitySketches other) {
+        if (!hasSameSettings(other)) {
+            throw new IllegalArgumentException("오차 한계 설정이 다른 스케치는 합칠 수 없습니다.");
+        }
+        participants.merge(other.participants);
+        topLocations.merge(other.topLocations);
+        topContents.merge(other.topContents);
+        locationFrequency.merge(other.locationFrequency);
+        contentFrequency.merge(other.contentFrequency);
+        pairFrequency.merge(other.pairFrequency);
+        for (Map.Entry<String, HyperLogLog> entry : other.locationParticipants.entrySet()) {
+            locationParticipants.computeIfAbsent(entry.getKey(), key -> new HyperLogLog(LOCATION_PRECISION))
+                    .merge(entry.getValue());
+        }
+        locationParticipants.keySet().removeIf(location -> !topLocations.contains(location));
+        activityCount += other.activityCount;
+    }
+
+    /**
+     * 활동에 참여한 서로 다른 참가자 수를 추정합니다.
+     *
+     * @return 추정 참가자 수
+     */
+    public long estimateParticipants() {
+        return participants.estimate();
+    }
+
+    /**
+     * 장소에서 활동한 서로 다른 참가자 수를 추정합니다.
+     *
+     * @param location 장소
+     * @return 추정 참가자 수, 상위 장소가 아니어서 추적하지 않으면 -1
+     */
+    public long estimateParticipants(String location) {
+        HyperLogLog atLocation = locationParticipants.get(location);
+        return atLocation == null ? -1 : atLocation.estimate();
+    }
+
+    /**
+     * 가장 자주 쓰인 장소들을 반환합니다.
+     *
+     * @param limit 반환할 최대 장소 수
+     * @return 장소별 추정 활동 수 (많은 순)
+     */
+    public List<SpaceSaving.HeavyHitter> topLocations(int limit) {
+        return topLocations.top(limit);
+    }
+
+    /**
+     * 가장 자주 기록된 활동 내용들을 반환합니다.
+     *
+     * @param limit 반환할 최대 활동 내용 수
+     * @return 활동 내용별 추정 활동 수 (많은 순)
+     */
+    public List<SpaceSaving.HeavyHitter> topContents(int limit) {
+        return topContents.top(limit);
+    }
+
+    /**
+     * 장소의 활동 수를 추정합니다.
+     *
+     * @param location 장소
+     * @return 추정 활동 수 (실제 이상)
+     */
+    public long estimateLocationCount(String location) {
+        return locationFrequency.estimate(location);
+    }
+
+    /**
+     * 활동 내용의 활동 수를 추정합니다.
+     *
+     * @param content 활동 내용
+     * @return 추정 활동 수 (실제 이상)
+     */
+    public long estimateContentCount(String content) {
+        return contentFrequency.estimate(content);
+    }
+
+    /**
+     * 매칭의 활동 수를 추정합니다.
+     *
+     * @param pairId 매칭 ID
+     * @return 추정 활동 수 (실제 이상)
+     */
+    public long estimatePairCount(String pairId) {
+        return pairFrequency.estimate(pairId);
+    }
+
+    /**
+     * 반영된 활동 수를 반환합니다.
+     * @return 활동 수
+     */
+    public long getActivityCount() { return activityCount; }
+
+    /**
+     * 서로 다른 참가자 수 추정의 상대 표준 오차를 반환합니다.
+     * @return 상대 표준 오차
+     */
+    public double getDistinctError() { return participants.getRelativeError(); }
+
+    /**
+     * 빈도 추정의 허용 오차(활동 수)를 반환합니다.
+     * @return 1 - delta 확률로 추정값이 실제 빈도보다 이 값 넘게 크지 않음
+     */
+    public long getFrequencyErrorBound() {
+        return (long) Math.ceil(frequencyError * activityCount);
+    }
+
+    /**
+     * 스케치 모음이 활동 기록과 맞고 현재 설정과 같은지 확인합니다.
+     *
+     * <p>
+     * 활동 수가 다르거나, 시스템 속성의 오차 한계가 스케치를 만들 때와 달라졌으면 다시 만들어야 합니다.
+     * </p>
+     *
+     * @param log 활동 기록
+     * @return 그대로 사용할 수 있으면 true
+     */
+    public boolean isConsistentWith(ActivityLog log) {
+        return activityCount == log.size()
+                && distinctError == doubleProperty(DISTINCT_ERROR_PROPERTY, DEFAULT_DISTINCT_ERROR)
+                && frequencyError == doubleProperty(FREQUENCY_ERROR_PROPERTY, DEFAULT_FREQUENCY_ERROR)
+                && frequencyDelta == doubleProperty(FREQUENCY_DELTA_PROPERTY, DEFAULT_FREQUENCY_DELTA)
+                && topK == Integer.getInteger(TOP_K_PROPERTY, DEFAULT_TOP_K);
+    }
+
+    private boolean hasSameSettings(ActivitySketches other) {
+        return distinctError == other.distinctError && frequencyError == other.frequencyError
+                && frequencyDelta == other.frequencyDelta && topK == other.topK;
+    }
+}
@@ -0,0 +1,135 @@
+package com.globalbridge.sketch;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 항목별 빈도를 고정된 메모리로 추정하는 Count-Min Sketch 클래스입니다.
+ *
+ * <p>
+ * 깊이 d개의 행마다 너비 w개의 카운터를 두고, 항목을 추가하면 행마다 해시로 고른 카운터 하나를 올립니다.
+ * 빈도는 그 카운터들의 최솟값으로 추정하며, 실제 빈도보다 작게 추정하는 일은 없습니다.
+ * w = &lceil;e / &epsilon;&rceil;, d = &lceil;ln(1 / &delta;)&rceil;로 정하면,
+ * 추정값이 실제 빈도보다 &epsilon; &times; (전체 추가 수) 넘게 큰 경우는 확률 &delta; 이하입니다.
+ * 행별 해시는 64비트 해시 하나를 둘로 나누어 h1 + i &times; h2로 만듭니다.
+ * </p>
+ *
+ * <p>
+ * 크기가 같은 두 스케치는 카운터를 더해 {@link #merge}할 수 있습니다.
+ * 이 클래스는 동기화되어 있지 않습니다.
+ * </p>
+ */
+public final class CountMinSketch implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int width;
+    private final int depth;
+    private final long seed;
+    private final long[] counters;
+    private long totalCount;
+
+    /**
+     * 오차 한계로 크기를 정하는 생성자.
+     *
+     * @param epsilon 전체 추가 수에 대한 허용 오차 비율 (0 초과 1 미만)
+     * @param delta 오차 한계를 넘을 확률 (0 초과 1 미만)
+     * @param seed 해시 종류 구분 값
+     * @throws IllegalArgumentException 인수가 범위를 벗어난 경우
+     */
+    public CountMinSketch(double epsilon, double delta, long seed) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon과 delta는 0과 1 사이여야 합니다: " + epsilon + ", " + delta);
+        }
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.depth = (int) Math.ceil(Math.log(1 / delta));
+        this.seed = seed;
+        this.counters = new long[Math.multiplyExact(width, depth)];
+    }
+
+    /**
+     * 항목의 빈도를 올립니다.
+     *
+     * @param item 항목
+     * @param count 더할 수 (0 이상)
+     */
+    public void add(String item, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count-Min Sketch에는 음수를 더할 수 없습니다: " + count);
+        }
+        long hash = Hashing.hash64(seed, item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < depth; i++) {
+            counters[i * width + index(h1 + i * h2)] += count;
+        }
+        totalCount += count;
+    }
+
+    /**
+     * 항목의 빈도를 추정합니다.
+     *
+     * @param item 항목
+     * @return 추정 빈도 (실제 빈도 이상)
+     */
+    public long estimate(String item) {
+        long hash = Hashing.hash64(seed, item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counters[i * width + index(h1 + i * h2)]);
+        }
+        return min;
+    }
+
+    private int index(int hash) {
+        return (int) (Integer.toUnsignedLong(hash) % width);
+    }
+
+    /**
+     * 다른 스케치의 빈도를 더합니다.
+     *
+     * @param other 합칠 스케치
+     * @throws IllegalArgumentException 크기나 해시가 다른 경우
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth || other.seed != seed) {
+            throw new IllegalArgumentException("크기나 해시가 다른 Count-Min Sketch는 합칠 수 없습니다.");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * 모든 항목의 빈도 합을 반환합니다.
+     * @return 전체 추가 수
+     */
+    public long getTotalCount() { return totalCount; }
+
+    /**
+     * 행마다 둔 카운터 수를 반환합니다.
+     * @return 너비
+     */
+    public int getWidth() { return width; }
+
+    /**
+     * 행 수를 반환합니다.
+     * @return 깊이
+     */
+    public int getDepth() { return depth; }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (width <= 0 || depth <= 0 || counters == null || counters.length != (long) width * depth) {
+            throw new InvalidObjectException("Count-Min Sketch 카운터가 올바르지 않습니다.");
+        }
+    }
+}
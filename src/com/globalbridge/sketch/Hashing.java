@@ -0,0 +1,53 @@
+package com.globalbridge.sketch;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 스케치에서 사용하는 64비트 문자열 해시 함수 클래스입니다.
+ *
+ * <p>
+ * 문자마다 FNV-1a로 섞은 뒤 MurmurHash3의 마무리 단계(fmix64)를 거쳐 모든 비트가 고르게 퍼지도록 합니다.
+ * {@link String#hashCode()}는 32비트이고 비슷한 문자열의 해시가 몰리므로,
+ * 상위 비트를 레지스터 번호로 쓰는 HyperLogLog 등에는 적합하지 않습니다.
+ * 같은 문자열이라도 seed가 다르면 독립적인 해시를 얻습니다.
+ * </p>
+ */
+final class Hashing {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+    }
+
+    /**
+     * 문자열의 64비트 해시를 구합니다.
+     *
+     * @param seed 해시 종류를 구분하는 값
+     * @param text 문자열 (null이면 빈 문자열로 취급)
+     * @return 64비트 해시
+     */
+    static long hash64(long seed, String text) {
+        long h = FNV_OFFSET ^ mix(seed);
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                h ^= text.charAt(i);
+                h *= FNV_PRIME;
+            }
+        }
+        return mix(h);
+    }
+
+    /**
+     * MurmurHash3의 64비트 마무리 함수 (fmix64).
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
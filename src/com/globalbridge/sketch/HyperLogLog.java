@@ -0,0 +1,171 @@
+package com.globalbridge.sketch;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 서로 다른 항목 수를 고정된 메모리로 추정하는 HyperLogLog 클래스입니다.
+ *
+ * <p>
+ * 항목의 64비트 해시 상위 p비트로 2<sup>p</sup>개 레지스터 중 하나를 고르고, 나머지 비트에서 처음 1이 나오는 위치의
+ * 최댓값을 레지스터에 기록합니다. 항목 수와 관계없이 레지스터 하나당 1바이트만 사용하며,
+ * 추정값의 상대 표준 오차는 약 1.04 / &radic;(2<sup>p</sup>)입니다.
+ * 적은 수를 셀 때는 빈 레지스터 수로 보정(linear counting)합니다.
+ * </p>
+ *
+ * <p>
+ * 정밀도가 같은 두 HyperLogLog는 레지스터별 최댓값으로 {@link #merge}할 수 있으며,
+ * 결과는 두 항목 집합의 합집합을 센 것과 같습니다.
+ * 이 클래스는 동기화되어 있지 않습니다.
+ * </p>
+ */
+public final class HyperLogLog implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** 허용하는 최소 정밀도 (레지스터 16개) */
+    public static final int MIN_PRECISION = 4;
+
+    /** 허용하는 최대 정밀도 (레지스터 262,144개) */
+    public static final int MAX_PRECISION = 18;
+
+    /** 해시 종류 구분 값 */
+    private static final long SEED = 0x484c4cL;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * 정밀도를 지정하는 생성자.
+     *
+     * @param precision 레지스터 수의 log2 ({@value #MIN_PRECISION}~{@value #MAX_PRECISION})
+     * @throws IllegalArgumentException 정밀도가 범위를 벗어난 경우
+     */
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("HyperLogLog 정밀도는 " + MIN_PRECISION + "~" + MAX_PRECISION
+                    + " 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * 상대 표준 오차가 주어진 값 이하가 되는 가장 작은 정밀도를 구합니다.
+     *
+     * @param relativeError 목표 상대 표준 오차 (예: 0.02)
+     * @return 정밀도 (범위를 벗어나면 가까운 끝 값)
+     */
+    public static int precisionFor(double relativeError) {
+        if (!(relativeError > 0)) {
+            throw new IllegalArgumentException("오차는 0보다 커야 합니다: " + relativeError);
+        }
+        double registers = Math.pow(1.04 / relativeError, 2);
+        int precision = (int) Math.ceil(Math.log(registers) / Math.log(2));
+        return Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision));
+    }
+
+    /**
+     * 항목을 추가합니다.
+     *
+     * @param item 항목
+     */
+    public void add(String item) {
+        addHash(Hashing.hash64(SEED, item));
+    }
+
+    /**
+     * 해시값으로 항목을 추가합니다.
+     *
+     * @param hash 항목의 64비트 해시 (비트가 고르게 퍼져 있어야 함)
+     */
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // 레지스터 번호로 쓴 비트를 밀어내고, 남은 비트가 모두 0이어도 순위가 범위를 넘지 않도록 끝에 1을 둡니다.
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * 서로 다른 항목 수를 추정합니다.
+     *
+     * @return 추정한 항목 수
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+
+    /**
+     * 다른 HyperLogLog의 항목들을 합칩니다.
+     *
+     * @param other 합칠 HyperLogLog
+     * @throws IllegalArgumentException 정밀도가 다른 경우
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("정밀도가 다른 HyperLogLog는 합칠 수 없습니다: "
+                    + precision + ", " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 정밀도를 반환합니다.
+     * @return 레지스터 수의 log2
+     */
+    public int getPrecision() { return precision; }
+
+    /**
+     * 추정값의 상대 표준 오차를 반환합니다.
+     * @return 1.04 / &radic;(레지스터 수)
+     */
+    public double getRelativeError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION || registers == null
+                || registers.length != 1 << precision) {
+            throw new InvalidObjectException("HyperLogLog 레지스터가 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.globalbridge.sketch;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 가장 자주 나타나는 항목들을 최대 k개의 카운터로 찾는 Space-Saving 클래스입니다.
+ *
+ * <p>
+ * 카운터가 가득 찬 상태에서 새 항목이 나타나면 가장 작은 카운터를 새 항목에 넘겨 주고,
+ * 넘겨받은 값을 새 항목의 최대 오차로 기록합니다. 따라서 항목마다 실제 빈도는
+ * [카운트 - 오차, 카운트] 범위에 있으며, 전체 추가 수의 1/k보다 자주 나타난 항목은 반드시 남아 있습니다.
+ * 카운터는 카운트 기준 최소 힙에 두므로 항목 하나를 추가하는 데 O(log k)가 걸립니다.
+ * </p>
+ *
+ * <p>
+ * 용량이 같은 두 요약은 {@link #merge}할 수 있으며, 한쪽에 없는 항목은 그쪽의 최소 카운트만큼
+ * 나타났을 수 있는 것으로 보아 카운트와 오차에 더합니다.
+ * 이 클래스는 동기화되어 있지 않습니다.
+ * </p>
+ */
+public final class SpaceSaving implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+
+    /** 카운트 기준 최소 힙 */
+    private Counter[] heap;
+    private int size;
+    private long totalCount;
+
+    /** 항목별 카운터 (역직렬화 후 힙에서 다시 만듦) */
+    private transient HashMap<String, Counter> counters;
+
+    /**
+     * 용량을 지정하는 생성자.
+     *
+     * @param capacity 유지할 최대 항목 수 (1 이상)
+     */
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Space-Saving 용량은 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.heap = new Counter[Math.min(capacity, 16)];
+        this.counters = new HashMap<>();
+    }
+
+    /**
+     * 항목이 한 번 나타났음을 기록합니다.
+     *
+     * @param item 항목
+     * @return 카운터를 넘겨 주어 더 이상 추적하지 않는 항목, 없으면 null
+     */
+    public String offer(String item) {
+        return offer(item, 1);
+    }
+
+    /**
+     * 항목이 여러 번 나타났음을 기록합니다.
+     *
+     * @param item 항목
+     * @param count 나타난 횟수 (1 이상)
+     * @return 카운터를 넘겨 주어 더 이상 추적하지 않는 항목, 없으면 null
+     */
+    public String offer(String item, long count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("횟수는 1 이상이어야 합니다: " + count);
+        }
+        totalCount += count;
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count += count;
+            siftDown(counter.position);
+            return null;
+        }
+        if (size < capacity) {
+            push(new Counter(item, count, 0));
+            return null;
+        }
+        Counter min = heap[0];
+        counters.remove(min.item);
+        String evicted = min.item;
+        min.item = item;
+        min.error = min.count;
+        min.count += count;
+        counters.put(item, min);
+        siftDown(0);
+        return evicted;
+    }
+
+    /**
+     * 항목을 추적하고 있는지 확인합니다.
+     *
+     * @param item 항목
+     * @return 카운터가 있으면 true
+     */
+    public boolean contains(String item) {
+        return counters.containsKey(item);
+    }
+
+    /**
+     * 항목의 빈도 상한을 반환합니다.
+     *
+     * @param item 항목
+     * @return 추적 중이면 카운트, 아니면 가장 작은 카운트 (빈도가 이보다 클 수 없음)
+     */
+    public long estimate(String item) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            return counter.count;
+        }
+        return size < capacity ? 0 : heap[0].count;
+    }
+
+    /**
+     * 카운트가 큰 순서로 최대 limit개 항목을 반환합니다.
+     *
+     * @param limit 반환할 최대 항목 수
+     * @return 항목별 추정 빈도 (카운트가 같으면 오차가 작은 것, 그다음 항목 순)
+     */
+    public List<HeavyHitter> top(int limit) {
+        Counter[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted, Comparator.comparingLong((Counter counter) -> -counter.count)
+                .thenComparingLong(counter -> counter.error)
+                .thenComparing(counter -> counter.item));
+        List<HeavyHitter> result = new ArrayList<>(Math.min(limit, sorted.length));
+        for (int i = 0; i < sorted.length && i < limit; i++) {
+            result.add(new HeavyHitter(sorted[i].item, sorted[i].count, sorted[i].error));
+        }
+        return result;
+    }
+
+    /**
+     * 다른 요약의 항목들을 합칩니다.
+     *
+     * @param other 합칠 요약
+     * @throws IllegalArgumentException 용량이 다른 경우
+     */
+    public void merge(SpaceSaving other) {
+        if (other.capacity != capacity) {
+            throw new IllegalArgumentException("용량이 다른 Space-Saving 요약은 합칠 수 없습니다: "
+                    + capacity + ", " + other.capacity);
+        }
+        long ownMin = size < capacity ? 0 : heap[0].count;
+        long otherMin = other.size < other.capacity ? 0 : other.heap[0].count;
+        HashMap<String, Counter> merged = new HashMap<>(counters.size() + other.counters.size());
+        for (Counter counter : counters.values()) {
+            Counter theirs = other.counters.get(counter.item);
+            merged.put(counter.item, theirs != null
+                    ? new Counter(counter.item, counter.count + theirs.count, counter.error + theirs.error)
+                    : new Counter(counter.item, counter.count + otherMin, counter.error + otherMin));
+        }
+        for (Counter theirs : other.counters.values()) {
+            if (!merged.containsKey(theirs.item)) {
+                merged.put(theirs.item, new Counter(theirs.item, theirs.count + ownMin, theirs.error + ownMin));
+            }
+        }
+        Counter[] sorted = merged.values().toArray(new Counter[0]);
+        Arrays.sort(sorted, Comparator.comparingLong((Counter counter) -> -counter.count)
+                .thenComparing(counter -> counter.item));
+        long total = totalCount + other.totalCount;
+        counters.clear();
+        size = 0;
+        heap = new Counter[Math.max(Math.min(capacity, sorted.length), 1)];
+        for (int i = 0; i < sorted.length && i < capacity; i++) {
+            push(sorted[i]);
+        }
+        totalCount = total;
+    }
+
+    /**
+     * 지금까지 기록된 전체 횟수를 반환합니다.
+     * @return 전체 추가 수
+     */
+    public long getTotalCount() { return totalCount; }
+
+    /**
+     * 유지할 최대 항목 수를 반환합니다.
+     * @return 용량
+     */
+    public int getCapacity() { return capacity; }
+
+    /**
+     * 추적 중인 항목 수를 반환합니다.
+     * @return 항목 수
+     */
+    public int size() { return size; }
+
+    private void push(Counter counter) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.min(capacity, size * 2));
+        }
+        heap[size] = counter;
+        counter.position = size;
+        counters.put(counter.item, counter);
+        siftUp(size++);
+    }
+
+    private void siftUp(int position) {
+        Counter counter = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(counter, position);
+    }
+
+    private void siftDown(int position) {
+        Counter counter = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(counter, position);
+    }
+
+    private void place(Counter counter, int position) {
+        heap[position] = counter;
+        counter.position = position;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (capacity < 1 || heap == null || size < 0 || size > heap.length || size > capacity) {
+            throw new InvalidObjectException("Space-Saving 카운터가 올바르지 않습니다.");
+        }
+        counters = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            if (heap[i] == null || counters.put(heap[i].item, heap[i]) != null) {
+                throw new InvalidObjectException("Space-Saving 카운터가 올바르지 않습니다.");
+            }
+            heap[i].position = i;
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * 항목 하나의 카운터입니다.
+     */
+    private static final class Counter implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        String item;
+        long count;
+        long error;
+
+        /** 힙에서의 위치 */
+        transient int position;
+
+        Counter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 자주 나타난 항목과 추정 빈도입니다.
+     */
+    public static final class HeavyHitter {
+        private final String item;
+        private final long count;
+        private final long error;
+
+        HeavyHitter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+
+        /**
+         * 항목을 반환합니다.
+         * @return 항목
+         */
+        public String getItem() { return item; }
+
+        /**
+         * 추정 빈도(상한)를 반환합니다.
+         * @return 카운트
+         */
+        public long getCount() { return count; }
+
+        /**
+         * 추정 빈도의 최대 오차를 반환합니다.
+         * @return 오차 (실제 빈도는 카운트 - 오차 이상)
+         */
+        public long getError() { return error; }
+
+        @Override
+        public String toString() {
+            return item + "=" + count + (error > 0 ? "(±" + error + ")" : "");
+        }
+    }
+}
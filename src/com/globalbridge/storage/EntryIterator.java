@@ -0,0 +1,38 @@
+package com.globalbridge.storage;
+
+import java.io.IOException;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 메모리 테이블과 세그먼트 파일의 항목을 키 순서로 하나씩 읽는 반복자입니다.
+ *
+ * <p>
+ * {@link #next()}가 true를 반환한 뒤에만 {@link #key()}와 {@link #value()}를 사용할 수 있으며,
+ * 반환된 배열은 다음 항목으로 넘어가도 바뀌지 않습니다. 삭제된 키의 값은 {@link Memtable#TOMBSTONE}입니다.
+ * </p>
+ */
+interface EntryIterator {
+
+    /**
+     * 다음 항목으로 이동합니다.
+     *
+     * @return 다음 항목이 있으면 true
+     * @throws IOException 세그먼트 파일을 읽는 중 오류 발생 시
+     */
+    boolean next() throws IOException;
+
+    /**
+     * 현재 항목의 키를 반환합니다.
+     * @return 키
+     */
+    byte[] key();
+
+    /**
+     * 현재 항목의 값을 반환합니다.
+     * @return 값, 삭제된 키이면 {@link Memtable#TOMBSTONE}
+     */
+    byte[] value();
+}
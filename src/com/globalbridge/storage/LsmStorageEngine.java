@@ -0,0 +1,668 @@
+package com.globalbridge.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-19
+ *
+ * 디렉터리 하나에 데이터를 보관하는 LSM 트리(log-structured merge tree) 저장 엔진입니다.
+ *
+ * <p>
+ * 기록은 선행 기록 로그({@code 번호.log}) 끝에 덧붙인 뒤 메모리 테이블에 반영하므로, 저장할 때 기존 파일을 다시 쓰지 않습니다.
+ * 메모리 테이블이 {@value #MEMTABLE_PROPERTY} 시스템 속성(기본 {@value #DEFAULT_MEMTABLE_BYTES}바이트)만큼 차면
+ * 새 메모리 테이블과 새 로그로 바꾸고, 이전 테이블은 백그라운드 스레드가 정렬된 불변 세그먼트 파일({@code 번호.sst})로 내립니다.
+ * 세그먼트가 {@value #COMPACTION_TRIGGER}개 이상 쌓이면 같은 스레드가 모두 하나로 합치며(압축),
+ * 이때 같은 키의 이전 값과 삭제 표시가 사라집니다.
+ * </p>
+ *
+ * <p>
+ * 키를 읽을 때는 메모리 테이블, 내려가는 중인 메모리 테이블, 세그먼트를 최근 순서로 찾습니다.
+ * 세그먼트는 블룸 필터와 희소 색인으로 블록 하나만 읽으므로({@link Segment}), 전체 데이터를 불러오지 않고 키 하나를 읽을 수 있습니다.
+ * 살아 있는 세그먼트 목록과 아직 필요한 로그 번호는 {@value #MANIFEST_FILE} 파일에 기록되며, 파일은 임시 파일을 거쳐 교체됩니다.
+ * 다시 열 때는 목록에 없는 세그먼트(기록 도중 중단된 파일)를 지우고, 남은 로그를 되살려 세그먼트로 내립니다.
+ * </p>
+ *
+ * <p>
+ * 기록은 쓰기 잠금 하나로 차례로 처리하며, 읽기와 스냅샷은 잠금 없이 동시에 할 수 있습니다.
+ * 기록마다 순번을 매기므로 스냅샷은 자기 순번 이후의 기록을 보지 않습니다.
+ * 마지막 순번은 메모리 테이블, 세그먼트 목록과 함께 하나의 상태 객체로 공개되므로,
+ * 스냅샷이 붙잡은 세그먼트에는 그 순번보다 새로운 기록이 들어 있지 않습니다.
+ * </p>
+ */
+public final class LsmStorageEngine implements StorageEngine {
+    /** 메모리 테이블 크기 시스템 속성 (바이트) */
+    public static final String MEMTABLE_PROPERTY = "globalbridge.lsm.memtableBytes";
+
+    /** 기본 메모리 테이블 크기 (4MB) */
+    public static final long DEFAULT_MEMTABLE_BYTES = 4L << 20;
+
+    /** 압축을 시작하는 세그먼트 수 */
+    static final int COMPACTION_TRIGGER = 4;
+
+    /** 세그먼트 목록 파일 이름 */
+    static final String MANIFEST_FILE = "MANIFEST";
+
+    private static final Pattern DATA_FILE = Pattern.compile("(\\d+)\\.(sst|log)");
+
+    private final Path directory;
+    private final long memtableBytes;
+    private final Object writeLock = new Object();
+    private final ExecutorService background;
+
+    private volatile State state;
+    private volatile boolean closed;
+    private volatile IOException backgroundError;
+
+    /** 현재 로그 (쓰기 잠금 안에서만 사용) */
+    private WriteAheadLog log;
+
+    /** 다음 파일 번호 (쓰기 잠금 안에서만 사용) */
+    private long nextFileNumber;
+
+    /** 아직 세그먼트로 내려가지 않은 기록이 있는 가장 오래된 로그 번호 (쓰기 잠금 안에서만 사용) */
+    private long oldestLog;
+
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong compactionCount = new AtomicLong();
+
+    private LsmStorageEngine(Path directory, long memtableBytes, long nextFileNumber) {
+        this.directory = directory;
+        this.memtableBytes = memtableBytes;
+        this.nextFileNumber = nextFileNumber;
+        this.background = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "lsm-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 시스템 속성의 메모리 테이블 크기로 디렉터리의 저장 엔진을 엽니다.
+     *
+     * @param directory 데이터 디렉터리 (없으면 만듦)
+     * @return 열린 저장 엔진
+     * @throws IOException 디렉터리를 만들거나 읽지 못했거나 파일 형식이 올바르지 않은 경우
+     * @see #open(Path, long)
+     */
+    public static LsmStorageEngine open(Path directory) throws IOException {
+        return open(directory, Long.getLong(MEMTABLE_PROPERTY, DEFAULT_MEMTABLE_BYTES));
+    }
+
+    /**
+     * 디렉터리의 저장 엔진을 엽니다. 한 디렉터리는 한 번에 하나의 엔진만 열어야 합니다.
+     *
+     * <p>
+     * 지난번에 닫지 않고 종료되었으면 로그에 남은 기록을 되살려 세그먼트로 내린 뒤 엽니다.
+     * </p>
+     *
+     * @param directory 데이터 디렉터리 (없으면 만듦)
+     * @param memtableBytes 메모리 테이블을 세그먼트로 내리는 크기 (바이트)
+     * @return 열린 저장 엔진
+     * @throws IOException 디렉터리를 만들거나 읽지 못했거나 파일 형식이 올바르지 않은 경우
+     * @throws IllegalArgumentException 메모리 테이블 크기가 양수가 아닌 경우
+     */
+    public static LsmStorageEngine open(Path directory, long memtableBytes) throws IOException {
+        if (memtableBytes <= 0) {
+            throw new IllegalArgumentException("메모리 테이블 크기는 양수여야 합니다: " + memtableBytes);
+        }
+        Files.createDirectories(directory);
+        Properties manifest = new Properties();
+        Path manifestFile = directory.resolve(MANIFEST_FILE);
+        if (Files.exists(manifestFile)) {
+            try (InputStream in = Files.newInputStream(manifestFile)) {
+                manifest.load(in);
+            }
+        }
+        long next;
+        long oldestLog;
+        List<Long> live = new ArrayList<>();
+        try {
+            next = Long.parseLong(manifest.getProperty("next", "1"));
+            oldestLog = Long.parseLong(manifest.getProperty("log", "0"));
+            String list = manifest.getProperty("segments", "").trim();
+            for (String number : list.isEmpty() ? new String[0] : list.split(",")) {
+                live.add(Long.parseLong(number.trim()));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("세그먼트 목록 파일의 숫자가 올바르지 않습니다: " + e.getMessage(), e);
+        }
+
+        // 목록에 없는 세그먼트는 기록 도중 중단된 파일이고, 오래된 로그는 이미 세그먼트로 내려간 기록입니다.
+        Set<Long> liveSet = new HashSet<>(live);
+        List<Long> logs = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = DATA_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                long number = Long.parseLong(matcher.group(1));
+                next = Math.max(next, number + 1);
+                if (matcher.group(2).equals("sst")) {
+                    if (!liveSet.contains(number)) {
+                        Files.delete(file);
+                    }
+                } else if (number < oldestLog) {
+                    Files.delete(file);
+                } else {
+                    logs.add(number);
+                }
+            }
+        }
+        Collections.sort(logs);
+
+        List<Segment> segments = new ArrayList<>(live.size());
+        LsmStorageEngine engine = null;
+        try {
+            for (long number : live) {
+                segments.add(Segment.open(segmentFile(directory, number), number));
+            }
+            Memtable replayed = new Memtable();
+            long sequence = 0;
+            for (long number : logs) {
+                for (byte[] payload : WriteAheadLog.read(logFile(directory, number))) {
+                    WriteBatch batch = WriteBatch.decode(payload);
+                    for (int i = 0; i < batch.size(); i++) {
+                        byte[] value = batch.values.get(i);
+                        replayed.put(batch.keys.get(i), ++sequence, value != null ? value : Memtable.TOMBSTONE);
+                    }
+                }
+            }
+            engine = new LsmStorageEngine(directory, memtableBytes, next);
+            engine.recover(replayed, segments, sequence, logs);
+            return engine;
+        } catch (IOException | RuntimeException e) {
+            for (Segment segment : segments) {
+                segment.release();
+            }
+            if (engine != null) {
+                engine.background.shutdownNow();
+                if (engine.log != null) {
+                    engine.log.close();
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 되살린 기록을 세그먼트로 내리고 새 로그로 시작합니다.
+     */
+    private void recover(Memtable replayed, List<Segment> segments, long sequence, List<Long> replayedLogs)
+            throws IOException {
+        if (!replayed.isEmpty()) {
+            long number = nextFileNumber++;
+            Segment segment = Segment.write(segmentFile(directory, number), number,
+                    replayed.iterator(null, null, Long.MAX_VALUE), replayed.getEntryCount(), segments.isEmpty());
+            if (segment != null) {
+                segments.add(0, segment);
+            }
+        }
+        log = WriteAheadLog.create(logFile(directory, nextFileNumber), nextFileNumber);
+        nextFileNumber++;
+        oldestLog = log.getNumber();
+        writeManifest(segments, oldestLog);
+        state = new State(new Memtable(), null, List.copyOf(segments), sequence);
+        for (long number : replayedLogs) {
+            Files.deleteIfExists(logFile(directory, number));
+        }
+        background.execute(this::compactInBackground);
+    }
+
+    @Override
+    public byte[] get(byte[] key) throws IOException {
+        try (View view = acquire()) {
+            return view.get(key);
+        }
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws IOException {
+        write(new WriteBatch().put(key, value));
+    }
+
+    @Override
+    public void delete(byte[] key) throws IOException {
+        write(new WriteBatch().delete(key));
+    }
+
+    @Override
+    public void write(WriteBatch batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        byte[] payload = batch.encode();
+        synchronized (writeLock) {
+            makeRoomForWrite();
+            log.append(payload);
+            State current = state;
+            long sequence = current.sequence;
+            for (int i = 0; i < batch.size(); i++) {
+                byte[] value = batch.values.get(i);
+                current.memtable.put(batch.keys.get(i), ++sequence, value != null ? value : Memtable.TOMBSTONE);
+            }
+            // 묶음 전체를 반영한 뒤 순번을 공개하므로, 읽는 쪽에서 묶음의 일부만 보이지 않습니다.
+            state = new State(current.memtable, current.immutable, current.segments, sequence);
+        }
+    }
+
+    /**
+     * 메모리 테이블이 가득 찼으면 새 테이블과 새 로그로 바꾸고 이전 테이블을 내리도록 맡깁니다.
+     * 이전에 맡긴 테이블을 아직 내리는 중이면 끝날 때까지 기다립니다. 쓰기 잠금 안에서 호출합니다.
+     */
+    private void makeRoomForWrite() throws IOException {
+        while (true) {
+            checkOpen();
+            State current = state;
+            if (current.memtable.getByteSize() < memtableBytes) {
+                return;
+            }
+            if (current.immutable != null) {
+                try {
+                    writeLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("메모리 테이블을 내리는 동안 중단되었습니다.");
+                }
+                continue;
+            }
+            WriteAheadLog next = WriteAheadLog.create(logFile(directory, nextFileNumber), nextFileNumber);
+            nextFileNumber++;
+            log.close();
+            log = next;
+            state = new State(new Memtable(), current.memtable, current.segments, current.sequence);
+            background.execute(this::flushInBackground);
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("저장 엔진이 닫혔습니다: " + directory);
+        }
+        IOException error = backgroundError;
+        if (error != null) {
+            throw new IOException("백그라운드 작업이 실패했습니다: " + error.getMessage(), error);
+        }
+    }
+
+    /**
+     * 내려가는 중인 메모리 테이블을 세그먼트 파일로 기록하고, 필요하면 이어서 압축합니다.
+     */
+    private void flushInBackground() {
+        try {
+            State current = state;
+            Memtable immutable = current.immutable;
+            long number;
+            synchronized (writeLock) {
+                number = nextFileNumber++;
+            }
+            // 세그먼트 목록은 이 스레드에서만 바뀌므로, 더 오래된 세그먼트가 없으면 삭제 표시를 남길 필요가 없습니다.
+            Segment segment = Segment.write(segmentFile(directory, number), number,
+                    immutable.iterator(null, null, Long.MAX_VALUE), immutable.getEntryCount(),
+                    current.segments.isEmpty());
+            long obsoleteBefore;
+            synchronized (writeLock) {
+                current = state;
+                List<Segment> segments = new ArrayList<>(current.segments.size() + 1);
+                if (segment != null) {
+                    segments.add(segment);
+                }
+                segments.addAll(current.segments);
+                try {
+                    writeManifest(segments, log.getNumber());
+                } catch (IOException e) {
+                    discard(segment);
+                    throw e;
+                }
+                oldestLog = log.getNumber();
+                obsoleteBefore = oldestLog;
+                state = new State(current.memtable, null, List.copyOf(segments), current.sequence);
+                writeLock.notifyAll();
+            }
+            deleteLogsBefore(obsoleteBefore);
+            flushCount.incrementAndGet();
+            compact();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * 세그먼트가 {@value #COMPACTION_TRIGGER}개 이상이면 모두 하나로 합칩니다.
+     *
+     * <p>
+     * 모든 세그먼트를 합치므로 결과보다 오래된 데이터가 없어 삭제 표시를 버립니다.
+     * 합치는 동안에도 기존 세그먼트로 읽기가 계속되며, 대체된 세그먼트는 사용 중인 스냅샷이 모두 닫힌 뒤 삭제됩니다.
+     * </p>
+     */
+    private void compact() throws IOException {
+        List<Segment> inputs = state.segments;
+        if (inputs.size() < COMPACTION_TRIGGER || closed) {
+            return;
+        }
+        long number;
+        synchronized (writeLock) {
+            number = nextFileNumber++;
+        }
+        List<EntryIterator> sources = new ArrayList<>(inputs.size());
+        long expected = 0;
+        for (Segment segment : inputs) {
+            sources.add(segment.iterator(null, null));
+            expected += segment.getEntryCount();
+        }
+        Segment output = Segment.write(segmentFile(directory, number), number,
+                new MergingIterator(sources, true), expected, true);
+        synchronized (writeLock) {
+            State current = state;
+            List<Segment> segments = output != null ? List.of(output) : List.of();
+            try {
+                writeManifest(segments, oldestLog);
+            } catch (IOException e) {
+                discard(output);
+                throw e;
+            }
+            state = new State(current.memtable, current.immutable, segments, current.sequence);
+        }
+        for (Segment segment : inputs) {
+            segment.markObsolete();
+            segment.release();
+        }
+        compactionCount.incrementAndGet();
+    }
+
+    private static void discard(Segment segment) {
+        if (segment != null) {
+            segment.markObsolete();
+            segment.release();
+        }
+    }
+
+    private void fail(Exception e) {
+        IOException error = e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+        System.err.println("저장 엔진의 백그라운드 작업 중 오류 발생: " + e.getMessage());
+        e.printStackTrace();
+        synchronized (writeLock) {
+            backgroundError = error;
+            writeLock.notifyAll();
+        }
+    }
+
+    private void deleteLogsBefore(long number) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.log")) {
+            for (Path file : files) {
+                Matcher matcher = DATA_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(1)) < number) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 목록 파일을 임시 파일에 기록한 뒤 교체합니다.
+     *
+     * <pre>
+     * next=12          (다음 파일 번호)
+     * log=11           (아직 필요한 가장 오래된 로그 번호)
+     * segments=10,7    (최근 순서의 세그먼트 번호)
+     * </pre>
+     */
+    private void writeManifest(List<Segment> segments, long logNumber) throws IOException {
+        Properties manifest = new Properties();
+        manifest.setProperty("next", Long.toString(nextFileNumber));
+        manifest.setProperty("log", Long.toString(logNumber));
+        StringJoiner numbers = new StringJoiner(",");
+        for (Segment segment : segments) {
+            numbers.add(Long.toString(segment.getNumber()));
+        }
+        manifest.setProperty("segments", numbers.toString());
+
+        Path file = directory.resolve(MANIFEST_FILE);
+        Path temp = directory.resolve(MANIFEST_FILE + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            manifest.store(out, "Global Bridge storage manifest");
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void scan(byte[] from, byte[] to, Visitor visitor) throws IOException {
+        try (View view = acquire()) {
+            view.scan(from, to, visitor);
+        }
+    }
+
+    @Override
+    public Snapshot snapshot() throws IOException {
+        return acquire();
+    }
+
+    /**
+     * 현재 상태와 그 순번을 붙잡은 읽기 뷰를 만듭니다. 그 사이에 압축으로 닫힌 세그먼트가 있으면 다시 시도합니다.
+     *
+     * <p>
+     * 순번과 세그먼트 목록을 따로 읽으면 그 사이에 끝난 세그먼트 내리기로 순번 이후의 기록이 세그먼트에 들어와
+     * 보이게 되므로(세그먼트는 순번으로 거르지 않음), 둘을 담은 상태 객체 하나만 읽습니다.
+     * </p>
+     */
+    private View acquire() throws IOException {
+        while (true) {
+            if (closed) {
+                throw new IOException("저장 엔진이 닫혔습니다: " + directory);
+            }
+            State current = state;
+            int acquired = 0;
+            for (Segment segment : current.segments) {
+                if (!segment.tryAcquire()) {
+                    break;
+                }
+                acquired++;
+            }
+            if (acquired == current.segments.size()) {
+                return new View(current.sequence, current);
+            }
+            for (int i = 0; i < acquired; i++) {
+                current.segments.get(i).release();
+            }
+        }
+    }
+
+    @Override
+    public void sync() throws IOException {
+        synchronized (writeLock) {
+            checkOpen();
+            log.sync();
+        }
+    }
+
+    /**
+     * 진행 중인 세그먼트 기록과 압축이 끝나기를 기다린 뒤 로그를 저장 장치에 기록하고 닫습니다.
+     * 메모리 테이블의 기록은 로그에 남아 있으므로 다음에 열 때 되살아납니다.
+     *
+     * @throws IOException 닫는 중 오류가 발생했거나 백그라운드 작업이 실패했던 경우
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writeLock.notifyAll();
+        }
+        background.shutdown();
+        try {
+            background.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("저장 엔진을 닫는 동안 중단되었습니다.");
+        }
+        synchronized (writeLock) {
+            log.close();
+        }
+        for (Segment segment : state.segments) {
+            segment.release();
+        }
+        IOException error = backgroundError;
+        if (error != null) {
+            throw new IOException("백그라운드 작업이 실패했습니다: " + error.getMessage(), error);
+        }
+    }
+
+    /**
+     * 데이터 디렉터리를 반환합니다.
+     * @return 데이터 디렉터리
+     */
+    public Path getDirectory() { return directory; }
+
+    /**
+     * 현재 세그먼트 파일 수를 반환합니다.
+     * @return 세그먼트 수
+     */
+    public int getSegmentCount() { return state.segments.size(); }
+
+    /**
+     * 지금까지 메모리 테이블을 세그먼트로 내린 횟수를 반환합니다.
+     * @return 내린 횟수
+     */
+    public long getFlushCount() { return flushCount.get(); }
+
+    /**
+     * 지금까지 세그먼트를 압축한 횟수를 반환합니다.
+     * @return 압축 횟수
+     */
+    public long getCompactionCount() { return compactionCount.get(); }
+
+    @Override
+    public String toString() {
+        State current = state;
+        return String.format("LsmStorageEngine[%s, memtable %,d bytes, segments %s]", directory,
+                current.memtable.getByteSize(), current.segments);
+    }
+
+    private static Path segmentFile(Path directory, long number) {
+        return directory.resolve(number + ".sst");
+    }
+
+    private static Path logFile(Path directory, long number) {
+        return directory.resolve(number + ".log");
+    }
+
+    /**
+     * 메모리 테이블, 내려가는 중인 메모리 테이블, 최근 순서의 세그먼트 목록과 마지막으로 공개한 순번입니다.
+     * 바뀔 때마다 쓰기 잠금 안에서 새로 만들어 교체합니다.
+     */
+    private static final class State {
+        final Memtable memtable;
+        final Memtable immutable;
+        final List<Segment> segments;
+        final long sequence;
+
+        State(Memtable memtable, Memtable immutable, List<Segment> segments, long sequence) {
+            this.memtable = memtable;
+            this.immutable = immutable;
+            this.segments = segments;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * 한 순번 시점의 상태를 읽는 뷰입니다. 세그먼트에 참조를 가지고 있어 닫을 때까지 파일이 삭제되지 않습니다.
+     */
+    private static final class View implements Snapshot {
+        private final long sequence;
+        private final State state;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        View(long sequence, State state) {
+            this.sequence = sequence;
+            this.state = state;
+        }
+
+        @Override
+        public byte[] get(byte[] key) throws IOException {
+            checkOpen();
+            byte[] value = state.memtable.get(key, sequence);
+            if (value == null && state.immutable != null) {
+                value = state.immutable.get(key, sequence);
+            }
+            for (int i = 0; value == null && i < state.segments.size(); i++) {
+                value = state.segments.get(i).get(key);
+            }
+            return value == Memtable.TOMBSTONE ? null : value;
+        }
+
+        @Override
+        public void scan(byte[] from, byte[] to, Visitor visitor) throws IOException {
+            checkOpen();
+            List<EntryIterator> sources = new ArrayList<>(state.segments.size() + 2);
+            sources.add(state.memtable.iterator(from, to, sequence));
+            if (state.immutable != null) {
+                sources.add(state.immutable.iterator(from, to, sequence));
+            }
+            for (Segment segment : state.segments) {
+                sources.add(segment.iterator(from, to));
+            }
+            MergingIterator merged = new MergingIterator(sources, true);
+            while (merged.next()) {
+                if (!visitor.visit(merged.key(), merged.value())) {
+                    break;
+                }
+            }
+        }
+
+        private void checkOpen() throws IOException {
+            if (released.get()) {
+                throw new IOException("이미 닫힌 스냅샷입니다.");
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                for (Segment segment : state.segments) {
+                    segment.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.globalbridge.storage;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link LsmStorageEngine}에서 아직 세그먼트 파일로 내려가지 않은 최근 기록을 보관하는 메모리 테이블입니다.
+ *
+ * <p>
+ * 항목은 (키, 순번) 순서의 skip list에 보관되며, 같은 키는 순번이 큰(최근) 기록이 앞에 옵니다.
+ * 같은 키의 이전 기록을 지우지 않고 남겨 두므로, 스냅샷은 자기 순번 이하의 기록만 골라 읽어
+ * 이후에 기록된 내용과 관계없이 만든 시점의 값을 볼 수 있습니다.
+ * 기록은 엔진의 쓰기 잠금 안에서만 하며, 읽기는 잠금 없이 여러 스레드에서 동시에 할 수 있습니다.
+ * </p>
+ */
+final class Memtable {
+    /** 삭제된 키를 나타내는 값 (참조로 비교) */
+    static final byte[] TOMBSTONE = new byte[0];
+
+    /** 항목 하나가 키와 값 외에 차지하는 대략적인 메모리 (바이트) */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final ConcurrentSkipListMap<InternalKey, byte[]> entries = new ConcurrentSkipListMap<>();
+    private final AtomicLong byteSize = new AtomicLong();
+    private final AtomicInteger entryCount = new AtomicInteger();
+
+    /**
+     * 기록을 추가합니다.
+     *
+     * @param key 키
+     * @param sequence 기록 순번
+     * @param value 값, 삭제이면 {@link #TOMBSTONE}
+     */
+    void put(byte[] key, long sequence, byte[] value) {
+        entries.put(new InternalKey(key, sequence), value);
+        byteSize.addAndGet(key.length + value.length + ENTRY_OVERHEAD);
+        entryCount.incrementAndGet();
+    }
+
+    /**
+     * 순번 이하의 기록 중 가장 최근 값을 찾습니다.
+     *
+     * @param key 키
+     * @param sequence 읽을 시점의 순번
+     * @return 값 또는 {@link #TOMBSTONE}, 이 테이블에 기록이 없으면 null
+     */
+    byte[] get(byte[] key, long sequence) {
+        Map.Entry<InternalKey, byte[]> entry = entries.ceilingEntry(new InternalKey(key, sequence));
+        if (entry == null || !Arrays.equals(entry.getKey().key, key)) {
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * 범위 안의 키마다 순번 이하의 가장 최근 기록을 키 순서로 읽는 반복자를 반환합니다.
+     *
+     * @param from 시작 키 (포함), null이면 처음부터
+     * @param to 끝 키 (제외), null이면 끝까지
+     * @param sequence 읽을 시점의 순번
+     * @return 반복자
+     */
+    EntryIterator iterator(byte[] from, byte[] to, long sequence) {
+        NavigableMap<InternalKey, byte[]> range = from == null ? entries
+                : entries.tailMap(new InternalKey(from, Long.MAX_VALUE), true);
+        Iterator<Map.Entry<InternalKey, byte[]>> it = range.entrySet().iterator();
+        return new EntryIterator() {
+            private byte[] key;
+            private byte[] value;
+
+            @Override
+            public boolean next() {
+                while (it.hasNext()) {
+                    Map.Entry<InternalKey, byte[]> entry = it.next();
+                    InternalKey internal = entry.getKey();
+                    if (to != null && Arrays.compareUnsigned(internal.key, to) >= 0) {
+                        break;
+                    }
+                    if (internal.sequence > sequence || (key != null && Arrays.equals(internal.key, key))) {
+                        continue;
+                    }
+                    key = internal.key;
+                    value = entry.getValue();
+                    return true;
+                }
+                key = null;
+                value = null;
+                return false;
+            }
+
+            @Override
+            public byte[] key() { return key; }
+
+            @Override
+            public byte[] value() { return value; }
+        };
+    }
+
+    /**
+     * 보관 중인 기록이 차지하는 대략적인 메모리를 반환합니다.
+     * @return 바이트 수
+     */
+    long getByteSize() { return byteSize.get(); }
+
+    /**
+     * 보관 중인 기록 수를 반환합니다. 같은 키의 이전 기록도 포함합니다.
+     * @return 기록 수
+     */
+    int getEntryCount() { return entryCount.get(); }
+
+    /**
+     * 기록이 없는지 확인합니다.
+     * @return 기록이 없으면 true
+     */
+    boolean isEmpty() { return entries.isEmpty(); }
+
+    /**
+     * (키, 순번) 쌍입니다. 키는 부호 없는 바이트 순서로, 같은 키는 순번의 역순으로 정렬됩니다.
+     */
+    private static final class InternalKey implements Comparable<InternalKey> {
+        final byte[] key;
+        final long sequence;
+
+        InternalKey(byte[] key, long sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(InternalKey other) {
+            int c = Arrays.compareUnsigned(key, other.key);
+            return c != 0 ? c : Long.compare(other.sequence, sequence);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.globalbridge.storage;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 여러 반복자를 키 순서로 합치는 반복자입니다.
+ *
+ * <p>
+ * 같은 키가 여러 반복자에 있으면 목록에서 앞에 있는(더 최근의) 반복자의 항목만 남깁니다.
+ * 메모리 테이블과 세그먼트를 최근 순서로 넘기면 키마다 가장 최근 값을 얻을 수 있으며,
+ * 압축에서는 여러 세그먼트를 하나로 합치는 데 사용합니다.
+ * </p>
+ */
+final class MergingIterator implements EntryIterator {
+    private final PriorityQueue<Source> heap;
+    private final boolean dropTombstones;
+    private byte[] key;
+    private byte[] value;
+
+    /**
+     * @param sources 최근 순서의 반복자 목록
+     * @param dropTombstones true이면 삭제된 키를 건너뜀
+     * @throws IOException 첫 항목을 읽는 중 오류 발생 시
+     */
+    MergingIterator(List<EntryIterator> sources, boolean dropTombstones) throws IOException {
+        this.dropTombstones = dropTombstones;
+        heap = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+            int c = Arrays.compareUnsigned(a.iterator.key(), b.iterator.key());
+            return c != 0 ? c : Integer.compare(a.priority, b.priority);
+        });
+        for (int i = 0; i < sources.size(); i++) {
+            advance(new Source(sources.get(i), i));
+        }
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        while (!heap.isEmpty()) {
+            Source top = heap.poll();
+            byte[] k = top.iterator.key();
+            byte[] v = top.iterator.value();
+            advance(top);
+            while (!heap.isEmpty() && Arrays.equals(heap.peek().iterator.key(), k)) {
+                advance(heap.poll());
+            }
+            if (dropTombstones && v == Memtable.TOMBSTONE) {
+                continue;
+            }
+            key = k;
+            value = v;
+            return true;
+        }
+        key = null;
+        value = null;
+        return false;
+    }
+
+    private void advance(Source source) throws IOException {
+        if (source.iterator.next()) {
+            heap.add(source);
+        }
+    }
+
+    @Override
+    public byte[] key() { return key; }
+
+    @Override
+    public byte[] value() { return value; }
+
+    private static final class Source {
+        final EntryIterator iterator;
+        final int priority;
+
+        Source(EntryIterator iterator, int priority) {
+            this.iterator = iterator;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package com.globalbridge.storage;
+
+import com.globalbridge.util.BloomFilter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link LsmStorageEngine}의 정렬된 불변 세그먼트 파일 하나입니다.
+ *
+ * <p>
+ * 파일은 한 번에 차례로 기록되며 이후에는 바뀌지 않습니다. 형식은 다음과 같습니다.
+ * </p>
+ * <pre>
+ * 데이터 블록들   약 {@value #BLOCK_BYTES}바이트씩, 항목마다 int 키 길이, int 값 길이(삭제이면 -1), 키, 값
+ * 희소 색인       int 블록 수, 블록마다 long 위치, int 길이, int 첫 키 길이, 첫 키
+ * 블룸 필터       {@link BloomFilter#write}의 형식
+ * 꼬리           long 색인 위치, long 블룸 필터 위치, long 항목 수, long 매직 번호
+ * </pre>
+ *
+ * <p>
+ * 열 때는 희소 색인과 블룸 필터만 메모리로 읽습니다. 키 하나를 찾을 때는 블룸 필터로 없는 키를 걸러낸 뒤
+ * 색인에서 이진 탐색으로 찾은 블록 하나만 파일에서 읽으므로, 파일 전체를 읽지 않습니다.
+ * 여러 스레드가 위치 지정 읽기로 같은 파일을 동시에 읽을 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 세그먼트는 참조 수로 관리됩니다. 엔진이 참조 하나를 가지고, 스냅샷과 읽기가 사용하는 동안 참조를 더합니다.
+ * 압축으로 대체된 세그먼트는 마지막 참조가 놓일 때 파일이 닫히고 삭제됩니다.
+ * </p>
+ */
+final class Segment {
+    /** 데이터 블록의 목표 크기 (바이트) */
+    static final int BLOCK_BYTES = 4096;
+
+    /** 블룸 필터의 목표 오탐률 */
+    static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private static final long MAGIC = 0x4742_5353_5442_4c31L;
+    private static final int FOOTER_BYTES = 32;
+
+    private final long number;
+    private final Path file;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long entryCount;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final byte[][] firstKeys;
+    private final BloomFilter bloom;
+
+    private final AtomicInteger refs = new AtomicInteger(1);
+    private volatile boolean obsolete;
+
+    private Segment(long number, Path file, FileChannel channel, long fileSize, long entryCount,
+                    long[] blockOffsets, int[] blockLengths, byte[][] firstKeys, BloomFilter bloom) {
+        this.number = number;
+        this.file = file;
+        this.channel = channel;
+        this.fileSize = fileSize;
+        this.entryCount = entryCount;
+        this.blockOffsets = blockOffsets;
+        this.blockLengths = blockLengths;
+        this.firstKeys = firstKeys;
+        this.bloom = bloom;
+    }
+
+    /**
+     * 키 순서의 항목들로 새 세그먼트 파일을 기록하고 엽니다.
+     *
+     * @param file 기록할 파일 (없어야 함)
+     * @param number 세그먼트 번호
+     * @param entries 키 순서로 정렬된, 키가 겹치지 않는 항목들
+     * @param expectedEntries 블룸 필터 크기를 정할 예상 항목 수
+     * @param dropTombstones true이면 삭제 표시를 기록하지 않음 (더 오래된 세그먼트가 없을 때)
+     * @return 열린 세그먼트, 기록할 항목이 하나도 없으면 파일을 만들지 않고 null
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    static Segment write(Path file, long number, EntryIterator entries, long expectedEntries,
+                         boolean dropTombstones) throws IOException {
+        BloomFilter bloom = new BloomFilter((int) Math.min(Integer.MAX_VALUE, Math.max(1, expectedEntries)),
+                BLOOM_FALSE_POSITIVE_RATE);
+        List<long[]> blocks = new ArrayList<>();
+        List<byte[]> firstKeys = new ArrayList<>();
+        long count = 0;
+        boolean written = false;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            CountingOutputStream counter = new CountingOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            DataOutputStream out = new DataOutputStream(counter);
+            ByteArrayOutputStream blockBytes = new ByteArrayOutputStream(BLOCK_BYTES * 2);
+            DataOutputStream block = new DataOutputStream(blockBytes);
+            byte[] blockFirstKey = null;
+            while (entries.next()) {
+                byte[] key = entries.key();
+                byte[] value = entries.value();
+                boolean deleted = value == Memtable.TOMBSTONE;
+                if (deleted && dropTombstones) {
+                    continue;
+                }
+                if (blockFirstKey == null) {
+                    blockFirstKey = key;
+                }
+                block.writeInt(key.length);
+                block.writeInt(deleted ? -1 : value.length);
+                block.write(key);
+                if (!deleted) {
+                    block.write(value);
+                }
+                bloom.put(key);
+                count++;
+                if (blockBytes.size() >= BLOCK_BYTES) {
+                    blocks.add(new long[] {counter.count, blockBytes.size()});
+                    firstKeys.add(blockFirstKey);
+                    blockBytes.writeTo(out);
+                    blockBytes.reset();
+                    blockFirstKey = null;
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+            if (blockBytes.size() > 0) {
+                blocks.add(new long[] {counter.count, blockBytes.size()});
+                firstKeys.add(blockFirstKey);
+                blockBytes.writeTo(out);
+            }
+
+            long indexOffset = counter.count;
+            out.writeInt(blocks.size());
+            for (int i = 0; i < blocks.size(); i++) {
+                out.writeLong(blocks.get(i)[0]);
+                out.writeInt((int) blocks.get(i)[1]);
+                out.writeInt(firstKeys.get(i).length);
+                out.write(firstKeys.get(i));
+            }
+            long bloomOffset = counter.count;
+            bloom.write(out);
+            out.writeLong(indexOffset);
+            out.writeLong(bloomOffset);
+            out.writeLong(count);
+            out.writeLong(MAGIC);
+            out.flush();
+            channel.force(true);
+            written = true;
+        } finally {
+            if (!written) {
+                Files.deleteIfExists(file);
+            }
+        }
+        return open(file, number);
+    }
+
+    /**
+     * 세그먼트 파일을 열고 희소 색인과 블룸 필터를 읽습니다.
+     *
+     * @param file 세그먼트 파일
+     * @param number 세그먼트 번호
+     * @return 열린 세그먼트
+     * @throws IOException 읽기 중 오류가 발생했거나 형식이 올바르지 않은 경우
+     */
+    static Segment open(Path file, long number) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < FOOTER_BYTES) {
+                throw new IOException("세그먼트 파일이 너무 짧습니다: " + file);
+            }
+            ByteBuffer footer = read(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            long bloomOffset = footer.getLong();
+            long entryCount = footer.getLong();
+            if (footer.getLong() != MAGIC || indexOffset < 0 || indexOffset > bloomOffset
+                    || bloomOffset > size - FOOTER_BYTES || bloomOffset - indexOffset > Integer.MAX_VALUE
+                    || size - FOOTER_BYTES - bloomOffset > Integer.MAX_VALUE) {
+                throw new IOException("세그먼트 파일 형식이 올바르지 않습니다: " + file);
+            }
+            DataInputStream index = stream(read(channel, indexOffset, (int) (bloomOffset - indexOffset)));
+            int blockCount = index.readInt();
+            if (blockCount <= 0) {
+                throw new IOException("세그먼트 파일 형식이 올바르지 않습니다: " + file);
+            }
+            long[] offsets = new long[blockCount];
+            int[] lengths = new int[blockCount];
+            byte[][] firstKeys = new byte[blockCount][];
+            for (int i = 0; i < blockCount; i++) {
+                offsets[i] = index.readLong();
+                lengths[i] = index.readInt();
+                firstKeys[i] = readBytes(index);
+                if (offsets[i] < 0 || lengths[i] <= 0 || offsets[i] + lengths[i] > indexOffset) {
+                    throw new IOException("세그먼트 파일 형식이 올바르지 않습니다: " + file);
+                }
+            }
+            BloomFilter bloom = BloomFilter.read(stream(read(channel, bloomOffset,
+                    (int) (size - FOOTER_BYTES - bloomOffset))));
+            return new Segment(number, file, channel, size, entryCount, offsets, lengths, firstKeys, bloom);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 세그먼트 번호를 반환합니다. 번호가 클수록 최근에 만들어진 세그먼트입니다.
+     * @return 세그먼트 번호
+     */
+    long getNumber() { return number; }
+
+    /**
+     * 파일 크기를 반환합니다.
+     * @return 바이트 수
+     */
+    long getFileSize() { return fileSize; }
+
+    /**
+     * 항목 수를 반환합니다. 삭제 표시도 포함합니다.
+     * @return 항목 수
+     */
+    long getEntryCount() { return entryCount; }
+
+    /**
+     * 키의 값을 찾습니다.
+     *
+     * @param key 키
+     * @return 값 또는 {@link Memtable#TOMBSTONE}, 이 세그먼트에 없으면 null
+     * @throws IOException 읽기 중 오류 발생 시
+     */
+    byte[] get(byte[] key) throws IOException {
+        if (!bloom.mightContain(key)) {
+            return null;
+        }
+        int block = findBlock(key);
+        if (block < 0) {
+            return null;
+        }
+        ByteBuffer buffer = read(channel, blockOffsets[block], blockLengths[block]);
+        while (buffer.hasRemaining()) {
+            int keyLength = buffer.getInt();
+            int valueLength = buffer.getInt();
+            int c = Arrays.compareUnsigned(buffer.array(), buffer.position(), buffer.position() + keyLength,
+                    key, 0, key.length);
+            buffer.position(buffer.position() + keyLength);
+            if (c == 0) {
+                if (valueLength < 0) {
+                    return Memtable.TOMBSTONE;
+                }
+                byte[] value = new byte[valueLength];
+                buffer.get(value);
+                return value;
+            }
+            if (c > 0) {
+                return null;
+            }
+            if (valueLength > 0) {
+                buffer.position(buffer.position() + valueLength);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 범위 안의 항목을 키 순서로 읽는 반복자를 반환합니다. 블록은 필요할 때 하나씩 읽습니다.
+     *
+     * @param from 시작 키 (포함), null이면 처음부터
+     * @param to 끝 키 (제외), null이면 끝까지
+     * @return 반복자
+     */
+    EntryIterator iterator(byte[] from, byte[] to) {
+        return new EntryIterator() {
+            private int block = from == null ? 0 : Math.max(0, findBlock(from));
+            private ByteBuffer buffer;
+            private byte[] key;
+            private byte[] value;
+
+            @Override
+            public boolean next() throws IOException {
+                while (true) {
+                    if (buffer == null || !buffer.hasRemaining()) {
+                        if (block >= blockOffsets.length) {
+                            return finish();
+                        }
+                        buffer = read(channel, blockOffsets[block], blockLengths[block]);
+                        block++;
+                    }
+                    byte[] k = new byte[buffer.getInt()];
+                    int valueLength = buffer.getInt();
+                    buffer.get(k);
+                    byte[] v = Memtable.TOMBSTONE;
+                    if (valueLength >= 0) {
+                        v = new byte[valueLength];
+                        buffer.get(v);
+                    }
+                    if (from != null && Arrays.compareUnsigned(k, from) < 0) {
+                        continue;
+                    }
+                    if (to != null && Arrays.compareUnsigned(k, to) >= 0) {
+                        block = blockOffsets.length;
+                        buffer = null;
+                        return finish();
+                    }
+                    key = k;
+                    value = v;
+                    return true;
+                }
+            }
+
+            private boolean finish() {
+                key = null;
+                value = null;
+                return false;
+            }
+
+            @Override
+            public byte[] key() { return key; }
+
+            @Override
+            public byte[] value() { return value; }
+        };
+    }
+
+    /**
+     * 키가 있을 수 있는 블록, 즉 첫 키가 키 이하인 마지막 블록을 찾습니다.
+     *
+     * @return 블록 번호, 키가 첫 블록의 첫 키보다 작으면 -1
+     */
+    private int findBlock(byte[] key) {
+        int low = 0;
+        int high = firstKeys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(firstKeys[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * 아직 사용 중인 세그먼트에 참조를 더합니다.
+     *
+     * @return 참조를 더했으면 true, 이미 닫힌 세그먼트이면 false
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = refs.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (refs.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 참조를 놓습니다. 마지막 참조이면 파일을 닫고, 대체된 세그먼트이면 삭제합니다.
+     */
+    void release() {
+        if (refs.decrementAndGet() == 0) {
+            try {
+                channel.close();
+                if (obsolete) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                System.err.println("세그먼트 파일을 정리하지 못했습니다: " + file + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+
+    /**
+     * 압축으로 대체되어 마지막 참조가 놓이면 삭제할 세그먼트로 표시합니다.
+     */
+    void markObsolete() {
+        obsolete = true;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("세그먼트 파일이 예상보다 짧습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static DataInputStream stream(ByteBuffer buffer) {
+        return new DataInputStream(new ByteArrayInputStream(buffer.array(), 0, buffer.limit()));
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("길이가 올바르지 않습니다: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return file.getFileName() + " (" + entryCount + " entries, " + fileSize + " bytes)";
+    }
+
+    /**
+     * 기록한 바이트 수를 세는 스트림입니다. 블록과 색인의 파일 내 위치를 구하는 데 사용합니다.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.globalbridge.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 바이트 배열 키와 값을 저장하는 키-값 저장 엔진의 인터페이스입니다.
+ *
+ * <p>
+ * 키는 부호 없는 바이트 사전 순서({@link java.util.Arrays#compareUnsigned(byte[], byte[])})로 정렬되며,
+ * {@link #scan}은 이 순서로 범위 안의 키를 방문합니다. {@link #write(WriteBatch)}로 기록한 묶음은
+ * 모두 반영되거나 하나도 반영되지 않으며, 읽는 쪽에서 묶음의 일부만 보이는 일은 없습니다.
+ * {@link #snapshot()}으로 얻은 스냅샷은 만든 시점의 내용을 계속 보여주므로,
+ * 기록이 이어지는 동안에도 일관된 상태를 여러 번에 나누어 읽을 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 저장 엔진은 여러 스레드에서 동시에 사용할 수 있어야 합니다.
+ * 데이터 관리({@link com.globalbridge.util.DataManager})는 이 인터페이스만 사용하므로 다른 구현으로 바꿀 수 있습니다.
+ * </p>
+ *
+ * @see LsmStorageEngine
+ */
+public interface StorageEngine extends Closeable {
+
+    /**
+     * 키의 값을 읽습니다.
+     *
+     * @param key 키
+     * @return 값, 키가 없으면 null
+     * @throws IOException 읽기 중 오류 발생 시
+     */
+    byte[] get(byte[] key) throws IOException;
+
+    /**
+     * 키에 값을 기록합니다. 이미 있는 키이면 값을 바꿉니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    void put(byte[] key, byte[] value) throws IOException;
+
+    /**
+     * 키를 삭제합니다. 없는 키이면 아무 일도 하지 않습니다.
+     *
+     * @param key 키
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    void delete(byte[] key) throws IOException;
+
+    /**
+     * 여러 기록과 삭제를 한 번에 원자적으로 반영합니다. 같은 키가 여러 번 있으면 마지막 작업이 남습니다.
+     *
+     * @param batch 반영할 작업 묶음
+     * @throws IOException 기록 중 오류 발생 시 (묶음은 반영되지 않음)
+     */
+    void write(WriteBatch batch) throws IOException;
+
+    /**
+     * 범위 안의 키를 순서대로 방문합니다. 방문 중에 기록된 내용은 보이지 않습니다.
+     *
+     * @param from 시작 키 (포함), null이면 처음부터
+     * @param to 끝 키 (제외), null이면 끝까지
+     * @param visitor 키와 값을 받는 방문자
+     * @throws IOException 읽기 중 오류가 발생했거나 방문자가 던진 경우
+     */
+    void scan(byte[] from, byte[] to, Visitor visitor) throws IOException;
+
+    /**
+     * 현재 내용의 스냅샷을 만듭니다. 다 사용한 뒤에는 반드시 닫아야 합니다.
+     *
+     * @return 스냅샷
+     * @throws IOException 엔진이 닫혔거나 스냅샷을 만들지 못한 경우
+     */
+    Snapshot snapshot() throws IOException;
+
+    /**
+     * 지금까지 기록한 내용을 저장 장치에 기록하여, 전원이 꺼져도 남도록 합니다.
+     *
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    void sync() throws IOException;
+
+    /**
+     * 기록한 내용을 저장 장치에 기록하고 엔진을 닫습니다. 닫은 뒤에는 엔진을 사용하면 안 됩니다.
+     *
+     * @throws IOException 닫는 중 오류 발생 시
+     */
+    @Override
+    void close() throws IOException;
+
+    /**
+     * 한 시점의 내용을 읽는 읽기 전용 뷰입니다.
+     */
+    interface Snapshot extends Closeable {
+
+        /**
+         * 스냅샷 시점의 키 값을 읽습니다.
+         *
+         * @param key 키
+         * @return 값, 키가 없으면 null
+         * @throws IOException 읽기 중 오류 발생 시
+         */
+        byte[] get(byte[] key) throws IOException;
+
+        /**
+         * 스냅샷 시점의 범위 안의 키를 순서대로 방문합니다.
+         *
+         * @param from 시작 키 (포함), null이면 처음부터
+         * @param to 끝 키 (제외), null이면 끝까지
+         * @param visitor 키와 값을 받는 방문자
+         * @throws IOException 읽기 중 오류가 발생했거나 방문자가 던진 경우
+         */
+        void scan(byte[] from, byte[] to, Visitor visitor) throws IOException;
+
+        /**
+         * 스냅샷이 붙잡고 있던 파일과 메모리를 놓습니다.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * {@link #scan}에서 키와 값을 하나씩 받는 방문자입니다.
+     */
+    @FunctionalInterface
+    interface Visitor {
+
+        /**
+         * 키와 값을 받습니다. 전달된 배열은 방문자가 보관해도 됩니다.
+         *
+         * @param key 키
+         * @param value 값
+         * @return 계속 방문하려면 true, 멈추려면 false
+         * @throws IOException 방문자가 처리 중 오류를 알리는 경우
+         */
+        boolean visit(byte[] key, byte[] value) throws IOException;
+    }
+}
@@ -0,0 +1,119 @@
+package com.globalbridge.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 메모리 테이블에 반영한 기록 묶음을 파일 끝에 차례로 덧붙이는 선행 기록 로그입니다.
+ *
+ * <p>
+ * 레코드마다 int 길이, int CRC32, 내용({@link WriteBatch}의 기록 형식) 순서로 기록합니다.
+ * 기록은 항상 파일 끝에 덧붙이므로 저장할 때 이전 내용을 다시 쓰지 않습니다.
+ * 다시 열 때는 끝까지 기록되지 못했거나 CRC가 맞지 않는 레코드에서 읽기를 멈추고, 그 앞까지의 묶음만 되살립니다.
+ * 메모리 테이블이 세그먼트 파일로 내려가면 해당 로그는 삭제됩니다.
+ * </p>
+ */
+final class WriteAheadLog implements Closeable {
+    private static final int HEADER_BYTES = 8;
+
+    private final long number;
+    private final FileChannel channel;
+
+    private WriteAheadLog(long number, FileChannel channel) {
+        this.number = number;
+        this.channel = channel;
+    }
+
+    /**
+     * 새 로그 파일을 만듭니다.
+     *
+     * @param file 로그 파일 (없어야 함)
+     * @param number 로그 번호
+     * @return 로그
+     * @throws IOException 파일을 만들지 못한 경우
+     */
+    static WriteAheadLog create(Path file, long number) throws IOException {
+        return new WriteAheadLog(number, FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * 로그 번호를 반환합니다.
+     * @return 로그 번호
+     */
+    long getNumber() { return number; }
+
+    /**
+     * 레코드 하나를 덧붙입니다. 운영체제에 넘긴 뒤 반환하므로 프로그램이 비정상 종료되어도 남습니다.
+     *
+     * @param payload 레코드 내용
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    void append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 지금까지 덧붙인 레코드를 저장 장치에 기록합니다.
+     *
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * 로그 파일의 온전한 레코드를 기록한 순서대로 읽습니다.
+     *
+     * @param file 로그 파일
+     * @return 레코드 내용 목록
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    static List<byte[]> read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        List<byte[]> records = new ArrayList<>();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            records.add(payload);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,156 @@
+package com.globalbridge.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link StorageEngine#write(WriteBatch)}로 한 번에 반영할 기록과 삭제의 묶음입니다.
+ *
+ * <p>
+ * 작업은 추가한 순서대로 반영됩니다. 추가한 키와 값 배열은 복사하지 않으므로,
+ * 묶음을 반영하기 전에 호출한 쪽에서 배열을 바꾸면 안 됩니다. 이 클래스는 동기화되어 있지 않습니다.
+ * </p>
+ */
+public final class WriteBatch {
+    /** 작업별 키 */
+    final List<byte[]> keys = new ArrayList<>();
+
+    /** 작업별 값, 삭제이면 null */
+    final List<byte[]> values = new ArrayList<>();
+
+    /** 키와 값의 바이트 수 합계 */
+    private long byteSize;
+
+    /**
+     * 키에 값을 기록하는 작업을 추가합니다.
+     *
+     * @param key 키
+     * @param value 값
+     * @return 이 묶음
+     */
+    public WriteBatch put(byte[] key, byte[] value) {
+        keys.add(Objects.requireNonNull(key, "key"));
+        values.add(Objects.requireNonNull(value, "value"));
+        byteSize += key.length + value.length;
+        return this;
+    }
+
+    /**
+     * 키를 삭제하는 작업을 추가합니다.
+     *
+     * @param key 키
+     * @return 이 묶음
+     */
+    public WriteBatch delete(byte[] key) {
+        keys.add(Objects.requireNonNull(key, "key"));
+        values.add(null);
+        byteSize += key.length;
+        return this;
+    }
+
+    /**
+     * 작업 수를 반환합니다.
+     * @return 작업 수
+     */
+    public int size() { return keys.size(); }
+
+    /**
+     * 작업이 없는지 확인합니다.
+     * @return 작업이 없으면 true
+     */
+    public boolean isEmpty() { return keys.isEmpty(); }
+
+    /**
+     * 키와 값의 바이트 수 합계를 반환합니다.
+     * @return 바이트 수
+     */
+    public long getByteSize() { return byteSize; }
+
+    /**
+     * 모든 작업을 지웁니다.
+     */
+    public void clear() {
+        keys.clear();
+        values.clear();
+        byteSize = 0;
+    }
+
+    /**
+     * 선행 기록 로그에 남길 형식으로 기록합니다.
+     *
+     * <pre>
+     * int 작업 수
+     * 작업마다: byte 종류 (1: 기록, 0: 삭제), int 키 길이, 키, [int 값 길이, 값]
+     * </pre>
+     */
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8,
+                byteSize + 9L * keys.size() + 4));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] key = keys.get(i);
+                byte[] value = values.get(i);
+                out.writeByte(value != null ? 1 : 0);
+                out.writeInt(key.length);
+                out.write(key);
+                if (value != null) {
+                    out.writeInt(value.length);
+                    out.write(value);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@link #encode()}로 기록된 묶음을 읽습니다.
+     *
+     * @param payload 기록된 바이트
+     * @return 읽은 묶음
+     * @throws IOException 형식이 올바르지 않은 경우
+     */
+    static WriteBatch decode(byte[] payload) throws IOException {
+        WriteBatch batch = new WriteBatch();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("작업 수가 올바르지 않습니다: " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            int type = in.readByte();
+            byte[] key = readBytes(in);
+            if (type == 1) {
+                batch.put(key, readBytes(in));
+            } else if (type == 0) {
+                batch.delete(key);
+            } else {
+                throw new IOException("작업 종류가 올바르지 않습니다: " + type);
+            }
+        }
+        return batch;
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("길이가 올바르지 않습니다: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,544 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * 활동 관리 화면에서 저장한 {@code activities.txt} 파일을 다시 불러오는 클래스입니다.
+ *
+ * <p>
+ * 파일 형식:
+ * <pre>
+ * [ 멘토이름 - 멘티이름 ]
+ * - yyyy-MM-dd HH:mm | 활동내용 @ 활동장소 [완료|진행중]
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * 파일은 메모리 매핑된 채널로 일정 크기의 창(window) 단위로 읽으며,
+ * 각 창은 {@code [ 멘토 - 멘티 ]} 그룹 경계에서 여러 청크로 나뉘어
+ * fork-join 풀에서 병렬로 파싱됩니다. 매칭은 이름 대신 (멘토 이름, 멘티 이름) 색인으로 찾으며,
+ * 파싱된 활동은 off-heap {@link ActivityLog}에 모이므로 파일 크기와 관계없이
+ * 힙 사용량이 일정하게 유지됩니다. 결과는 호출자가 한 번에 활동 저장소에 반영합니다.
+ * </p>
+ *
+ * <p>
+ * 청크마다 저장소를 따로 만들면 짧게 쓰고 버리는 direct 버퍼가 파일 크기에 비례해 쌓이므로,
+ * 청크는 창 안의 자리마다 하나씩 둔 힙 배열에 행을 모으고, 창을 다 파싱하면 순서대로 결과 저장소에 옮긴 뒤 배열을 비워 다음 창에서 다시 씁니다.
+ * 따라서 가져오는 동안 추가로 드는 메모리는 창 하나 분량으로 일정하며, 결과 저장소는 {@link ActivityLog#create()}로 만들어
+ * 메모리 제한 모드에서는 페이지 캐시의 예산 안에 둡니다. 결과를 반영한 뒤에는 {@link ActivityLog#release()}를 호출하는 것이 좋습니다.
+ * </p>
+ *
+ * <p>
+ * 압축 파일이나 보관 파일(zip) 안의 항목처럼 매핑할 수 없는 입력은 {@link #importStream(InputStream)}으로
+ * 읽습니다. 이때는 {@value #STREAM_WINDOW_BYTES}바이트 힙 버퍼 하나를 창으로 재사용하며, 나머지 처리는 같습니다.
+ * </p>
+ *
+ * @see ActivityLog#addAll(ActivityLog)
+ */
+public class ActivityImporter {
+    /** 한 번에 매핑하는 창의 크기 (64MB) */
+    private static final int WINDOW_BYTES = 64 << 20;
+
+    /** 스트림에서 읽을 때 사용하는 창의 크기 (16MB) */
+    private static final int STREAM_WINDOW_BYTES = 16 << 20;
+
+    /** 병렬 파싱 청크의 목표 크기 (4MB) */
+    private static final int CHUNK_BYTES = 4 << 20;
+
+    /** 결과에 보관할 미해결 그룹 이름의 최대 개수 */
+    private static final int MAX_REPORTED_GROUPS = 100;
+
+    private static final byte NEWLINE = '\n';
+    private static final byte GROUP_START = '[';
+
+    /** (멘토 이름, 멘티 이름) → 매칭 ID 색인, 이름이 겹치는 매칭은 null로 표시 */
+    private final HashMap<String, String> pairIndex = new HashMap<>();
+
+    private final ForkJoinPool pool;
+
+    /**
+     * 가져오기 결과를 담는 클래스입니다.
+     */
+    public static final class Result {
+        private final ActivityLog activities = ActivityLog.create();
+        private final List<String> unresolvedGroups = new ArrayList<>();
+        private int unresolvedGroupCount;
+        private int malformedLines;
+
+        /**
+         * 파싱된 활동을 반환합니다. 아직 프로그램의 활동 저장소에는 반영되지 않은 상태입니다.
+         * @return 가져온 활동이 담긴 저장소
+         */
+        public ActivityLog getActivities() { return activities; }
+
+        /**
+         * 매칭을 찾지 못해 건너뛴 그룹의 이름을 반환합니다 (최대 100개).
+         * @return "[ 멘토 - 멘티 ]" 형식의 그룹 이름 목록
+         */
+        public List<String> getUnresolvedGroups() { return unresolvedGroups; }
+
+        /**
+         * 매칭을 찾지 못해 건너뛴 그룹의 수를 반환합니다.
+         * @return 건너뛴 그룹 수
+         */
+        public int getUnresolvedGroupCount() { return unresolvedGroupCount; }
+
+        /**
+         * 형식이 올바르지 않아 건너뛴 줄의 수를 반환합니다.
+         * @return 건너뛴 줄 수
+         */
+        public int getMalformedLines() { return malformedLines; }
+    }
+
+    /**
+     * ActivityImporter 생성자.
+     *
+     * <p>
+     * 현재 매칭 정보로 (멘토 이름, 멘티 이름) 색인을 만듭니다.
+     * 같은 이름 조합의 매칭이 둘 이상이면 어느 매칭인지 알 수 없으므로 해당 그룹은 건너뜁니다.
+     * </p>
+     *
+     * @param matches 매칭 ID를 키로 하는 현재 매칭 정보
+     */
+    public ActivityImporter(Map<String, Pair> matches) {
+        this(matches, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 파싱에 사용할 fork-join 풀을 지정하는 생성자.
+     *
+     * @param matches 매칭 ID를 키로 하는 현재 매칭 정보
+     * @param pool 청크 파싱에 사용할 풀
+     */
+    public ActivityImporter(Map<String, Pair> matches, ForkJoinPool pool) {
+        this.pool = pool;
+        for (Map.Entry<String, Pair> entry : matches.entrySet()) {
+            String key = groupKey(entry.getValue().getMentor().getName(), entry.getValue().getMentee().getName());
+            if (pairIndex.containsKey(key)) {
+                pairIndex.put(key, null);
+            } else {
+                pairIndex.put(key, entry.getKey());
+            }
+        }
+    }
+
+    private static String groupKey(String mentorName, String menteeName) {
+        return mentorName + '\n' + menteeName;
+    }
+
+    /**
+     * 파일의 모든 활동을 읽어 옵니다.
+     *
+     * @param file 읽을 파일 (activities.txt 형식)
+     * @return 가져오기 결과
+     * @throws IOException 파일 읽기 중 오류 발생 시
+     */
+    public Result importFile(Path file) throws IOException {
+        Result result = new Result();
+        List<StagedRows> staging = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            String carriedPair = null;
+            boolean carriedResolved = false;
+
+            while (position < size) {
+                int length = (int) Math.min(WINDOW_BYTES, size - position);
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                // 창 끝이 파일 끝이 아니면 마지막 그룹 경계(없으면 마지막 줄 경계)에서 자릅니다.
+                int end = length;
+                if (position + length < size) {
+                    end = lastGroupStart(window, length);
+                    if (end <= 0) {
+                        end = lastLineEnd(window, length);
+                    }
+                    if (end <= 0) {
+                        throw new IOException("한 줄이 너무 깁니다: " + (position + length) + "바이트 위치");
+                    }
+                }
+
+                ChunkParser last = parseWindow(window, end, carriedPair, carriedResolved, staging, result);
+                carriedPair = last.currentPair;
+                carriedResolved = last.currentResolved;
+                position += end;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 스트림의 모든 활동을 읽어 옵니다.
+     *
+     * <p>
+     * 스트림은 닫지 않습니다. 버퍼 끝에 걸친 그룹은 다음 창의 앞으로 옮겨 이어서 파싱합니다.
+     * </p>
+     *
+     * @param in 읽을 스트림 (activities.txt 형식, UTF-8)
+     * @return 가져오기 결과
+     * @throws IOException 스트림 읽기 중 오류 발생 시
+     */
+    public Result importStream(InputStream in) throws IOException {
+        Result result = new Result();
+        List<StagedRows> staging = new ArrayList<>();
+        byte[] bytes = new byte[STREAM_WINDOW_BYTES];
+        ByteBuffer window = ByteBuffer.wrap(bytes);
+        String carriedPair = null;
+        boolean carriedResolved = false;
+        int filled = 0;
+        boolean eof = false;
+
+        while (!eof || filled > 0) {
+            while (!eof && filled < bytes.length) {
+                int read = in.read(bytes, filled, bytes.length - filled);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    filled += read;
+                }
+            }
+
+            int end = filled;
+            if (!eof) {
+                end = lastGroupStart(window, filled);
+                if (end <= 0) {
+                    end = lastLineEnd(window, filled);
+                }
+                if (end <= 0) {
+                    throw new IOException("한 줄이 너무 깁니다: " + STREAM_WINDOW_BYTES + "바이트 초과");
+                }
+            }
+
+            ChunkParser last = parseWindow(window, end, carriedPair, carriedResolved, staging, result);
+            carriedPair = last.currentPair;
+            carriedResolved = last.currentResolved;
+            System.arraycopy(bytes, end, bytes, 0, filled - end);
+            filled -= end;
+        }
+        return result;
+    }
+
+    /**
+     * 창의 앞부분을 청크로 나누어 병렬로 파싱하고 결과에 합칩니다.
+     *
+     * @param staging 청크 자리별로 재사용하는 행 배열 (모자라면 추가됨)
+     * @return 마지막 청크 (다음 창으로 이어지는 그룹 정보를 가짐)
+     */
+    private ChunkParser parseWindow(ByteBuffer window, int end, String carriedPair, boolean carriedResolved,
+                                    List<StagedRows> staging, Result result) {
+        List<ChunkParser> chunks = split(window, end, staging);
+        chunks.get(0).inheritGroup(carriedPair, carriedResolved);
+        if (chunks.size() == 1) {
+            chunks.get(0).invoke();
+        } else {
+            pool.invoke(new RecursiveTask<Void>() {
+                @Override
+                protected Void compute() {
+                    ForkJoinTask.invokeAll(chunks);
+                    return null;
+                }
+            });
+        }
+
+        for (ChunkParser chunk : chunks) {
+            chunk.mergeInto(result);
+        }
+        return chunks.get(chunks.size() - 1);
+    }
+
+    /**
+     * 창을 그룹 경계에서 약 {@link #CHUNK_BYTES} 크기의 청크로 나눕니다.
+     */
+    private List<ChunkParser> split(ByteBuffer window, int end, List<StagedRows> staging) {
+        List<ChunkParser> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < end) {
+            int next = end;
+            if (end - start > CHUNK_BYTES) {
+                int boundary = nextGroupStart(window, start + CHUNK_BYTES, end);
+                if (boundary > 0) {
+                    next = boundary;
+                }
+            }
+            chunks.add(new ChunkParser(window, start, next, staged(staging, chunks.size())));
+            start = next;
+        }
+        if (chunks.isEmpty()) {
+            chunks.add(new ChunkParser(window, 0, 0, staged(staging, 0)));
+        }
+        return chunks;
+    }
+
+    private static StagedRows staged(List<StagedRows> staging, int index) {
+        while (staging.size() <= index) {
+            staging.add(new StagedRows());
+        }
+        return staging.get(index);
+    }
+
+    /** from 이후 처음으로 '['로 시작하는 줄의 시작 위치, 없으면 -1 */
+    private static int nextGroupStart(ByteBuffer buffer, int from, int end) {
+        for (int i = Math.max(from, 1); i < end; i++) {
+            if (buffer.get(i) == GROUP_START && buffer.get(i - 1) == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** length 이전 마지막으로 '['로 시작하는 줄의 시작 위치, 없으면 -1 */
+    private static int lastGroupStart(ByteBuffer buffer, int length) {
+        for (int i = length - 1; i > 0; i--) {
+            if (buffer.get(i) == GROUP_START && buffer.get(i - 1) == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** length 이전 마지막 줄바꿈 다음 위치, 없으면 -1 */
+    private static int lastLineEnd(ByteBuffer buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == NEWLINE) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 창의 한 구간을 파싱하는 fork-join 작업입니다.
+     *
+     * <p>
+     * 구간은 그룹 제목 줄에서 시작하며, 창의 첫 구간만 이전 창에서 이어지는 그룹을
+     * {@link #inheritGroup(String, boolean)}으로 넘겨받습니다.
+     * </p>
+     */
+    private final class ChunkParser extends RecursiveTask<Void> {
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int end;
+
+        private final StagedRows rows;
+        private final List<String> unresolvedGroups = new ArrayList<>();
+        private int unresolvedGroupCount;
+        private int malformedLines;
+
+        /** 현재 그룹의 매칭 ID (매칭을 찾지 못했으면 null) */
+        private String currentPair;
+
+        /** 현재 그룹이 존재하며 매칭이 확인되었는지 여부 */
+        private boolean currentResolved;
+
+        private byte[] lineBytes = new byte[256];
+
+        ChunkParser(ByteBuffer buffer, int start, int end, StagedRows rows) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.rows = rows;
+        }
+
+        void inheritGroup(String pairId, boolean resolved) {
+            currentPair = pairId;
+            currentResolved = resolved;
+        }
+
+        @Override
+        protected Void compute() {
+            int lineStart = start;
+            while (lineStart < end) {
+                int lineEnd = lineStart;
+                while (lineEnd < end && buffer.get(lineEnd) != NEWLINE) {
+                    lineEnd++;
+                }
+                parseLine(lineStart, lineEnd);
+                lineStart = lineEnd + 1;
+            }
+            return null;
+        }
+
+        private void parseLine(int from, int to) {
+            int length = to - from;
+            if (length > 0 && buffer.get(to - 1) == '\r') {
+                length--;
+            }
+            if (length == 0) {
+                return;
+            }
+            if (lineBytes.length < length) {
+                lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+            }
+            buffer.get(from, lineBytes, 0, length);
+            String line = new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+
+            if (line.startsWith("[ ") && line.endsWith(" ]")) {
+                parseGroup(line);
+            } else if (line.startsWith("- ")) {
+                parseActivity(line);
+            } else if (!line.startsWith("활동 내역")) {
+                malformedLines++;
+            }
+        }
+
+        private void parseGroup(String line) {
+            String names = line.substring(2, line.length() - 2);
+            int separator = names.indexOf(" - ");
+            if (separator < 0) {
+                malformedLines++;
+                currentPair = null;
+                currentResolved = false;
+                return;
+            }
+            currentPair = pairIndex.get(groupKey(names.substring(0, separator), names.substring(separator + 3)));
+            currentResolved = currentPair != null;
+            if (!currentResolved) {
+                unresolvedGroupCount++;
+                if (unresolvedGroups.size() < MAX_REPORTED_GROUPS) {
+                    unresolvedGroups.add(line);
+                }
+            }
+        }
+
+        private void parseActivity(String line) {
+            if (!currentResolved) {
+                return;
+            }
+            // "- yyyy-MM-dd HH:mm | 내용 @ 장소 [상태]"
+            int statusStart = line.lastIndexOf(" [");
+            int locationStart = statusStart < 0 ? -1 : line.lastIndexOf(" @ ", statusStart);
+            if (line.length() < 21 || !line.startsWith(" | ", 18) || locationStart < 21 || !line.endsWith("]")) {
+                malformedLines++;
+                return;
+            }
+            long epochMillis;
+            try {
+                epochMillis = parseTimestamp(line);
+            } catch (RuntimeException e) {
+                malformedLines++;
+                return;
+            }
+            rows.add(currentPair, epochMillis,
+                    line.substring(21, locationStart),
+                    line.substring(locationStart + 3, statusStart),
+                    line.startsWith("완료", statusStart + 2));
+        }
+
+        private long parseTimestamp(String line) {
+            if (line.charAt(6) != '-' || line.charAt(9) != '-' || line.charAt(12) != ' ' || line.charAt(15) != ':') {
+                throw new IllegalArgumentException(line);
+            }
+            LocalDateTime dateTime = LocalDateTime.of(
+                    digits(line, 2, 6), digits(line, 7, 9), digits(line, 10, 12),
+                    digits(line, 13, 15), digits(line, 16, 18));
+            return dateTime.atZone(Activity.ZONE).toInstant().toEpochMilli();
+        }
+
+        private int digits(String line, int from, int to) {
+            int value = 0;
+            for (int i = from; i < to; i++) {
+                int digit = line.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new IllegalArgumentException(line);
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        void mergeInto(Result result) {
+            rows.appendTo(result.activities);
+            rows.clear();
+            result.unresolvedGroupCount += unresolvedGroupCount;
+            result.malformedLines += malformedLines;
+            for (String group : unresolvedGroups) {
+                if (result.unresolvedGroups.size() < MAX_REPORTED_GROUPS) {
+                    result.unresolvedGroups.add(group);
+                }
+            }
+        }
+    }
+
+    /**
+     * 청크 하나에서 파싱한 행을 결과 저장소로 옮기기 전까지 모아 두는 힙 배열입니다.
+     *
+     * <p>
+     * 활동 내용은 UTF-8 바이트로 하나의 배열에 이어 붙입니다. {@link #clear()}로 비워도 배열은 그대로 두어,
+     * 다음 창의 같은 자리 청크가 다시 할당하지 않고 사용합니다.
+     * </p>
+     */
+    private static final class StagedRows {
+        private int size;
+        private String[] pairIds = new String[256];
+        private long[] epochs = new long[256];
+        private String[] locations = new String[256];
+        private boolean[] completed = new boolean[256];
+        private int[] contentEnds = new int[256];
+        private byte[] content = new byte[1 << 14];
+        private int contentUsed;
+
+        void add(String pairId, long epochMillis, String text, String location, boolean done) {
+            if (size == pairIds.length) {
+                int capacity = size * 2;
+                pairIds = Arrays.copyOf(pairIds, capacity);
+                epochs = Arrays.copyOf(epochs, capacity);
+                locations = Arrays.copyOf(locations, capacity);
+                completed = Arrays.copyOf(completed, capacity);
+                contentEnds = Arrays.copyOf(contentEnds, capacity);
+            }
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            if (content.length - contentUsed < bytes.length) {
+                content = Arrays.copyOf(content, Math.max(content.length * 2, contentUsed + bytes.length));
+            }
+            System.arraycopy(bytes, 0, content, contentUsed, bytes.length);
+            contentUsed += bytes.length;
+            pairIds[size] = pairId;
+            epochs[size] = epochMillis;
+            locations[size] = location;
+            completed[size] = done;
+            contentEnds[size] = contentUsed;
+            size++;
+        }
+
+        void appendTo(ActivityLog log) {
+            int contentStart = 0;
+            for (int i = 0; i < size; i++) {
+                log.add(pairIds[i], epochs[i], content, contentStart, contentEnds[i] - contentStart,
+                        locations[i], completed[i]);
+                contentStart = contentEnds[i];
+            }
+        }
+
+        void clear() {
+            Arrays.fill(pairIds, 0, size, null);
+            Arrays.fill(locations, 0, size, null);
+            size = 0;
+            contentUsed = 0;
+        }
+    }
+}
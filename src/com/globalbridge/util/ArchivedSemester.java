@@ -0,0 +1,98 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.query.QueryEngine;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link SemesterStore}에서 필요할 때 불러온, 마감된 학기 하나의 읽기 전용 데이터입니다.
+ *
+ * <p>
+ * 참가자 목록과 매칭은 수정할 수 없는 컬렉션으로 제공되며, 활동 기록과 집계, 스케치도 읽기에만 사용해야 합니다.
+ * 마감된 학기는 다시 저장되지 않으므로 여기서 바꾼 내용은 파일에 반영되지 않습니다.
+ * 학번 색인과 참가자 패싯 색인은 불러올 때 함께 만들어지므로 {@link #query()}의 질의도 색인을 사용합니다.
+ * </p>
+ */
+public final class ArchivedSemester {
+    private final String id;
+    private final List<Participant> participants;
+    private final Map<String, Pair> matches;
+    private final ActivityLog activities;
+    private final ActivityRollup rollup;
+    private final ActivitySketches sketches;
+    private final StudentIdIndex studentIndex = new StudentIdIndex();
+    private final ParticipantFacets facets = new ParticipantFacets();
+
+    ArchivedSemester(String id, List<Participant> participants, Map<String, Pair> matches, ActivityLog activities,
+                     ActivityRollup rollup, ActivitySketches sketches) {
+        this.id = id;
+        this.participants = Collections.unmodifiableList(participants);
+        this.matches = Collections.unmodifiableMap(matches);
+        this.activities = activities;
+        this.rollup = rollup;
+        this.sketches = sketches;
+        studentIndex.reset(participants);
+        facets.reset(this.participants);
+    }
+
+    /**
+     * 학기 ID를 반환합니다.
+     * @return 학기 ID (예: 2026-1)
+     */
+    public String getId() { return id; }
+
+    /**
+     * 참가자 목록을 반환합니다.
+     * @return 수정할 수 없는 참가자 목록
+     */
+    public List<Participant> getParticipants() { return participants; }
+
+    /**
+     * 매칭 정보를 반환합니다.
+     * @return 수정할 수 없는 매칭 ID → 매칭 Map
+     */
+    public Map<String, Pair> getMatches() { return matches; }
+
+    /**
+     * 활동 기록을 반환합니다. 읽기에만 사용해야 합니다.
+     * @return 활동 저장소
+     */
+    public ActivityLog getActivities() { return activities; }
+
+    /**
+     * 활동 집계를 반환합니다. 읽기에만 사용해야 합니다.
+     * @return 활동 집계
+     */
+    public ActivityRollup getRollup() { return rollup; }
+
+    /**
+     * 활동 스케치를 반환합니다. 읽기에만 사용해야 합니다.
+     * @return 활동 스케치
+     */
+    public ActivitySketches getSketches() { return sketches; }
+
+    /**
+     * 이 학기 데이터에 대한 질의 엔진을 생성합니다. 여러 스레드에서 각자 만든 엔진으로 동시에 질의할 수 있습니다.
+     *
+     * @return 질의 엔진
+     */
+    public QueryEngine query() {
+        return new QueryEngine(participants, matches, activities, studentIndex::get, facets);
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -0,0 +1,188 @@
+package com.globalbridge.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * 문자열 집합에 대한 블룸 필터 클래스입니다.
+ *
+ * <p>
+ * {@link #mightContain(CharSequence)}가 false를 반환하면 해당 문자열은 확실히 추가된 적이 없으며,
+ * true를 반환하면 정해진 오탐률 이내의 확률로 추가된 적이 없을 수도 있습니다.
+ * 정확한 색인 앞에 두어, 대부분이 새로운 값인 조회를 해시 테이블 탐색 없이 빠르게 걸러내는 데 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 문자열마다 64비트 해시 하나를 계산하고 두 32비트 값으로 나누어
+ * {@code h1 + i * h2} 방식(double hashing)으로 k개의 비트 위치를 만듭니다.
+ * 바이트 배열 키도 같은 방식으로 추가하고 확인할 수 있으며, {@link #write(DataOutput)}로 기록한 필터는
+ * {@link #read(DataInput)}로 다시 읽어 저장 파일의 키 필터로 사용할 수 있습니다.
+ * 이 클래스는 동기화되어 있지 않습니다.
+ * </p>
+ */
+public class BloomFilter {
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * 예상 원소 수와 목표 오탐률에 맞는 크기로 블룸 필터를 생성합니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 오탐률 (0과 1 사이)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, (m + 63) & ~63L);
+        this.bits = new long[(int) (m >>> 6)];
+        this.bitCount = m;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    private BloomFilter(long[] bits, int hashCount) {
+        this.bits = bits;
+        this.bitCount = (long) bits.length << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 문자열을 추가합니다.
+     *
+     * @param value 추가할 문자열
+     */
+    public void put(CharSequence value) {
+        set(hash(value));
+    }
+
+    /**
+     * 바이트 배열을 추가합니다.
+     *
+     * @param value 추가할 바이트 배열
+     */
+    public void put(byte[] value) {
+        set(hash(value));
+    }
+
+    private void set(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * 문자열이 추가되었을 가능성이 있는지 확인합니다.
+     *
+     * @param value 확인할 문자열
+     * @return 추가된 적이 없으면 false, 추가되었을 수 있으면 true
+     */
+    public boolean mightContain(CharSequence value) {
+        return test(hash(value));
+    }
+
+    /**
+     * 바이트 배열이 추가되었을 가능성이 있는지 확인합니다.
+     *
+     * @param value 확인할 바이트 배열
+     * @return 추가된 적이 없으면 false, 추가되었을 수 있으면 true
+     */
+    public boolean mightContain(byte[] value) {
+        return test(hash(value));
+    }
+
+    private boolean test(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 모든 원소를 제거합니다.
+     */
+    public void clear() {
+        java.util.Arrays.fill(bits, 0L);
+    }
+
+    /**
+     * 해시 함수 수와 비트 배열을 기록합니다.
+     *
+     * @param out 기록할 대상
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(hashCount);
+        out.writeInt(bits.length);
+        for (long word : bits) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * {@link #write(DataOutput)}로 기록된 블룸 필터를 읽습니다.
+     *
+     * @param in 읽을 대상
+     * @return 읽은 블룸 필터
+     * @throws IOException 읽기 중 오류가 발생했거나 형식이 올바르지 않은 경우
+     */
+    public static BloomFilter read(DataInput in) throws IOException {
+        int hashCount = in.readInt();
+        int words = in.readInt();
+        if (hashCount <= 0 || words <= 0) {
+            throw new IOException("블룸 필터 형식이 올바르지 않습니다.");
+        }
+        long[] bits = new long[words];
+        for (int i = 0; i < words; i++) {
+            bits[i] = in.readLong();
+        }
+        return new BloomFilter(bits, hashCount);
+    }
+
+    /** FNV-1a 64비트 해시에 MurmurHash3 최종 혼합을 적용합니다. */
+    private static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /** 바이트 배열에 같은 해시를 적용합니다. */
+    private static long hash(byte[] value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
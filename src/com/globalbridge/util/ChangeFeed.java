@@ -0,0 +1,547 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.storage.LsmStorageEngine;
+import com.globalbridge.storage.StorageEngine;
+import com.globalbridge.storage.WriteBatch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * 참가자와 매칭의 변경마다 순번을 매겨 보관하는 변경 기록(change data capture) 클래스입니다.
+ *
+ * <p>
+ * 참가자를 등록하거나 매칭을 만들고 지울 때 {@link #recordParticipant(Participant)},
+ * {@link #recordMatch(String, Pair)}, {@link #recordMatchRemoved(String)}를 호출하면 그 자리에서
+ * 변경마다 1씩 커지는 순번을 매기고, 모아 둔 변경은 {@link #flush()}에서 한 묶음으로 반영합니다.
+ * 따라서 저장할 때 드는 시간은 전체 참가자와 매칭 수가 아니라 그 사이의 변경 수에 비례합니다.
+ * 순번은 학기와 관계없이 데이터 디렉터리 전체에서 계속 커지며, 변경을 일어난 순서대로 기록하므로
+ * 순번 순서대로 반영하면 매칭이 가리키는 참가자가 항상 먼저 있습니다.
+ * </p>
+ *
+ * <p>
+ * 저장 파일과 변경 기록 사이에 빠진 변경은 불러온 뒤 {@link #reconcile(List, Map)}로 전체 데이터와
+ * 마지막으로 기록한 상태를 비교하여 되살립니다. 학기를 마감하며 참가자를 이어 가지 않을 때는
+ * {@link #archive(List, Map)}로 새 학기에 없는 레코드를 마감한 학기의 레코드로 표시하므로, 삭제로 기록되지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 기록은 데이터 디렉터리의 {@value #DIRECTORY_NAME} 디렉터리에 있는 {@link LsmStorageEngine}에 다음과 같이 보관됩니다.
+ * </p>
+ * <pre>
+ * e:p:학번         참가자의 마지막 변경 (순번, 종류(삭제/갱신/마감), 참가자 정보)
+ * e:m:매칭ID       매칭의 마지막 변경 (순번, 종류(삭제/갱신/마감), 멘토와 멘티의 참가자 정보)
+ * s:순번           그 순번의 변경이 마지막 변경인 레코드의 키 (8바이트 big-endian 순번 → "p:학번" 또는 "m:매칭ID")
+ * meta:sequence    마지막으로 매긴 순번
+ * </pre>
+ *
+ * <p>
+ * 레코드마다 마지막 변경만 남기므로, {@link #changesSince(long, ChangeVisitor)}로 어떤 순번 이후의 변경을 읽으면
+ * 그 뒤에 바뀐 레코드마다 최종 상태가 한 번씩 순번 순서로 나옵니다. 읽는 양은 전체 데이터가 아니라 바뀐 레코드 수에 비례합니다.
+ * 삭제된 레코드도 삭제 표시로 남겨 두어, 삭제 전의 순번까지 읽은 쪽도 삭제를 알 수 있습니다.
+ * 마감한 학기의 레코드는 마지막 갱신 그대로 나옵니다.
+ * </p>
+ *
+ * <p>
+ * 참가자와 매칭은 바뀌지 않는 객체이므로 마지막으로 기록한 객체와 같으면 비교 없이 건너뛰고,
+ * 다른 객체이면 기록 형식으로 바꾼 바이트를 비교하여 내용이 같으면 기록하지 않습니다. 이 클래스는 스레드 안전합니다.
+ * </p>
+ *
+ * @see com.globalbridge.report.ChangeExporter
+ */
+public final class ChangeFeed implements Closeable {
+    /** 데이터 디렉터리 안의 변경 기록 디렉터리 이름 */
+    public static final String DIRECTORY_NAME = "changes";
+
+    private static final byte[] SEQUENCE_KEY = "meta:sequence".getBytes(StandardCharsets.UTF_8);
+    private static final String ENTITY_PREFIX = "e:";
+    private static final String SEQUENCE_PREFIX = "s:";
+
+    private static final int OP_DELETE = 0;
+    private static final int OP_UPSERT = 1;
+    private static final int OP_ARCHIVED = 2;
+
+    private final StorageEngine engine;
+
+    /** 학번 → 참가자의 마지막 변경 */
+    private final HashMap<String, Entry> participantEntries = new HashMap<>();
+
+    /** 매칭 ID → 매칭의 마지막 변경 */
+    private final HashMap<String, Entry> matchEntries = new HashMap<>();
+
+    /** 마지막으로 매긴 순번 (반영하지 않은 변경 포함) */
+    private long lastSequence;
+
+    /** 순번을 매겼지만 아직 엔진에 반영하지 않은 변경 */
+    private final WriteBatch pending = new WriteBatch();
+
+    private ChangeFeed(StorageEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * 변경 기록 디렉터리를 열고 레코드마다 마지막으로 기록한 상태를 읽어 둡니다.
+     *
+     * @param directory 변경 기록 디렉터리 (없으면 만듦)
+     * @return 변경 기록
+     * @throws IOException 디렉터리를 열지 못했거나 기록 형식이 올바르지 않은 경우
+     */
+    public static ChangeFeed open(Path directory) throws IOException {
+        LsmStorageEngine engine = LsmStorageEngine.open(directory);
+        ChangeFeed feed = new ChangeFeed(engine);
+        try (StorageEngine.Snapshot snapshot = engine.snapshot()) {
+            byte[] sequence = snapshot.get(SEQUENCE_KEY);
+            feed.lastSequence = sequence != null ? ByteBuffer.wrap(sequence).getLong() : 0;
+            snapshot.scan(prefix(ENTITY_PREFIX), prefixEnd(ENTITY_PREFIX), (key, value) -> {
+                String recordKey = new String(key, 2, key.length - 2, StandardCharsets.UTF_8);
+                Type type = Type.of(recordKey);
+                ByteBuffer buffer = ByteBuffer.wrap(value);
+                long changeSequence = buffer.getLong();
+                byte op = buffer.get();
+                byte[] payload = null;
+                if (op != OP_DELETE) {
+                    payload = new byte[buffer.remaining()];
+                    buffer.get(payload);
+                }
+                feed.entries(type).put(recordKey.substring(type.keyPrefix.length()),
+                        new Entry(changeSequence, payload, op == OP_UPSERT, null));
+                return true;
+            });
+        } catch (IOException | RuntimeException e) {
+            engine.close();
+            throw e;
+        }
+        return feed;
+    }
+
+    /**
+     * 등록되거나 내용이 바뀐 참가자를 갱신으로 기록합니다.
+     * 마지막으로 기록한 내용과 같으면 기록하지 않습니다. 변경은 {@link #flush()}에서 반영됩니다.
+     *
+     * @param participant 참가자
+     */
+    public synchronized void recordParticipant(Participant participant) {
+        upsert(Type.PARTICIPANT, participant.getStudentId(), participant);
+    }
+
+    /**
+     * 만들어지거나 다시 만들어진 매칭을 갱신으로 기록합니다.
+     * 마지막으로 기록한 내용과 같으면 기록하지 않습니다. 변경은 {@link #flush()}에서 반영됩니다.
+     *
+     * @param matchId 매칭 ID
+     * @param pair 매칭
+     */
+    public synchronized void recordMatch(String matchId, Pair pair) {
+        upsert(Type.MATCH, matchId, pair);
+    }
+
+    /**
+     * 지운 매칭을 삭제로 기록합니다. 기록된 매칭이 없으면 기록하지 않습니다.
+     * 변경은 {@link #flush()}에서 반영됩니다.
+     *
+     * @param matchId 매칭 ID
+     */
+    public synchronized void recordMatchRemoved(String matchId) {
+        delete(Type.MATCH, matchId);
+    }
+
+    /**
+     * 순번을 매긴 변경을 한 묶음으로 반영합니다.
+     *
+     * <p>
+     * 반영하지 못하면 변경은 남아 있다가 다음에 반영할 때 함께 반영됩니다.
+     * </p>
+     *
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    public synchronized void flush() throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        pending.put(SEQUENCE_KEY, ByteBuffer.allocate(Long.BYTES).putLong(lastSequence).array());
+        engine.write(pending);
+        pending.clear();
+    }
+
+    /**
+     * 마지막으로 기록한 상태를 전체 데이터와 비교하여 빠진 변경을 기록하고 반영합니다.
+     *
+     * <p>
+     * 데이터를 저장한 뒤 변경 기록에 반영하기 전에 중단된 경우처럼 변경 기록에 빠진 변경을 되살리기 위해
+     * 불러온 직후에 호출합니다. 새로 생기거나 내용이 바뀐 참가자와 매칭은 갱신으로, 없어진 것은 삭제로 기록하며,
+     * 참가자 갱신, 매칭 삭제, 매칭 갱신, 참가자 삭제 순서로 순번을 매깁니다.
+     * 같은 학번의 참가자가 여러 번 있으면 목록에서 앞에 있는 참가자만 비교합니다.
+     * </p>
+     *
+     * @param participants 참가자 목록
+     * @param matches 매칭 ID → 매칭
+     * @return 기록한 변경 수
+     * @throws IOException 반영 중 오류 발생 시 (변경은 남아 있다가 다음에 반영됨)
+     */
+    public synchronized int reconcile(List<?> participants, Map<?, ?> matches) throws IOException {
+        int count = 0;
+        HashSet<String> currentParticipants = new HashSet<>(participants.size() * 2);
+        for (Object element : participants) {
+            Participant participant = (Participant) element;
+            String id = participant.getStudentId();
+            if (currentParticipants.add(id) && upsert(Type.PARTICIPANT, id, participant)) {
+                count++;
+            }
+        }
+        for (String id : liveMissing(Type.MATCH, matches.keySet())) {
+            count += delete(Type.MATCH, id) ? 1 : 0;
+        }
+        for (Map.Entry<?, ?> match : matches.entrySet()) {
+            count += upsert(Type.MATCH, (String) match.getKey(), match.getValue()) ? 1 : 0;
+        }
+        for (String id : liveMissing(Type.PARTICIPANT, currentParticipants)) {
+            count += delete(Type.PARTICIPANT, id) ? 1 : 0;
+        }
+        flush();
+        return count;
+    }
+
+    /**
+     * 현재 데이터에 없는 살아 있는 레코드를 순번을 매기지 않고 마감한 학기의 레코드로 표시합니다.
+     *
+     * <p>
+     * 학기를 마감하며 참가자와 매칭을 이어 가지 않을 때, 새 학기를 반영한 뒤 호출합니다.
+     * 표시한 레코드는 삭제로 기록되지 않으며 이후 {@link #reconcile(List, Map)}에서도 비교하지 않습니다.
+     * 같은 학번이나 매칭 ID의 레코드가 다시 기록되면 내용과 관계없이 갱신으로 기록됩니다.
+     * </p>
+     *
+     * @param participants 새 학기의 참가자 목록
+     * @param matches 새 학기의 매칭 ID → 매칭
+     * @throws IOException 기록 중 오류 발생 시 (마지막으로 기록한 상태는 바뀌지 않음)
+     */
+    public synchronized void archive(List<?> participants, Map<?, ?> matches) throws IOException {
+        flush();
+        HashSet<String> currentParticipants = new HashSet<>(participants.size() * 2);
+        for (Object element : participants) {
+            currentParticipants.add(((Participant) element).getStudentId());
+        }
+        List<String> archivedParticipants = liveMissing(Type.PARTICIPANT, currentParticipants);
+        List<String> archivedMatches = liveMissing(Type.MATCH, matches.keySet());
+        WriteBatch batch = new WriteBatch();
+        for (String id : archivedParticipants) {
+            Entry entry = participantEntries.get(id);
+            batch.put(entityKey(Type.PARTICIPANT, id), encodeEntry(entry.sequence, OP_ARCHIVED, entry.payload));
+        }
+        for (String id : archivedMatches) {
+            Entry entry = matchEntries.get(id);
+            batch.put(entityKey(Type.MATCH, id), encodeEntry(entry.sequence, OP_ARCHIVED, entry.payload));
+        }
+        engine.write(batch);
+
+        for (String id : archivedParticipants) {
+            Entry entry = participantEntries.get(id);
+            participantEntries.put(id, new Entry(entry.sequence, entry.payload, false, null));
+        }
+        for (String id : archivedMatches) {
+            Entry entry = matchEntries.get(id);
+            matchEntries.put(id, new Entry(entry.sequence, entry.payload, false, null));
+        }
+    }
+
+    /**
+     * 레코드가 살아 있지 않거나 마지막으로 기록한 내용과 다르면 갱신으로 기록합니다.
+     *
+     * @return 기록했으면 true
+     */
+    private boolean upsert(Type type, String id, Object source) {
+        Entry entry = entries(type).get(id);
+        if (entry != null && entry.live && entry.source == source) {
+            return false;
+        }
+        byte[] payload = type == Type.PARTICIPANT ? encodeParticipant((Participant) source) : encodePair((Pair) source);
+        if (entry != null && entry.live && Arrays.equals(entry.payload, payload)) {
+            entry.source = source;
+            return false;
+        }
+        append(type, id, payload, source);
+        return true;
+    }
+
+    /**
+     * 레코드가 살아 있으면 삭제로 기록합니다.
+     *
+     * @return 기록했으면 true
+     */
+    private boolean delete(Type type, String id) {
+        Entry entry = entries(type).get(id);
+        if (entry == null || !entry.live) {
+            return false;
+        }
+        append(type, id, null, null);
+        return true;
+    }
+
+    /**
+     * 변경에 다음 순번을 매겨 반영할 묶음에 넣고, 레코드의 마지막 변경으로 기억합니다.
+     *
+     * @param payload 기록 형식의 내용, 삭제이면 null
+     */
+    private void append(Type type, String id, byte[] payload, Object source) {
+        long sequence = ++lastSequence;
+        Entry previous = entries(type).put(id, new Entry(sequence, payload, payload != null, source));
+        if (previous != null) {
+            pending.delete(sequenceKey(previous.sequence));
+        }
+        pending.put(sequenceKey(sequence), (type.keyPrefix + id).getBytes(StandardCharsets.UTF_8));
+        pending.put(entityKey(type, id), encodeEntry(sequence, payload != null ? OP_UPSERT : OP_DELETE, payload));
+    }
+
+    /**
+     * 종류가 같은 살아 있는 레코드 중 현재 데이터에 없는 레코드의 ID를 반환합니다.
+     *
+     * @param current 현재 데이터의 레코드 ID
+     */
+    private List<String> liveMissing(Type type, Set<?> current) {
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, Entry> entry : entries(type).entrySet()) {
+            if (entry.getValue().live && !current.contains(entry.getKey())) {
+                missing.add(entry.getKey());
+            }
+        }
+        return missing;
+    }
+
+    private HashMap<String, Entry> entries(Type type) {
+        return type == Type.PARTICIPANT ? participantEntries : matchEntries;
+    }
+
+    /**
+     * 순번 이후에 바뀐 레코드의 마지막 변경을 순번 순서로 방문합니다.
+     *
+     * <p>
+     * 방문하는 동안 기록된 변경은 보이지 않습니다. 같은 레코드가 순번 이후에 여러 번 바뀌었으면 마지막 변경만 방문합니다.
+     * </p>
+     *
+     * @param afterSequence 이미 읽은 마지막 순번 (처음부터 읽으려면 0)
+     * @param visitor 변경을 받는 방문자, false를 반환하면 방문을 멈춤
+     * @throws IOException 읽기 중 오류가 발생했거나 방문자가 던진 경우
+     */
+    public void changesSince(long afterSequence, ChangeVisitor visitor) throws IOException {
+        try (StorageEngine.Snapshot snapshot = engine.snapshot()) {
+            snapshot.scan(sequenceKey(Math.max(afterSequence, 0) + 1), prefixEnd(SEQUENCE_PREFIX), (key, value) -> {
+                String recordKey = new String(value, StandardCharsets.UTF_8);
+                byte[] entry = snapshot.get(prefix(ENTITY_PREFIX + recordKey));
+                if (entry == null) {
+                    throw new IOException("변경 기록에 레코드가 없습니다: " + recordKey);
+                }
+                return visitor.visit(decodeChange(recordKey, entry));
+            });
+        }
+    }
+
+    /**
+     * 마지막으로 매긴 순번을 반환합니다. 아직 반영하지 않은 변경의 순번도 포함합니다.
+     * @return 순번, 기록한 변경이 없으면 0
+     */
+    public synchronized long getLastSequence() { return lastSequence; }
+
+    /**
+     * 남은 변경을 반영하고 변경 기록을 저장 장치에 기록한 뒤 닫습니다.
+     *
+     * @throws IOException 닫는 중 오류 발생 시
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            engine.close();
+        }
+    }
+
+    private static ChangeRecord decodeChange(String recordKey, byte[] value) throws IOException {
+        Type type = Type.of(recordKey);
+        String id = recordKey.substring(type.keyPrefix.length());
+        DataInputStream in = KeyValueDataset.input(value);
+        long sequence = in.readLong();
+        if (in.readByte() == OP_DELETE) {
+            return new ChangeRecord(sequence, type, id, null, null);
+        }
+        if (type == Type.PARTICIPANT) {
+            return new ChangeRecord(sequence, type, id, KeyValueDataset.readParticipant(in), null);
+        }
+        Participant mentor = KeyValueDataset.readParticipant(in);
+        Participant mentee = KeyValueDataset.readParticipant(in);
+        return new ChangeRecord(sequence, type, id, null, new Pair(mentor, mentee));
+    }
+
+    private static byte[] encodeParticipant(Participant participant) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try {
+            KeyValueDataset.writeParticipant(new DataOutputStream(bytes), participant);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodePair(Pair pair) {
+        try {
+            return KeyValueDataset.encodePair(pair);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encodeEntry(long sequence, int op, byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 1 + (payload != null ? payload.length : 0));
+        buffer.putLong(sequence).put((byte) op);
+        if (payload != null) {
+            buffer.put(payload);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] entityKey(Type type, String id) {
+        return prefix(ENTITY_PREFIX + type.keyPrefix + id);
+    }
+
+    private static byte[] sequenceKey(long sequence) {
+        byte[] prefix = prefix(SEQUENCE_PREFIX);
+        return ByteBuffer.allocate(prefix.length + Long.BYTES).put(prefix).putLong(sequence).array();
+    }
+
+    private static byte[] prefix(String prefix) {
+        return prefix.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] prefixEnd(String prefix) {
+        byte[] end = prefix(prefix);
+        end[end.length - 1]++;
+        return end;
+    }
+
+    /**
+     * 레코드의 종류입니다.
+     */
+    public enum Type {
+        /** 참가자 (ID는 학번) */
+        PARTICIPANT("p:", "participant"),
+
+        /** 매칭 (ID는 멘토학번-멘티학번) */
+        MATCH("m:", "match");
+
+        private final String keyPrefix;
+        private final String label;
+
+        Type(String keyPrefix, String label) {
+            this.keyPrefix = keyPrefix;
+            this.label = label;
+        }
+
+        /**
+         * 레코드 키("p:학번" 또는 "m:매칭ID")의 종류를 반환합니다.
+         */
+        static Type of(String recordKey) throws IOException {
+            for (Type type : values()) {
+                if (recordKey.startsWith(type.keyPrefix)) {
+                    return type;
+                }
+            }
+            throw new IOException("변경 기록의 레코드 키가 올바르지 않습니다: " + recordKey);
+        }
+
+        /**
+         * 내보내는 형식에 쓰는 이름을 반환합니다.
+         * @return 이름 (participant 또는 match)
+         */
+        public String getLabel() { return label; }
+    }
+
+    /**
+     * 레코드 하나의 마지막 변경입니다.
+     */
+    public static final class ChangeRecord {
+        private final long sequence;
+        private final Type type;
+        private final String id;
+        private final Participant participant;
+        private final Pair pair;
+
+        ChangeRecord(long sequence, Type type, String id, Participant participant, Pair pair) {
+            this.sequence = sequence;
+            this.type = type;
+            this.id = id;
+            this.participant = participant;
+            this.pair = pair;
+        }
+
+        /** @return 변경 순번 */
+        public long getSequence() { return sequence; }
+
+        /** @return 레코드 종류 */
+        public Type getType() { return type; }
+
+        /** @return 레코드 ID (학번 또는 매칭 ID) */
+        public String getId() { return id; }
+
+        /** @return 삭제이면 true */
+        public boolean isDelete() { return participant == null && pair == null; }
+
+        /** @return 갱신된 참가자, 삭제이거나 매칭이면 null */
+        public Participant getParticipant() { return participant; }
+
+        /** @return 갱신된 매칭, 삭제이거나 참가자이면 null */
+        public Pair getPair() { return pair; }
+    }
+
+    /**
+     * {@link #changesSince(long, ChangeVisitor)}로 변경을 받는 방문자입니다.
+     */
+    @FunctionalInterface
+    public interface ChangeVisitor {
+        /**
+         * 변경 하나를 받습니다.
+         *
+         * @param change 변경
+         * @return 계속 방문하려면 true
+         * @throws IOException 처리 중 오류 발생 시
+         */
+        boolean visit(ChangeRecord change) throws IOException;
+    }
+
+    /**
+     * 레코드마다 마지막으로 기록한 변경입니다.
+     */
+    private static final class Entry {
+        final long sequence;
+
+        /** 기록 형식의 내용, 삭제이면 null */
+        final byte[] payload;
+
+        /** 현재 데이터에 있는 레코드이면 true, 삭제했거나 마감한 학기의 레코드이면 false */
+        final boolean live;
+
+        /** 기록한 객체, 열 때 읽어 들였으면 처음 비교할 때까지 null */
+        Object source;
+
+        Entry(long sequence, byte[] payload, boolean live, Object source) {
+            this.sequence = sequence;
+            this.payload = payload;
+            this.live = live;
+            this.source = source;
+        }
+    }
+}
@@ -1,13 +1,45 @@
 package com.globalbridge.util;
 
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+import com.globalbridge.storage.StorageEngine;
+
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.zip.Deflater;
 
 /**
  * @author Kim Hyeong Jun
  * @version 1.0
  * @since 2024-12-09
  *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * @version 1.3
+ * @since 2026-10-18
+ *
+ * @version 1.4
+ * @since 2026-10-18
+ *
+ * @version 1.5
+ * @since 2026-10-18
+ *
+ * @version 1.6
+ * @since 2026-10-18
+ *
  * 글로벌 브릿지 프로그램의 데이터 저장 및 로드를 관리하는 클래스입니다.
  *
  * <p>
@@ -21,23 +53,136 @@ import java.util.*;
  * <ul>
  *   <li>참가자 목록 (ArrayList&lt;Participant&gt;)</li>
  *   <li>매칭 정보 (HashMap&lt;String, Pair&gt;)</li>
- *   <li>활동 기록 (HashMap&lt;String, ArrayList&lt;Activity&gt;&gt;)</li>
+ *   <li>활동 기록 ({@link ActivityLog})</li>
+ *   <li>활동 집계 ({@link ActivityRollup}, 선택)</li>
+ *   <li>활동 스케치 ({@link ActivitySketches}, 선택)</li>
  * </ul>
  * </p>
  *
+ * <p>
+ * 데이터는 {@link SnapshotFile}의 형식으로 참가자, 매칭, 활동 샤드마다 독립적으로 읽을 수 있는
+ * 섹션에 나누어 저장되며, 불러올 때는 섹션들을 fork-join 풀에서 병렬로 압축 해제하고 역직렬화한 뒤 조립합니다.
+ * 각 섹션은 {@link ParallelDeflaterOutputStream}으로 블록마다 따로 압축됩니다. 압축 수준은 생성자나
+ * {@code globalbridge.compression} 시스템 속성(기본값 {@value #DEFAULT_COMPRESSION_LEVEL})으로 정하며,
+ * 0이면 압축하지 않고 저장합니다. 불러올 때는 파일 앞의 매직 바이트로 형식을 구분하므로
+ * 이전 버전의 블록 압축 파일과 압축하지 않은 직렬화 파일도 그대로 읽을 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * {@link #DataManager(StorageEngine, String)}로 만든 DataManager는 저장 파일 대신 {@link StorageEngine}에
+ * 참가자, 매칭, 활동 행을 각각의 레코드로 저장하며, 저장할 때마다 전체를 다시 쓰지 않고 바뀐 레코드만 기록합니다.
+ * 저장 엔진이 비어 있을 때 지정한 저장 파일이 있으면, 처음 불러올 때 그 파일을 읽어 엔진으로 옮깁니다.
+ * </p>
+ *
  * @see java.io.Serializable
  */
 public class DataManager {
-    /** 데이터 저장 파일의 경로 */
-    private static final String DATA_FILE = "globalbridge_data.ser";
+    /** 데이터 저장 파일의 기본 경로 */
+    static final String DATA_FILE = "globalbridge_data.ser";
+
+    /** 기본 압축 수준 (가장 빠른 압축) */
+    public static final int DEFAULT_COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+
+    /** 압축하지 않는 압축 수준 */
+    public static final int UNCOMPRESSED = Deflater.NO_COMPRESSION;
+
+    /** 이 매니저가 사용하는 데이터 저장 파일의 경로 */
+    private final String dataFile;
+
+    /** 저장할 때 사용하는 압축 수준 */
+    private final int compressionLevel;
+
+    /** 레코드를 저장하는 저장 엔진, 저장 파일을 사용하면 null */
+    private final StorageEngine engine;
+
+    /** 저장 엔진의 레코드 배치 */
+    private final KeyValueDataset records;
+
+    /**
+     * 기본 경로({@value #DATA_FILE})의 파일을 사용하는 DataManager를 생성합니다.
+     */
+    public DataManager() {
+        this(DATA_FILE);
+    }
+
+    /**
+     * 지정한 경로의 파일을 사용하는 DataManager를 생성합니다.
+     * 압축 수준은 {@code globalbridge.compression} 시스템 속성을 따릅니다.
+     *
+     * @param dataFile 데이터 저장 파일의 경로
+     */
+    public DataManager(String dataFile) {
+        this(dataFile, Integer.getInteger("globalbridge.compression", DEFAULT_COMPRESSION_LEVEL));
+    }
+
+    /**
+     * 지정한 경로의 파일과 압축 수준을 사용하는 DataManager를 생성합니다.
+     *
+     * @param dataFile 데이터 저장 파일의 경로
+     * @param compressionLevel 압축 수준 (0~9, 0이면 압축하지 않음)
+     * @throws IllegalArgumentException 압축 수준이 범위를 벗어난 경우
+     */
+    public DataManager(String dataFile, int compressionLevel) {
+        if (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("압축 수준은 0~9 사이여야 합니다: " + compressionLevel);
+        }
+        this.dataFile = dataFile;
+        this.compressionLevel = compressionLevel;
+        this.engine = null;
+        this.records = null;
+    }
+
+    /**
+     * 저장 엔진에 데이터를 저장하는 DataManager를 생성합니다.
+     *
+     * <p>
+     * 저장 엔진에 저장된 데이터가 없으면 처음 불러올 때 {@code importFile}을 읽어 엔진에 저장하고,
+     * 파일 이름 끝에 {@code .migrated}를 붙여 둡니다. 압축 수준은 {@code globalbridge.compression} 시스템 속성을 따르며,
+     * 학기를 마감할 때 엔진의 내용을 저장 파일로 보관하는 데 사용됩니다.
+     * </p>
+     *
+     * @param engine 저장 엔진 (DataManager를 닫으면 함께 닫힘)
+     * @param importFile 저장 엔진이 비어 있을 때 옮겨 올 저장 파일의 경로
+     */
+    public DataManager(StorageEngine engine, String importFile) {
+        this.dataFile = importFile;
+        this.compressionLevel = Math.max(Deflater.NO_COMPRESSION, Math.min(Deflater.BEST_COMPRESSION,
+                Integer.getInteger("globalbridge.compression", DEFAULT_COMPRESSION_LEVEL)));
+        this.engine = engine;
+        this.records = new KeyValueDataset(engine);
+    }
+
+    /**
+     * 저장할 때 사용하는 압축 수준을 반환합니다.
+     *
+     * @return 압축 수준 (0이면 압축하지 않음)
+     */
+    public int getCompressionLevel() { return compressionLevel; }
+
+    /**
+     * 데이터를 저장하는 저장 엔진을 반환합니다.
+     *
+     * @return 저장 엔진, 저장 파일을 사용하면 null
+     */
+    public StorageEngine getStorageEngine() { return engine; }
+
+    /**
+     * 저장 엔진을 사용하면 엔진을 닫습니다. 저장 파일을 사용하면 아무 일도 하지 않습니다.
+     *
+     * @throws IOException 엔진을 닫는 중 오류 발생 시
+     */
+    public void close() throws IOException {
+        if (engine != null) {
+            engine.close();
+        }
+    }
 
     /**
      * 프로그램의 모든 데이터를 파일에 저장합니다.
      *
      * <p>
-     * ObjectOutputStream을 사용하여 세 가지 주요 데이터 구조를
-     * 직렬화하여 파일에 저장합니다. try-with-resources를 사용하여
-     * 스트림을 자동으로 닫습니다.
+     * 세 가지 주요 데이터 구조를 {@link SnapshotFile}의 섹션들로 나누어 직렬화하고,
+     * 압축 수준이 0이 아니면 섹션마다 블록 단위로 병렬 압축하여 파일에 저장합니다.
      * </p>
      *
      * @param participants 참가자 목록
@@ -48,12 +193,39 @@ public class DataManager {
      */
     public void saveData(ArrayList<?> participants,
                          HashMap<?, ?> matches,
-                         HashMap<?, ?> activities) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(
-                new FileOutputStream(DATA_FILE))) {
-            oos.writeObject(participants);
-            oos.writeObject(matches);
-            oos.writeObject(activities);
+                         ActivityLog activities) {
+        saveData(participants, matches, activities, null, null);
+    }
+
+    /**
+     * 프로그램의 모든 데이터를 활동 집계, 활동 스케치와 함께 파일에 저장합니다.
+     *
+     * <p>
+     * 활동 집계와 스케치는 각각 별도 섹션에 저장되어, 불러올 때 활동 기록을 다시 집계하지 않아도 됩니다.
+     * 저장 엔진을 사용하면 마지막으로 저장하거나 불러온 뒤 바뀐 레코드만 하나의 묶음으로 엔진에 기록하고,
+     * 반환하기 전에 엔진의 로그를 저장 장치에 기록하므로 반환된 저장은 전원이 꺼져도 남습니다.
+     * </p>
+     *
+     * @param participants 참가자 목록
+     * @param matches 멘토-멘티 매칭 정보
+     * @param activities 활동 기록
+     * @param rollup 활동 집계 (null이면 저장하지 않음)
+     * @param sketches 활동 스케치 (null이면 저장하지 않음)
+     * @see #saveData(ArrayList, HashMap, ActivityLog)
+     */
+    public void saveData(ArrayList<?> participants,
+                         HashMap<?, ?> matches,
+                         ActivityLog activities,
+                         ActivityRollup rollup,
+                         ActivitySketches sketches) {
+        try {
+            if (engine != null) {
+                records.save(participants, matches, activities, rollup, sketches);
+                engine.sync();
+                return;
+            }
+            SnapshotFile.write(Paths.get(dataFile), compressionLevel, participants, matches, activities,
+                    rollup, sketches);
         } catch (IOException e) {
             System.err.println("데이터 저장 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -69,7 +241,7 @@ public class DataManager {
      * 적절한 오류 메시지를 출력합니다.
      * </p>
      *
-     * @return Object 배열 [참가자목록, 매칭정보, 활동기록]
+     * @return Object 배열 [참가자목록, 매칭정보, 활동기록, 활동집계, 활동스케치]
      *         파일이 없거나 오류 발생 시 null 반환
      *
      * <p>
@@ -77,24 +249,142 @@ public class DataManager {
      * <ul>
      *   <li>data[0]: ArrayList&lt;Participant&gt; - 참가자 목록</li>
      *   <li>data[1]: HashMap&lt;String, Pair&gt; - 매칭 정보</li>
-     *   <li>data[2]: HashMap&lt;String, ArrayList&lt;Activity&gt;&gt; - 활동 기록</li>
+     *   <li>data[2]: ActivityLog - 활동 기록
+     *       (이전 버전 파일은 HashMap&lt;String, ArrayList&lt;Activity&gt;&gt;)</li>
+     *   <li>data[3]: ActivityRollup - 활동 집계 (저장되지 않았으면 null)</li>
+     *   <li>data[4]: ActivitySketches - 활동 스케치 (저장되지 않았으면 null)</li>
      * </ul>
      * </p>
      */
     public Object[] loadData() {
-        Object[] data = new Object[3];
-        try (ObjectInputStream ois = new ObjectInputStream(
-                new FileInputStream(DATA_FILE))) {
-            data[0] = ois.readObject();
-            data[1] = ois.readObject();
-            data[2] = ois.readObject();
-            return data;
-        } catch (FileNotFoundException e) {
+        return loadData((index, section) -> { });
+    }
+
+    /**
+     * 저장된 데이터를 파일에서 불러오며, 각 부분을 읽을 때마다 알려줍니다.
+     *
+     * <p>
+     * 파일이 크더라도 먼저 읽힌 참가자 목록부터 화면에 반영할 수 있도록,
+     * 참가자 목록, 매칭 정보, 활동 기록을 하나씩 읽은 직후 읽은 스레드에서 리스너를 호출합니다.
+     * 섹션으로 나뉜 파일은 모든 섹션을 공용 fork-join 풀에서 동시에 읽기 시작하고,
+     * 각 부분의 섹션들이 모두 끝나는 대로 조립하여 같은 순서로 리스너를 호출합니다.
+     * 활동 집계와 스케치가 저장되어 있으면 마지막으로 각각 부분 번호 3, 4로 전달합니다.
+     * 저장 엔진을 사용하면 하나의 스냅샷에서 참가자, 매칭, 활동 레코드를 차례로 읽습니다.
+     * </p>
+     *
+     * @param sectionListener (부분 번호, 읽은 객체)를 받는 리스너
+     * @return Object 배열 [참가자목록, 매칭정보, 활동기록, 활동집계, 활동스케치], 파일이 없거나 오류 발생 시 null
+     * @see #loadData()
+     */
+    public Object[] loadData(BiConsumer<Integer, Object> sectionListener) {
+        try {
+            if (engine != null) {
+                return loadFromEngine(sectionListener);
+            }
+            return readSnapshot(Paths.get(dataFile), ForkJoinPool.commonPool(), sectionListener);
+        } catch (FileNotFoundException | NoSuchFileException e) {
             System.out.println("저장된 데이터가 없습니다.");
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException e) {
             System.err.println("데이터 로드 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
         }
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 저장 엔진에서 데이터를 읽습니다. 엔진이 비어 있고 옮겨 올 저장 파일이 있으면 파일을 읽어 엔진에 저장합니다.
+     */
+    private Object[] loadFromEngine(BiConsumer<Integer, Object> sectionListener) throws IOException {
+        Object[] data = records.load(sectionListener);
+        Path importFile = dataFile != null ? Paths.get(dataFile) : null;
+        if (data != null || importFile == null || !Files.exists(importFile)) {
+            if (data == null) {
+                System.out.println("저장된 데이터가 없습니다.");
+            }
+            return data;
+        }
+        data = readSnapshot(importFile, ForkJoinPool.commonPool(), sectionListener);
+        Object activities = data[2];
+        if (!(activities instanceof ActivityLog)) {
+            @SuppressWarnings("unchecked")
+            Map<String, ? extends List<Activity>> legacy =
+                    (Map<String, ? extends List<Activity>>) activities;
+            activities = ActivityLog.fromMap(legacy);
+        }
+        records.save((List<?>) data[0], (Map<?, ?>) data[1], (ActivityLog) activities,
+                (ActivityRollup) data[3], (ActivitySketches) data[4]);
+        engine.sync();
+        Files.move(importFile, importFile.resolveSibling(importFile.getFileName() + ".migrated"),
+                StandardCopyOption.REPLACE_EXISTING);
+        System.out.println("저장 파일을 저장 엔진으로 옮겼습니다: " + importFile);
+        return data;
+    }
+
+    /**
+     * 저장 파일을 형식에 맞게 읽습니다.
+     *
+     * <p>
+     * 섹션 형식이면 {@link SnapshotFile#read}로 섹션들을 병렬로 읽고,
+     * 그렇지 않으면 이전 버전 형식(블록 압축 또는 압축하지 않은 단일 직렬화 스트림)으로 차례로 읽습니다.
+     * </p>
+     *
+     * @param file 저장 파일
+     * @param pool 섹션을 읽을 fork-join 풀
+     * @param sectionListener (부분 번호, 읽은 객체)를 받는 리스너
+     * @return Object 배열 [참가자목록, 매칭정보, 활동기록, 활동집계, 활동스케치]
+     * @throws IOException 파일이 없거나 읽기 중 오류가 발생한 경우
+     */
+    static Object[] readSnapshot(Path file, ForkJoinPool pool, BiConsumer<Integer, Object> sectionListener)
+            throws IOException {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(file)) {
+            head = in.readNBytes(SnapshotFile.MAGIC.length);
+        }
+        if (SnapshotFile.isSectioned(head)) {
+            return SnapshotFile.read(file, pool, sectionListener);
+        }
+        Object[] data = new Object[5];
+        try (ObjectInputStream ois = new ObjectInputStream(
+                decode(new BufferedInputStream(Files.newInputStream(file), 1 << 16)))) {
+            for (int i = 0; i < 3; i++) {
+                data[i] = ois.readObject();
+                sectionListener.accept(i, data[i]);
+            }
+            return data;
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 저장 파일 스트림의 형식을 매직 바이트로 판별하여, 직렬화된 데이터를 읽을 수 있는 스트림을 반환합니다.
+     *
+     * <p>
+     * 블록 압축 형식이면 압축을 푸는 스트림을, 그렇지 않으면(압축하지 않은 형식) 같은 스트림을 반환합니다.
+     * </p>
+     *
+     * @param in mark를 지원하는 저장 파일 스트림
+     * @return 직렬화된 데이터 스트림
+     * @throws IOException 읽기 중 오류 발생 시
+     */
+    static InputStream decode(InputStream in) throws IOException {
+        byte[] magic = ParallelDeflaterOutputStream.MAGIC;
+        in.mark(magic.length);
+        if (Arrays.equals(in.readNBytes(magic.length), magic)) {
+            return new ParallelInflaterInputStream(in);
+        }
+        in.reset();
+        return in;
+    }
+
+    /**
+     * 앞부분이 블록 압축 저장 파일의 매직 바이트인지 확인합니다.
+     *
+     * @param head 파일의 앞부분
+     * @return 블록 압축 형식이면 true
+     */
+    static boolean isCompressed(byte[] head) {
+        byte[] magic = ParallelDeflaterOutputStream.MAGIC;
+        return head.length >= magic.length && Arrays.equals(head, 0, magic.length, magic, 0, magic.length);
+    }
+}
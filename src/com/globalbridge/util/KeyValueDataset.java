@@ -0,0 +1,418 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+import com.globalbridge.storage.StorageEngine;
+import com.globalbridge.storage.WriteBatch;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * 참가자, 매칭, 활동 기록을 {@link StorageEngine}의 키-값 레코드로 나누어 저장하고 불러오는 클래스입니다.
+ *
+ * <p>
+ * 레코드 배치는 다음과 같으며, 같은 종류의 레코드는 키 접두사 범위를 차례로 읽어 불러옵니다.
+ * </p>
+ * <pre>
+ * p:학번          참가자 (등록 순번, 이름, 학번, 전공, 언어, 학년)
+ * m:매칭ID        매칭 (멘토와 멘티의 참가자 정보)
+ * a:행번호        활동 한 행 (4바이트 big-endian 행 번호 → 시각, 완료/기한 지남 플래그, 매칭 ID, 장소, 내용)
+ * meta:rollup     직렬화한 활동 집계
+ * meta:sketches   직렬화한 활동 스케치
+ * meta:format     레코드 형식 버전 (처음 저장을 마칠 때 기록)
+ * </pre>
+ *
+ * <p>
+ * 마지막으로 저장하거나 불러온 상태를 기억해 두고, 저장할 때는 그 뒤에 바뀐 레코드만 기록합니다.
+ * 새로 등록되거나 삭제된 참가자와 매칭, 새로 추가된 활동 행, 완료 여부나 기한 지남 표시가 바뀐 행
+ * (완료 행과 기한 지남 행 비트맵의 이전 상태와의 차이로 구함)만 기록하므로, 저장에 드는 시간은 전체 데이터가 아니라 변경량에 비례합니다.
+ * 활동 집계와 스케치는 매칭이나 활동이 바뀐 경우에만 다시 기록합니다.
+ * 한 번의 저장은 하나의 {@link WriteBatch}로 모아 엔진에 한 번에 반영하므로, 저장 도중 중단되면
+ * 그 저장의 레코드는 모두 반영되지 않거나 모두 반영되며 이전 저장과 섞인 상태가 남지 않습니다.
+ * 묶음은 반영할 때까지 메모리에 있으므로, 처음 저장하거나 옮겨 올 때처럼 모든 레코드를 기록하면
+ * 묶음 크기가 전체 데이터의 레코드 크기만큼 커집니다.
+ * </p>
+ */
+final class KeyValueDataset {
+    /** 레코드 형식 버전 */
+    static final int FORMAT_VERSION = 1;
+
+    private static final byte[] FORMAT_KEY = "meta:format".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ROLLUP_KEY = "meta:rollup".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SKETCHES_KEY = "meta:sketches".getBytes(StandardCharsets.UTF_8);
+    private static final String PARTICIPANT_PREFIX = "p:";
+    private static final String MATCH_PREFIX = "m:";
+    private static final String ACTIVITY_PREFIX = "a:";
+
+    private static final int FLAG_COMPLETED = 1;
+    private static final int FLAG_OVERDUE = 2;
+
+    private final StorageEngine engine;
+
+    /** 마지막으로 저장한 상태 */
+    private boolean formatWritten;
+    private HashMap<String, Participant> storedParticipants = new HashMap<>();
+    private HashMap<String, Long> storedSequences = new HashMap<>();
+    private long nextParticipantSequence;
+    private HashMap<Object, Object> storedMatches = new HashMap<>();
+    private ActivityLog storedLog;
+    private int storedRows;
+    private RoaringBitmap storedCompleted = new RoaringBitmap();
+    private RoaringBitmap storedOverdue = new RoaringBitmap();
+
+    KeyValueDataset(StorageEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * 마지막으로 저장하거나 불러온 뒤 바뀐 레코드를 기록합니다.
+     *
+     * <p>
+     * 같은 학번의 참가자가 여러 번 있으면 목록에서 앞에 있는 참가자만 기록합니다.
+     * 같은 학번의 참가자를 다른 객체로 바꾸면 처음 저장할 때의 등록 순번으로 다시 기록합니다.
+     * 활동 저장소가 마지막으로 저장한 것과 다른 객체이면 모든 활동 행을 다시 기록합니다.
+     * 바뀐 레코드는 모두 하나의 묶음으로 엔진에 반영됩니다.
+     * </p>
+     *
+     * @param participants 참가자 목록
+     * @param matches 매칭 ID → 매칭
+     * @param activities 활동 기록
+     * @param rollup 활동 집계 (null이면 저장된 집계를 지움)
+     * @param sketches 활동 스케치 (null이면 저장된 스케치를 지움)
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    synchronized void save(List<?> participants, Map<?, ?> matches, ActivityLog activities,
+                           ActivityRollup rollup, ActivitySketches sketches) throws IOException {
+        WriteBatch batch = new WriteBatch();
+
+        HashMap<String, Participant> currentParticipants = new HashMap<>(participants.size() * 2);
+        HashMap<String, Long> currentSequences = new HashMap<>(participants.size() * 2);
+        long nextSequence = nextParticipantSequence;
+        for (Object element : participants) {
+            Participant participant = (Participant) element;
+            String id = participant.getStudentId();
+            if (currentParticipants.putIfAbsent(id, participant) != null) {
+                continue;
+            }
+            // 이미 저장된 학번은 원래 등록 순번을 유지해 불러올 때 목록 위치가 바뀌지 않게 합니다.
+            Long sequence = storedSequences.get(id);
+            if (sequence == null) {
+                sequence = nextSequence++;
+            }
+            currentSequences.put(id, sequence);
+            if (storedParticipants.get(id) != participant) {
+                batch.put(key(PARTICIPANT_PREFIX, id), encodeParticipant(sequence, participant));
+            }
+        }
+        for (String id : storedParticipants.keySet()) {
+            if (!currentParticipants.containsKey(id)) {
+                batch.delete(key(PARTICIPANT_PREFIX, id));
+            }
+        }
+
+        boolean derivedChanged = !formatWritten;
+        for (Map.Entry<?, ?> entry : matches.entrySet()) {
+            if (storedMatches.get(entry.getKey()) != entry.getValue()) {
+                batch.put(key(MATCH_PREFIX, (String) entry.getKey()), encodePair((Pair) entry.getValue()));
+                derivedChanged = true;
+            }
+        }
+        for (Object id : storedMatches.keySet()) {
+            if (!matches.containsKey(id)) {
+                batch.delete(key(MATCH_PREFIX, (String) id));
+                derivedChanged = true;
+            }
+        }
+
+        RoaringBitmap completed = activities.getCompletedRows();
+        RoaringBitmap overdue = activities.getOverdueRows();
+        int from = 0;
+        if (activities == storedLog) {
+            from = storedRows;
+            RoaringBitmap changed = RoaringBitmap.or(difference(completed, storedCompleted),
+                    difference(overdue, storedOverdue));
+            PrimitiveIterator.OfInt rows = changed.iterator();
+            while (rows.hasNext()) {
+                int row = rows.nextInt();
+                if (row < storedRows) {
+                    batch.put(activityKey(row), encodeActivity(activities, row));
+                    derivedChanged = true;
+                }
+            }
+        } else {
+            for (int row = activities.size(); row < storedRows; row++) {
+                batch.delete(activityKey(row));
+                derivedChanged = true;
+            }
+        }
+        for (int row = from; row < activities.size(); row++) {
+            batch.put(activityKey(row), encodeActivity(activities, row));
+            derivedChanged = true;
+        }
+
+        if (derivedChanged) {
+            putOrDelete(batch, ROLLUP_KEY, rollup);
+            putOrDelete(batch, SKETCHES_KEY, sketches);
+        }
+        if (!formatWritten) {
+            batch.put(FORMAT_KEY, ByteBuffer.allocate(Integer.BYTES).putInt(FORMAT_VERSION).array());
+        }
+        engine.write(batch);
+
+        formatWritten = true;
+        storedParticipants = currentParticipants;
+        storedSequences = currentSequences;
+        nextParticipantSequence = nextSequence;
+        storedMatches = new HashMap<>(matches);
+        storedLog = activities;
+        storedRows = activities.size();
+        storedCompleted = completed;
+        storedOverdue = overdue;
+    }
+
+    private static void putOrDelete(WriteBatch batch, byte[] key, Serializable value) throws IOException {
+        if (value == null) {
+            batch.delete(key);
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        batch.put(key, bytes.toByteArray());
+    }
+
+    private static RoaringBitmap difference(RoaringBitmap a, RoaringBitmap b) {
+        return RoaringBitmap.or(RoaringBitmap.andNot(a, b), RoaringBitmap.andNot(b, a));
+    }
+
+    /**
+     * 저장된 레코드를 읽어 데이터를 만듭니다.
+     *
+     * <p>
+     * 참가자, 매칭, 활동 기록을 하나의 스냅샷에서 차례로 읽으며, 각 부분을 읽은 직후 리스너를 호출합니다.
+     * 매칭의 멘토와 멘티는 같은 학번의 참가자 객체로 다시 연결됩니다.
+     * 불러온 상태를 마지막으로 저장한 상태로 기억하므로, 이후 저장에는 바뀐 레코드만 기록됩니다.
+     * </p>
+     *
+     * @param sectionListener (부분 번호, 읽은 객체)를 받는 리스너
+     * @return Object 배열 [참가자목록, 매칭정보, 활동기록, 활동집계, 활동스케치], 저장된 데이터가 없으면 null
+     * @throws IOException 읽기 중 오류가 발생했거나 레코드 형식이 올바르지 않은 경우
+     */
+    synchronized Object[] load(BiConsumer<Integer, Object> sectionListener) throws IOException {
+        try (StorageEngine.Snapshot snapshot = engine.snapshot()) {
+            byte[] format = snapshot.get(FORMAT_KEY);
+            if (format == null) {
+                return null;
+            }
+            if (format.length != Integer.BYTES || ByteBuffer.wrap(format).getInt() != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 레코드 형식입니다.");
+            }
+            Object[] data = new Object[5];
+
+            TreeMap<Long, Participant> ordered = new TreeMap<>();
+            HashMap<String, Participant> byId = new HashMap<>();
+            HashMap<String, Long> sequences = new HashMap<>();
+            scan(snapshot, PARTICIPANT_PREFIX, (key, value) -> {
+                DataInputStream in = input(value);
+                long sequence = in.readLong();
+                Participant participant = readParticipant(in);
+                ordered.put(sequence, participant);
+                byId.put(participant.getStudentId(), participant);
+                sequences.put(participant.getStudentId(), sequence);
+            });
+            ArrayList<Participant> participants = new ArrayList<>(ordered.values());
+            data[0] = participants;
+            sectionListener.accept(0, participants);
+
+            HashMap<String, Pair> matches = new HashMap<>();
+            scan(snapshot, MATCH_PREFIX, (key, value) -> {
+                DataInputStream in = input(value);
+                Participant mentor = readParticipant(in);
+                Participant mentee = readParticipant(in);
+                try {
+                    matches.put(new String(key, MATCH_PREFIX.length(), key.length - MATCH_PREFIX.length(),
+                            StandardCharsets.UTF_8), new Pair(byId.getOrDefault(mentor.getStudentId(), mentor),
+                            byId.getOrDefault(mentee.getStudentId(), mentee)));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("매칭 레코드가 올바르지 않습니다: " + e.getMessage(), e);
+                }
+            });
+            data[1] = matches;
+            sectionListener.accept(1, matches);
+
+            ActivityLog activities = ActivityLog.create();
+            scan(snapshot, ACTIVITY_PREFIX, (key, value) -> {
+                int row = ByteBuffer.wrap(key, ACTIVITY_PREFIX.length(), Integer.BYTES).getInt();
+                if (row != activities.size()) {
+                    throw new IOException("활동 행 " + activities.size() + "이(가) 없습니다.");
+                }
+                DataInputStream in = input(value);
+                long epochMillis = in.readLong();
+                int flags = in.readByte();
+                String pairId = readString(in);
+                String location = readString(in);
+                Activity activity = new Activity(epochMillis, readString(in), location);
+                activity.setCompleted((flags & FLAG_COMPLETED) != 0);
+                activities.add(pairId, activity);
+                if ((flags & FLAG_OVERDUE) != 0) {
+                    activities.setOverdue(row, true);
+                }
+            });
+            data[2] = activities;
+            sectionListener.accept(2, activities);
+
+            data[3] = deserialize(snapshot.get(ROLLUP_KEY));
+            if (data[3] != null) {
+                sectionListener.accept(3, data[3]);
+            }
+            data[4] = deserialize(snapshot.get(SKETCHES_KEY));
+            if (data[4] != null) {
+                sectionListener.accept(4, data[4]);
+            }
+
+            formatWritten = true;
+            storedParticipants = byId;
+            storedSequences = sequences;
+            nextParticipantSequence = ordered.isEmpty() ? 0 : ordered.lastKey() + 1;
+            storedMatches = new HashMap<>(matches);
+            storedLog = activities;
+            storedRows = activities.size();
+            storedCompleted = activities.getCompletedRows();
+            storedOverdue = activities.getOverdueRows();
+            return data;
+        }
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 접두사 범위의 레코드를 키 순서로 읽습니다.
+     */
+    private static void scan(StorageEngine.Snapshot snapshot, String prefix, RecordReader reader)
+            throws IOException {
+        byte[] from = prefix.getBytes(StandardCharsets.UTF_8);
+        byte[] to = from.clone();
+        to[to.length - 1]++;
+        snapshot.scan(from, to, (key, value) -> {
+            reader.read(key, value);
+            return true;
+        });
+    }
+
+    @FunctionalInterface
+    private interface RecordReader {
+        void read(byte[] key, byte[] value) throws IOException;
+    }
+
+    private static byte[] key(String prefix, String id) {
+        return (prefix + id).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] activityKey(int row) {
+        byte[] prefix = ACTIVITY_PREFIX.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(prefix.length + Integer.BYTES).put(prefix).putInt(row).array();
+    }
+
+    private static byte[] encodeParticipant(long sequence, Participant participant) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(sequence);
+        writeParticipant(out, participant);
+        return bytes.toByteArray();
+    }
+
+    static byte[] encodePair(Pair pair) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeParticipant(out, pair.getMentor());
+        writeParticipant(out, pair.getMentee());
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeActivity(ActivityLog activities, int row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(activities.getEpochMillis(row));
+        out.writeByte((activities.isCompleted(row) ? FLAG_COMPLETED : 0)
+                | (activities.isOverdue(row) ? FLAG_OVERDUE : 0));
+        writeString(out, activities.getPairId(row));
+        writeString(out, activities.getLocation(row));
+        ByteBuffer content = activities.getContentBytes(row);
+        byte[] contentBytes = new byte[content.remaining()];
+        content.get(contentBytes);
+        out.writeInt(contentBytes.length);
+        out.write(contentBytes);
+        return bytes.toByteArray();
+    }
+
+    static void writeParticipant(DataOutputStream out, Participant participant) throws IOException {
+        writeString(out, participant.getName());
+        writeString(out, participant.getStudentId());
+        writeString(out, participant.getMajor());
+        writeString(out, participant.getLanguage());
+        out.writeInt(participant.getGrade());
+    }
+
+    static Participant readParticipant(DataInputStream in) throws IOException {
+        String name = readString(in);
+        String studentId = readString(in);
+        String major = readString(in);
+        String language = readString(in);
+        return new Participant(name, studentId, major, language, in.readInt());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > in.available()) {
+            throw new IOException("레코드의 문자열 길이가 올바르지 않습니다: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static DataInputStream input(byte[] value) {
+        return new DataInputStream(new ByteArrayInputStream(value));
+    }
+}
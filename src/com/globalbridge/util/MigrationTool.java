@@ -0,0 +1,582 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * @version 1.3
+ * @since 2026-10-18
+ *
+ * @version 1.4
+ * @since 2026-10-18
+ *
+ * 예전 학기의 여러 형식 데이터 파일을 읽어 현재 형식의 저장 파일 하나로 옮기는 도구입니다.
+ * 저장 파일을 지정하지 않으면 데이터 디렉터리({@link SemesterStore})의 현재 학기 샤드에 기록합니다.
+ *
+ * <p>
+ * 지원하는 입력 형식({@link Format})은 파일 내용의 앞부분을 보고 자동으로 판별합니다.
+ * <ul>
+ *   <li>{@link Format#SNAPSHOT}: 직렬화된 저장 파일 (이전 버전의 활동 Map 형식 포함)</li>
+ *   <li>{@link Format#LEGACY_USERS}: 초기 버전({@code src/GlobalBridgeProgram.java})의
+ *   {@code 이름,이메일,모국어,목표언어} 형식</li>
+ *   <li>{@link Format#PARTICIPANTS}: 참가자 등록 화면의 {@code participants.txt} 형식</li>
+ *   <li>{@link Format#MATCHES}: 매칭 화면의 {@code matches.txt} 형식</li>
+ *   <li>{@link Format#ACTIVITIES}: 활동 관리 화면의 {@code activities.txt} 형식</li>
+ * </ul>
+ * gzip으로 압축된 파일과 zip 보관 파일 안의 항목도 각각 판별하여 읽습니다.
+ * </p>
+ *
+ * <p>
+ * 매칭은 참가자를, 활동은 매칭을 참조하므로 입력은 참가자 → 매칭 → 활동 순서의 세 단계로 나누어 읽습니다.
+ * 각 단계에서는 해당 형식의 입력만 처리하고 나머지는 앞부분만 확인한 뒤 건너뜁니다.
+ * 참가자는 {@link StudentIdIndex}로 학번 중복을 검사하여 처음 나온 참가자만 남기며,
+ * 매칭의 멘토와 멘티는 같은 학번의 등록된 참가자로 바꾸어 연결합니다.
+ * 초기 버전 형식에는 학번이 없으므로 소문자로 바꾼 이메일을 학번으로 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 텍스트 입력은 줄 단위로 스트리밍하며, 일정 수의 줄을 묶은 배치를 fork-join 풀에서 병렬로 파싱합니다.
+ * 동시에 파싱 중인 배치 수를 제한하고 결과는 입력 순서대로 반영하므로, 입력 크기와 관계없이 힙 사용량이 제한됩니다.
+ * 활동은 {@link ActivityImporter}로 읽어 off-heap {@link ActivityLog}에 모으며,
+ * 저장 파일 형식은 객체 전체를 한 번에 역직렬화하므로 그 크기만큼의 메모리가 필요합니다.
+ * 모든 입력을 읽은 뒤 활동 집계({@link ActivityRollup})와 활동 스케치({@link ActivitySketches})를 만들어 {@link DataManager}로 저장 파일을 한 번 기록합니다.
+ * </p>
+ *
+ * <pre>
+ * java -cp globalbridge.jar com.globalbridge.util.MigrationTool [-o 저장파일] [-l 압축수준] 입력파일...
+ * </pre>
+ */
+public class MigrationTool {
+    /** 형식 판별에 사용하는 앞부분의 최대 크기 */
+    private static final int DETECT_BYTES = 8 << 10;
+
+    /** 한 배치로 묶어 파싱하는 줄 수 */
+    private static final int BATCH_LINES = 16 << 10;
+
+    /** 학번이 없는 매칭 파일 참가자와 초기 버전 참가자의 학년 */
+    private static final int DEFAULT_GRADE = 1;
+
+    /**
+     * 입력 데이터의 형식입니다.
+     */
+    public enum Format {
+        /** 직렬화된 저장 파일 */
+        SNAPSHOT(0),
+        /** 초기 버전의 이름,이메일,모국어,목표언어 형식 */
+        LEGACY_USERS(0),
+        /** 이름,학번,전공,언어,학년 형식 */
+        PARTICIPANTS(0),
+        /** 멘토 이름,멘토 학번,멘티 이름,멘티 학번 형식 */
+        MATCHES(1),
+        /** 활동 관리 화면의 활동 내역 형식 */
+        ACTIVITIES(2),
+        /** 알 수 없는 형식 */
+        UNKNOWN(-1);
+
+        private final int phase;
+
+        Format(int phase) {
+            this.phase = phase;
+        }
+    }
+
+    /**
+     * 옮기기 결과를 담는 클래스입니다.
+     */
+    public static final class Report {
+        private final Map<String, Format> inputs = new LinkedHashMap<>();
+        private int participants;
+        private int duplicateParticipants;
+        private int matches;
+        private int duplicateMatches;
+        private int invalidMatches;
+        private int activities;
+        private int unresolvedGroups;
+        private int malformedLines;
+
+        /**
+         * 읽은 입력과 판별된 형식을 반환합니다. zip 항목은 "보관파일!항목" 이름으로 표시됩니다.
+         * @return 입력 이름 → 형식 (읽은 순서)
+         */
+        public Map<String, Format> getInputs() { return inputs; }
+
+        /**
+         * 옮긴 참가자 수를 반환합니다.
+         * @return 참가자 수
+         */
+        public int getParticipants() { return participants; }
+
+        /**
+         * 학번이 중복되어 건너뛴 참가자 수를 반환합니다.
+         * @return 건너뛴 참가자 수
+         */
+        public int getDuplicateParticipants() { return duplicateParticipants; }
+
+        /**
+         * 옮긴 매칭 수를 반환합니다.
+         * @return 매칭 수
+         */
+        public int getMatches() { return matches; }
+
+        /**
+         * 같은 매칭 ID가 이미 있어 건너뛴 매칭 수를 반환합니다.
+         * @return 건너뛴 매칭 수
+         */
+        public int getDuplicateMatches() { return duplicateMatches; }
+
+        /**
+         * 멘토/멘티 언어가 맞지 않아 건너뛴 매칭 수를 반환합니다.
+         * @return 건너뛴 매칭 수
+         */
+        public int getInvalidMatches() { return invalidMatches; }
+
+        /**
+         * 옮긴 활동 수를 반환합니다.
+         * @return 활동 수
+         */
+        public int getActivities() { return activities; }
+
+        /**
+         * 매칭을 찾지 못해 건너뛴 활동 그룹 수를 반환합니다.
+         * @return 건너뛴 그룹 수
+         */
+        public int getUnresolvedGroups() { return unresolvedGroups; }
+
+        /**
+         * 형식이 올바르지 않아 건너뛴 줄 수를 반환합니다.
+         * @return 건너뛴 줄 수
+         */
+        public int getMalformedLines() { return malformedLines; }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            inputs.forEach((name, format) -> sb.append(format).append('\t').append(name).append('\n'));
+            sb.append("참가자 ").append(participants).append("명 (중복 학번 ").append(duplicateParticipants).append("명 제외)\n");
+            sb.append("매칭 ").append(matches).append("건 (중복 ").append(duplicateMatches)
+                    .append("건, 언어 불일치 ").append(invalidMatches).append("건 제외)\n");
+            sb.append("활동 ").append(activities).append("건 (매칭 없는 그룹 ").append(unresolvedGroups).append("개 제외)\n");
+            sb.append("형식 오류로 건너뛴 줄 ").append(malformedLines).append("줄");
+            return sb.toString();
+        }
+    }
+
+    /**
+     * 판별된 입력을 처리하는 콜백입니다.
+     */
+    private interface EntryHandler {
+        void handle(String name, Format format, InputStream in) throws IOException;
+    }
+
+    private final ForkJoinPool pool;
+    private final ArrayList<Participant> participants = new ArrayList<>();
+    private final HashMap<String, Pair> matches = new HashMap<>();
+    private final ActivityLog activities = new ActivityLog();
+    private final StudentIdIndex studentIndex = new StudentIdIndex();
+    private final Report report = new Report();
+
+    /** 참가자 단계에서 읽은 저장 파일의 매칭과 활동 (다음 단계에서 반영) */
+    private final List<Map<String, Pair>> snapshotMatches = new ArrayList<>();
+    private final List<ActivityLog> snapshotActivities = new ArrayList<>();
+
+    /**
+     * 공용 fork-join 풀을 사용하는 도구를 생성합니다.
+     */
+    public MigrationTool() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 파싱에 사용할 fork-join 풀을 지정하는 생성자.
+     *
+     * @param pool 배치 파싱에 사용할 풀
+     */
+    public MigrationTool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 명령줄에서 도구를 실행합니다.
+     *
+     * @param args [-o 저장파일] [-l 압축수준] 입력파일...
+     * @throws IOException 입력 읽기 중 오류 발생 시
+     */
+    public static void main(String[] args) throws IOException {
+        String output = null;
+        int level = Integer.getInteger("globalbridge.compression", DataManager.DEFAULT_COMPRESSION_LEVEL);
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-o") && i + 1 < args.length) {
+                output = args[++i];
+            } else if (args[i].equals("-l") && i + 1 < args.length) {
+                level = Integer.parseInt(args[++i]);
+            } else {
+                inputs.add(Paths.get(args[i]));
+            }
+        }
+        if (inputs.isEmpty()) {
+            System.err.println("사용법: java com.globalbridge.util.MigrationTool [-o 저장파일] [-l 압축수준] 입력파일...");
+            System.exit(2);
+        }
+        if (output == null) {
+            output = SemesterStore.openDefault().getActiveFile().toString();
+        }
+        Report report = new MigrationTool().migrate(inputs, new DataManager(output, level));
+        System.out.println(report);
+    }
+
+    /**
+     * 입력 파일들을 읽어 하나의 저장 파일로 기록합니다.
+     *
+     * <p>
+     * 한 도구 객체는 한 번만 사용해야 합니다. 같은 형식 안에서는 주어진 순서대로 읽으므로,
+     * 학번이 겹치면 앞에 둔 입력의 참가자가 남습니다.
+     * </p>
+     *
+     * @param inputs 입력 파일 목록 (일반, gzip, zip 파일)
+     * @param output 결과를 기록할 저장 파일
+     * @return 옮기기 결과
+     * @throws IOException 입력 읽기 중 오류 발생 시
+     */
+    public Report migrate(List<Path> inputs, DataManager output) throws IOException {
+        for (int phase = 0; phase <= 2; phase++) {
+            if (phase == 1) {
+                snapshotMatches.forEach(section -> section.values().forEach(this::addMatch));
+                snapshotMatches.clear();
+            } else if (phase == 2) {
+                snapshotActivities.forEach(section -> report.activities += activities.addAll(section));
+                snapshotActivities.clear();
+            }
+            ActivityImporter importer = phase == 2 ? new ActivityImporter(matches, pool) : null;
+            int currentPhase = phase;
+            for (Path input : inputs) {
+                forEachEntry(input, (name, format, in) -> {
+                    if (currentPhase == 0) {
+                        report.inputs.put(name, format);
+                    }
+                    if (format.phase == currentPhase) {
+                        read(format, in, importer);
+                    }
+                });
+            }
+        }
+        output.saveData(participants, matches, activities, ActivityRollup.build(activities, matches),
+                ActivitySketches.build(activities, matches));
+        return report;
+    }
+
+    /**
+     * 파일을 열어 형식을 판별하고 처리기에 넘깁니다. zip 파일은 항목마다 넘깁니다.
+     */
+    private void forEachEntry(Path input, EntryHandler handler) throws IOException {
+        boolean zip;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(input), 1 << 16)) {
+            zip = isZip(peek(in));
+            if (!zip) {
+                dispatch(input.toString(), in, handler);
+            }
+        }
+        if (zip) {
+            try (ZipFile archive = new ZipFile(input.toFile(), StandardCharsets.UTF_8)) {
+                for (Enumeration<? extends ZipEntry> entries = archive.entries(); entries.hasMoreElements(); ) {
+                    ZipEntry entry = entries.nextElement();
+                    if (!entry.isDirectory()) {
+                        try (InputStream entryIn = archive.getInputStream(entry)) {
+                            dispatch(input + "!" + entry.getName(), entryIn, handler);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void dispatch(String name, InputStream raw, EntryHandler handler) throws IOException {
+        InputStream in = raw.markSupported() ? raw : new BufferedInputStream(raw, 1 << 16);
+        byte[] head = peek(in);
+        if (isGzip(head)) {
+            in = new BufferedInputStream(new GZIPInputStream(in, 1 << 16), 1 << 16);
+            head = peek(in);
+        }
+        handler.handle(name, detect(head), in);
+    }
+
+    /** 스트림 위치를 옮기지 않고 앞부분을 읽습니다. */
+    private static byte[] peek(InputStream in) throws IOException {
+        in.mark(DETECT_BYTES);
+        byte[] head = in.readNBytes(DETECT_BYTES);
+        in.reset();
+        return head;
+    }
+
+    private static boolean isZip(byte[] head) {
+        return head.length >= 4 && head[0] == 'P' && head[1] == 'K' && head[2] == 3 && head[3] == 4;
+    }
+
+    private static boolean isGzip(byte[] head) {
+        return head.length >= 2 && (head[0] & 0xFF) == 0x1F && (head[1] & 0xFF) == 0x8B;
+    }
+
+    /**
+     * 앞부분으로 형식을 판별합니다.
+     *
+     * <p>
+     * 저장 파일은 섹션 형식, 블록 압축 형식이나 직렬화 스트림의 매직 번호로, 텍스트는 처음 나오는 내용 줄의 모양으로 판별합니다.
+     * 필드가 4개인 줄은 두 번째 필드가 이메일이거나 뒤의 두 필드가 모두 언어 이름이면 초기 버전 형식,
+     * 그렇지 않으면 매칭 형식으로 봅니다.
+     * </p>
+     */
+    static Format detect(byte[] head) {
+        if (SnapshotFile.isSectioned(head) || DataManager.isCompressed(head)
+                || (head.length >= 2 && (head[0] & 0xFF) == 0xAC && (head[1] & 0xFF) == 0xED)) {
+            return Format.SNAPSHOT;
+        }
+        String text = new String(head, StandardCharsets.UTF_8);
+        if (text.startsWith("\uFEFF")) {
+            text = text.substring(1);
+        }
+        for (String line : text.split("\r?\n", -1)) {
+            if (line.isBlank() || line.startsWith("활동 내역")) {
+                continue;
+            }
+            if (line.startsWith("[ ") || line.startsWith("- ")) {
+                return Format.ACTIVITIES;
+            }
+            String[] fields = line.split(",", -1);
+            if (fields.length == 5 && parseGrade(fields[4]) > 0) {
+                return Format.PARTICIPANTS;
+            }
+            if (fields.length == 4) {
+                return fields[1].contains("@") || (isLanguage(fields[2]) && isLanguage(fields[3]))
+                        ? Format.LEGACY_USERS : Format.MATCHES;
+            }
+            return Format.UNKNOWN;
+        }
+        return Format.UNKNOWN;
+    }
+
+    private static boolean isLanguage(String field) {
+        String value = field.trim();
+        return value.equalsIgnoreCase("Korean") || value.equalsIgnoreCase("English");
+    }
+
+    private static int parseGrade(String field) {
+        try {
+            return Integer.parseInt(field.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 판별된 입력 하나를 읽어 반영합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void read(Format format, InputStream in, ActivityImporter importer) throws IOException {
+        switch (format) {
+            case SNAPSHOT:
+                Object[] data = readSnapshot(in);
+                try {
+                    ((List<Participant>) data[0]).forEach(this::addParticipant);
+                    snapshotMatches.add((Map<String, Pair>) data[1]);
+                    snapshotActivities.add(data[2] instanceof ActivityLog ? (ActivityLog) data[2]
+                            : ActivityLog.fromMap((Map<String, ArrayList<Activity>>) data[2]));
+                } catch (ClassCastException e) {
+                    throw new IOException("저장 파일 형식이 올바르지 않습니다: " + e.getMessage(), e);
+                }
+                break;
+            case LEGACY_USERS:
+                parseLines(in, MigrationTool::parseLegacyUser, this::addParticipant);
+                break;
+            case PARTICIPANTS:
+                parseLines(in, MigrationTool::parseParticipant, this::addParticipant);
+                break;
+            case MATCHES:
+                parseLines(in, MigrationTool::parseMatch, pair -> addMatch(pair[0], pair[1]));
+                break;
+            case ACTIVITIES:
+                ActivityImporter.Result result = importer.importStream(in);
+                report.activities += activities.addAll(result.getActivities());
+                result.getActivities().release();
+                report.unresolvedGroups += result.getUnresolvedGroupCount();
+                report.malformedLines += result.getMalformedLines();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 저장 파일 입력을 읽습니다.
+     *
+     * <p>
+     * 섹션 형식은 목차가 파일 끝에 있고 섹션을 위치 지정으로 읽으므로, 입력을 임시 파일로 복사한 뒤
+     * 이 도구의 풀로 섹션들을 병렬로 읽습니다. 이전 버전 형식은 스트림에서 바로 읽습니다.
+     * </p>
+     */
+    private Object[] readSnapshot(InputStream in) throws IOException {
+        Path file = Files.createTempFile("globalbridge-migration", ".ser");
+        try {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            return DataManager.readSnapshot(file, pool, (index, section) -> { });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 텍스트 입력을 줄 배치로 나누어 병렬로 파싱하고, 결과를 입력 순서대로 sink에 넘깁니다.
+     *
+     * <p>
+     * 동시에 파싱 중인 배치는 풀 병렬도의 두 배까지만 두며, 가장 오래된 배치의 결과를 반영한 뒤 다음 배치를 읽습니다.
+     * parser가 null을 반환한 줄은 형식 오류로 셉니다.
+     * </p>
+     */
+    private <T> void parseLines(InputStream in, Function<String, T> parser, Consumer<T> sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        ArrayDeque<ForkJoinTask<List<T>>> inFlight = new ArrayDeque<>();
+        int maxInFlight = Math.max(2, pool.getParallelism() * 2);
+        List<String> batch = new ArrayList<>(BATCH_LINES);
+        String line;
+        boolean first = true;
+        while ((line = reader.readLine()) != null) {
+            if (first && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            first = false;
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(line);
+            if (batch.size() == BATCH_LINES) {
+                inFlight.add(submit(batch, parser));
+                batch = new ArrayList<>(BATCH_LINES);
+                while (inFlight.size() >= maxInFlight) {
+                    drain(inFlight.poll().join(), sink);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            inFlight.add(submit(batch, parser));
+        }
+        while (!inFlight.isEmpty()) {
+            drain(inFlight.poll().join(), sink);
+        }
+    }
+
+    private <T> ForkJoinTask<List<T>> submit(List<String> lines, Function<String, T> parser) {
+        return pool.submit(() -> {
+            List<T> parsed = new ArrayList<>(lines.size());
+            for (String line : lines) {
+                parsed.add(parser.apply(line));
+            }
+            return parsed;
+        });
+    }
+
+    private <T> void drain(List<T> parsed, Consumer<T> sink) {
+        for (T record : parsed) {
+            if (record == null) {
+                report.malformedLines++;
+            } else {
+                sink.accept(record);
+            }
+        }
+    }
+
+    /** 이름,이메일,모국어,목표언어 → 이메일을 학번으로 하는 참가자 */
+    private static Participant parseLegacyUser(String line) {
+        String[] data = line.split(",", -1);
+        if (data.length != 4 || data[1].isBlank()) {
+            return null;
+        }
+        String language = data[2].trim().equalsIgnoreCase("Korean") ? "Korean" : "English";
+        return new Participant(data[0].trim(), data[1].trim().toLowerCase(Locale.ROOT), "", language, DEFAULT_GRADE);
+    }
+
+    /** 이름,학번,전공,언어,학년 → 참가자 */
+    private static Participant parseParticipant(String line) {
+        String[] data = line.split(",", -1);
+        if (data.length != 5 || data[1].isBlank()) {
+            return null;
+        }
+        int grade = parseGrade(data[4]);
+        return grade > 0 ? new Participant(data[0], data[1], data[2], data[3], grade) : null;
+    }
+
+    /** 멘토 이름,멘토 학번,멘티 이름,멘티 학번 → [멘토, 멘티] */
+    private static Participant[] parseMatch(String line) {
+        String[] data = line.split(",", -1);
+        if (data.length < 4 || data[1].isBlank() || data[3].isBlank()) {
+            return null;
+        }
+        return new Participant[] {
+                new Participant(data[0], data[1], null, "Korean", DEFAULT_GRADE),
+                new Participant(data[2], data[3], null, "English", DEFAULT_GRADE)
+        };
+    }
+
+    private void addParticipant(Participant participant) {
+        if (studentIndex.add(participant)) {
+            participants.add(participant);
+            report.participants++;
+        } else {
+            report.duplicateParticipants++;
+        }
+    }
+
+    private void addMatch(Pair pair) {
+        addMatch(pair.getMentor(), pair.getMentee());
+    }
+
+    /**
+     * 멘토와 멘티를 같은 학번의 등록된 참가자로 바꾸어 매칭을 추가합니다.
+     * 등록되지 않은 학번이면 매칭 파일의 정보를 그대로 사용합니다.
+     */
+    private void addMatch(Participant mentor, Participant mentee) {
+        Participant registeredMentor = studentIndex.get(mentor.getStudentId());
+        Participant registeredMentee = studentIndex.get(mentee.getStudentId());
+        mentor = registeredMentor != null ? registeredMentor : mentor;
+        mentee = registeredMentee != null ? registeredMentee : mentee;
+        Pair pair;
+        try {
+            pair = new Pair(mentor, mentee);
+        } catch (IllegalArgumentException e) {
+            report.invalidMatches++;
+            return;
+        }
+        if (matches.putIfAbsent(mentor.getStudentId() + "-" + mentee.getStudentId(), pair) == null) {
+            report.matches++;
+        } else {
+            report.duplicateMatches++;
+        }
+    }
+}
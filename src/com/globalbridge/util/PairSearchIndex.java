@@ -0,0 +1,132 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 멘토나 멘티의 이름, 학번 앞부분으로 매칭을 찾는 검색 색인 클래스입니다.
+ *
+ * <p>
+ * 매칭마다 멘토와 멘티의 이름 전체, 이름의 각 단어, 학번을 소문자로 바꾼 토큰을 만들어
+ * "토큰 + 구분자 + 매칭 ID" 형태로 정렬된 집합에 보관합니다.
+ * 검색어로 시작하는 토큰은 정렬된 집합에서 연속한 구간이므로, 입력할 때마다 전체 매칭을 훑지 않고
+ * O(log n + 결과 수)로 찾으며, 새 매칭도 다시 만들지 않고 O(log n)으로 추가합니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * </p>
+ */
+public class PairSearchIndex {
+    /** 토큰과 매칭 ID를 구분하는 문자 (토큰에 들어가지 않는 가장 작은 문자) */
+    private static final char SEPARATOR = '\u0000';
+
+    private final TreeSet<String> entries = new TreeSet<>();
+
+    /**
+     * 매칭을 색인에 추가합니다.
+     *
+     * @param pairId 매칭 ID
+     * @param pair 매칭
+     */
+    public void add(String pairId, Pair pair) {
+        for (String token : tokens(pair)) {
+            entries.add(token + SEPARATOR + pairId);
+        }
+    }
+
+    /**
+     * 매칭이 검색어에 맞는지 색인을 거치지 않고 확인합니다.
+     *
+     * @param pair 매칭
+     * @param query 검색어 (대소문자 구분 없음)
+     * @return 멘토나 멘티의 이름, 학번이 검색어로 시작하면 true
+     */
+    public static boolean matches(Pair pair, String query) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return false;
+        }
+        for (String token : tokens(pair)) {
+            if (token.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 멘토와 멘티의 학번, 이름 전체, 이름의 각 단어를 정규화한 토큰 목록을 만듭니다.
+     */
+    private static List<String> tokens(Pair pair) {
+        List<String> tokens = new ArrayList<>(8);
+        for (Participant participant : new Participant[] {pair.getMentor(), pair.getMentee()}) {
+            addToken(tokens, participant.getStudentId());
+            String name = participant.getName();
+            if (name != null) {
+                addToken(tokens, name);
+                for (String word : name.trim().split("\\s+")) {
+                    addToken(tokens, word);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, String token) {
+        if (token != null && !token.isBlank()) {
+            tokens.add(normalize(token));
+        }
+    }
+
+    /**
+     * 모든 매칭을 색인에서 제거합니다.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 검색어로 시작하는 이름이나 학번을 가진 매칭을 찾습니다.
+     *
+     * @param query 검색어 (대소문자 구분 없음)
+     * @param limit 반환할 최대 매칭 수
+     * @return 찾은 매칭 ID (토큰 순서), 검색어가 비어 있으면 빈 집합
+     */
+    public Set<String> search(String query, int limit) {
+        Set<String> result = new LinkedHashSet<>();
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return result;
+        }
+        for (String entry : entries.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+            result.add(entry.substring(entry.indexOf(SEPARATOR) + 1));
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 등록된 토큰 수를 반환합니다.
+     *
+     * @return 토큰 수
+     */
+    public int size() { return entries.size(); }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT).replace(SEPARATOR, ' ');
+    }
+}
@@ -0,0 +1,208 @@
+package com.globalbridge.util;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 기록하는 바이트를 일정 크기의 블록으로 나누어 블록마다 따로 압축하는 출력 스트림입니다.
+ *
+ * <p>
+ * pigz처럼 각 블록을 독립된 {@link Deflater}로 압축하므로 블록들을 fork-join 풀에서 병렬로 압축할 수 있고,
+ * 읽을 때도 {@link ParallelInflaterInputStream}이 블록들을 병렬로 풀 수 있습니다.
+ * 동시에 압축 중인 블록은 풀 병렬도의 두 배까지만 두며, 압축된 블록은 기록한 순서대로 대상 스트림에 씁니다.
+ * </p>
+ *
+ * <p>
+ * 형식 (정수는 big-endian):
+ * <pre>
+ * 매직 "GBZ" 0x01, 블록 크기(int)
+ * 블록 반복: 원본 길이(int), 압축 길이(int), 원본 CRC-32(int), raw deflate 데이터
+ * 끝 표시: 원본 길이 0(int)
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 한 스레드에서만 기록해야 합니다.
+ * </p>
+ */
+final class ParallelDeflaterOutputStream extends OutputStream {
+    /** 형식을 나타내는 매직 바이트 */
+    static final byte[] MAGIC = {'G', 'B', 'Z', 1};
+
+    /** 기본 블록 크기 (256KB) */
+    static final int DEFAULT_BLOCK_SIZE = 256 << 10;
+
+    private final DataOutputStream out;
+    private final int level;
+    private final ForkJoinPool pool;
+    private final int maxPending;
+    private final ArrayDeque<ForkJoinTask<byte[]>> pending = new ArrayDeque<>();
+    private final int blockSize;
+    private byte[] block;
+    private int count;
+    private boolean closed;
+
+    /**
+     * 공용 fork-join 풀로 압축하는 스트림을 생성하고 헤더를 기록합니다.
+     *
+     * @param out 압축된 블록을 기록할 스트림
+     * @param level 압축 수준 (1~9, {@link Deflater#DEFAULT_COMPRESSION})
+     * @throws IOException 헤더 기록 중 오류 발생 시
+     */
+    ParallelDeflaterOutputStream(OutputStream out, int level) throws IOException {
+        this(out, level, DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 블록 크기와 압축에 사용할 풀을 지정하는 생성자.
+     *
+     * @param out 압축된 블록을 기록할 스트림
+     * @param level 압축 수준 (1~9, {@link Deflater#DEFAULT_COMPRESSION})
+     * @param blockSize 블록의 원본 크기
+     * @param pool 블록 압축에 사용할 풀
+     * @throws IOException 헤더 기록 중 오류 발생 시
+     */
+    ParallelDeflaterOutputStream(OutputStream out, int level, int blockSize, ForkJoinPool pool) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.level = level;
+        this.pool = pool;
+        this.maxPending = Math.max(2, pool.getParallelism() * 2);
+        this.blockSize = blockSize;
+        this.block = new byte[blockSize];
+        this.out.write(MAGIC);
+        this.out.writeInt(blockSize);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == blockSize) {
+            submitBlock();
+        }
+        block[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (count == blockSize) {
+                submitBlock();
+            }
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * 현재 블록을 압축 작업으로 넘기고, 대기 중인 블록이 너무 많으면 가장 오래된 블록을 기록합니다.
+     */
+    private void submitBlock() throws IOException {
+        if (closed) {
+            throw new IOException("스트림이 닫혔습니다.");
+        }
+        byte[] raw = block;
+        int length = count;
+        pending.add(pool.submit(() -> compress(raw, length, level)));
+        block = new byte[blockSize];
+        count = 0;
+        while (pending.size() >= maxPending) {
+            writeBlock(pending.poll());
+        }
+    }
+
+    private void writeBlock(ForkJoinTask<byte[]> task) throws IOException {
+        byte[] compressed;
+        try {
+            compressed = task.join();
+        } catch (RuntimeException e) {
+            throw new IOException("블록 압축 중 오류 발생: " + e.getMessage(), e);
+        }
+        out.write(compressed);
+    }
+
+    /**
+     * 블록 하나를 헤더(원본 길이, 압축 길이, CRC-32)가 붙은 압축 데이터로 만듭니다.
+     */
+    private static byte[] compress(byte[] raw, int length, int level) {
+        CRC32 crc = new CRC32();
+        crc.update(raw, 0, length);
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(raw, 0, length);
+            deflater.finish();
+            byte[] output = new byte[12 + length + (length >> 6) + 64];
+            int size = 12;
+            while (!deflater.finished()) {
+                if (size == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                size += deflater.deflate(output, size, output.length - size);
+            }
+            putInt(output, 0, length);
+            putInt(output, 4, size - 12);
+            putInt(output, 8, (int) crc.getValue());
+            return size == output.length ? output : Arrays.copyOf(output, size);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void putInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    /**
+     * 이미 채워진 블록들만 기록하고 대상 스트림을 flush합니다.
+     *
+     * <p>
+     * 블록을 작게 나누지 않도록 채우는 중인 블록은 압축하지 않으므로, 모든 데이터를 기록하려면 {@link #close()}를 호출해야 합니다.
+     * </p>
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!pending.isEmpty()) {
+            writeBlock(pending.poll());
+        }
+        out.flush();
+    }
+
+    /**
+     * 남은 블록을 모두 압축하여 기록하고 끝 표시를 쓴 뒤 대상 스트림을 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if (count > 0) {
+                submitBlock();
+            }
+            closed = true;
+            while (!pending.isEmpty()) {
+                writeBlock(pending.poll());
+            }
+            out.writeInt(0);
+        } finally {
+            closed = true;
+            block = null;
+            out.close();
+        }
+    }
+}
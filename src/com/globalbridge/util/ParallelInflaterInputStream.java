@@ -0,0 +1,172 @@
+package com.globalbridge.util;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link ParallelDeflaterOutputStream}이 기록한 블록 압축 데이터를 읽는 입력 스트림입니다.
+ *
+ * <p>
+ * 압축된 블록은 읽는 스레드가 차례로 읽고, 압축 해제와 CRC-32 검사는 fork-join 풀에서 병렬로 수행합니다.
+ * 읽는 쪽보다 풀 병렬도의 두 배만큼의 블록을 미리 풀어 두므로, 파일을 읽는 동안 압축 해제가 함께 진행됩니다.
+ * 대상 스트림의 위치는 매직 바이트 다음이어야 합니다.
+ * </p>
+ */
+final class ParallelInflaterInputStream extends InputStream {
+    /** 허용하는 최대 블록 크기 (손상된 헤더로 큰 배열을 만들지 않도록 제한) */
+    private static final int MAX_BLOCK_SIZE = 64 << 20;
+
+    private final DataInputStream in;
+    private final ForkJoinPool pool;
+    private final int maxPending;
+    private final int blockSize;
+    private final ArrayDeque<ForkJoinTask<byte[]>> pending = new ArrayDeque<>();
+    private byte[] current = new byte[0];
+    private int position;
+    private boolean endOfBlocks;
+
+    /**
+     * 공용 fork-join 풀로 압축을 푸는 스트림을 생성합니다.
+     *
+     * @param in 매직 바이트 다음 위치의 스트림
+     * @throws IOException 헤더 읽기 중 오류 발생 시
+     */
+    ParallelInflaterInputStream(InputStream in) throws IOException {
+        this(in, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 압축 해제에 사용할 풀을 지정하는 생성자.
+     *
+     * @param in 매직 바이트 다음 위치의 스트림
+     * @param pool 블록 압축 해제에 사용할 풀
+     * @throws IOException 헤더 읽기 중 오류 발생 시
+     */
+    ParallelInflaterInputStream(InputStream in, ForkJoinPool pool) throws IOException {
+        this.in = new DataInputStream(in);
+        this.pool = pool;
+        this.maxPending = Math.max(2, pool.getParallelism() * 2);
+        this.blockSize = this.in.readInt();
+        if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE) {
+            throw new IOException("블록 크기가 올바르지 않습니다: " + blockSize);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == current.length && !nextBlock()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position == current.length && !nextBlock()) {
+            return -1;
+        }
+        int n = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    /**
+     * 다음 블록으로 넘어가며, 미리 풀어 둘 블록을 채웁니다.
+     *
+     * @return 블록이 더 없으면 false
+     */
+    private boolean nextBlock() throws IOException {
+        while (!endOfBlocks && pending.size() < maxPending) {
+            readBlock();
+        }
+        if (pending.isEmpty()) {
+            return false;
+        }
+        try {
+            current = pending.poll().join();
+        } catch (RuntimeException e) {
+            throw new IOException("블록 압축 해제 중 오류 발생: " + e.getMessage(), e);
+        }
+        position = 0;
+        return true;
+    }
+
+    /**
+     * 압축된 블록 하나를 읽어 압축 해제 작업으로 넘깁니다.
+     */
+    private void readBlock() throws IOException {
+        int rawLength = in.readInt();
+        if (rawLength == 0) {
+            endOfBlocks = true;
+            return;
+        }
+        int compressedLength = in.readInt();
+        int crc = in.readInt();
+        if (rawLength < 0 || rawLength > blockSize || compressedLength < 0 || compressedLength > MAX_BLOCK_SIZE) {
+            throw new IOException("블록 헤더가 올바르지 않습니다.");
+        }
+        byte[] compressed = new byte[compressedLength];
+        try {
+            in.readFully(compressed);
+        } catch (EOFException e) {
+            throw new IOException("압축 데이터가 중간에 끝났습니다.", e);
+        }
+        pending.add(pool.submit(() -> inflate(compressed, rawLength, crc)));
+    }
+
+    private static byte[] inflate(byte[] compressed, int rawLength, int expectedCrc) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int size = 0;
+            while (size < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, size, rawLength - size);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                size += n;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(raw, 0, size);
+            if (size != rawLength || (int) crc.getValue() != expectedCrc) {
+                throw new IllegalStateException("블록이 손상되었습니다.");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("블록이 손상되었습니다: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        pending.clear();
+        current = new byte[0];
+        position = 0;
+        endOfBlocks = true;
+        in.close();
+    }
+}
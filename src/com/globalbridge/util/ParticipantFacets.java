@@ -0,0 +1,129 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Participant;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 참가자의 역할, 학년, 전공별 참가자 번호 집합을 {@link RoaringBitmap}으로 유지하는 패싯(facet) 색인 클래스입니다.
+ *
+ * <p>
+ * 참가자 번호는 참가자 목록에서의 위치(등록 순서)입니다. 각 패싯은 해당하는 참가자 번호의 비트맵이므로,
+ * "2학년 멘티 중 컴퓨터공학 전공"처럼 여러 조건을 비트맵 교집합과 차집합으로 바로 계산하고 셀 수 있습니다.
+ * 참가자는 목록 끝에만 추가되므로 등록할 때 {@link #add(Participant)}를 호출하고,
+ * 목록이 통째로 바뀌면 {@link #reset(List)}으로 다시 구성합니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * 반환되는 비트맵은 복사본이므로 호출자가 자유롭게 변경할 수 있습니다.
+ * </p>
+ */
+public class ParticipantFacets {
+    private final RoaringBitmap mentors = new RoaringBitmap();
+    private final RoaringBitmap mentees = new RoaringBitmap();
+    private final TreeMap<Integer, RoaringBitmap> byGrade = new TreeMap<>();
+    private final HashMap<String, RoaringBitmap> byMajor = new HashMap<>();
+    private int size;
+
+    /**
+     * 색인을 비우고 참가자 목록으로 다시 구성합니다.
+     *
+     * @param participants 등록 순서의 참가자 목록
+     */
+    public void reset(List<Participant> participants) {
+        mentors.clear();
+        mentees.clear();
+        byGrade.clear();
+        byMajor.clear();
+        size = 0;
+        for (Participant participant : participants) {
+            add(participant);
+        }
+    }
+
+    /**
+     * 참가자 목록 끝에 추가된 참가자를 색인에 추가합니다.
+     *
+     * @param participant 추가된 참가자
+     * @return 부여된 참가자 번호
+     */
+    public int add(Participant participant) {
+        int id = size++;
+        (participant.isMentor() ? mentors : mentees).add(id);
+        byGrade.computeIfAbsent(participant.getGrade(), grade -> new RoaringBitmap()).add(id);
+        byMajor.computeIfAbsent(participant.getMajor(), major -> new RoaringBitmap()).add(id);
+        return id;
+    }
+
+    /**
+     * 색인된 참가자 수를 반환합니다.
+     *
+     * @return 참가자 수
+     */
+    public int size() { return size; }
+
+    /**
+     * 모든 참가자 번호를 반환합니다.
+     *
+     * @return 참가자 번호 비트맵
+     */
+    public RoaringBitmap all() {
+        return RoaringBitmap.range(0, size);
+    }
+
+    /**
+     * 역할별 참가자 번호를 반환합니다.
+     *
+     * @param mentor true이면 멘토, false이면 멘티
+     * @return 참가자 번호 비트맵
+     */
+    public RoaringBitmap role(boolean mentor) {
+        return new RoaringBitmap(mentor ? mentors : mentees);
+    }
+
+    /**
+     * 학년별 참가자 번호를 반환합니다.
+     *
+     * @param grade 학년
+     * @return 참가자 번호 비트맵 (해당 학년이 없으면 빈 비트맵)
+     */
+    public RoaringBitmap grade(int grade) {
+        RoaringBitmap bitmap = byGrade.get(grade);
+        return bitmap != null ? new RoaringBitmap(bitmap) : new RoaringBitmap();
+    }
+
+    /**
+     * 전공별 참가자 번호를 반환합니다.
+     *
+     * @param major 전공
+     * @return 참가자 번호 비트맵 (해당 전공이 없으면 빈 비트맵)
+     */
+    public RoaringBitmap major(String major) {
+        RoaringBitmap bitmap = byMajor.get(major);
+        return bitmap != null ? new RoaringBitmap(bitmap) : new RoaringBitmap();
+    }
+
+    /**
+     * 학년별 참가자 수를 학년 순서로 반환합니다.
+     *
+     * @param within 셀 대상 참가자 번호 (null이면 전체)
+     * @return 학년 → 참가자 수
+     */
+    public TreeMap<Integer, Integer> countByGrade(RoaringBitmap within) {
+        TreeMap<Integer, Integer> counts = new TreeMap<>();
+        byGrade.forEach((grade, bitmap) -> {
+            int count = within == null ? bitmap.getCardinality() : RoaringBitmap.andCardinality(bitmap, within);
+            if (count > 0) {
+                counts.put(grade, count);
+            }
+        });
+        return counts;
+    }
+}
@@ -0,0 +1,147 @@
+package com.globalbridge.util;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-19
+ *
+ * 화면에 표시할 문자열을 엔티티 ID와 버전 기준으로 보관하는 크기 제한 캐시 클래스입니다.
+ *
+ * <p>
+ * 매칭 목록이나 활동 이력을 새로 그릴 때마다 모든 항목을 다시 포맷팅하지 않도록,
+ * 한 번 만든 표시 문자열을 (ID, 버전) 단위로 저장합니다. 엔티티가 변경되어 버전이 달라지면
+ * 해당 항목만 다시 포맷팅되며, {@link #invalidate(Object)}로 명시적으로 무효화할 수도 있습니다.
+ * </p>
+ *
+ * <p>
+ * 항목 수가 최대 크기를 넘으면 가장 오래 사용되지 않은(LRU) 항목부터 제거되며,
+ * 모든 항목을 차례로 다시 그리는 쪽은 {@link #ensureCapacity(int)}로 최대 크기를 항목 수 이상으로 늘려
+ * 다음 항목을 쓰기 전에 밀려나지 않게 합니다.
+ * 문자열은 {@link SoftReference}로 보관되어 메모리가 부족할 때 GC가 회수할 수 있습니다.
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * </p>
+ *
+ * @param <K> 엔티티 ID의 타입
+ */
+public class RenderCache<K> {
+    /** 캐시 항목: 포맷팅 당시의 버전과 문자열 */
+    private static final class Entry {
+        final long version;
+        final SoftReference<String> text;
+
+        Entry(long version, String text) {
+            this.version = version;
+            this.text = new SoftReference<>(text);
+        }
+    }
+
+    /** 접근 순서를 유지하는 LRU 맵 */
+    private final LinkedHashMap<K, Entry> entries;
+
+    /** ID로부터 표시 문자열을 만드는 함수 */
+    private final Function<K, String> formatter;
+
+    /** 보관할 최대 항목 수 */
+    private int maxEntries;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * RenderCache 생성자.
+     *
+     * @param maxEntries 보관할 최대 항목 수
+     * @param formatter 캐시에 없을 때 ID로부터 표시 문자열을 만드는 함수
+     */
+    public RenderCache(int maxEntries, Function<K, String> formatter) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.formatter = formatter;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry> eldest) {
+                return size() > RenderCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 엔티티의 표시 문자열을 반환합니다.
+     *
+     * <p>
+     * 같은 버전으로 캐시된 문자열이 있으면 그대로 반환하고,
+     * 없거나 버전이 다르거나 GC에 의해 회수된 경우 새로 포맷팅하여 저장합니다.
+     * </p>
+     *
+     * @param id 엔티티 ID
+     * @param version 엔티티의 현재 버전
+     * @return 표시 문자열
+     */
+    public String get(K id, long version) {
+        Entry entry = entries.get(id);
+        if (entry != null && entry.version == version) {
+            String text = entry.text.get();
+            if (text != null) {
+                hits++;
+                return text;
+            }
+        }
+        misses++;
+        String text = formatter.apply(id);
+        entries.put(id, new Entry(version, text));
+        return text;
+    }
+
+    /**
+     * 보관할 최대 항목 수를 지정한 수 이상으로 늘립니다. 이미 크면 그대로 둡니다.
+     *
+     * @param minEntries 보관해야 할 항목 수
+     */
+    public void ensureCapacity(int minEntries) {
+        maxEntries = Math.max(maxEntries, minEntries);
+    }
+
+    /**
+     * 특정 엔티티의 캐시 항목을 제거합니다.
+     *
+     * @param id 엔티티 ID
+     */
+    public void invalidate(K id) {
+        entries.remove(id);
+    }
+
+    /**
+     * 모든 캐시 항목을 제거합니다.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 현재 보관 중인 항목 수를 반환합니다.
+     * @return 항목 수
+     */
+    public int size() { return entries.size(); }
+
+    /**
+     * 캐시 적중 횟수를 반환합니다.
+     * @return 적중 횟수
+     */
+    public long getHits() { return hits; }
+
+    /**
+     * 캐시 미스(새로 포맷팅한) 횟수를 반환합니다.
+     * @return 미스 횟수
+     */
+    public long getMisses() { return misses; }
+}
@@ -0,0 +1,911 @@
+package com.globalbridge.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 0 이상의 정수 집합을 압축하여 저장하는 Roaring 방식의 비트맵 클래스입니다.
+ *
+ * <p>
+ * 값은 상위 16비트를 키로 하는 컨테이너에 나뉘어 저장됩니다. 컨테이너에 담긴 값이
+ * {@value #ARRAY_MAX}개 이하이면 하위 16비트의 정렬된 배열(값당 2바이트)로,
+ * 그보다 많으면 65,536비트 비트맵(8KB)으로 저장되므로, 희소한 구간과 빽빽한 구간이 섞여 있어도
+ * 메모리 사용량이 작고 교집합, 합집합, 차집합을 컨테이너 단위로 빠르게 계산할 수 있습니다.
+ * 활동 행 번호나 참가자 번호처럼 0부터 연속으로 부여되는 번호의 집합을 표현하는 데 사용합니다.
+ * </p>
+ *
+ * <p>
+ * {@link #and(RoaringBitmap, RoaringBitmap)} 등의 집합 연산은 피연산자를 바꾸지 않고 새 비트맵을 반환합니다.
+ * 이 클래스는 동기화되어 있지 않으므로, 변경하는 동안 다른 스레드에서 읽어서는 안 됩니다.
+ * </p>
+ */
+public class RoaringBitmap {
+    /** 배열 컨테이너에 담을 수 있는 최대 값 개수 (이보다 많으면 비트맵 컨테이너 사용) */
+    static final int ARRAY_MAX = 4096;
+
+    /** 비트맵 컨테이너의 long 워드 수 (65,536비트) */
+    private static final int WORDS = 1024;
+
+    /** 컨테이너 키 (값의 상위 16비트, 오름차순) */
+    private char[] keys;
+
+    /** 키와 같은 위치의 컨테이너 */
+    private Container[] containers;
+
+    /** 사용 중인 컨테이너 수 */
+    private int size;
+
+    /**
+     * 비어 있는 비트맵을 생성합니다.
+     */
+    public RoaringBitmap() {
+        keys = new char[4];
+        containers = new Container[4];
+    }
+
+    /**
+     * 다른 비트맵과 같은 값을 가지는 복사본을 생성합니다.
+     *
+     * @param other 복사할 비트맵
+     */
+    public RoaringBitmap(RoaringBitmap other) {
+        keys = Arrays.copyOf(other.keys, Math.max(4, other.size));
+        containers = new Container[keys.length];
+        size = other.size;
+        for (int i = 0; i < size; i++) {
+            containers[i] = other.containers[i].copy();
+        }
+    }
+
+    /**
+     * 주어진 값들을 담은 비트맵을 생성합니다.
+     *
+     * @param values 값 목록 (0 이상)
+     * @return 새 비트맵
+     */
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * [from, to) 구간의 모든 값을 담은 비트맵을 생성합니다.
+     *
+     * @param from 시작 값 (포함, 0 이상)
+     * @param to 끝 값 (제외)
+     * @return 새 비트맵
+     */
+    public static RoaringBitmap range(int from, int to) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.addRange(from, to);
+        return bitmap;
+    }
+
+    // ---------------------------------------------------------------- 변경
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 추가할 값 (0 이상)
+     * @return 새로 추가되었으면 true, 이미 있었으면 false
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        char key = (char) (value >>> 16);
+        int index = find(key);
+        if (index < 0) {
+            index = -index - 1;
+            insert(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int before = container.cardinality;
+        containers[index] = container.add((char) value);
+        return containers[index].cardinality != before;
+    }
+
+    /**
+     * [from, to) 구간의 모든 값을 추가합니다.
+     *
+     * @param from 시작 값 (포함, 0 이상)
+     * @param to 끝 값 (제외)
+     */
+    public void addRange(int from, int to) {
+        checkValue(from);
+        if (to <= from) {
+            return;
+        }
+        int last = to - 1;
+        for (int high = from >>> 16; high <= last >>> 16; high++) {
+            int start = high == from >>> 16 ? from & 0xFFFF : 0;
+            int end = high == last >>> 16 ? (last & 0xFFFF) + 1 : 1 << 16;
+            char key = (char) high;
+            int index = find(key);
+            if (index < 0) {
+                index = -index - 1;
+                insert(index, key, new ArrayContainer());
+            }
+            containers[index] = containers[index].addRange(start, end);
+        }
+    }
+
+    /**
+     * 값을 제거합니다.
+     *
+     * @param value 제거할 값
+     * @return 제거되었으면 true, 없었으면 false
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = find((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality;
+        container = container.remove((char) value);
+        if (container.cardinality == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = container;
+        }
+        return container.cardinality != before;
+    }
+
+    /**
+     * 모든 값을 제거합니다.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    // ---------------------------------------------------------------- 조회
+
+    /**
+     * 값이 포함되어 있는지 확인합니다.
+     *
+     * @param value 값
+     * @return 포함되어 있으면 true
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = find((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * 담긴 값의 개수를 반환합니다.
+     *
+     * @return 값 개수
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    /**
+     * 비어 있는지 확인합니다.
+     *
+     * @return 값이 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 값을 오름차순으로 순회하는 반복자를 반환합니다. 순회 중에 비트맵을 변경해서는 안 됩니다.
+     *
+     * @return 값 반복자
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new ValueIterator();
+    }
+
+    /**
+     * 값을 오름차순으로 전달합니다.
+     *
+     * @param action 각 값에 수행할 작업
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * 값을 오름차순으로 담은 스트림을 반환합니다.
+     *
+     * @return 값 스트림
+     */
+    public IntStream stream() {
+        Spliterator.OfInt spliterator = Spliterators.spliterator(iterator(), getCardinality(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.intStream(spliterator, false);
+    }
+
+    /**
+     * 값을 오름차순 배열로 반환합니다.
+     *
+     * @return 값 배열
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] position = {0};
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    /**
+     * 컨테이너가 차지하는 대략적인 메모리 크기를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public long getSizeInBytes() {
+        long bytes = keys.length * 2L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    // ---------------------------------------------------------------- 집합 연산
+
+    /**
+     * 두 비트맵의 교집합을 반환합니다.
+     *
+     * @param a 비트맵
+     * @param b 비트맵
+     * @return 새 비트맵
+     */
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.appendNonEmpty(a.keys[i], Container.and(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 두 비트맵의 교집합 크기를 교집합을 만들지 않고 계산합니다.
+     *
+     * @param a 비트맵
+     * @param b 비트맵
+     * @return 교집합의 값 개수
+     */
+    public static int andCardinality(RoaringBitmap a, RoaringBitmap b) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                cardinality += Container.andCardinality(a.containers[i], b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * 두 비트맵의 합집합을 반환합니다.
+     *
+     * @param a 비트맵
+     * @param b 비트맵
+     * @return 새 비트맵
+     */
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.appendNonEmpty(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i >= a.size || a.keys[i] > b.keys[j]) {
+                result.appendNonEmpty(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.appendNonEmpty(a.keys[i], Container.or(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 첫 번째 비트맵에서 두 번째 비트맵의 값을 뺀 차집합을 반환합니다.
+     *
+     * @param a 비트맵
+     * @param b 뺄 값들의 비트맵
+     * @return 새 비트맵
+     */
+    public static RoaringBitmap andNot(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) {
+                j++;
+            }
+            if (j < b.size && b.keys[j] == a.keys[i]) {
+                result.appendNonEmpty(a.keys[i], Container.andNot(a.containers[i], b.containers[j]));
+            } else {
+                result.appendNonEmpty(a.keys[i], a.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    // ---------------------------------------------------------------- Object
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RoaringBitmap)) {
+            return false;
+        }
+        RoaringBitmap other = (RoaringBitmap) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i] != other.keys[i] || !containers[i].sameValues(other.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        forEach(value -> hash[0] = hash[0] * 31 + value);
+        return hash[0];
+    }
+
+    /**
+     * 값 목록을 "{1, 2, 3}" 형식으로 반환합니다. 값이 많으면 앞부분만 표시합니다.
+     *
+     * @return 문자열 표현
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        PrimitiveIterator.OfInt it = iterator();
+        for (int shown = 0; it.hasNext(); shown++) {
+            if (shown == 16) {
+                sb.append(", ... (").append(getCardinality()).append(" values)");
+                break;
+            }
+            sb.append(shown == 0 ? "" : ", ").append(it.nextInt());
+        }
+        return sb.append('}').toString();
+    }
+
+    // ---------------------------------------------------------------- 내부 구현
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("비트맵에는 0 이상의 값만 저장할 수 있습니다: " + value);
+        }
+    }
+
+    private int find(char key) {
+        // 행 번호처럼 끝에 추가되는 경우가 대부분이므로 마지막 컨테이너를 먼저 확인합니다.
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendNonEmpty(char key, Container container) {
+        if (container.cardinality > 0) {
+            insert(size, key, container);
+        }
+    }
+
+    /**
+     * 값을 컨테이너 순서대로 꺼내는 반복자입니다.
+     */
+    private final class ValueIterator implements PrimitiveIterator.OfInt {
+        private int containerIndex;
+        private int high;
+        /** 배열 컨테이너의 다음 위치, 또는 비트맵 컨테이너의 현재 워드 번호 */
+        private int position;
+        /** 비트맵 컨테이너의 현재 워드에서 아직 꺼내지 않은 비트 */
+        private long word;
+
+        ValueIterator() {
+            load(0);
+        }
+
+        private void load(int index) {
+            containerIndex = index;
+            position = 0;
+            word = 0;
+            if (index < size) {
+                high = keys[index] << 16;
+                if (containers[index] instanceof BitmapContainer) {
+                    word = ((BitmapContainer) containers[index]).words[0];
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (containerIndex < size) {
+                Container container = containers[containerIndex];
+                if (container instanceof ArrayContainer) {
+                    if (position < container.cardinality) {
+                        return true;
+                    }
+                } else {
+                    long[] words = ((BitmapContainer) container).words;
+                    while (word == 0 && position < WORDS - 1) {
+                        word = words[++position];
+                    }
+                    if (word != 0) {
+                        return true;
+                    }
+                }
+                load(containerIndex + 1);
+            }
+            return false;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Container container = containers[containerIndex];
+            if (container instanceof ArrayContainer) {
+                return high | ((ArrayContainer) container).content[position++];
+            }
+            int bit = Long.numberOfTrailingZeros(word);
+            word &= word - 1;
+            return high | (position << 6) | bit;
+        }
+    }
+
+    /**
+     * 상위 16비트가 같은 값들의 하위 16비트를 담는 컨테이너입니다.
+     */
+    private abstract static class Container {
+        int cardinality;
+
+        /** 값을 추가하고, 형식이 바뀌었으면 새 컨테이너를 반환합니다. */
+        abstract Container add(char low);
+
+        /** [start, end) 구간을 추가하고, 형식이 바뀌었으면 새 컨테이너를 반환합니다. */
+        abstract Container addRange(int start, int end);
+
+        /** 값을 제거하고, 형식이 바뀌었으면 새 컨테이너를 반환합니다. */
+        abstract Container remove(char low);
+
+        abstract boolean contains(char low);
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract long sizeInBytes();
+
+        boolean sameValues(Container other) {
+            if (cardinality != other.cardinality) {
+                return false;
+            }
+            return andCardinality(this, other) == cardinality;
+        }
+
+        static Container and(Container a, Container b) {
+            if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+                return ((ArrayContainer) a).and((ArrayContainer) b);
+            }
+            if (a instanceof ArrayContainer) {
+                return ((ArrayContainer) a).filter((BitmapContainer) b, true);
+            }
+            if (b instanceof ArrayContainer) {
+                return ((ArrayContainer) b).filter((BitmapContainer) a, true);
+            }
+            return ((BitmapContainer) a).and((BitmapContainer) b);
+        }
+
+        static int andCardinality(Container a, Container b) {
+            if (a instanceof BitmapContainer && b instanceof BitmapContainer) {
+                long[] x = ((BitmapContainer) a).words;
+                long[] y = ((BitmapContainer) b).words;
+                int count = 0;
+                for (int i = 0; i < WORDS; i++) {
+                    count += Long.bitCount(x[i] & y[i]);
+                }
+                return count;
+            }
+            ArrayContainer array = (ArrayContainer) (a instanceof ArrayContainer ? a : b);
+            Container other = array == a ? b : a;
+            int count = 0;
+            for (int i = 0; i < array.cardinality; i++) {
+                if (other.contains(array.content[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        static Container or(Container a, Container b) {
+            if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+                return ((ArrayContainer) a).or((ArrayContainer) b);
+            }
+            BitmapContainer bitmap = (BitmapContainer) (a instanceof BitmapContainer ? a : b).copy();
+            Container other = a instanceof BitmapContainer ? b : a;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    bitmap.set(array.content[i]);
+                }
+            } else {
+                long[] words = ((BitmapContainer) other).words;
+                int count = 0;
+                for (int i = 0; i < WORDS; i++) {
+                    bitmap.words[i] |= words[i];
+                    count += Long.bitCount(bitmap.words[i]);
+                }
+                bitmap.cardinality = count;
+            }
+            return bitmap;
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+                return ((ArrayContainer) a).andNot((ArrayContainer) b);
+            }
+            if (a instanceof ArrayContainer) {
+                return ((ArrayContainer) a).filter((BitmapContainer) b, false);
+            }
+            BitmapContainer bitmap = (BitmapContainer) a.copy();
+            if (b instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) b;
+                for (int i = 0; i < array.cardinality; i++) {
+                    bitmap.clear(array.content[i]);
+                }
+            } else {
+                long[] words = ((BitmapContainer) b).words;
+                int count = 0;
+                for (int i = 0; i < WORDS; i++) {
+                    bitmap.words[i] &= ~words[i];
+                    count += Long.bitCount(bitmap.words[i]);
+                }
+                bitmap.cardinality = count;
+            }
+            return bitmap.shrink();
+        }
+    }
+
+    /**
+     * 하위 16비트를 정렬된 char 배열로 저장하는 컨테이너 ({@value #ARRAY_MAX}개 이하).
+     */
+    private static final class ArrayContainer extends Container {
+        char[] content;
+
+        ArrayContainer() {
+            content = new char[4];
+        }
+
+        ArrayContainer(char[] content, int cardinality) {
+            this.content = content;
+            this.cardinality = cardinality;
+        }
+
+        private int indexOf(char low) {
+            // 끝에 추가되는 값이 대부분이므로 마지막 값과 먼저 비교합니다.
+            if (cardinality > 0 && content[cardinality - 1] < low) {
+                return -cardinality - 1;
+            }
+            return Arrays.binarySearch(content, 0, cardinality, low);
+        }
+
+        @Override
+        Container add(char low) {
+            int index = indexOf(low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            index = -index - 1;
+            if (cardinality == content.length) {
+                content = Arrays.copyOf(content, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(content, index, content, index + 1, cardinality - index);
+            content[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container addRange(int start, int end) {
+            return toBitmap().addRange(start, end);
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = indexOf(low);
+            if (index >= 0) {
+                System.arraycopy(content, index + 1, content, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return indexOf(low) >= 0;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(content, Math.max(4, cardinality)), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | content[i]);
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16 + content.length * 2L;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(content[i]);
+            }
+            return bitmap;
+        }
+
+        ArrayContainer and(ArrayContainer other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                if (content[i] < other.content[j]) {
+                    i++;
+                } else if (content[i] > other.content[j]) {
+                    j++;
+                } else {
+                    result[count++] = content[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        Container or(ArrayContainer other) {
+            if (cardinality + other.cardinality > ARRAY_MAX) {
+                BitmapContainer bitmap = toBitmap();
+                for (int i = 0; i < other.cardinality; i++) {
+                    bitmap.set(other.content[i]);
+                }
+                return bitmap.shrink();
+            }
+            char[] result = new char[cardinality + other.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j >= other.cardinality || (i < cardinality && content[i] < other.content[j])) {
+                    result[count++] = content[i++];
+                } else if (i >= cardinality || content[i] > other.content[j]) {
+                    result[count++] = other.content[j++];
+                } else {
+                    result[count++] = content[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        ArrayContainer andNot(ArrayContainer other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            int j = 0;
+            for (int i = 0; i < cardinality; i++) {
+                while (j < other.cardinality && other.content[j] < content[i]) {
+                    j++;
+                }
+                if (j >= other.cardinality || other.content[j] != content[i]) {
+                    result[count++] = content[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        /** 비트맵에 포함된(keep이 false이면 포함되지 않은) 값만 남긴 배열을 반환합니다. */
+        ArrayContainer filter(BitmapContainer bitmap, boolean keep) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (bitmap.contains(content[i]) == keep) {
+                    result[count++] = content[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+    }
+
+    /**
+     * 하위 16비트를 65,536비트 비트맵으로 저장하는 컨테이너 ({@value #ARRAY_MAX}개 초과).
+     */
+    private static final class BitmapContainer extends Container {
+        final long[] words;
+
+        BitmapContainer() {
+            words = new long[WORDS];
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        void set(char low) {
+            long before = words[low >>> 6];
+            long after = before | (1L << low);
+            words[low >>> 6] = after;
+            if (after != before) {
+                cardinality++;
+            }
+        }
+
+        void clear(char low) {
+            long before = words[low >>> 6];
+            long after = before & ~(1L << low);
+            words[low >>> 6] = after;
+            if (after != before) {
+                cardinality--;
+            }
+        }
+
+        @Override
+        Container add(char low) {
+            set(low);
+            return this;
+        }
+
+        @Override
+        Container addRange(int start, int end) {
+            int last = end - 1;
+            int firstWord = start >>> 6;
+            int lastWord = last >>> 6;
+            for (int w = firstWord; w <= lastWord; w++) {
+                long mask = -1L;
+                if (w == firstWord) {
+                    mask &= -1L << start;
+                }
+                if (w == lastWord) {
+                    mask &= -1L >>> (63 - (last & 63));
+                }
+                cardinality += Long.bitCount(mask & ~words[w]);
+                words[w] |= mask;
+            }
+            return shrink();
+        }
+
+        @Override
+        Container remove(char low) {
+            clear(low);
+            return shrink();
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16 + WORDS * 8L;
+        }
+
+        Container and(BitmapContainer other) {
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                result[i] = words[i] & other.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            return new BitmapContainer(result, count).shrink();
+        }
+
+        /** 값이 {@value #ARRAY_MAX}개 이하로 줄었으면 배열 컨테이너로 바꿉니다. */
+        Container shrink() {
+            if (cardinality > ARRAY_MAX) {
+                return this;
+            }
+            char[] content = new char[Math.max(4, cardinality)];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    content[count++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(content, count);
+        }
+    }
+}
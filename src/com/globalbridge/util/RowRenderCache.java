@@ -0,0 +1,87 @@
+package com.globalbridge.util;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * 화면에 표시할 문자열을 행 번호와 행 버전 기준으로 보관하는 캐시 클래스입니다.
+ *
+ * <p>
+ * {@link RenderCache}와 달리 크기 제한 없이 행 번호를 배열 인덱스로 써서 모든 행의 문자열을 보관하므로,
+ * 모든 행을 차례로 다시 그려도 앞에서 넣은 항목이 밀려나지 않고 바뀌지 않은 행은 항상 적중합니다.
+ * 배열은 요청된 가장 큰 행 번호까지 늘어나며, 보관하는 문자열은 어차피 화면 전체 텍스트에 모두 들어가는 것들입니다.
+ * 행 버전이 달라진 행만 다시 포맷팅하고, 저장소가 바뀌어 행 번호의 뜻이 달라지면 {@link #clear()}로 비웁니다.
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * </p>
+ */
+public class RowRenderCache {
+    private static final String[] EMPTY_TEXTS = {};
+    private static final int[] EMPTY_VERSIONS = {};
+
+    /** 행 번호로 문자열을 만드는 함수 */
+    private final IntFunction<String> formatter;
+
+    private String[] texts = EMPTY_TEXTS;
+    private int[] versions = EMPTY_VERSIONS;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * RowRenderCache 생성자.
+     *
+     * @param formatter 캐시에 없을 때 행 번호로부터 표시 문자열을 만드는 함수
+     */
+    public RowRenderCache(IntFunction<String> formatter) {
+        this.formatter = formatter;
+    }
+
+    /**
+     * 행의 표시 문자열을 반환합니다. 같은 버전으로 캐시된 문자열이 없으면 새로 포맷팅하여 저장합니다.
+     *
+     * @param row 행 번호 (0 이상)
+     * @param version 행의 현재 버전
+     * @return 표시 문자열
+     */
+    public String get(int row, int version) {
+        if (row >= texts.length) {
+            int capacity = Math.max(row + 1, texts.length + (texts.length >> 1));
+            texts = Arrays.copyOf(texts, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        String text = texts[row];
+        if (text != null && versions[row] == version) {
+            hits++;
+            return text;
+        }
+        misses++;
+        text = formatter.apply(row);
+        texts[row] = text;
+        versions[row] = version;
+        return text;
+    }
+
+    /**
+     * 모든 항목을 제거하고 배열을 놓아줍니다.
+     */
+    public void clear() {
+        texts = EMPTY_TEXTS;
+        versions = EMPTY_VERSIONS;
+    }
+
+    /**
+     * 캐시 적중 횟수를 반환합니다.
+     * @return 적중 횟수
+     */
+    public long getHits() { return hits; }
+
+    /**
+     * 캐시 미스(새로 포맷팅한) 횟수를 반환합니다.
+     * @return 미스 횟수
+     */
+    public long getMisses() { return misses; }
+}
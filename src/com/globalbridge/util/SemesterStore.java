@@ -0,0 +1,572 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.query.Query;
+import com.globalbridge.query.QueryEngine;
+import com.globalbridge.query.QueryResult;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+import com.globalbridge.storage.LsmStorageEngine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * 참가자, 매칭, 활동 기록을 학기별 샤드 파일로 나누어 데이터 디렉터리에 보관하는 클래스입니다.
+ *
+ * <p>
+ * 데이터 디렉터리({@code globalbridge.dataDir} 시스템 속성, 기본 {@value #DEFAULT_DIRECTORY})에는
+ * 학기마다 {@link SnapshotFile} 형식의 샤드 파일({@code 학기ID.gbs})과 작은 목록 파일({@value #CATALOG_FILE})이 있습니다.
+ * 목록 파일에는 현재 학기와, 마감된 학기마다 참가자 수, 매칭 수, 활동 수, 활동 기간, 마감 시각이 기록됩니다.
+ * 프로그램은 현재 학기의 샤드만 {@link #getActiveDataManager()}로 시작할 때 불러오고 저장하므로,
+ * 시작과 저장에 드는 시간은 누적된 전체 기록이 아니라 이번 학기의 크기에 비례합니다.
+ * </p>
+ *
+ * <p>
+ * 현재 학기는 기본적으로 샤드 파일 대신 {@link LsmStorageEngine}의 디렉터리({@code 학기ID.lsm})에 저장되어,
+ * 저장할 때 바뀐 레코드만 로그 끝에 덧붙입니다. 학기를 마감하면 엔진의 내용을 샤드 파일로 보관하고 디렉터리를 지웁니다.
+ * {@value #STORAGE_PROPERTY} 시스템 속성을 {@code snapshot}으로 지정하면 현재 학기도 샤드 파일에 통째로 저장합니다.
+ * 현재 학기의 샤드 파일이 이미 있으면(이전 버전에서 저장했거나 이전 형식을 옮겨 온 경우) 처음 불러올 때 엔진으로 옮깁니다.
+ * </p>
+ *
+ * <p>
+ * 마감된 학기는 {@link #openSemester(String)}로 필요할 때 불러오며 읽기 전용입니다.
+ * 불러온 학기는 최근에 사용한 {@value #MAX_OPEN_SEMESTERS}개까지 보관하여 다시 읽지 않습니다.
+ * 여러 학기에 걸친 질의({@link #query})는 학기들을 fork-join 풀에서 동시에 불러오고 학기마다 질의를 병렬로 실행하여 합칩니다.
+ * </p>
+ *
+ * <p>
+ * 학기 ID는 "연도-학기" 형식이며, 3~8월은 1학기, 9~2월은 2학기(1, 2월은 전년도 2학기)입니다.
+ * 데이터 디렉터리가 없을 때 예전 단일 저장 파일({@code globalbridge_data.ser})이 있으면 현재 학기의 샤드로 옮깁니다.
+ * 이 클래스는 스레드 안전합니다.
+ * </p>
+ */
+public final class SemesterStore {
+    /** 데이터 디렉터리 시스템 속성 */
+    public static final String DIRECTORY_PROPERTY = "globalbridge.dataDir";
+
+    /** 기본 데이터 디렉터리 */
+    static final String DEFAULT_DIRECTORY = "globalbridge_data";
+
+    /** 학기 목록 파일 이름 */
+    static final String CATALOG_FILE = "catalog.properties";
+
+    /** 학기 샤드 파일 확장자 */
+    static final String SHARD_SUFFIX = ".gbs";
+
+    /** 현재 학기 저장 방식 시스템 속성 ({@code lsm} 또는 {@code snapshot}) */
+    public static final String STORAGE_PROPERTY = "globalbridge.storage";
+
+    /** 현재 학기 저장 엔진 디렉터리 확장자 */
+    static final String ENGINE_SUFFIX = ".lsm";
+
+    /** 불러온 상태로 보관하는 마감된 학기 수 */
+    static final int MAX_OPEN_SEMESTERS = 2;
+
+    private static final Pattern SEMESTER_ID = Pattern.compile("\\d{4}-[12]");
+
+    private final Path directory;
+    private final ForkJoinPool pool;
+
+    /** 마감된 학기 (오래된 순) */
+    private final List<Semester> archived = new ArrayList<>();
+    private String active;
+
+    /** 현재 학기의 DataManager, 아직 만들지 않았으면 null */
+    private DataManager activeManager;
+
+    /** 학기 ID → 불러오는 중이거나 불러온 학기 (최근 사용 순) */
+    private final LinkedHashMap<String, CompletableFuture<ArchivedSemester>> open =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<ArchivedSemester>> eldest) {
+                    return size() > MAX_OPEN_SEMESTERS;
+                }
+            };
+
+    private SemesterStore(Path directory, ForkJoinPool pool) {
+        this.directory = directory;
+        this.pool = pool;
+    }
+
+    /**
+     * 시스템 속성의 데이터 디렉터리를 엽니다.
+     *
+     * @return 학기 저장소
+     * @throws IOException 디렉터리나 목록 파일을 만들거나 읽지 못한 경우
+     * @see #open(Path, Path)
+     */
+    public static SemesterStore openDefault() throws IOException {
+        return open(Paths.get(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)),
+                Paths.get(DataManager.DATA_FILE));
+    }
+
+    /**
+     * 데이터 디렉터리를 엽니다.
+     *
+     * <p>
+     * 목록 파일이 없으면 현재 날짜의 학기를 현재 학기로 하는 목록을 만들고,
+     * 예전 단일 저장 파일이 있으면 현재 학기의 샤드 파일로 옮깁니다.
+     * </p>
+     *
+     * @param directory 데이터 디렉터리 (없으면 만듦)
+     * @param legacyFile 옮길 예전 단일 저장 파일 (없으면 무시)
+     * @return 학기 저장소
+     * @throws IOException 디렉터리나 목록 파일을 만들거나 읽지 못했거나 목록 형식이 올바르지 않은 경우
+     */
+    public static SemesterStore open(Path directory, Path legacyFile) throws IOException {
+        Files.createDirectories(directory);
+        SemesterStore store = new SemesterStore(directory, ForkJoinPool.commonPool());
+        Path catalog = directory.resolve(CATALOG_FILE);
+        if (Files.exists(catalog)) {
+            store.readCatalog(catalog);
+        } else {
+            store.active = semesterOf(System.currentTimeMillis());
+            if (Files.exists(legacyFile) && !Files.exists(store.shardFile(store.active))) {
+                Files.move(legacyFile, store.shardFile(store.active));
+            }
+            store.writeCatalog();
+        }
+        return store;
+    }
+
+    /**
+     * 시각이 속한 학기 ID를 반환합니다.
+     *
+     * @param epochMillis 시각 (epoch millis)
+     * @return 학기 ID (3~8월은 "연도-1", 9~2월은 "연도-2", 1, 2월은 전년도)
+     */
+    public static String semesterOf(long epochMillis) {
+        LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate();
+        int month = date.getMonthValue();
+        if (month >= 3 && month <= 8) {
+            return date.getYear() + "-1";
+        }
+        return (month <= 2 ? date.getYear() - 1 : date.getYear()) + "-2";
+    }
+
+    /**
+     * 다음 학기 ID를 반환합니다.
+     *
+     * @param id 학기 ID
+     * @return 다음 학기 ID
+     */
+    static String nextSemester(String id) {
+        int year = Integer.parseInt(id.substring(0, 4));
+        return id.endsWith("-1") ? year + "-2" : (year + 1) + "-1";
+    }
+
+    /**
+     * 데이터 디렉터리를 반환합니다.
+     * @return 데이터 디렉터리
+     */
+    public Path getDirectory() { return directory; }
+
+    /**
+     * 현재 학기 ID를 반환합니다.
+     * @return 현재 학기 ID
+     */
+    public synchronized String getActiveSemester() { return active; }
+
+    /**
+     * 현재 학기 샤드 파일의 경로를 반환합니다. 아직 저장한 적이 없으면 파일이 없을 수 있습니다.
+     *
+     * @return 현재 학기 샤드 파일
+     */
+    public synchronized Path getActiveFile() {
+        return shardFile(active);
+    }
+
+    /**
+     * 현재 학기 데이터를 저장하고 불러오는 DataManager를 반환합니다.
+     *
+     * <p>
+     * 처음 호출할 때 {@value #STORAGE_PROPERTY} 속성에 따라 저장 엔진 디렉터리나 샤드 파일을 사용하는 DataManager를 만들고,
+     * 이후에는 같은 객체를 반환합니다. 학기를 마감하면 새 현재 학기에 대해 다시 호출해야 합니다.
+     * </p>
+     *
+     * @return 현재 학기의 DataManager
+     * @throws IOException 저장 엔진을 열지 못한 경우
+     */
+    public synchronized DataManager getActiveDataManager() throws IOException {
+        if (activeManager == null) {
+            if ("snapshot".equalsIgnoreCase(System.getProperty(STORAGE_PROPERTY, "lsm"))) {
+                activeManager = new DataManager(getActiveFile().toString());
+            } else {
+                activeManager = new DataManager(LsmStorageEngine.open(engineDirectory(active)),
+                        getActiveFile().toString());
+            }
+        }
+        return activeManager;
+    }
+
+    /**
+     * 마감된 학기 목록을 오래된 순서로 반환합니다.
+     *
+     * @return 마감된 학기 정보 목록
+     */
+    public synchronized List<Semester> getArchivedSemesters() {
+        return new ArrayList<>(archived);
+    }
+
+    /**
+     * 마감된 학기를 백그라운드에서 불러옵니다. 이미 불러왔거나 불러오는 중이면 같은 작업을 반환합니다.
+     *
+     * @param id 학기 ID
+     * @return 불러온 학기를 결과로 가지는 작업 (실패하면 {@link UncheckedIOException}으로 완료)
+     * @throws IllegalArgumentException 마감된 학기가 아닌 경우
+     */
+    public synchronized CompletableFuture<ArchivedSemester> openSemesterAsync(String id) {
+        if (find(id) == null) {
+            throw new IllegalArgumentException("마감된 학기가 아닙니다: " + id);
+        }
+        CompletableFuture<ArchivedSemester> future = open.get(id);
+        if (future == null) {
+            Path file = shardFile(id);
+            future = CompletableFuture.supplyAsync(() -> load(id, file), pool);
+            open.put(id, future);
+            CompletableFuture<ArchivedSemester> loading = future;
+            future.whenComplete((semester, error) -> {
+                if (error != null) {
+                    synchronized (this) {
+                        open.remove(id, loading);
+                    }
+                }
+            });
+        }
+        return future;
+    }
+
+    /**
+     * 마감된 학기를 불러옵니다.
+     *
+     * @param id 학기 ID
+     * @return 읽기 전용 학기 데이터
+     * @throws IOException 샤드 파일을 읽지 못한 경우
+     * @throws IllegalArgumentException 마감된 학기가 아닌 경우
+     */
+    public ArchivedSemester openSemester(String id) throws IOException {
+        return join(openSemesterAsync(id));
+    }
+
+    /**
+     * 여러 학기에 같은 질의를 병렬로 실행하고 결과를 합칩니다.
+     *
+     * <p>
+     * 마감된 학기들을 동시에 불러온 뒤, 학기마다 {@code builder}로 질의를 만들어 {@link QueryEngine#executeAll(List)}로
+     * 실행합니다. 결과 행은 마감된 학기를 지정한 순서로, 현재 학기를 마지막으로 이어지며,
+     * 정렬 기준이 있으면 전체가 다시 정렬됩니다.
+     * </p>
+     *
+     * @param ids 질의할 마감된 학기 ID 목록
+     * @param activeEngine 현재 학기의 질의 엔진, 현재 학기를 포함하지 않으려면 null
+     * @param builder 엔진을 받아 질의를 만드는 함수
+     * @return 합친 결과와 실행 계획
+     * @throws IOException 학기를 불러오지 못한 경우
+     */
+    public QueryResult query(List<String> ids, QueryEngine activeEngine, Function<QueryEngine, Query> builder)
+            throws IOException {
+        List<CompletableFuture<ArchivedSemester>> loading = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            loading.add(openSemesterAsync(id));
+        }
+        List<Query> queries = new ArrayList<>(ids.size() + 1);
+        for (CompletableFuture<ArchivedSemester> future : loading) {
+            queries.add(builder.apply(join(future).query()));
+        }
+        if (activeEngine != null) {
+            queries.add(builder.apply(activeEngine));
+        }
+        return QueryEngine.executeAll(queries);
+    }
+
+    /**
+     * 현재 학기를 마감하고 다음 학기를 현재 학기로 만듭니다.
+     *
+     * <p>
+     * 호출하기 전에 현재 학기의 데이터를 {@link #getActiveDataManager()}로 저장해 두어야 합니다.
+     * 저장 엔진을 사용하는 학기는 전달된 데이터를 샤드 파일로 보관한 뒤, 목록 파일을 기록하고 엔진 디렉터리를 지웁니다.
+     * 마감된 학기의 통계를 목록 파일에 기록하며, 새 현재 학기는 마감한 학기의 다음 학기와
+     * 오늘이 속한 학기 중 늦은 쪽입니다. 새 학기의 저장소는 다음 {@link #getActiveDataManager()} 호출에서 만들어집니다.
+     * </p>
+     *
+     * @param participants 마감할 학기의 참가자 목록
+     * @param matches 마감할 학기의 매칭 정보
+     * @param activities 마감할 학기의 활동 기록
+     * @param rollup 마감할 학기의 활동 집계 (null이면 보관하지 않음)
+     * @param sketches 마감할 학기의 활동 스케치 (null이면 보관하지 않음)
+     * @return 새 현재 학기 ID
+     * @throws IOException 샤드 파일이나 목록 파일을 기록하지 못한 경우 (현재 학기는 바뀌지 않음)
+     */
+    public synchronized String closeActiveSemester(ArrayList<?> participants, HashMap<?, ?> matches,
+                                                   ActivityLog activities, ActivityRollup rollup,
+                                                   ActivitySketches sketches) throws IOException {
+        if (activeManager != null && activeManager.getStorageEngine() != null) {
+            SnapshotFile.write(shardFile(active), activeManager.getCompressionLevel(), participants, matches,
+                    activities, rollup, sketches);
+        }
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (int row = 0; row < activities.size(); row++) {
+            long time = activities.getEpochMillis(row);
+            first = Math.min(first, time);
+            last = Math.max(last, time);
+        }
+        Semester closed = new Semester(active, participants.size(), matches.size(), activities.size(),
+                activities.size() == 0 ? 0 : first, activities.size() == 0 ? 0 : last, System.currentTimeMillis());
+
+        String previous = active;
+        String next = nextSemester(active);
+        String today = semesterOf(System.currentTimeMillis());
+        if (today.compareTo(next) > 0) {
+            next = today;
+        }
+        archived.add(closed);
+        active = next;
+        try {
+            writeCatalog();
+        } catch (IOException e) {
+            archived.remove(archived.size() - 1);
+            active = previous;
+            throw e;
+        }
+        closeActiveManager(previous);
+        return next;
+    }
+
+    /**
+     * 마감한 학기의 DataManager를 닫고 저장 엔진 디렉터리를 지웁니다. 데이터는 이미 샤드 파일에 보관되어 있습니다.
+     */
+    private void closeActiveManager(String id) {
+        DataManager manager = activeManager;
+        activeManager = null;
+        if (manager == null || manager.getStorageEngine() == null) {
+            return;
+        }
+        try {
+            manager.close();
+            try (Stream<Path> files = Files.walk(engineDirectory(id))) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("학기 " + id + "의 저장 엔진 디렉터리를 정리하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private ArchivedSemester load(String id, Path file) {
+        try {
+            Object[] data = DataManager.readSnapshot(file, pool, (index, section) -> { });
+            @SuppressWarnings("unchecked")
+            List<Participant> participants = (List<Participant>) data[0];
+            @SuppressWarnings("unchecked")
+            Map<String, Pair> matches = (Map<String, Pair>) data[1];
+            ActivityLog activities;
+            if (data[2] instanceof ActivityLog) {
+                activities = (ActivityLog) data[2];
+            } else {
+                @SuppressWarnings("unchecked")
+                Map<String, ArrayList<Activity>> legacy = (Map<String, ArrayList<Activity>>) data[2];
+                activities = ActivityLog.fromMap(legacy);
+            }
+            ActivityRollup rollup = (ActivityRollup) data[3];
+            if (rollup == null || !rollup.isConsistentWith(activities)) {
+                rollup = ActivityRollup.build(activities, matches);
+            }
+            ActivitySketches sketches = (ActivitySketches) data[4];
+            if (sketches == null || !sketches.isConsistentWith(activities)) {
+                sketches = ActivitySketches.build(activities, matches);
+            }
+            return new ArchivedSemester(id, participants, matches, activities, rollup, sketches);
+        } catch (IOException e) {
+            throw new UncheckedIOException("학기 " + id + "을(를) 불러오지 못했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private Semester find(String id) {
+        for (Semester semester : archived) {
+            if (semester.id.equals(id)) {
+                return semester;
+            }
+        }
+        return null;
+    }
+
+    private Path shardFile(String id) {
+        return directory.resolve(id + SHARD_SUFFIX);
+    }
+
+    private Path engineDirectory(String id) {
+        return directory.resolve(id + ENGINE_SUFFIX);
+    }
+
+    /**
+     * 목록 파일을 읽습니다.
+     *
+     * <pre>
+     * active=2026-2
+     * semesters=2025-2,2026-1
+     * semester.2026-1.participants=120
+     * semester.2026-1.matches=58
+     * semester.2026-1.activities=4210
+     * semester.2026-1.firstActivity=...   (epoch millis, 활동이 없으면 0)
+     * semester.2026-1.lastActivity=...
+     * semester.2026-1.closed=...
+     * </pre>
+     */
+    private void readCatalog(Path catalog) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(catalog)) {
+            properties.load(in);
+        }
+        active = checkId(properties.getProperty("active"));
+        String list = properties.getProperty("semesters", "").trim();
+        try {
+            for (String id : list.isEmpty() ? new String[0] : list.split(",")) {
+                id = checkId(id.trim());
+                String prefix = "semester." + id + ".";
+                archived.add(new Semester(id,
+                        Integer.parseInt(properties.getProperty(prefix + "participants", "0")),
+                        Integer.parseInt(properties.getProperty(prefix + "matches", "0")),
+                        Integer.parseInt(properties.getProperty(prefix + "activities", "0")),
+                        Long.parseLong(properties.getProperty(prefix + "firstActivity", "0")),
+                        Long.parseLong(properties.getProperty(prefix + "lastActivity", "0")),
+                        Long.parseLong(properties.getProperty(prefix + "closed", "0"))));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("학기 목록 파일의 숫자가 올바르지 않습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static String checkId(String id) throws IOException {
+        if (id == null || !SEMESTER_ID.matcher(id).matches()) {
+            throw new IOException("학기 목록 파일의 학기 ID가 올바르지 않습니다: " + id);
+        }
+        return id;
+    }
+
+    /**
+     * 목록 파일을 임시 파일에 기록한 뒤 교체하여, 기록 중에 중단되어도 이전 목록이 남도록 합니다.
+     */
+    private void writeCatalog() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("active", active);
+        StringJoiner ids = new StringJoiner(",");
+        for (Semester semester : archived) {
+            ids.add(semester.id);
+            String prefix = "semester." + semester.id + ".";
+            properties.setProperty(prefix + "participants", Integer.toString(semester.participantCount));
+            properties.setProperty(prefix + "matches", Integer.toString(semester.matchCount));
+            properties.setProperty(prefix + "activities", Integer.toString(semester.activityCount));
+            properties.setProperty(prefix + "firstActivity", Long.toString(semester.firstActivity));
+            properties.setProperty(prefix + "lastActivity", Long.toString(semester.lastActivity));
+            properties.setProperty(prefix + "closed", Long.toString(semester.closedAt));
+        }
+        properties.setProperty("semesters", ids.toString());
+
+        Path catalog = directory.resolve(CATALOG_FILE);
+        Path temp = directory.resolve(CATALOG_FILE + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "Global Bridge semester catalog");
+        }
+        try {
+            Files.move(temp, catalog, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, catalog, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 목록 파일에 기록된 마감된 학기 하나의 정보입니다.
+     */
+    public static final class Semester {
+        private final String id;
+        private final int participantCount;
+        private final int matchCount;
+        private final int activityCount;
+        private final long firstActivity;
+        private final long lastActivity;
+        private final long closedAt;
+
+        Semester(String id, int participantCount, int matchCount, int activityCount,
+                 long firstActivity, long lastActivity, long closedAt) {
+            this.id = id;
+            this.participantCount = participantCount;
+            this.matchCount = matchCount;
+            this.activityCount = activityCount;
+            this.firstActivity = firstActivity;
+            this.lastActivity = lastActivity;
+            this.closedAt = closedAt;
+        }
+
+        /** @return 학기 ID */
+        public String getId() { return id; }
+
+        /** @return 참가자 수 */
+        public int getParticipantCount() { return participantCount; }
+
+        /** @return 매칭 수 */
+        public int getMatchCount() { return matchCount; }
+
+        /** @return 활동 수 */
+        public int getActivityCount() { return activityCount; }
+
+        /** @return 가장 이른 활동 시각 (epoch millis), 활동이 없으면 0 */
+        public long getFirstActivity() { return firstActivity; }
+
+        /** @return 가장 늦은 활동 시각 (epoch millis), 활동이 없으면 0 */
+        public long getLastActivity() { return lastActivity; }
+
+        /** @return 마감 시각 (epoch millis) */
+        public long getClosedAt() { return closedAt; }
+
+        @Override
+        public String toString() {
+            return String.format("%s (참가자 %,d명, 매칭 %,d건, 활동 %,d건)", id, participantCount, matchCount,
+                    activityCount);
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.PageCache;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * @version 1.1
+ * @since 2026-10-18
+ *
+ * @version 1.2
+ * @since 2026-10-18
+ *
+ * @version 1.3
+ * @since 2026-10-18
+ *
+ * @version 1.4
+ * @since 2026-10-18
+ *
+ * 저장 파일을 독립적으로 읽을 수 있는 여러 섹션으로 나누어 기록하고, 섹션들을 병렬로 읽는 클래스입니다.
+ *
+ * <p>
+ * 참가자 목록과 매칭 정보는 {@value #OBJECT_SHARD_SIZE}개씩 나누어 각각 따로 직렬화하고,
+ * 활동 기록은 사전 등을 담은 색인 섹션과 {@link ActivityLog#SHARD_ROWS}행 단위의 샤드 섹션으로 기록합니다.
+ * 활동 집계({@link ActivityRollup})와 활동 스케치({@link ActivitySketches})가 있으면 각각 별도 섹션에 직렬화합니다.
+ * 각 섹션은 {@link ParallelDeflaterOutputStream}의 블록 압축 스트림이며, 파일 끝의 목차에 섹션의 위치가 기록됩니다.
+ * </p>
+ *
+ * <p>
+ * 형식:
+ * <pre>
+ * 매직 "GBS" 0x02
+ * 섹션 데이터...
+ * 목차: 섹션 수(int), 섹션마다 종류(int), 번호(int), 위치(long), 길이(long)
+ * 목차 위치(long)
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * 읽을 때는 목차를 읽은 뒤 섹션마다 fork-join 작업을 만들어 동시에 압축을 풀고 역직렬화합니다.
+ * 참가자 → 매칭 → 활동 기록 순서로 해당 섹션들이 모두 끝나는 대로 조립하여 리스너에 전달하므로,
+ * 화면은 이전처럼 참가자 목록부터 반영할 수 있습니다. 매칭 섹션은 참가자와 따로 직렬화되어
+ * 같은 참가자의 별도 사본을 가지므로, 조립할 때 멘토와 멘티를 같은 학번의 참가자 객체로 다시 연결합니다.
+ * 활동 샤드는 풀의 스레드 수보다 하나 많은 개수만 동시에 읽고, 끝나는 대로 번호 순서로 저장소에 붙이므로
+ * 메모리 제한 모드({@link PageCache})에서도 읽는 동안 샤드가 메모리에 쌓이지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 목차가 파일 끝에 있으므로 기록은 같은 디렉토리의 임시 파일({@code 저장파일.tmp})에 하고,
+ * 저장 장치에 기록한 뒤 원래 파일 이름으로 원자적으로 옮깁니다.
+ * 기록 중에 중단되어도 이전 저장 파일은 그대로 남습니다.
+ * </p>
+ */
+final class SnapshotFile {
+    /** 형식을 나타내는 매직 바이트 */
+    static final byte[] MAGIC = {'G', 'B', 'S', 2};
+
+    /** 참가자와 매칭 섹션 하나에 담는 객체 수 */
+    static final int OBJECT_SHARD_SIZE = 1 << 16;
+
+    private static final int PARTICIPANTS = 0;
+    private static final int MATCHES = 1;
+    private static final int ACTIVITY_INDEX = 2;
+    private static final int ACTIVITY_SHARD = 3;
+    private static final int ROLLUP = 4;
+    private static final int SKETCHES = 5;
+
+    /** 섹션 스트림의 내부 버퍼 크기 */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * 앞부분이 섹션 형식 저장 파일의 매직 바이트인지 확인합니다.
+     *
+     * @param head 파일의 앞부분
+     * @return 섹션 형식이면 true
+     */
+    static boolean isSectioned(byte[] head) {
+        return head.length >= MAGIC.length && Arrays.equals(head, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    /**
+     * 데이터를 섹션으로 나누어 기록합니다.
+     *
+     * @param file 저장 파일
+     * @param level 섹션 압축 수준 (0~9)
+     * @param participants 참가자 목록
+     * @param matches 매칭 정보
+     * @param activities 활동 기록
+     * @param rollup 활동 집계 (없으면 null)
+     * @param sketches 활동 스케치 (없으면 null)
+     * @throws IOException 기록 중 오류 발생 시
+     */
+    static void write(Path file, int level, List<?> participants, Map<?, ?> matches, ActivityLog activities,
+                      ActivityRollup rollup, ActivitySketches sketches) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // 채널을 닫지 않도록 감싼 스트림은 닫지 않고 비우기만 합니다.
+            CountingOutputStream out = new CountingOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), BUFFER_SIZE));
+            out.write(MAGIC);
+            List<long[]> directory = new ArrayList<>();
+
+            for (int from = 0, index = 0; from < participants.size(); from += OBJECT_SHARD_SIZE, index++) {
+                ArrayList<?> shard = new ArrayList<>(
+                        participants.subList(from, Math.min(participants.size(), from + OBJECT_SHARD_SIZE)));
+                directory.add(writeSection(out, level, PARTICIPANTS, index, section -> writeObject(section, shard)));
+            }
+
+            Iterator<? extends Map.Entry<?, ?>> entries = matches.entrySet().iterator();
+            for (int index = 0; entries.hasNext(); index++) {
+                HashMap<Object, Object> shard = new HashMap<>();
+                while (entries.hasNext() && shard.size() < OBJECT_SHARD_SIZE) {
+                    Map.Entry<?, ?> entry = entries.next();
+                    shard.put(entry.getKey(), entry.getValue());
+                }
+                directory.add(writeSection(out, level, MATCHES, index, section -> writeObject(section, shard)));
+            }
+
+            directory.add(writeSection(out, level, ACTIVITY_INDEX, 0,
+                    section -> activities.writeIndex(new DataOutputStream(section))));
+            for (int shard = 0; shard < activities.getShardCount(); shard++) {
+                int index = shard;
+                directory.add(writeSection(out, level, ACTIVITY_SHARD, index,
+                        section -> activities.writeShard(index, new DataOutputStream(section))));
+            }
+            if (rollup != null) {
+                directory.add(writeSection(out, level, ROLLUP, 0, section -> writeObject(section, rollup)));
+            }
+            if (sketches != null) {
+                directory.add(writeSection(out, level, SKETCHES, 0, section -> writeObject(section, sketches)));
+            }
+
+            long directoryOffset = out.count;
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(directory.size());
+            for (long[] section : directory) {
+                data.writeInt((int) section[0]);
+                data.writeInt((int) section[1]);
+                data.writeLong(section[2]);
+                data.writeLong(section[3]);
+            }
+            data.writeLong(directoryOffset);
+            data.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 섹션 내용을 기록하는 콜백입니다.
+     */
+    private interface SectionWriter {
+        void write(OutputStream section) throws IOException;
+    }
+
+    /**
+     * 섹션 하나를 블록 압축 스트림으로 기록합니다.
+     *
+     * @return [종류, 번호, 위치, 길이]
+     */
+    private static long[] writeSection(CountingOutputStream out, int level, int kind, int index,
+                                       SectionWriter writer) throws IOException {
+        long offset = out.count;
+        OutputStream section = new BufferedOutputStream(
+                new ParallelDeflaterOutputStream(new FilterOutputStream(out) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                }, level), BUFFER_SIZE);
+        writer.write(section);
+        section.close();
+        return new long[] {kind, index, offset, out.count - offset};
+    }
+
+    private static void writeObject(OutputStream section, Object value) throws IOException {
+        ObjectOutputStream oos = new ObjectOutputStream(section);
+        oos.writeObject(value);
+        oos.flush();
+    }
+
+    /**
+     * 섹션들을 병렬로 읽어 [참가자 목록, 매칭 정보, 활동 기록, 활동 집계, 활동 스케치]를 조립합니다.
+     *
+     * @param file 저장 파일
+     * @param pool 섹션을 읽을 fork-join 풀
+     * @param sectionListener (부분 번호, 조립된 객체)를 받는 리스너, 호출한 스레드에서 부분 순서대로 호출됨
+     * @return Object 배열 [참가자 목록, 매칭 정보, 활동 기록, 활동 집계, 활동 스케치] (저장되지 않은 집계와 스케치는 null)
+     * @throws IOException 읽기 중 오류가 발생했거나 형식이 올바르지 않은 경우
+     */
+    @SuppressWarnings("unchecked")
+    static Object[] read(Path file, ForkJoinPool pool, BiConsumer<Integer, Object> sectionListener)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> directory = readDirectory(channel);
+
+            // 활동 색인을 먼저 읽어야 샤드를 읽을 수 있으므로, 색인 작업이 끝나면 샤드 작업을 시작합니다.
+            List<ForkJoinTask<Object>> participantTasks = new ArrayList<>();
+            List<ForkJoinTask<Object>> matchTasks = new ArrayList<>();
+            List<long[]> shardSections = new ArrayList<>();
+            ForkJoinTask<ActivityLog.ShardReader> indexTask = null;
+            ForkJoinTask<Object> rollupTask = null;
+            ForkJoinTask<Object> sketchTask = null;
+            for (long[] section : directory) {
+                switch ((int) section[0]) {
+                    case PARTICIPANTS:
+                        participantTasks.add(pool.submit(() -> readObject(channel, section, pool)));
+                        break;
+                    case MATCHES:
+                        matchTasks.add(pool.submit(() -> readObject(channel, section, pool)));
+                        break;
+                    case ACTIVITY_INDEX:
+                        indexTask = pool.submit(() -> new ActivityLog.ShardReader(
+                                new DataInputStream(open(channel, section, pool)), PageCache.getDefault()));
+                        break;
+                    case ACTIVITY_SHARD:
+                        shardSections.add(section);
+                        break;
+                    case ROLLUP:
+                        rollupTask = pool.submit(() -> readObject(channel, section, pool));
+                        break;
+                    case SKETCHES:
+                        sketchTask = pool.submit(() -> readObject(channel, section, pool));
+                        break;
+                    default:
+                        throw new IOException("알 수 없는 섹션 종류입니다: " + section[0]);
+                }
+            }
+            if (indexTask == null) {
+                throw new IOException("활동 색인 섹션이 없습니다.");
+            }
+            ActivityLog.ShardReader reader = join(indexTask);
+            shardSections.sort(Comparator.comparingLong(section -> section[1]));
+            Iterator<long[]> pendingShards = shardSections.iterator();
+            ArrayDeque<ForkJoinTask<ActivityLog.Shard>> shardTasks = new ArrayDeque<>();
+            int shardWindow = pool.getParallelism() + 1;
+            while (shardTasks.size() < shardWindow && pendingShards.hasNext()) {
+                shardTasks.add(submitShard(reader, channel, pendingShards.next(), pool));
+            }
+
+            ArrayList<Participant> participants = new ArrayList<>();
+            for (ForkJoinTask<Object> task : participantTasks) {
+                participants.addAll((List<Participant>) join(task));
+            }
+            sectionListener.accept(0, participants);
+
+            HashMap<String, Pair> matches = new HashMap<>();
+            for (ForkJoinTask<Object> task : matchTasks) {
+                matches.putAll((Map<String, Pair>) join(task));
+            }
+            relink(matches, participants);
+            sectionListener.accept(1, matches);
+
+            ActivityLog activities;
+            try {
+                while (!shardTasks.isEmpty()) {
+                    reader.append(join(shardTasks.poll()));
+                    if (pendingShards.hasNext()) {
+                        shardTasks.add(submitShard(reader, channel, pendingShards.next(), pool));
+                    }
+                }
+                activities = reader.finish();
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            sectionListener.accept(2, activities);
+
+            ActivityRollup rollup = null;
+            if (rollupTask != null) {
+                try {
+                    rollup = (ActivityRollup) join(rollupTask);
+                } catch (ClassCastException e) {
+                    throw new IOException("활동 집계 섹션이 올바르지 않습니다.", e);
+                }
+                sectionListener.accept(3, rollup);
+            }
+
+            ActivitySketches sketches = null;
+            if (sketchTask != null) {
+                try {
+                    sketches = (ActivitySketches) join(sketchTask);
+                } catch (ClassCastException e) {
+                    throw new IOException("활동 스케치 섹션이 올바르지 않습니다.", e);
+                }
+                sectionListener.accept(4, sketches);
+            }
+            return new Object[] {participants, matches, activities, rollup, sketches};
+        }
+    }
+
+    private static ForkJoinTask<ActivityLog.Shard> submitShard(ActivityLog.ShardReader reader,
+                                                               FileChannel channel, long[] section,
+                                                               ForkJoinPool pool) {
+        return pool.submit(() -> reader.readShard((int) section[1],
+                new DataInputStream(open(channel, section, pool))));
+    }
+
+    private static List<long[]> readDirectory(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < MAGIC.length + Integer.BYTES + Long.BYTES) {
+            throw new IOException("저장 파일이 잘렸습니다.");
+        }
+        long directoryOffset = readBuffer(channel, size - Long.BYTES, Long.BYTES).getLong();
+        if (directoryOffset < MAGIC.length || directoryOffset > size - Long.BYTES - Integer.BYTES) {
+            throw new IOException("저장 파일의 목차 위치가 올바르지 않습니다.");
+        }
+        ByteBuffer buffer = readBuffer(channel, directoryOffset, (int) (size - Long.BYTES - directoryOffset));
+        int count = buffer.getInt();
+        if (count < 0 || buffer.remaining() != count * 24L) {
+            throw new IOException("저장 파일의 목차가 올바르지 않습니다.");
+        }
+        List<long[]> directory = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long[] section = {buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong()};
+            if (section[2] < MAGIC.length || section[3] < 0 || section[2] + section[3] > directoryOffset
+                    || section[3] > Integer.MAX_VALUE) {
+                throw new IOException("섹션 위치가 올바르지 않습니다.");
+            }
+            directory.add(section);
+        }
+        return directory;
+    }
+
+    private static ByteBuffer readBuffer(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("저장 파일이 잘렸습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 섹션의 압축을 푸는 스트림을 엽니다. FileChannel의 위치 지정 읽기는 여러 스레드에서 동시에 사용할 수 있습니다.
+     */
+    private static InputStream open(FileChannel channel, long[] section, ForkJoinPool pool) throws IOException {
+        ByteBuffer bytes = readBuffer(channel, section[2], (int) section[3]);
+        InputStream in = new ByteArrayInputStream(bytes.array(), 0, bytes.limit());
+        byte[] magic = ParallelDeflaterOutputStream.MAGIC;
+        if (!Arrays.equals(in.readNBytes(magic.length), magic)) {
+            throw new IOException("섹션 형식이 올바르지 않습니다.");
+        }
+        return new BufferedInputStream(new ParallelInflaterInputStream(in, pool), BUFFER_SIZE);
+    }
+
+    private static Object readObject(FileChannel channel, long[] section, ForkJoinPool pool) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(open(channel, section, pool))) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 작업 결과를 기다리며, 작업에서 발생한 입출력 오류를 그대로 다시 던집니다.
+     */
+    private static <T> T join(ForkJoinTask<T> task) throws IOException {
+        try {
+            return task.join();
+        } catch (RuntimeException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 매칭의 멘토와 멘티를 같은 학번의 참가자 객체로 다시 연결합니다. 등록되지 않은 학번이면 그대로 둡니다.
+     */
+    private static void relink(HashMap<String, Pair> matches, List<Participant> participants) {
+        HashMap<String, Participant> byStudentId = new HashMap<>(participants.size() * 2);
+        for (Participant participant : participants) {
+            byStudentId.putIfAbsent(participant.getStudentId(), participant);
+        }
+        for (Map.Entry<String, Pair> entry : matches.entrySet()) {
+            Pair pair = entry.getValue();
+            Participant mentor = byStudentId.getOrDefault(pair.getMentor().getStudentId(), pair.getMentor());
+            Participant mentee = byStudentId.getOrDefault(pair.getMentee().getStudentId(), pair.getMentee());
+            if (mentor != pair.getMentor() || mentee != pair.getMentee()) {
+                entry.setValue(new Pair(mentor, mentee));
+            }
+        }
+    }
+
+    /**
+     * 기록한 바이트 수를 세는 스트림입니다.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
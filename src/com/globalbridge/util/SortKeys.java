@@ -0,0 +1,88 @@
+package com.globalbridge.util;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 한국어/영어 이름을 바이트 비교만으로 정렬할 수 있는 정렬 키를 만드는 클래스입니다.
+ *
+ * <p>
+ * 한국어 로캘의 {@link Collator}로 만든 {@link java.text.CollationKey}의 바이트 배열을 정렬 키로 사용합니다.
+ * 두 키를 {@link #compare}로 부호 없는 바이트 순서로 비교한 결과는 {@link Collator#compare}와 같으므로,
+ * 키를 한 번 만들어 두면 정렬과 이진 탐색에서 문자열을 다시 분석하지 않고 memcmp 속도로 비교할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 여러 키를 차례로 비교해야 하는 경우(멘토 이름 다음 멘티 이름 등)에는 {@link #composite}로
+ * 하나의 키로 합칩니다. {@link Collator}는 스레드 안전하지 않으므로 스레드마다 따로 둡니다.
+ * </p>
+ */
+public final class SortKeys {
+    /** 스레드별 한국어 Collator (기본 강도: 대소문자까지 구분) */
+    private static final ThreadLocal<Collator> COLLATOR =
+            ThreadLocal.withInitial(() -> Collator.getInstance(Locale.KOREAN));
+
+    private SortKeys() {
+    }
+
+    /**
+     * 문자열의 정렬 키를 만듭니다.
+     *
+     * @param text 문자열 (null이면 빈 문자열로 취급)
+     * @return 바이트 비교용 정렬 키
+     */
+    public static byte[] of(String text) {
+        return COLLATOR.get().getCollationKey(text == null ? "" : text).toByteArray();
+    }
+
+    /**
+     * 여러 정렬 키를 앞의 키부터 차례로 비교하는 하나의 키로 합칩니다.
+     *
+     * <p>
+     * 각 키의 0 바이트는 0x00 0xFF로 바꾸고 키마다 0x00 0x00을 붙이므로,
+     * 한 키가 다른 키의 접두어이더라도 합친 키의 바이트 순서가 키 목록의 사전순과 같습니다.
+     * </p>
+     *
+     * @param keys 합칠 정렬 키들
+     * @return 합친 정렬 키
+     */
+    public static byte[] composite(byte[]... keys) {
+        int length = 0;
+        for (byte[] key : keys) {
+            length += key.length + 2;
+            for (byte b : key) {
+                if (b == 0) {
+                    length++;
+                }
+            }
+        }
+        byte[] result = new byte[length];
+        int position = 0;
+        for (byte[] key : keys) {
+            for (byte b : key) {
+                result[position++] = b;
+                if (b == 0) {
+                    result[position++] = (byte) 0xFF;
+                }
+            }
+            position += 2;
+        }
+        return result;
+    }
+
+    /**
+     * 두 정렬 키를 부호 없는 바이트 순서로 비교합니다.
+     *
+     * @param a 첫 번째 키
+     * @param b 두 번째 키
+     * @return a가 앞이면 음수, 같으면 0, 뒤이면 양수
+     */
+    public static int compare(byte[] a, byte[] b) {
+        return Arrays.compareUnsigned(a, b);
+    }
+}
@@ -0,0 +1,107 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Participant;
+
+import java.util.HashMap;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 학번으로 등록된 참가자를 찾는 중복 검사용 색인 클래스입니다.
+ *
+ * <p>
+ * 정확한 학번 → 참가자 해시 색인 앞에 {@link BloomFilter}를 두어,
+ * 처음 보는 학번은 해시 테이블을 조회하지 않고 바로 걸러냅니다.
+ * 블룸 필터는 등록 수가 예상 크기를 넘으면 두 배 크기로 다시 만들어집니다.
+ * 단건 등록과 파일 일괄 등록, 저장 데이터 불러오기가 같은 색인을 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 동기화되어 있지 않으므로 이벤트 디스패치 스레드에서만 사용해야 합니다.
+ * </p>
+ */
+public class StudentIdIndex {
+    /** 블룸 필터의 목표 오탐률 */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    /** 블룸 필터의 최소 예상 원소 수 */
+    private static final int MIN_CAPACITY = 1 << 10;
+
+    private final HashMap<String, Participant> byStudentId = new HashMap<>();
+    private BloomFilter filter = new BloomFilter(MIN_CAPACITY, FALSE_POSITIVE_RATE);
+    private int filterCapacity = MIN_CAPACITY;
+
+    /**
+     * 학번이 이미 등록되어 있는지 확인합니다.
+     *
+     * @param studentId 학번
+     * @return 등록되어 있으면 true
+     */
+    public boolean contains(String studentId) {
+        return filter.mightContain(studentId) && byStudentId.containsKey(studentId);
+    }
+
+    /**
+     * 학번으로 등록된 참가자를 반환합니다.
+     *
+     * @param studentId 학번
+     * @return 등록된 참가자, 없으면 null
+     */
+    public Participant get(String studentId) {
+        return filter.mightContain(studentId) ? byStudentId.get(studentId) : null;
+    }
+
+    /**
+     * 참가자를 색인에 추가합니다.
+     *
+     * @param participant 추가할 참가자
+     * @return 새로 추가되었으면 true, 같은 학번이 이미 있으면 false
+     */
+    public boolean add(Participant participant) {
+        String studentId = participant.getStudentId();
+        if (contains(studentId)) {
+            return false;
+        }
+        byStudentId.put(studentId, participant);
+        if (byStudentId.size() > filterCapacity) {
+            rebuildFilter(filterCapacity * 2);
+        } else {
+            filter.put(studentId);
+        }
+        return true;
+    }
+
+    /**
+     * 색인을 비우고 주어진 참가자들로 다시 구성합니다.
+     *
+     * @param participants 등록 순서의 참가자 목록
+     * @return 같은 학번이 앞에 있어 색인에 추가되지 않은 참가자 수
+     */
+    public int reset(Iterable<Participant> participants) {
+        byStudentId.clear();
+        int duplicates = 0;
+        for (Participant participant : participants) {
+            if (byStudentId.putIfAbsent(participant.getStudentId(), participant) != null) {
+                duplicates++;
+            }
+        }
+        rebuildFilter(Math.max(MIN_CAPACITY, byStudentId.size() * 2));
+        return duplicates;
+    }
+
+    /**
+     * 색인된 참가자 수를 반환합니다.
+     * @return 참가자 수
+     */
+    public int size() { return byStudentId.size(); }
+
+    private void rebuildFilter(int capacity) {
+        filterCapacity = capacity;
+        filter = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        for (String studentId : byStudentId.keySet()) {
+            filter.put(studentId);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.globalbridge;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * 테스트에서 공통으로 쓰는 확인 메서드와 임시 디렉터리 도우미입니다.
+ *
+ * <p>
+ * 테스트는 {@code scripts/run-tests.sh}가 main 메서드로 실행하며, 확인에 실패하면 {@link AssertionError}를 던집니다.
+ * </p>
+ */
+public final class Assertions {
+    private Assertions() {
+    }
+
+    /**
+     * 조건이 참인지 확인합니다.
+     *
+     * @param condition 조건
+     * @param message 실패했을 때의 메시지
+     */
+    public static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    /**
+     * 두 값이 같은지 확인합니다.
+     *
+     * @param expected 기대한 값
+     * @param actual 실제 값
+     * @param message 실패했을 때의 메시지
+     */
+    public static void equal(long expected, long actual, String message) {
+        if (expected != actual) {
+            throw new AssertionError(message + ": 기대 " + expected + ", 실제 " + actual);
+        }
+    }
+
+    /**
+     * 두 객체가 같은지 {@link Object#equals(Object)}로 확인합니다.
+     *
+     * @param expected 기대한 값
+     * @param actual 실제 값
+     * @param message 실패했을 때의 메시지
+     */
+    public static void equal(Object expected, Object actual, String message) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError(message + ": 기대 " + expected + ", 실제 " + actual);
+        }
+    }
+
+    /**
+     * 새 임시 디렉터리를 만듭니다.
+     *
+     * @param prefix 디렉터리 이름 앞부분
+     * @return 임시 디렉터리
+     * @throws IOException 만들지 못한 경우
+     */
+    public static Path temporaryDirectory(String prefix) throws IOException {
+        return Files.createTempDirectory(prefix);
+    }
+
+    /**
+     * 디렉터리와 그 안의 모든 파일을 지웁니다. 없으면 아무것도 하지 않습니다.
+     *
+     * @param directory 지울 디렉터리
+     * @throws IOException 지우지 못한 경우
+     */
+    public static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.globalbridge;
+
+import com.globalbridge.model.Activity;
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.globalbridge.Assertions.equal;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * 저장과 불러오기 테스트에서 공통으로 쓰는 참가자, 매칭, 활동 기록 데이터와 비교 메서드입니다.
+ *
+ * <p>
+ * 만든 데이터는 번호만으로 정해지므로 같은 번호로 다시 만들면 같은 내용이 됩니다.
+ * 비교 메서드는 불러온 부분을 Object로 받아, 저장 형식마다 다른 부분 배열을 그대로 넘길 수 있습니다.
+ * </p>
+ */
+public final class TestData {
+    private TestData() {
+    }
+
+    /**
+     * 번호로 정해지는 참가자를 만듭니다. 짝수 번호는 Korean, 홀수 번호는 English 사용자입니다.
+     *
+     * @param i 번호
+     * @return 참가자
+     */
+    public static Participant participant(int i) {
+        return new Participant("이름" + i, "2026" + i, "전공" + (i % 13), i % 2 == 0 ? "Korean" : "English", 1 + i % 4);
+    }
+
+    /**
+     * 0번부터 차례로 참가자를 만듭니다.
+     *
+     * @param count 참가자 수
+     * @return 참가자 목록
+     */
+    public static ArrayList<Participant> participants(int count) {
+        ArrayList<Participant> participants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            participants.add(participant(i));
+        }
+        return participants;
+    }
+
+    /**
+     * 앞에서부터 count명의 참가자를 두 명씩 묶어(짝수 번호가 멘토) 매칭을 만듭니다.
+     *
+     * @param participants 참가자 목록
+     * @param count 매칭에 쓸 참가자 수
+     * @return 매칭 ID → 매칭
+     */
+    public static HashMap<String, Pair> matches(List<Participant> participants, int count) {
+        HashMap<String, Pair> matches = new HashMap<>();
+        for (int i = 0; i + 1 < count; i += 2) {
+            putMatch(matches, participants.get(i), participants.get(i + 1));
+        }
+        return matches;
+    }
+
+    /**
+     * 매칭 ID(멘토학번-멘티학번)를 반환합니다.
+     */
+    public static String matchId(Participant mentor, Participant mentee) {
+        return mentor.getStudentId() + "-" + mentee.getStudentId();
+    }
+
+    /**
+     * 매칭을 만들어 매칭 ID로 넣습니다.
+     */
+    public static void putMatch(Map<String, Pair> matches, Participant mentor, Participant mentee) {
+        matches.put(matchId(mentor, mentee), new Pair(mentor, mentee));
+    }
+
+    /**
+     * 행 번호로 정해지는 활동을 매칭마다 돌아가며 추가합니다.
+     *
+     * @param activities 활동 기록
+     * @param matches 활동을 나눌 매칭
+     * @param first 첫 행 번호 (시각과 내용을 정하는 데 씀)
+     * @param count 추가할 행 수
+     */
+    public static void addActivities(ActivityLog activities, Map<String, Pair> matches, int first, int count) {
+        List<String> pairIds = new ArrayList<>(matches.keySet());
+        for (int row = first; row < first + count; row++) {
+            activities.add(pairIds.get(row % pairIds.size()), new Activity(1_790_000_000_000L + row * 60_000L,
+                    "활동 내용 " + (row % 97), "장소" + (row % 7)));
+        }
+    }
+
+    /**
+     * 불러온 참가자 목록이 순서와 내용까지 같은지 확인합니다.
+     */
+    public static void assertParticipants(List<Participant> expected, Object section) {
+        List<?> actual = (List<?>) section;
+        equal(expected.size(), actual.size(), "참가자 수");
+        for (int i = 0; i < expected.size(); i++) {
+            Participant e = expected.get(i);
+            Participant a = (Participant) actual.get(i);
+            if (!e.getStudentId().equals(a.getStudentId()) || !e.getName().equals(a.getName())
+                    || !e.getMajor().equals(a.getMajor()) || !e.getLanguage().equals(a.getLanguage())
+                    || e.getGrade() != a.getGrade()) {
+                throw new AssertionError("참가자 " + i + ": 기대 " + e + ", 실제 " + a);
+            }
+        }
+    }
+
+    /**
+     * 불러온 매칭의 ID가 같고, 멘토와 멘티가 불러온 참가자 목록의 객체로 다시 연결되었는지 확인합니다.
+     */
+    public static void assertMatches(Map<String, Pair> expected, Object section, Object participants) {
+        Map<?, ?> actual = (Map<?, ?>) section;
+        equal(expected.keySet(), actual.keySet(), "매칭 ID");
+        HashMap<String, Participant> byStudentId = new HashMap<>();
+        for (Object participant : (List<?>) participants) {
+            byStudentId.put(((Participant) participant).getStudentId(), (Participant) participant);
+        }
+        for (Map.Entry<String, Pair> entry : expected.entrySet()) {
+            Pair pair = (Pair) actual.get(entry.getKey());
+            String mentorId = entry.getValue().getMentor().getStudentId();
+            String menteeId = entry.getValue().getMentee().getStudentId();
+            if (pair.getMentor() != byStudentId.get(mentorId) || pair.getMentee() != byStudentId.get(menteeId)) {
+                throw new AssertionError("매칭 " + entry.getKey() + "가 참가자 객체로 연결되지 않음");
+            }
+        }
+    }
+
+    /**
+     * 불러온 활동 기록이 행마다 같고 완료 행과 기한 지남 행도 같은지 확인합니다.
+     */
+    public static void assertActivities(ActivityLog expected, ActivityLog actual) {
+        equal(expected.size(), actual.size(), "활동 수");
+        for (int row = 0; row < expected.size(); row++) {
+            if (!expected.getPairId(row).equals(actual.getPairId(row))
+                    || expected.getEpochMillis(row) != actual.getEpochMillis(row)
+                    || !expected.getContent(row).equals(actual.getContent(row))
+                    || !expected.getLocation(row).equals(actual.getLocation(row))
+                    || expected.isCompleted(row) != actual.isCompleted(row)
+                    || expected.isOverdue(row) != actual.isOverdue(row)) {
+                throw new AssertionError("활동 " + row + "행이 다름");
+            }
+        }
+        equal(expected.getCompletedRows(), actual.getCompletedRows(), "완료 행");
+        equal(expected.getOverdueRows(), actual.getOverdueRows(), "기한 지남 행");
+    }
+}
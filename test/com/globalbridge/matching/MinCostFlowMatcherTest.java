@@ -0,0 +1,126 @@
+package com.globalbridge.matching;
+
+import com.globalbridge.model.Participant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.equal;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link MinCostFlowMatcher}의 배정이 가능한 모든 배정을 따져 본 최적해와 같은지 확인하는 테스트입니다.
+ *
+ * <p>
+ * 멘토 3명, 멘티 6명 이하의 무작위 입력마다 모든 배정을 나열하여 배정 수가 가장 많고 그중 적합도 합이
+ * 가장 큰 값을 구하고, 매칭 결과가 정원을 지키며 같은 배정 수와 적합도 합을 내는지 비교합니다.
+ * </p>
+ */
+public final class MinCostFlowMatcherTest {
+    private static final String[] MAJORS = {"컴퓨터공학", "경영학", "국어국문학"};
+
+    private MinCostFlowMatcherTest() {
+    }
+
+    public static void main(String[] args) {
+        matchesBruteForceOnSmallInputs();
+        respectsZeroCapacity();
+        rejectsMismatchedCapacities();
+        System.out.println("MinCostFlowMatcherTest 통과");
+    }
+
+    private static void matchesBruteForceOnSmallInputs() {
+        Random random = new Random(20261018L);
+        MinCostFlowMatcher matcher = new MinCostFlowMatcher();
+        for (int trial = 0; trial < 500; trial++) {
+            List<Participant> mentors = participants(random, "m", 1 + random.nextInt(3));
+            List<Participant> mentees = participants(random, "e", 1 + random.nextInt(6));
+            int[] capacities = new int[mentors.size()];
+            for (int m = 0; m < capacities.length; m++) {
+                capacities[m] = random.nextInt(3);
+            }
+
+            int[] assignment = matcher.match(mentors, capacities.clone(), mentees);
+            equal(mentees.size(), assignment.length, "배정 배열 길이 (시도 " + trial + ")");
+            int[] load = new int[mentors.size()];
+            int count = 0;
+            int score = 0;
+            for (int e = 0; e < assignment.length; e++) {
+                if (assignment[e] < 0) {
+                    continue;
+                }
+                load[assignment[e]]++;
+                count++;
+                score += CompatibilityScorer.score(mentors.get(assignment[e]), mentees.get(e));
+            }
+            for (int m = 0; m < load.length; m++) {
+                check(load[m] <= capacities[m], "정원 초과 (시도 " + trial + ", 멘토 " + m + ")");
+            }
+
+            int[] best = {-1, -1};
+            bruteForce(mentors, mentees, capacities.clone(), 0, 0, 0, best);
+            equal(best[0], count, "배정 수 (시도 " + trial + ")");
+            equal(best[1], score, "적합도 합 (시도 " + trial + ")");
+        }
+    }
+
+    private static void respectsZeroCapacity() {
+        Random random = new Random(7);
+        List<Participant> mentors = participants(random, "m", 2);
+        List<Participant> mentees = participants(random, "e", 4);
+        int[] assignment = new MinCostFlowMatcher().match(mentors, new int[] {0, 0}, mentees);
+        int[] unassigned = new int[mentees.size()];
+        Arrays.fill(unassigned, -1);
+        check(Arrays.equals(unassigned, assignment), "정원이 없으면 아무도 배정하지 않아야 함");
+    }
+
+    private static void rejectsMismatchedCapacities() {
+        Random random = new Random(11);
+        try {
+            new MinCostFlowMatcher().match(participants(random, "m", 2), new int[] {1}, participants(random, "e", 1));
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("정원 배열 길이가 다르면 IllegalArgumentException이어야 함");
+    }
+
+    /**
+     * 멘티를 차례로 배정하지 않거나 남은 정원이 있는 멘토에게 배정하는 모든 경우를 따져
+     * (배정 수, 적합도 합)이 가장 큰 값을 best에 남깁니다.
+     */
+    private static void bruteForce(List<Participant> mentors, List<Participant> mentees, int[] capacities,
+                                   int mentee, int count, int score, int[] best) {
+        if (mentee == mentees.size()) {
+            if (count > best[0] || (count == best[0] && score > best[1])) {
+                best[0] = count;
+                best[1] = score;
+            }
+            return;
+        }
+        bruteForce(mentors, mentees, capacities, mentee + 1, count, score, best);
+        for (int m = 0; m < mentors.size(); m++) {
+            if (capacities[m] == 0) {
+                continue;
+            }
+            capacities[m]--;
+            bruteForce(mentors, mentees, capacities, mentee + 1, count + 1,
+                    score + CompatibilityScorer.score(mentors.get(m), mentees.get(mentee)), best);
+            capacities[m]++;
+        }
+    }
+
+    private static List<Participant> participants(Random random, String prefix, int count) {
+        List<Participant> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(new Participant(prefix + i, prefix + i, MAJORS[random.nextInt(MAJORS.length)],
+                    prefix.equals("m") ? "Korean" : "English", 1 + random.nextInt(4)));
+        }
+        return list;
+    }
+}
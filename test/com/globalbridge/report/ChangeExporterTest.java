@@ -0,0 +1,116 @@
+package com.globalbridge.report;
+
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.util.ChangeFeed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.deleteRecursively;
+import static com.globalbridge.Assertions.equal;
+import static com.globalbridge.Assertions.temporaryDirectory;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link ChangeExporter}가 체크포인트 이후의 변경만 출력 파일 끝에 덧붙이는지 확인하는 테스트입니다.
+ *
+ * <p>
+ * 내보낼 때마다 체크포인트의 순번과 바이트 수가 출력 파일과 맞는지, 새 변경이 없으면 아무것도 쓰지 않는지,
+ * 체크포인트를 옮기기 전에 중단되어 파일 끝에 남은 내용은 다음 내보내기에서 잘라 내는지 확인합니다.
+ * </p>
+ */
+public final class ChangeExporterTest {
+    private ChangeExporterTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = temporaryDirectory("change-export-test");
+        try (ChangeFeed feed = ChangeFeed.open(directory.resolve(ChangeFeed.DIRECTORY_NAME))) {
+            Path output = directory.resolve(ChangeExporter.DEFAULT_FILE);
+
+            ChangeExporter.Result result = ChangeExporter.export(feed, output);
+            assertResult(0, 0, 0, result, "빈 기록");
+            equal(0L, Files.size(output), "빈 출력 파일");
+            assertCheckpoint(output, 0);
+
+            Participant kim = new Participant("김 \"민수\"", "20260001", "컴퓨터공학", "Korean", 2);
+            Participant john = new Participant("John\\Doe", "20260002", "경영학", "English", 1);
+            feed.recordParticipant(kim);
+            feed.recordParticipant(john);
+            feed.recordMatch("20260001-20260002", new Pair(kim, john));
+            feed.flush();
+            result = ChangeExporter.export(feed, output);
+            assertResult(3, 1, 3, result, "첫 내보내기");
+            List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+            equal(List.of(
+                    "{\"seq\":1,\"op\":\"upsert\",\"type\":\"participant\",\"id\":\"20260001\",\"name\":\"김 \\\"민수\\\"\","
+                            + "\"major\":\"컴퓨터공학\",\"language\":\"Korean\",\"grade\":2}",
+                    "{\"seq\":2,\"op\":\"upsert\",\"type\":\"participant\",\"id\":\"20260002\",\"name\":\"John\\\\Doe\","
+                            + "\"major\":\"경영학\",\"language\":\"English\",\"grade\":1}",
+                    "{\"seq\":3,\"op\":\"upsert\",\"type\":\"match\",\"id\":\"20260001-20260002\","
+                            + "\"mentorId\":\"20260001\",\"mentorName\":\"김 \\\"민수\\\"\","
+                            + "\"menteeId\":\"20260002\",\"menteeName\":\"John\\\\Doe\"}"), lines, "내보낸 줄");
+            assertCheckpoint(output, 3);
+
+            // 새 변경이 없으면 출력 파일과 체크포인트가 그대로입니다.
+            byte[] before = Files.readAllBytes(output);
+            assertResult(0, 0, 3, ChangeExporter.export(feed, output), "변경 없음");
+            check(Arrays.equals(before, Files.readAllBytes(output)), "변경 없는 내보내기가 출력 파일을 바꿈");
+            assertCheckpoint(output, 3);
+
+            // 체크포인트를 옮기기 전에 중단되어 남은 내용은 잘라 내고 새 변경만 덧붙입니다.
+            Files.write(output, "{\"seq\":4,\"op\":\"del".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            feed.recordMatchRemoved("20260001-20260002");
+            feed.flush();
+            result = ChangeExporter.export(feed, output);
+            assertResult(1, 4, 4, result, "두 번째 내보내기");
+            lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+            equal(4, lines.size(), "덧붙인 뒤의 줄 수");
+            equal("{\"seq\":4,\"op\":\"delete\",\"type\":\"match\",\"id\":\"20260001-20260002\"}", lines.get(3),
+                    "삭제 줄");
+            assertCheckpoint(output, 4);
+
+            // 출력 파일을 지우면 체크포인트 이후의 변경부터 새 파일에 씁니다.
+            Files.delete(output);
+            feed.recordParticipant(new Participant("Park", "20260003", "경영학", "English", 3));
+            feed.flush();
+            assertResult(1, 5, 5, ChangeExporter.export(feed, output), "지운 뒤 내보내기");
+            lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+            equal(1, lines.size(), "새 출력 파일의 줄 수");
+            check(lines.get(0).startsWith("{\"seq\":5,"), "새 출력 파일의 첫 줄");
+            assertCheckpoint(output, 5);
+        } finally {
+            deleteRecursively(directory);
+        }
+        System.out.println("ChangeExporterTest 통과");
+    }
+
+    private static void assertResult(int count, long first, long last, ChangeExporter.Result result, String label) {
+        equal(count, result.getCount(), label + " 변경 수");
+        equal(first, result.getFirstSequence(), label + " 첫 순번");
+        equal(last, result.getLastSequence(), label + " 마지막 순번");
+    }
+
+    private static void assertCheckpoint(Path output, long sequence) throws IOException {
+        Path checkpoint = ChangeExporter.checkpointFile(output);
+        check(!Files.exists(checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp")), "체크포인트 임시 파일이 남음");
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(checkpoint)) {
+            properties.load(in);
+        }
+        equal(Long.toString(sequence), properties.getProperty("sequence"), "체크포인트 순번");
+        equal(Long.toString(Files.size(output)), properties.getProperty("bytes"), "체크포인트 바이트 수");
+    }
+}
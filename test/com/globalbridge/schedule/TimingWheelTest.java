@@ -0,0 +1,131 @@
+package com.globalbridge.schedule;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.equal;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link TimingWheel}을 ID별 만료 틱을 담은 맵과 무작위로 비교하는 테스트입니다.
+ *
+ * <p>
+ * 예약, 취소, 시간 진행을 섞어 실행하면서 만료된 ID의 집합과 순서, 예약 수, 만료 시각이 맵과 같은지 확인합니다.
+ * 만료 시각은 몇 초 뒤부터 휠이 다룰 수 있는 범위를 넘는 먼 미래와 이미 지난 시각까지 고르고,
+ * 시간은 틱 몇 개부터 상위 단계 여러 칸을 한 번에 건너뛰도록 진행합니다.
+ * 콜백 안에서 방금 만료된 ID를 다시 예약하거나 아직 만료되지 않은 다른 ID를 취소하는 경우도 포함합니다.
+ * </p>
+ */
+public final class TimingWheelTest {
+    private static final long TICK = 1000;
+    private static final int IDS = 200;
+
+    private TimingWheelTest() {
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(20261018L);
+        for (int trial = 0; trial < 300; trial++) {
+            randomOperations(random, trial);
+        }
+        clearKeepsCurrentTick();
+        System.out.println("TimingWheelTest 통과");
+    }
+
+    private static void randomOperations(Random random, int trial) {
+        long origin = 1_700_000_000_000L + random.nextInt(1000);
+        TimingWheel wheel = new TimingWheel(TICK, origin);
+        // ID → 만료 틱. 휠과 같은 규칙으로 지난 시각은 다음에 처리할 틱으로 올립니다.
+        Map<Integer, Long> model = new HashMap<>();
+        long now = origin;
+        long[] currentTick = {0};
+
+        for (int step = 0; step < 400; step++) {
+            String label = " (시도 " + trial + ", 단계 " + step + ")";
+            int op = random.nextInt(10);
+            int id = random.nextInt(IDS);
+            if (op < 5) {
+                long deadline = now - 2 * TICK + (random.nextInt(4) == 0
+                        ? (long) (random.nextDouble() * 1e13) : random.nextInt(5_000_000));
+                wheel.schedule(id, deadline);
+                long tick = Math.max(currentTick[0], Math.floorDiv(deadline - origin, TICK));
+                model.put(id, tick);
+                equal(origin + tick * TICK, wheel.getDeadline(id), "만료 시각" + label);
+            } else if (op < 7) {
+                equal(model.remove(id) != null, wheel.cancel(id), "cancel 반환값" + label);
+                equal(-1, wheel.getDeadline(id), "취소한 ID의 만료 시각" + label);
+            } else {
+                now += random.nextInt(3) == 0 ? (long) (random.nextDouble() * 1e12) : random.nextInt(3_000_000);
+                advance(wheel, model, origin, now, currentTick, label);
+            }
+            equal(model.size(), wheel.size(), "예약 수" + label);
+        }
+    }
+
+    private static void advance(TimingWheel wheel, Map<Integer, Long> model, long origin, long now,
+                                long[] currentTick, String label) {
+        long target = Math.floorDiv(now - origin, TICK);
+        Set<Integer> expected = new TreeSet<>();
+        model.forEach((id, tick) -> {
+            if (tick <= target) {
+                expected.add(id);
+            }
+        });
+
+        Set<Integer> fired = new TreeSet<>();
+        Set<Integer> cancelled = new HashSet<>();
+        long[] lastTick = {Long.MIN_VALUE};
+        int count = wheel.advanceTo(now, id -> {
+            check(fired.add(id), "두 번 만료됨: " + id + label);
+            check(!cancelled.contains(id), "콜백에서 취소한 ID가 만료됨: " + id + label);
+            Long tick = model.remove(id);
+            check(tick != null, "예약되지 않은 ID가 만료됨: " + id + label);
+            check(tick >= lastTick[0], "만료 순서가 틱 순서와 다름: " + id + label);
+            lastTick[0] = tick;
+            check(!wheel.isScheduled(id), "만료된 ID가 아직 예약되어 있음: " + id + label);
+
+            if (id % 7 == 0) {
+                wheel.schedule(id, now + 5 * TICK);
+                model.put(id, Math.floorDiv(now + 5 * TICK - origin, TICK));
+            }
+            if (id % 11 == 0) {
+                int other = (id + 1) % IDS;
+                wheel.cancel(other);
+                // 이미 만료된 뒤 다시 예약된 ID의 취소는 이번 진행의 만료와 관계없습니다.
+                if (model.remove(other) != null && !fired.contains(other)) {
+                    cancelled.add(other);
+                }
+            }
+        });
+        currentTick[0] = Math.max(currentTick[0], target + 1);
+
+        expected.removeAll(cancelled);
+        equal(expected, fired, "만료된 ID" + label);
+        equal(fired.size(), count, "advanceTo 반환값" + label);
+    }
+
+    private static void clearKeepsCurrentTick() {
+        TimingWheel wheel = new TimingWheel(TICK, 0);
+        wheel.schedule(1, 10 * TICK);
+        wheel.schedule(2, 1L << 40);
+        equal(0, wheel.advanceTo(5 * TICK, id -> { }), "만료 전");
+        wheel.clear();
+        equal(0, wheel.size(), "clear 후 예약 수");
+        check(!wheel.isScheduled(1) && !wheel.isScheduled(2), "clear 후 예약이 없어야 함");
+
+        // 지난 시각으로 예약하면 현재 틱(6)으로 올라가 다음 진행에서 만료됩니다.
+        wheel.schedule(3, 0);
+        equal(6 * TICK, wheel.getDeadline(3), "지난 시각 예약의 만료 시각");
+        int[] fired = {-1};
+        equal(1, wheel.advanceTo(6 * TICK, id -> fired[0] = id), "지난 시각 예약 만료");
+        equal(3, fired[0], "만료된 ID");
+    }
+}
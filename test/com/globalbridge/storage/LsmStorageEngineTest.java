@@ -0,0 +1,300 @@
+package com.globalbridge.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.deleteRecursively;
+import static com.globalbridge.Assertions.equal;
+import static com.globalbridge.Assertions.temporaryDirectory;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link LsmStorageEngine}의 기록, 다시 열기, 선행 기록 로그 복구를 확인하는 테스트입니다.
+ *
+ * <p>
+ * 작은 메모리 테이블로 세그먼트 내리기와 압축이 여러 번 일어나게 한 뒤 무작위 기록과 삭제의 결과를
+ * {@link TreeMap}과 비교하고, 닫지 않은 것처럼 로그만 남은 상태에서 로그 끝이 잘리거나 손상되었을 때
+ * 온전한 묶음까지만 되살아나는지 확인합니다.
+ * 기록과 세그먼트 내리기가 계속되는 동안 다른 스레드가 잡은 스냅샷이 묶음 단위로 일관되고 바뀌지 않는지도 확인합니다.
+ * </p>
+ */
+public final class LsmStorageEngineTest {
+    private LsmStorageEngineTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path directory = temporaryDirectory("lsm-test");
+        try {
+            randomWritesMatchTreeMap(directory.resolve("random"));
+            truncatedLogTailIsDropped(directory.resolve("truncated"));
+            corruptedLogRecordIsDropped(directory.resolve("corrupted"));
+            snapshotsDuringFlushes(directory.resolve("concurrent"));
+        } finally {
+            deleteRecursively(directory);
+        }
+        System.out.println("LsmStorageEngineTest 통과");
+    }
+
+    private static void randomWritesMatchTreeMap(Path directory) throws IOException {
+        Random random = new Random(20261018L);
+        TreeMap<String, String> model = new TreeMap<>();
+        LsmStorageEngine engine = LsmStorageEngine.open(directory, 8 << 10);
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                String key = String.format("k%05d", random.nextInt(3000));
+                int op = random.nextInt(10);
+                if (op < 6) {
+                    String value = "v" + i;
+                    engine.put(bytes(key), bytes(value));
+                    model.put(key, value);
+                } else if (op < 8) {
+                    engine.delete(bytes(key));
+                    model.remove(key);
+                } else {
+                    WriteBatch batch = new WriteBatch();
+                    for (int j = 0; j < 20; j++) {
+                        String batchKey = String.format("k%05d", random.nextInt(3000));
+                        if (random.nextBoolean()) {
+                            batch.put(bytes(batchKey), bytes("b" + i + "-" + j));
+                            model.put(batchKey, "b" + i + "-" + j);
+                        } else {
+                            batch.delete(bytes(batchKey));
+                            model.remove(batchKey);
+                        }
+                    }
+                    engine.write(batch);
+                }
+            }
+            check(engine.getFlushCount() > 0, "메모리 테이블이 세그먼트로 내려가야 함");
+            assertContents(model, engine);
+
+            // 스냅샷은 이후의 기록을 보지 않습니다.
+            TreeMap<String, String> before = new TreeMap<>(model);
+            try (StorageEngine.Snapshot snapshot = engine.snapshot()) {
+                engine.put(bytes("k00000"), bytes("after"));
+                engine.delete(bytes(before.isEmpty() ? "none" : before.lastKey()));
+                equal(before, scan(snapshot, null, null), "스냅샷 내용");
+            }
+            model.put("k00000", "after");
+            if (!before.isEmpty()) {
+                model.remove(before.lastKey());
+            }
+            equal(new TreeMap<>(model.subMap("k01000", "k02000")),
+                    scan(engine.snapshot(), bytes("k01000"), bytes("k02000")), "범위 읽기");
+        } finally {
+            engine.close();
+        }
+
+        engine = LsmStorageEngine.open(directory, 8 << 10);
+        try {
+            assertContents(model, engine);
+        } finally {
+            engine.close();
+        }
+    }
+
+    /**
+     * 한 스레드가 작은 메모리 테이블에 묶음을 계속 기록해 세그먼트 내리기와 압축이 잇따라 일어나는 동안
+     * 다른 스레드가 스냅샷을 잡아, 스냅샷이 잡기 전에 끝난 기록은 보고 잡은 뒤에 시작한 기록은 보지 않으며
+     * 묶음의 일부만 보이거나 닫기 전에 내용이 바뀌지 않는지 확인합니다.
+     */
+    private static void snapshotsDuringFlushes(Path directory) throws IOException, InterruptedException {
+        int batches = 10_000;
+        LsmStorageEngine engine = LsmStorageEngine.open(directory, 4 << 10);
+        AtomicLong started = new AtomicLong();
+        AtomicLong finished = new AtomicLong();
+        AtomicReference<Throwable> writerError = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                byte[] filler = new byte[200];
+                for (int i = 1; i <= batches; i++) {
+                    started.set(i);
+                    engine.write(new WriteBatch()
+                            .put(bytes("a"), bytes(Integer.toString(i)))
+                            .put(bytes("b"), bytes(Integer.toString(i)))
+                            .put(bytes(String.format("f%03d", i % 500)), filler));
+                    finished.set(i);
+                }
+            } catch (Throwable e) {
+                writerError.set(e);
+            }
+        }, "lsm-test-writer");
+        try {
+            writer.start();
+            long previous = 0;
+            int snapshots = 0;
+            while (writer.isAlive()) {
+                long lower = finished.get();
+                try (StorageEngine.Snapshot snapshot = engine.snapshot()) {
+                    long upper = started.get();
+                    long a = number(snapshot.get(bytes("a")));
+                    long b = number(snapshot.get(bytes("b")));
+                    if (a != b) {
+                        throw new AssertionError("묶음의 일부만 보임: a=" + a + ", b=" + b);
+                    }
+                    if (a < lower || a > upper || a < previous) {
+                        throw new AssertionError("스냅샷 순번 밖의 기록: " + a + " (범위 " + Math.max(lower, previous)
+                                + ".." + upper + ")");
+                    }
+                    // 스냅샷을 잡은 뒤의 기록과 세그먼트 내리기는 보이지 않아야 합니다.
+                    while (writer.isAlive() && finished.get() < upper + 50) {
+                        Thread.onSpinWait();
+                    }
+                    TreeMap<String, String> contents = new TreeMap<>();
+                    snapshot.scan(bytes("a"), bytes("c"), (key, value) -> {
+                        contents.put(string(key), string(value));
+                        return true;
+                    });
+                    equal(a == 0 ? Map.of() : Map.of("a", Long.toString(a), "b", Long.toString(b)), contents,
+                            "스냅샷 범위 읽기");
+                    equal(a, number(snapshot.get(bytes("a"))), "스냅샷 다시 읽기");
+                    previous = a;
+                }
+                snapshots++;
+            }
+            writer.join();
+            if (writerError.get() != null) {
+                throw new AssertionError("기록 스레드 실패", writerError.get());
+            }
+            check(snapshots > 0, "스냅샷을 잡지 못함");
+            check(engine.getFlushCount() > 10, "세그먼트 내리기가 여러 번 일어나야 함");
+            equal(batches, number(engine.get(bytes("a"))), "마지막 기록");
+        } finally {
+            writer.join();
+            engine.close();
+        }
+    }
+
+    private static void truncatedLogTailIsDropped(Path directory) throws IOException {
+        writeThreeBatches(directory);
+        Path log = onlyLog(directory);
+        long size = Files.size(log);
+        // 마지막 묶음의 중간에서 잘린 로그: 기록 도중 종료된 경우
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 7);
+        }
+        assertFirstTwoBatchesOnly(directory);
+    }
+
+    private static void corruptedLogRecordIsDropped(Path directory) throws IOException {
+        writeThreeBatches(directory);
+        Path log = onlyLog(directory);
+        byte[] content = Files.readAllBytes(log);
+        content[content.length - 3] ^= 0x5A;
+        Files.write(log, content);
+        assertFirstTwoBatchesOnly(directory);
+    }
+
+    /**
+     * 묶음 세 개를 기록하고 닫습니다. 메모리 테이블이 차지 않았으므로 기록은 로그에만 남습니다.
+     */
+    private static void writeThreeBatches(Path directory) throws IOException {
+        LsmStorageEngine engine = LsmStorageEngine.open(directory, 1 << 20);
+        try {
+            for (int b = 0; b < 3; b++) {
+                WriteBatch batch = new WriteBatch();
+                for (int i = 0; i < 50; i++) {
+                    batch.put(bytes("batch" + b + "-" + i), bytes("value" + b + "-" + i));
+                }
+                if (b == 2) {
+                    batch.delete(bytes("batch0-0"));
+                }
+                engine.write(batch);
+            }
+            equal(0, engine.getSegmentCount(), "로그에만 남아야 함");
+        } finally {
+            engine.close();
+        }
+    }
+
+    private static void assertFirstTwoBatchesOnly(Path directory) throws IOException {
+        for (int open = 0; open < 2; open++) {
+            LsmStorageEngine engine = LsmStorageEngine.open(directory, 1 << 20);
+            try {
+                TreeMap<String, String> contents = scan(engine.snapshot(), null, null);
+                equal(100, contents.size(), "되살아난 키 수 (열기 " + open + ")");
+                for (int b = 0; b < 2; b++) {
+                    for (int i = 0; i < 50; i++) {
+                        equal("value" + b + "-" + i, contents.get("batch" + b + "-" + i),
+                                "되살아난 값 (열기 " + open + ")");
+                    }
+                }
+                // 잘린 묶음은 삭제까지 포함해 전혀 반영되지 않아야 합니다.
+                check(engine.get(bytes("batch2-0")) == null, "잘린 묶음의 기록이 남음");
+                check(engine.get(bytes("batch0-0")) != null, "잘린 묶음의 삭제가 반영됨");
+                engine.put(bytes("after"), bytes("recovery"));
+            } finally {
+                engine.close();
+            }
+            // 복구한 뒤의 기록도 다음 열기에서 남아야 합니다.
+            LsmStorageEngine reopened = LsmStorageEngine.open(directory, 1 << 20);
+            try {
+                equal("recovery", string(reopened.get(bytes("after"))), "복구 뒤 기록");
+                reopened.delete(bytes("after"));
+            } finally {
+                reopened.close();
+            }
+        }
+    }
+
+    private static Path onlyLog(Path directory) throws IOException {
+        List<Path> logs = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.log")) {
+            files.forEach(logs::add);
+        }
+        equal(1, logs.size(), "로그 파일 수");
+        return logs.get(0);
+    }
+
+    private static void assertContents(TreeMap<String, String> model, StorageEngine engine) throws IOException {
+        equal(model, scan(engine.snapshot(), null, null), "전체 내용");
+        for (int k = 0; k < 3000; k += 7) {
+            String key = String.format("k%05d", k);
+            equal(model.get(key), string(engine.get(bytes(key))), "get(" + key + ")");
+        }
+    }
+
+    private static TreeMap<String, String> scan(StorageEngine.Snapshot snapshot, byte[] from, byte[] to)
+            throws IOException {
+        TreeMap<String, String> contents = new TreeMap<>();
+        try (snapshot) {
+            String[] previous = {null};
+            snapshot.scan(from, to, (key, value) -> {
+                String k = string(key);
+                check(previous[0] == null || previous[0].compareTo(k) < 0, "키 순서: " + previous[0] + ", " + k);
+                previous[0] = k;
+                contents.put(k, string(value));
+                return true;
+            });
+        }
+        return contents;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long number(byte[] value) {
+        return value != null ? Long.parseLong(string(value)) : 0;
+    }
+
+    private static String string(byte[] value) {
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+}
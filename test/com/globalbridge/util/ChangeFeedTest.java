@@ -0,0 +1,165 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.deleteRecursively;
+import static com.globalbridge.Assertions.equal;
+import static com.globalbridge.Assertions.temporaryDirectory;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link ChangeFeed}의 순번 매기기, 반영, 다시 열기와 학기 마감 처리를 확인하는 테스트입니다.
+ *
+ * <p>
+ * 변경마다 순번이 1씩 커지고 반영한 뒤에만 읽히는지, 내용이 같은 기록은 건너뛰는지,
+ * 어떤 순번 이후의 변경을 읽으면 레코드마다 마지막 변경이 순번 순서로 한 번씩 나오는지 확인합니다.
+ * 다시 열어 같은 데이터로 맞추면 아무것도 기록하지 않고, 마감한 학기의 레코드는 삭제로 기록되지 않는지도 확인합니다.
+ * </p>
+ */
+public final class ChangeFeedTest {
+    private ChangeFeedTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = temporaryDirectory("change-feed-test");
+        try {
+            sequencesAndReopen(directory.resolve("changes"));
+            archiveDoesNotDelete(directory.resolve("archive"));
+        } finally {
+            deleteRecursively(directory);
+        }
+        System.out.println("ChangeFeedTest 통과");
+    }
+
+    private static void sequencesAndReopen(Path directory) throws IOException {
+        Participant kim = participant("20260001", "김민수", "Korean");
+        Participant john = participant("20260002", "John", "English");
+        Participant lee = participant("20260003", "이서연", "Korean");
+        Participant renamed = participant("20260001", "김민준", "Korean");
+        ArrayList<Participant> participants = new ArrayList<>(List.of(kim, john, lee));
+        HashMap<String, Pair> matches = new HashMap<>();
+
+        try (ChangeFeed feed = ChangeFeed.open(directory)) {
+            equal(0, feed.getLastSequence(), "빈 기록의 순번");
+            for (Participant participant : participants) {
+                feed.recordParticipant(participant);
+            }
+            equal(3, feed.getLastSequence(), "변경마다 순번");
+            equal(List.of(), changes(feed, 0), "반영 전에는 읽히지 않음");
+            feed.flush();
+            equal(List.of("1+participant:20260001", "2+participant:20260002", "3+participant:20260003"),
+                    changes(feed, 0), "반영한 변경");
+
+            // 같은 객체나 내용이 같은 객체는 다시 기록하지 않습니다.
+            feed.recordParticipant(kim);
+            feed.recordParticipant(participant("20260002", "John", "English"));
+            equal(3, feed.getLastSequence(), "내용이 같은 기록은 건너뜀");
+
+            participants.set(0, renamed);
+            feed.recordParticipant(renamed);
+            Pair pair = new Pair(renamed, john);
+            matches.put("20260001-20260002", pair);
+            feed.recordMatch("20260001-20260002", pair);
+            feed.recordMatch("20260001-20260002", pair);
+            Pair removed = new Pair(lee, john);
+            feed.recordMatch("20260003-20260002", removed);
+            feed.recordMatchRemoved("20260003-20260002");
+            feed.recordMatchRemoved("20260003-20260002");
+            feed.recordMatchRemoved("없는 매칭");
+            equal(7, feed.getLastSequence(), "바뀐 기록만 순번을 받음");
+            feed.flush();
+
+            // 레코드마다 마지막 변경만 순번 순서로 나옵니다.
+            equal(List.of("2+participant:20260002", "3+participant:20260003", "4+participant:20260001",
+                    "5+match:20260001-20260002", "7-match:20260003-20260002"), changes(feed, 0), "처음부터 읽기");
+            equal(List.of("5+match:20260001-20260002", "7-match:20260003-20260002"), changes(feed, 4), "4 이후");
+            equal(List.of(), changes(feed, 7), "마지막 순번 이후");
+
+            List<ChangeFeed.ChangeRecord> records = new ArrayList<>();
+            feed.changesSince(3, records::add);
+            equal("김민준", records.get(0).getParticipant().getName(), "마지막 참가자 내용");
+            Pair readPair = records.get(1).getPair();
+            equal("20260001", readPair.getMentor().getStudentId(), "매칭의 멘토");
+            equal("20260002", readPair.getMentee().getStudentId(), "매칭의 멘티");
+            check(records.get(2).isDelete() && records.get(2).getPair() == null, "삭제 기록");
+        }
+
+        try (ChangeFeed feed = ChangeFeed.open(directory)) {
+            equal(7, feed.getLastSequence(), "다시 연 순번");
+            equal(0, feed.reconcile(participants, matches), "같은 데이터로 맞추면 기록하지 않음");
+            equal(7, feed.getLastSequence(), "맞춘 뒤 순번");
+
+            // 저장만 되고 기록되지 않은 변경: 이서연이 빠지고 새 매칭이 생긴 경우
+            participants.remove(lee);
+            Participant park = participant("20260004", "Park", "English");
+            participants.add(park);
+            matches.put("20260001-20260004", new Pair(renamed, park));
+            equal(3, feed.reconcile(participants, matches), "되살린 변경 수");
+            equal(List.of("8+participant:20260004", "9+match:20260001-20260004", "10-participant:20260003"),
+                    changes(feed, 7), "참가자 갱신, 매칭 갱신, 참가자 삭제 순서");
+        }
+
+        try (ChangeFeed feed = ChangeFeed.open(directory)) {
+            equal(10, feed.getLastSequence(), "닫을 때 반영한 순번");
+            equal(0, feed.reconcile(participants, matches), "다시 열어 맞추면 기록하지 않음");
+        }
+    }
+
+    private static void archiveDoesNotDelete(Path directory) throws IOException {
+        Participant kim = participant("20260001", "김민수", "Korean");
+        Participant john = participant("20260002", "John", "English");
+        Pair pair = new Pair(kim, john);
+        try (ChangeFeed feed = ChangeFeed.open(directory)) {
+            feed.recordParticipant(kim);
+            feed.recordParticipant(john);
+            feed.recordMatch("20260001-20260002", pair);
+            // 반영하지 않은 변경은 마감 전에 반영됩니다.
+            feed.archive(List.of(), Map.of());
+            equal(3, feed.getLastSequence(), "마감은 순번을 매기지 않음");
+            equal(List.of("1+participant:20260001", "2+participant:20260002", "3+match:20260001-20260002"),
+                    changes(feed, 0), "마감한 레코드는 마지막 갱신 그대로");
+            equal(0, feed.reconcile(List.of(), Map.of()), "마감한 레코드는 삭제하지 않음");
+        }
+
+        try (ChangeFeed feed = ChangeFeed.open(directory)) {
+            equal(0, feed.reconcile(List.of(), Map.of()), "다시 열어도 마감한 레코드는 삭제하지 않음");
+            equal(3, feed.getLastSequence(), "다시 연 순번");
+
+            // 마감한 학번이 다시 등록되면 내용이 같아도 갱신으로 기록됩니다.
+            Participant again = participant("20260001", "김민수", "Korean");
+            feed.recordParticipant(again);
+            feed.flush();
+            equal(List.of("4+participant:20260001"), changes(feed, 3), "다시 등록한 참가자");
+
+            // 다시 등록한 레코드는 살아 있으므로 이후에 빠지면 삭제로 기록됩니다.
+            equal(1, feed.reconcile(List.of(), Map.of()), "다시 등록한 참가자 삭제");
+            equal(List.of("5-participant:20260001"), changes(feed, 4), "삭제 기록");
+        }
+    }
+
+    private static Participant participant(String studentId, String name, String language) {
+        return new Participant(name, studentId, "컴퓨터공학", language, 2);
+    }
+
+    /**
+     * 순번 이후의 변경을 "순번+종류:ID" (삭제는 "순번-종류:ID") 목록으로 읽습니다.
+     */
+    private static List<String> changes(ChangeFeed feed, long after) throws IOException {
+        List<String> changes = new ArrayList<>();
+        feed.changesSince(after, change -> changes.add(change.getSequence() + (change.isDelete() ? "-" : "+")
+                + change.getType().getLabel() + ":" + change.getId()));
+        return changes;
+    }
+}
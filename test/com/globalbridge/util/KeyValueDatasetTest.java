@@ -0,0 +1,207 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+import com.globalbridge.storage.LsmStorageEngine;
+import com.globalbridge.storage.StorageEngine;
+import com.globalbridge.storage.WriteBatch;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.deleteRecursively;
+import static com.globalbridge.Assertions.equal;
+import static com.globalbridge.Assertions.temporaryDirectory;
+import static com.globalbridge.TestData.addActivities;
+import static com.globalbridge.TestData.assertActivities;
+import static com.globalbridge.TestData.assertMatches;
+import static com.globalbridge.TestData.assertParticipants;
+import static com.globalbridge.TestData.matchId;
+import static com.globalbridge.TestData.matches;
+import static com.globalbridge.TestData.participant;
+import static com.globalbridge.TestData.participants;
+import static com.globalbridge.TestData.putMatch;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link KeyValueDataset}으로 저장한 데이터를 엔진을 다시 열어 불러오면 같은 데이터가 되는지 확인하는 테스트입니다.
+ *
+ * <p>
+ * 처음 저장한 뒤 참가자와 매칭을 추가, 교체, 삭제하고 활동 행을 추가하거나 완료 여부와 기한 지남 표시를 바꿔
+ * 바뀐 레코드만 기록하는 저장을 거친 결과도 확인합니다. 저장 한 번은 엔진에 묶음 하나로 반영되어야 합니다.
+ * </p>
+ */
+public final class KeyValueDatasetTest {
+    private KeyValueDatasetTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = temporaryDirectory("dataset-test");
+        try {
+            emptyEngineLoadsNull(directory.resolve("empty"));
+            roundTripWithIncrementalSaves(directory.resolve("records"));
+        } finally {
+            deleteRecursively(directory);
+        }
+        System.out.println("KeyValueDatasetTest 통과");
+    }
+
+    private static void emptyEngineLoadsNull(Path directory) throws IOException {
+        try (StorageEngine engine = LsmStorageEngine.open(directory)) {
+            check(new KeyValueDataset(engine).load((index, section) -> { }) == null, "빈 엔진에서는 null");
+        }
+    }
+
+    private static void roundTripWithIncrementalSaves(Path directory) throws IOException {
+        ArrayList<Participant> participants = participants(400);
+        HashMap<String, Pair> matches = matches(participants, 300);
+        ActivityLog activities = ActivityLog.create();
+        addActivities(activities, matches, 0, 5000);
+        for (int row = 0; row < activities.size(); row += 3) {
+            activities.setCompleted(row, true);
+        }
+        for (int row = 1; row < activities.size(); row += 11) {
+            activities.setOverdue(row, true);
+        }
+
+        CountingEngine engine = new CountingEngine(LsmStorageEngine.open(directory));
+        try {
+            KeyValueDataset dataset = new KeyValueDataset(engine);
+            save(dataset, engine, participants, matches, activities);
+        } finally {
+            engine.close();
+        }
+        Object[] data = reload(directory, participants, matches, activities);
+
+        // 불러온 데이터를 고쳐 다시 저장합니다. 불러온 상태와 다른 레코드만 기록됩니다.
+        @SuppressWarnings("unchecked")
+        ArrayList<Participant> loadedParticipants = (ArrayList<Participant>) data[0];
+        @SuppressWarnings("unchecked")
+        HashMap<String, Pair> loadedMatches = (HashMap<String, Pair>) data[1];
+        ActivityLog loadedActivities = (ActivityLog) data[2];
+
+        engine = new CountingEngine(LsmStorageEngine.open(directory));
+        try {
+            KeyValueDataset dataset = new KeyValueDataset(engine);
+            check(dataset.load((index, section) -> { }) != null, "저장한 데이터");
+
+            // 바뀐 것이 없으면 기록할 레코드도 없습니다.
+            save(dataset, engine, loadedParticipants, loadedMatches, loadedActivities);
+
+            Participant removed = loadedParticipants.remove(399);
+            check(removed != null, "삭제할 참가자");
+            loadedParticipants.set(10, new Participant("바뀐 이름", participants.get(10).getStudentId(), "경영학",
+                    "Korean", 2));
+            Participant mentor = participant(400);
+            Participant mentee = participant(401);
+            loadedParticipants.add(mentor);
+            loadedParticipants.add(mentee);
+            loadedMatches.remove(matchId(participants.get(0), participants.get(1)));
+            putMatch(loadedMatches, loadedParticipants.get(10), loadedParticipants.get(11));
+            putMatch(loadedMatches, mentor, mentee);
+            loadedActivities.setCompleted(0, false);
+            loadedActivities.setCompleted(1, true);
+            loadedActivities.setOverdue(1, false);
+            loadedActivities.setOverdue(2, true);
+            addActivities(loadedActivities, loadedMatches, loadedActivities.size(), 700);
+            save(dataset, engine, loadedParticipants, loadedMatches, loadedActivities);
+
+            // 활동 저장소를 새 객체로 바꾸면 모든 행을 다시 기록하고 남는 행은 지웁니다.
+            ActivityLog replaced = ActivityLog.create();
+            addActivities(replaced, loadedMatches, 0, 1200);
+            replaced.setCompleted(5, true);
+            save(dataset, engine, loadedParticipants, loadedMatches, replaced);
+            loadedActivities = replaced;
+        } finally {
+            engine.close();
+        }
+        reload(directory, loadedParticipants, loadedMatches, loadedActivities);
+    }
+
+    private static void save(KeyValueDataset dataset, CountingEngine engine, List<Participant> participants,
+                             Map<String, Pair> matches, ActivityLog activities) throws IOException {
+        int before = engine.writes;
+        dataset.save(participants, matches, activities, ActivityRollup.build(activities, matches),
+                ActivitySketches.build(activities, matches));
+        equal(before + 1, engine.writes, "저장 한 번의 엔진 기록 수");
+    }
+
+    private static Object[] reload(Path directory, List<Participant> participants, Map<String, Pair> matches,
+                                   ActivityLog activities) throws IOException {
+        try (StorageEngine engine = LsmStorageEngine.open(directory)) {
+            List<Integer> order = new ArrayList<>();
+            Object[] data = new KeyValueDataset(engine).load((index, section) -> order.add(index));
+            equal(List.of(0, 1, 2, 3, 4), order, "부분 전달 순서");
+            assertParticipants(participants, data[0]);
+            assertMatches(matches, data[1], data[0]);
+            assertActivities(activities, (ActivityLog) data[2]);
+            check(((ActivityRollup) data[3]).isConsistentWith((ActivityLog) data[2]), "집계가 활동 기록과 맞아야 함");
+            check(((ActivitySketches) data[4]).isConsistentWith((ActivityLog) data[2]), "스케치가 활동 기록과 맞아야 함");
+            return data;
+        }
+    }
+
+    /**
+     * 묶음 기록 횟수를 세는 엔진입니다. 나머지 동작은 감싼 엔진에 넘깁니다.
+     */
+    private static final class CountingEngine implements StorageEngine {
+        private final StorageEngine engine;
+        private int writes;
+
+        CountingEngine(StorageEngine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public byte[] get(byte[] key) throws IOException {
+            return engine.get(key);
+        }
+
+        @Override
+        public void put(byte[] key, byte[] value) throws IOException {
+            throw new AssertionError("저장은 묶음으로만 기록해야 함");
+        }
+
+        @Override
+        public void delete(byte[] key) throws IOException {
+            throw new AssertionError("저장은 묶음으로만 기록해야 함");
+        }
+
+        @Override
+        public void write(WriteBatch batch) throws IOException {
+            writes++;
+            engine.write(batch);
+        }
+
+        @Override
+        public void scan(byte[] from, byte[] to, Visitor visitor) throws IOException {
+            engine.scan(from, to, visitor);
+        }
+
+        @Override
+        public Snapshot snapshot() throws IOException {
+            return engine.snapshot();
+        }
+
+        @Override
+        public void sync() throws IOException {
+            engine.sync();
+        }
+
+        @Override
+        public void close() throws IOException {
+            engine.close();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.globalbridge.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.equal;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link RoaringBitmap}을 같은 연산을 적용한 {@link BitSet}과 무작위로 비교하는 테스트입니다.
+ *
+ * <p>
+ * 값의 범위를 한 컨테이너 안(배열 컨테이너와 비트맵 컨테이너 사이의 전환이 일어나는 밀도)부터
+ * 수백 개의 컨테이너에 걸치는 범위까지 바꿔 가며 추가, 구간 추가, 제거와 집합 연산의 결과를 확인합니다.
+ * </p>
+ */
+public final class RoaringBitmapTest {
+    private RoaringBitmapTest() {
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(20261018L);
+        for (int trial = 0; trial < 200; trial++) {
+            compareWithBitSet(random, trial);
+        }
+        containerConversions();
+        rejectsNegativeValues();
+        System.out.println("RoaringBitmapTest 통과");
+    }
+
+    private static void compareWithBitSet(Random random, int trial) {
+        int range = 1 + random.nextInt(1 << (8 + random.nextInt(16)));
+        int count = random.nextInt(20_000);
+        RoaringBitmap x = new RoaringBitmap();
+        RoaringBitmap y = new RoaringBitmap();
+        BitSet bx = new BitSet();
+        BitSet by = new BitSet();
+        String label = " (시도 " + trial + ", 범위 " + range + ")";
+
+        for (int i = 0; i < count; i++) {
+            int v = random.nextInt(range);
+            if (x.add(v) == bx.get(v)) {
+                throw new AssertionError("add(" + v + ") 반환값" + label);
+            }
+            bx.set(v);
+            int w = random.nextInt(range);
+            y.add(w);
+            by.set(w);
+        }
+        if (random.nextBoolean()) {
+            int from = random.nextInt(range);
+            int to = from + random.nextInt(200_000);
+            x.addRange(from, to);
+            bx.set(from, to);
+        }
+        for (int i = 0; i < count / 3; i++) {
+            int v = random.nextInt(range);
+            if (x.remove(v) != bx.get(v)) {
+                throw new AssertionError("remove(" + v + ") 반환값" + label);
+            }
+            bx.clear(v);
+        }
+
+        assertSame(bx, x, "x" + label);
+        assertSame(by, y, "y" + label);
+        for (int i = 0; i < 200; i++) {
+            int v = random.nextInt(range + 100);
+            if (x.contains(v) != bx.get(v)) {
+                throw new AssertionError("contains(" + v + ")" + label);
+            }
+        }
+
+        BitSet expected = (BitSet) bx.clone();
+        expected.and(by);
+        assertSame(expected, RoaringBitmap.and(x, y), "and" + label);
+        equal(expected.cardinality(), RoaringBitmap.andCardinality(x, y), "andCardinality" + label);
+
+        expected = (BitSet) bx.clone();
+        expected.or(by);
+        assertSame(expected, RoaringBitmap.or(x, y), "or" + label);
+
+        expected = (BitSet) bx.clone();
+        expected.andNot(by);
+        assertSame(expected, RoaringBitmap.andNot(x, y), "andNot" + label);
+
+        RoaringBitmap copy = new RoaringBitmap(x);
+        equal(x, copy, "복사본" + label);
+        equal(x.hashCode(), copy.hashCode(), "복사본 hashCode" + label);
+        int outside = bx.length() + 1;
+        copy.add(outside);
+        check(!x.contains(outside), "복사본을 바꿔도 원본은 그대로여야 함" + label);
+    }
+
+    private static void containerConversions() {
+        // 한 컨테이너에 값을 하나씩 채워 배열 컨테이너에서 비트맵 컨테이너로 바뀐 뒤 다시 비워 배열로 돌아가게 합니다.
+        RoaringBitmap bitmap = new RoaringBitmap();
+        BitSet expected = new BitSet();
+        for (int v = 0; v < RoaringBitmap.ARRAY_MAX * 2; v++) {
+            bitmap.add(v * 3);
+            expected.set(v * 3);
+        }
+        assertSame(expected, bitmap, "비트맵 컨테이너로 전환");
+        for (int v = 0; v < RoaringBitmap.ARRAY_MAX * 2; v += 2) {
+            bitmap.remove(v * 3);
+            expected.clear(v * 3);
+        }
+        assertSame(expected, bitmap, "배열 컨테이너로 전환");
+
+        RoaringBitmap full = RoaringBitmap.range(5, 3 << 16);
+        equal((3 << 16) - 5, full.getCardinality(), "range 크기");
+        check(!full.contains(4) && full.contains(5) && full.contains((3 << 16) - 1) && !full.contains(3 << 16),
+                "range 경계");
+        full.clear();
+        check(full.isEmpty(), "clear 후 비어 있어야 함");
+        equal(RoaringBitmap.of(1, 70_000, 3), RoaringBitmap.of(3, 1, 70_000), "of 순서 무관");
+    }
+
+    private static void rejectsNegativeValues() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        check(!bitmap.remove(-1), "음수 제거는 false");
+        check(!bitmap.contains(-1), "음수는 포함하지 않음");
+        try {
+            bitmap.add(-1);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("음수 추가는 IllegalArgumentException이어야 함");
+    }
+
+    /**
+     * 비트맵이 BitSet과 같은 값들을 담고, 크기, 배열, 반복자, 스트림이 모두 일치하는지 확인합니다.
+     */
+    private static void assertSame(BitSet expected, RoaringBitmap actual, String label) {
+        int[] values = expected.stream().toArray();
+        equal(values.length, actual.getCardinality(), label + " 크기");
+        equal(values.length == 0, actual.isEmpty(), label + " isEmpty");
+        check(Arrays.equals(values, actual.toArray()), label + " toArray");
+        check(Arrays.equals(values, actual.stream().toArray()), label + " stream");
+        PrimitiveIterator.OfInt iterator = actual.iterator();
+        for (int value : values) {
+            if (!iterator.hasNext() || iterator.nextInt() != value) {
+                throw new AssertionError(label + " 반복자가 " + value + "를 건너뜀");
+            }
+        }
+        check(!iterator.hasNext(), label + " 반복자가 더 남음");
+        BitSet visited = new BitSet();
+        actual.forEach(visited::set);
+        equal(expected, visited, label + " forEach");
+    }
+}
@@ -0,0 +1,74 @@
+package com.globalbridge.util;
+
+import static com.globalbridge.Assertions.equal;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * 활동 이력처럼 모든 항목을 차례로 다시 그릴 때 표시 문자열 캐시가 바뀐 항목만 다시 포맷팅하는지 확인하는 테스트입니다.
+ *
+ * <p>
+ * {@link RowRenderCache}는 처음 최대 크기를 훨씬 넘는 행 수에서도, {@link RenderCache}는
+ * {@link RenderCache#ensureCapacity(int)}로 늘린 뒤에는 두 번째로 지나갈 때 모두 적중해야 합니다.
+ * </p>
+ */
+public final class RowRenderCacheTest {
+    private static final int ROWS = 200_000;
+
+    private RowRenderCacheTest() {
+    }
+
+    public static void main(String[] args) {
+        rowCacheKeepsEveryRow();
+        renderCacheGrowsToEntryCount();
+        System.out.println("RowRenderCacheTest 통과");
+    }
+
+    private static void rowCacheKeepsEveryRow() {
+        int[] versions = new int[ROWS];
+        int[] formatted = {0};
+        RowRenderCache cache = new RowRenderCache(row -> {
+            formatted[0]++;
+            return "행 " + row + " v" + versions[row];
+        });
+        for (int row = 0; row < ROWS; row++) {
+            cache.get(row, versions[row]);
+        }
+        equal(ROWS, formatted[0], "처음 그릴 때는 모든 행을 포맷팅");
+
+        versions[7]++;
+        versions[ROWS - 1]++;
+        for (int row = 0; row < ROWS; row++) {
+            String text = cache.get(row, versions[row]);
+            if (!text.equals("행 " + row + " v" + versions[row])) {
+                throw new AssertionError(row + "행의 문자열: " + text);
+            }
+        }
+        equal(ROWS + 2, formatted[0], "다시 그릴 때는 버전이 바뀐 행만 포맷팅");
+        equal(ROWS - 2, cache.getHits(), "적중 횟수");
+
+        cache.clear();
+        cache.get(0, versions[0]);
+        equal(ROWS + 3, formatted[0], "비운 뒤에는 다시 포맷팅");
+    }
+
+    private static void renderCacheGrowsToEntryCount() {
+        int[] formatted = {0};
+        RenderCache<Integer> cache = new RenderCache<>(1000, id -> {
+            formatted[0]++;
+            return "항목 " + id;
+        });
+        cache.ensureCapacity(5000);
+        cache.ensureCapacity(10);
+        for (int pass = 0; pass < 2; pass++) {
+            for (int id = 0; id < 5000; id++) {
+                cache.get(id, 0);
+            }
+        }
+        equal(5000, formatted[0], "늘린 뒤에는 두 번째로 지나갈 때 모두 적중");
+        equal(5000, cache.size(), "보관 중인 항목 수");
+        equal(5000, cache.getHits(), "적중 횟수");
+    }
+}
@@ -0,0 +1,130 @@
+package com.globalbridge.util;
+
+import com.globalbridge.model.ActivityLog;
+import com.globalbridge.model.Pair;
+import com.globalbridge.model.Participant;
+import com.globalbridge.rollup.ActivityRollup;
+import com.globalbridge.sketch.ActivitySketches;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.globalbridge.Assertions.check;
+import static com.globalbridge.Assertions.deleteRecursively;
+import static com.globalbridge.Assertions.equal;
+import static com.globalbridge.Assertions.temporaryDirectory;
+import static com.globalbridge.TestData.addActivities;
+import static com.globalbridge.TestData.assertActivities;
+import static com.globalbridge.TestData.assertMatches;
+import static com.globalbridge.TestData.assertParticipants;
+import static com.globalbridge.TestData.matches;
+import static com.globalbridge.TestData.participants;
+
+/**
+ * @author Kim Hyeong Jun
+ * @version 1.0
+ * @since 2026-10-18
+ *
+ * {@link SnapshotFile}로 기록한 데이터를 다시 읽으면 같은 데이터가 되는지 확인하는 테스트입니다.
+ *
+ * <p>
+ * 참가자와 매칭은 {@value SnapshotFile#OBJECT_SHARD_SIZE}개를, 활동 기록은 {@link ActivityLog#SHARD_ROWS}행을 넘겨
+ * 종류마다 섹션이 여러 개 생기게 하고, 압축하지 않은 파일과 압축한 파일을 모두 확인합니다.
+ * 기록이 임시 파일을 거쳐 원래 이름으로 옮겨지므로 중간에 실패해도 이전 파일이 남는지도 확인합니다.
+ * </p>
+ */
+public final class SnapshotFileTest {
+    private SnapshotFileTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = temporaryDirectory("snapshot-test");
+        try {
+            roundTrip(directory);
+            failedWriteKeepsPreviousFile(directory);
+        } finally {
+            deleteRecursively(directory);
+        }
+        System.out.println("SnapshotFileTest 통과");
+    }
+
+    private static void roundTrip(Path directory) throws IOException {
+        int participantCount = SnapshotFile.OBJECT_SHARD_SIZE + 1000;
+        ArrayList<Participant> participants = participants(participantCount);
+        HashMap<String, Pair> matches = matches(participants, participantCount);
+        ActivityLog activities = ActivityLog.create();
+        int rows = ActivityLog.SHARD_ROWS + 5000;
+        addActivities(activities, matches, 0, rows);
+        for (int row = 0; row < rows; row += 3) {
+            activities.setCompleted(row, true);
+        }
+        for (int row = 1; row < rows; row += 11) {
+            activities.setOverdue(row, true);
+        }
+        ActivityRollup rollup = ActivityRollup.build(activities, matches);
+        ActivitySketches sketches = ActivitySketches.build(activities, matches);
+
+        for (int level : new int[] {0, 1}) {
+            Path file = directory.resolve("level" + level + ".gbs");
+            SnapshotFile.write(file, level, participants, matches, activities, rollup, sketches);
+            check(!Files.exists(file.resolveSibling(file.getFileName() + ".tmp")), "임시 파일이 남음");
+            byte[] head = Arrays.copyOf(Files.readAllBytes(file), SnapshotFile.MAGIC.length);
+            check(SnapshotFile.isSectioned(head), "매직 바이트");
+
+            List<Integer> order = new ArrayList<>();
+            Object[] data = SnapshotFile.read(file, ForkJoinPool.commonPool(), (index, section) -> order.add(index));
+            equal(List.of(0, 1, 2, 3, 4), order, "부분 전달 순서 (수준 " + level + ")");
+            assertParticipants(participants, data[0]);
+            assertMatches(matches, data[1], data[0]);
+            equal(activities.getShardCount(), ((ActivityLog) data[2]).getShardCount(), "활동 샤드 수");
+            check(activities.getShardCount() > 1, "활동 샤드가 여러 개여야 함");
+            assertActivities(activities, (ActivityLog) data[2]);
+            ActivityRollup readRollup = (ActivityRollup) data[3];
+            equal(rollup.getActivityCount(), readRollup.getActivityCount(), "집계 활동 수");
+            equal(rollup.getCompletedCount(), readRollup.getCompletedCount(), "집계 완료 수");
+            check(readRollup.isConsistentWith((ActivityLog) data[2]), "집계가 활동 기록과 맞아야 함");
+            check(((ActivitySketches) data[4]).isConsistentWith((ActivityLog) data[2]), "스케치가 활동 기록과 맞아야 함");
+        }
+
+        // 집계와 스케치 없이 기록하면 읽을 때 null이며, 빈 데이터도 그대로 읽힙니다.
+        Path empty = directory.resolve("empty.gbs");
+        SnapshotFile.write(empty, 1, new ArrayList<>(), new HashMap<>(), ActivityLog.create(), null, null);
+        Object[] data = SnapshotFile.read(empty, ForkJoinPool.commonPool(), (index, section) -> { });
+        equal(0, ((List<?>) data[0]).size(), "빈 참가자 목록");
+        equal(0, ((Map<?, ?>) data[1]).size(), "빈 매칭");
+        equal(0, ((ActivityLog) data[2]).size(), "빈 활동 기록");
+        check(data[3] == null && data[4] == null, "저장하지 않은 집계와 스케치는 null");
+    }
+
+    private static void failedWriteKeepsPreviousFile(Path directory) throws IOException {
+        Path file = directory.resolve("keep.gbs");
+        ArrayList<Participant> participants = new ArrayList<>();
+        participants.add(new Participant("홍길동", "20260001", "컴퓨터공학", "Korean", 3));
+        SnapshotFile.write(file, 1, participants, new HashMap<>(), ActivityLog.create(), null, null);
+        byte[] before = Files.readAllBytes(file);
+
+        // 이전 실행에서 남은 임시 파일이 있어도 덮어씁니다.
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, new byte[] {1, 2, 3});
+        List<Object> unserializable = new ArrayList<>();
+        unserializable.add(new Object());
+        try {
+            SnapshotFile.write(file, 1, unserializable, new HashMap<>(), ActivityLog.create(), null, null);
+            throw new AssertionError("직렬화할 수 없는 객체는 IOException이어야 함");
+        } catch (IOException expected) {
+            // 기대한 실패
+        }
+        check(Arrays.equals(before, Files.readAllBytes(file)), "실패한 기록이 이전 파일을 바꿈");
+        check(!Files.exists(temp), "실패한 기록의 임시 파일이 남음");
+
+        Object[] data = SnapshotFile.read(file, ForkJoinPool.commonPool(), (index, section) -> { });
+        equal("홍길동", ((Participant) ((List<?>) data[0]).get(0)).getName(), "이전 파일의 참가자");
+    }
+}